@@ -10,6 +10,7 @@ import com.azure.core.exception.ResourceExistsException;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.rest.ResponseBase;
 import com.azure.data.appconfiguration.models.ConfigurationSetting;
+import com.azure.data.appconfiguration.models.ConfigurationSettingCacheOptions;
 import com.azure.data.appconfiguration.models.SettingFields;
 import com.azure.data.appconfiguration.models.SettingSelector;
 import com.azure.core.exception.HttpResponseException;
@@ -722,6 +723,27 @@ public final class ConfigurationAsyncClient {
 
     }
 
+    /**
+     * Creates a cache of the configuration settings that match the {@code selector}. The cache serves settings from a
+     * snapshot held in memory, which it refreshes in the background until it is closed.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * <p>Cache all settings with a key starting with "app1/" and read one of them.</p>
+     *
+     * {@codesnippet com.azure.data.appconfiguration.configurationasyncclient.createSettingCache#SettingSelector-ConfigurationSettingCacheOptions}
+     *
+     * @param selector Optional. Selector of the configuration settings to cache. If {@code null}, all the settings
+     * are cached.
+     * @param options Optional. Options of the cache. If {@code null}, the default options are used.
+     * @return A cache of the configuration settings that match the {@code selector}.
+     */
+    public ConfigurationSettingCache createSettingCache(SettingSelector selector,
+        ConfigurationSettingCacheOptions options) {
+        return new ConfigurationSettingCache(this, selector,
+            options == null ? new ConfigurationSettingCacheOptions() : options);
+    }
+
     PagedFlux<ConfigurationSetting> listRevisions(SettingSelector selector, Context context) {
         return new PagedFlux<>(() ->
             listRevisionsFirstPage(selector, context),
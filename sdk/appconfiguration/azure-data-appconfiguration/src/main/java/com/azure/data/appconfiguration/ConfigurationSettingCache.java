@@ -0,0 +1,363 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.implementation.serializer.SerializerAdapter;
+import com.azure.core.implementation.serializer.SerializerEncoding;
+import com.azure.core.implementation.serializer.jackson.JacksonAdapter;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.data.appconfiguration.models.ConfigurationSetting;
+import com.azure.data.appconfiguration.models.ConfigurationSettingCacheOptions;
+import com.azure.data.appconfiguration.models.ConfigurationSettingChange;
+import com.azure.data.appconfiguration.models.SettingSelector;
+import reactor.core.Disposable;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.azure.core.implementation.util.FluxUtil.monoError;
+
+/**
+ * A cache of the {@link ConfigurationSetting ConfigurationSettings} that match a {@link SettingSelector}. Settings are
+ * read from a snapshot held in memory, which is refreshed in the background, instead of from the service.
+ *
+ * <ul>
+ * <li>
+ * The snapshot is refreshed by listing the settings that match the selector every
+ * {@link ConfigurationSettingCacheOptions#getRefreshInterval() refresh interval}. Settings that were added, updated or
+ * deleted since the previous refresh are published by {@link #getChanges()}.
+ * </li>
+ * <li>
+ * A cached setting that wasn't refreshed within its {@link ConfigurationSettingCacheOptions#getTimeToLive() time to
+ * live}, because the background refreshes failed, is revalidated with a conditional request when it is read.
+ * </li>
+ * <li>
+ * Settings that aren't cached, because they don't match the selector or the cache is full, are read from the
+ * service.
+ * </li>
+ * <li>
+ * If a {@link ConfigurationSettingCacheOptions#getPersistencePath() persistence path} is set, the snapshot is saved to
+ * it, and a cache created later serves the saved settings until its first refresh completes.
+ * </li>
+ * </ul>
+ *
+ * <p>Caches are created with {@link ConfigurationAsyncClient#createSettingCache(SettingSelector,
+ * ConfigurationSettingCacheOptions)} and should be {@link #close() closed} when no longer used to stop the background
+ * refreshes.</p>
+ *
+ * @see ConfigurationAsyncClient
+ * @see ConfigurationSettingCacheOptions
+ */
+public final class ConfigurationSettingCache implements AutoCloseable {
+    private final ClientLogger logger = new ClientLogger(ConfigurationSettingCache.class);
+
+    private final ConfigurationAsyncClient client;
+    private final SettingSelector selector;
+    private final int maxSize;
+    private final long timeToLiveNanos;
+    private final Path persistencePath;
+    private final SerializerAdapter serializer = JacksonAdapter.createDefaultSerializerAdapter();
+
+    // Guarded by itself
+    private final Map<SettingKey, CachedSetting> settings = new HashMap<>();
+
+    private final DirectProcessor<ConfigurationSettingChange> changes = DirectProcessor.create();
+    private final FluxSink<ConfigurationSettingChange> changeSink = changes.sink();
+    private final Mono<Void> initialRefresh;
+    private final Disposable refresher;
+
+    ConfigurationSettingCache(ConfigurationAsyncClient client, SettingSelector selector,
+        ConfigurationSettingCacheOptions options) {
+        this.client = client;
+        this.selector = selector;
+        this.maxSize = options.getMaxSize();
+        this.timeToLiveNanos = options.getTimeToLive().toNanos();
+        this.persistencePath = options.getPersistencePath();
+
+        final boolean restored = restoreSnapshot();
+        final Mono<Void> firstRefresh = refresh().onErrorResume(error -> Mono.empty()).cache();
+        // Reads wait for the first refresh unless they can be served from a saved snapshot meanwhile
+        this.initialRefresh = restored ? Mono.empty() : firstRefresh;
+        this.refresher = firstRefresh
+            .thenMany(Flux.interval(options.getRefreshInterval()).onBackpressureDrop())
+            .concatMap(ignored -> refresh().onErrorResume(error -> Mono.empty()))
+            .subscribe();
+    }
+
+    /**
+     * Gets the setting with a matching {@code key} and optional {@code label} from the cache. Settings that aren't
+     * cached are retrieved from the service.
+     *
+     * @param key The key of the setting to retrieve.
+     * @param label The label of the configuration setting to retrieve, or optionally, null if a setting with
+     * label is desired.
+     * @return The cached {@link ConfigurationSetting}, or the setting stored in the service if it isn't cached.
+     * @throws IllegalArgumentException If {@code key} is {@code null}.
+     * @throws ResourceNotFoundException If a ConfigurationSetting with {@code key} does not exist.
+     * @throws HttpResponseException If {@code key} is an empty string.
+     */
+    public Mono<ConfigurationSetting> getConfigurationSetting(String key, String label) {
+        if (key == null) {
+            return monoError(logger, new IllegalArgumentException("Parameter 'key' is required and cannot be null."));
+        }
+
+        final SettingKey settingKey = new SettingKey(key, label);
+        return initialRefresh.then(Mono.defer(() -> {
+            final CachedSetting cached;
+            synchronized (settings) {
+                cached = settings.get(settingKey);
+            }
+
+            if (cached == null) {
+                return client.getConfigurationSetting(key, label);
+            } else if (System.nanoTime() - cached.refreshedAtNanos < timeToLiveNanos) {
+                return Mono.just(cached.setting);
+            }
+
+            return revalidate(settingKey, cached);
+        }));
+    }
+
+    /**
+     * Lists the settings in the cache.
+     *
+     * @return A Flux of the cached settings that match the selector of the cache.
+     */
+    public Flux<ConfigurationSetting> listConfigurationSettings() {
+        return initialRefresh.thenMany(Flux.defer(() -> {
+            synchronized (settings) {
+                final List<ConfigurationSetting> cached = new ArrayList<>(settings.size());
+                settings.values().forEach(cachedSetting -> cached.add(cachedSetting.setting));
+                return Flux.fromIterable(cached);
+            }
+        }));
+    }
+
+    /**
+     * Gets the changes to the cached settings observed by refreshes. Only changes that happen after subscribing are
+     * published.
+     *
+     * @return A Flux of the changes to the cached settings.
+     */
+    public Flux<ConfigurationSettingChange> getChanges() {
+        return changes.onBackpressureBuffer();
+    }
+
+    /**
+     * Refreshes the snapshot of settings from the service now instead of waiting for the next background refresh.
+     *
+     * @return A Mono that completes when the snapshot was refreshed.
+     */
+    public Mono<Void> refresh() {
+        return client.listConfigurationSettings(selector)
+            .collectList()
+            // Applying the snapshot may write it to disk
+            .publishOn(Schedulers.elastic())
+            .doOnNext(this::applySnapshot)
+            .doOnError(error -> logger.warning("Failed to refresh cached ConfigurationSettings - {}", selector, error))
+            .then();
+    }
+
+    /**
+     * Stops refreshing the cache in the background and completes the Flux of {@link #getChanges() changes}.
+     */
+    @Override
+    public void close() {
+        refresher.dispose();
+        changeSink.complete();
+    }
+
+    private void applySnapshot(List<ConfigurationSetting> listed) {
+        final long now = System.nanoTime();
+        final List<ConfigurationSettingChange> changed = new ArrayList<>();
+        final List<ConfigurationSetting> snapshot;
+        int uncached = 0;
+
+        synchronized (settings) {
+            final Set<SettingKey> listedKeys = new HashSet<>();
+            for (ConfigurationSetting setting : listed) {
+                listedKeys.add(new SettingKey(setting.getKey(), setting.getLabel()));
+            }
+
+            final Iterator<Map.Entry<SettingKey, CachedSetting>> iterator = settings.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<SettingKey, CachedSetting> entry = iterator.next();
+                if (!listedKeys.contains(entry.getKey())) {
+                    iterator.remove();
+                    changed.add(new ConfigurationSettingChange(entry.getValue().setting, null));
+                }
+            }
+
+            for (ConfigurationSetting setting : listed) {
+                final SettingKey key = new SettingKey(setting.getKey(), setting.getLabel());
+                final CachedSetting previous = settings.get(key);
+                if (previous == null && settings.size() >= maxSize) {
+                    uncached++;
+                    continue;
+                }
+
+                settings.put(key, new CachedSetting(setting, now));
+                if (previous == null) {
+                    changed.add(new ConfigurationSettingChange(null, setting));
+                } else if (!Objects.equals(previous.setting.getETag(), setting.getETag())) {
+                    changed.add(new ConfigurationSettingChange(previous.setting, setting));
+                }
+            }
+
+            snapshot = new ArrayList<>(settings.size());
+            settings.values().forEach(cachedSetting -> snapshot.add(cachedSetting.setting));
+        }
+
+        if (uncached > 0) {
+            logger.warning("{} of {} ConfigurationSettings matching {} aren't cached because the cache is full.",
+                uncached, listed.size(), selector);
+        }
+        if (!changed.isEmpty()) {
+            logger.info("Refreshed cached ConfigurationSettings - {} changes", changed.size());
+            changed.forEach(changeSink::next);
+            saveSnapshot(snapshot);
+        }
+    }
+
+    private Mono<ConfigurationSetting> revalidate(SettingKey key, CachedSetting cached) {
+        return client.getConfigurationSettingWithResponse(cached.setting, null, true)
+            .map(response -> {
+                // The service responds with 304 and no setting if the cached setting is still current
+                final ConfigurationSetting current = response.getStatusCode() == 304
+                    ? cached.setting
+                    : response.getValue();
+                update(key, cached, current);
+                return current;
+            })
+            .onErrorResume(ResourceNotFoundException.class, error -> {
+                update(key, cached, null);
+                return Mono.error(error);
+            });
+    }
+
+    private void update(SettingKey key, CachedSetting previous, ConfigurationSetting current) {
+        synchronized (settings) {
+            if (settings.get(key) != previous) {
+                // A refresh replaced the setting meanwhile
+                return;
+            }
+
+            if (current == null) {
+                settings.remove(key);
+            } else {
+                settings.put(key, new CachedSetting(current, System.nanoTime()));
+            }
+        }
+
+        if (current == null || !Objects.equals(previous.setting.getETag(), current.getETag())) {
+            changeSink.next(new ConfigurationSettingChange(previous.setting, current));
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        if (persistencePath == null || !Files.exists(persistencePath)) {
+            return false;
+        }
+
+        try {
+            final String content = new String(Files.readAllBytes(persistencePath), StandardCharsets.UTF_8);
+            final ConfigurationSetting[] saved =
+                serializer.deserialize(content, ConfigurationSetting[].class, SerializerEncoding.JSON);
+            if (saved == null) {
+                return false;
+            }
+
+            final long now = System.nanoTime();
+            synchronized (settings) {
+                for (ConfigurationSetting setting : saved) {
+                    if (settings.size() >= maxSize) {
+                        break;
+                    }
+                    settings.put(new SettingKey(setting.getKey(), setting.getLabel()), new CachedSetting(setting, now));
+                }
+            }
+
+            logger.info("Restored {} cached ConfigurationSettings from {}", saved.length, persistencePath);
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            logger.warning("Failed to restore cached ConfigurationSettings from {}", persistencePath, ex);
+            return false;
+        }
+    }
+
+    private void saveSnapshot(List<ConfigurationSetting> snapshot) {
+        if (persistencePath == null) {
+            return;
+        }
+
+        try {
+            final String content = serializer.serialize(snapshot, SerializerEncoding.JSON);
+            final Path directory = persistencePath.toAbsolutePath().getParent();
+            final Path temporary = Files.createTempFile(directory, persistencePath.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporary, content.getBytes(StandardCharsets.UTF_8));
+                // Readers never see a partially written snapshot
+                Files.move(temporary, persistencePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException | RuntimeException ex) {
+            logger.warning("Failed to save cached ConfigurationSettings to {}", persistencePath, ex);
+        }
+    }
+
+    private static final class CachedSetting {
+        private final ConfigurationSetting setting;
+        private final long refreshedAtNanos;
+
+        private CachedSetting(ConfigurationSetting setting, long refreshedAtNanos) {
+            this.setting = setting;
+            this.refreshedAtNanos = refreshedAtNanos;
+        }
+    }
+
+    private static final class SettingKey {
+        private final String key;
+        private final String label;
+
+        private SettingKey(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SettingKey)) {
+                return false;
+            }
+
+            final SettingKey other = (SettingKey) obj;
+            return key.equals(other.key) && Objects.equals(label, other.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, label);
+        }
+    }
+}
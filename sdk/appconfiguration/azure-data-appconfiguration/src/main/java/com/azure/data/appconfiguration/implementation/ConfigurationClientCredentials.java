@@ -21,12 +21,10 @@ import java.security.NoSuchAlgorithmException;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Credentials that authorizes requests to Azure App Configuration. It uses content within the HTTP request to
@@ -37,11 +35,11 @@ import java.util.stream.Collectors;
  * @see ConfigurationClientBuilder
  */
 public class ConfigurationClientCredentials {
-    private final ClientLogger logger = new ClientLogger(ConfigurationClientCredentials.class);
-
     private static final String HOST_HEADER = "Host";
     private static final String DATE_HEADER = "Date";
     private static final String CONTENT_HASH_HEADER = "x-ms-content-sha256";
+    // Base64 encoded SHA-256 hash of empty content
+    static final String EMPTY_CONTENT_HASH = "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=";
     private static final String[] SIGNED_HEADERS = new String[]{HOST_HEADER, DATE_HEADER, CONTENT_HASH_HEADER };
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
@@ -73,51 +71,88 @@ public class ConfigurationClientCredentials {
     }
 
     /**
-     * Gets a list of headers to add to a request to authenticate it to the Azure APp Configuration service.
-     * @param url the request url
-     * @param httpMethod the request HTTP method
+     * Computes the value of the "x-ms-content-sha256" header for the body content of a request. The buffers of the
+     * body are hashed as they are emitted and are not consumed, so the body can be subscribed to again to send it.
+     *
      * @param contents the body content of the request
-     * @return a flux of headers to add for authorization
-     * @throws NoSuchAlgorithmException If the SHA-256 algorithm doesn't exist.
+     * @return a mono of the Base64 encoded SHA-256 hash of the content
      */
-    Mono<Map<String, String>> getAuthorizationHeadersAsync(URL url, String httpMethod,
-                                                                  Flux<ByteBuffer> contents) {
+    Mono<String> getContentHashAsync(Flux<ByteBuffer> contents) {
         return contents
-            .collect(() -> {
-                try {
-                    return MessageDigest.getInstance("SHA-256");
-                } catch (NoSuchAlgorithmException e) {
-                    throw logger.logExceptionAsError(Exceptions.propagate(e));
-                }
-            }, (messageDigest, byteBuffer) -> {
-                    if (messageDigest != null) {
-                        messageDigest.update(byteBuffer);
-                    }
-                })
-            .flatMap(messageDigest -> Mono.just(headerProvider.getAuthenticationHeaders(
-                url,
-                httpMethod,
-                messageDigest)));
+            .collect(headerProvider::newContentDigest, (messageDigest, byteBuffer) ->
+                messageDigest.update(byteBuffer.duplicate()))
+            .map(messageDigest -> Base64.getEncoder().encodeToString(messageDigest.digest()));
+    }
+
+    /**
+     * Gets a list of headers to add to a request to authenticate it to the Azure App Configuration service.
+     * @param url the request url
+     * @param httpMethod the request HTTP method
+     * @param contentHash the Base64 encoded SHA-256 hash of the body content of the request
+     * @return the headers to add for authorization
+     */
+    Map<String, String> getAuthorizationHeaders(URL url, String httpMethod, String contentHash) {
+        return headerProvider.getAuthenticationHeaders(url, httpMethod, contentHash);
     }
 
     private static class AuthorizationHeaderProvider {
-        private final String signedHeadersValue = String.join(";", SIGNED_HEADERS);
-        private static final String HMAC_SHA256 = "HMAC-SHA256 Credential=%s&SignedHeaders=%s&Signature=%s";
-        private final CredentialInformation credentials;
-        private final Mac sha256HMAC;
+        private static final String SIGNED_HEADERS_VALUE = String.join(";", SIGNED_HEADERS);
+        private static final String HMAC_SHA256 = "HMAC-SHA256 Credential=";
+        private final ClientLogger logger = new ClientLogger(AuthorizationHeaderProvider.class);
+        private final String authorizationPrefix;
+
+        // Mac instances aren't thread-safe and are costly to initialize with the key, so each thread keeps its own.
+        private final ThreadLocal<Mac> sha256HMAC;
+
+        // The digest of a request body is updated as the body is consumed, possibly across threads, so every request
+        // needs its own instance. Cloning an unused digest skips the provider lookup of MessageDigest.getInstance.
+        private final MessageDigest sha256Prototype;
+        private volatile boolean sha256Cloneable = true;
 
         AuthorizationHeaderProvider(CredentialInformation credentials)
             throws NoSuchAlgorithmException, InvalidKeyException {
-            this.credentials = credentials;
+            this.authorizationPrefix = HMAC_SHA256 + credentials.id() + "&SignedHeaders=" + SIGNED_HEADERS_VALUE
+                + "&Signature=";
 
-            sha256HMAC = Mac.getInstance("HmacSHA256");
-            sha256HMAC.init(new SecretKeySpec(credentials.secret(), "HmacSHA256"));
+            // Fail fast if the algorithm or the secret is invalid.
+            final Mac mac = newMac(credentials);
+            sha256HMAC = ThreadLocal.withInitial(() -> {
+                try {
+                    return newMac(credentials);
+                } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                    throw logger.logExceptionAsError(Exceptions.propagate(e));
+                }
+            });
+            sha256HMAC.set(mac);
+            sha256Prototype = MessageDigest.getInstance("SHA-256");
+        }
+
+        private static Mac newMac(CredentialInformation credentials)
+            throws NoSuchAlgorithmException, InvalidKeyException {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(credentials.secret(), "HmacSHA256"));
+            return mac;
+        }
+
+        private MessageDigest newContentDigest() {
+            if (sha256Cloneable) {
+                try {
+                    return (MessageDigest) sha256Prototype.clone();
+                } catch (CloneNotSupportedException e) {
+                    sha256Cloneable = false;
+                }
+            }
+
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw logger.logExceptionAsError(Exceptions.propagate(e));
+            }
         }
 
         private Map<String, String> getAuthenticationHeaders(final URL url, final String httpMethod,
-                                                             final MessageDigest messageDigest) {
+                                                             final String contentHash) {
             final Map<String, String> headers = new HashMap<>();
-            final String contentHash = Base64.getEncoder().encodeToString(messageDigest.digest());
 
             // All three of these headers are used by ConfigurationClientCredentials to generate the
             // Authentication header value. So, we need to ensure that they exist.
@@ -134,24 +169,27 @@ public class ConfigurationClientCredentials {
         }
 
         private void addSignatureHeader(final URL url, final String httpMethod, final Map<String, String> httpHeaders) {
-            String pathAndQuery = url.getPath();
-            if (url.getQuery() != null) {
-                pathAndQuery += '?' + url.getQuery();
-            }
-
-            final String signed = Arrays.stream(SIGNED_HEADERS)
-                .map(httpHeaders::get)
-                .collect(Collectors.joining(";"));
-
             // String-To-Sign=HTTP_METHOD + '\n' + path_and_query + '\n' + signed_headers_values
             // Signed headers: "host;x-ms-date;x-ms-content-sha256"
             // The line separator has to be \n. Using %n with String.format will result in a 401 from the service.
-            String stringToSign = httpMethod.toUpperCase(Locale.US) + "\n" + pathAndQuery + "\n" + signed;
+            final StringBuilder stringToSign = new StringBuilder(256)
+                .append(httpMethod.toUpperCase(Locale.US))
+                .append('\n')
+                .append(url.getPath());
+            if (url.getQuery() != null) {
+                stringToSign.append('?').append(url.getQuery());
+            }
+            stringToSign.append('\n');
+            for (int i = 0; i < SIGNED_HEADERS.length; i++) {
+                if (i > 0) {
+                    stringToSign.append(';');
+                }
+                stringToSign.append(httpHeaders.get(SIGNED_HEADERS[i]));
+            }
 
-            final String signature =
-                Base64.getEncoder().encodeToString(sha256HMAC.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
-            httpHeaders.put(AUTHORIZATION_HEADER,
-                String.format(HMAC_SHA256, credentials.id(), signedHeadersValue, signature));
+            final String signature = Base64.getEncoder().encodeToString(
+                sha256HMAC.get().doFinal(stringToSign.toString().getBytes(StandardCharsets.UTF_8)));
+            httpHeaders.put(AUTHORIZATION_HEADER, authorizationPrefix + signature);
         }
     }
 
@@ -4,6 +4,7 @@ package com.azure.data.appconfiguration.implementation;
 
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpRequest;
 import com.azure.core.http.HttpResponse;
 import com.azure.core.http.policy.HttpPipelinePolicy;
 import com.azure.data.appconfiguration.ConfigurationAsyncClient;
@@ -25,6 +26,8 @@ public final class ConfigurationCredentialsPolicy implements HttpPipelinePolicy
     // "Host", "Date", and "x-ms-content-sha256" are required to generate "Authorization" value in
     // ConfigurationClientCredentials.
 
+    private static final String CONTENT_HASH_KEY = "azure-appconfig-content-hash";
+
     private final ConfigurationClientCredentials credentials;
 
     /**
@@ -47,23 +50,42 @@ public final class ConfigurationCredentialsPolicy implements HttpPipelinePolicy
      */
     @Override
     public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
-        final Flux<ByteBuffer> contents = context.getHttpRequest().getBody() == null
-            ? Flux.just(getEmptyBuffer())
-            : context.getHttpRequest().getBody();
+        final HttpRequest request = context.getHttpRequest();
+
+        return getContentHash(context, request.getBody())
+            .flatMap(contentHash -> {
+                credentials.getAuthorizationHeaders(request.getUrl(), request.getHttpMethod().toString(), contentHash)
+                    .forEach(request::setHeader);
+                return next.process();
+            });
+    }
+
+    /*
+     * Hashes the body as its buffers are emitted, without copying them. The hash is kept in the call context, so a
+     * request that passes through this policy again with the same body, such as a retry when this policy is placed
+     * after the retry policy, isn't hashed again.
+     */
+    private Mono<String> getContentHash(HttpPipelineCallContext context, Flux<ByteBuffer> body) {
+        if (body == null) {
+            return Mono.just(ConfigurationClientCredentials.EMPTY_CONTENT_HASH);
+        }
+
+        final Object cached = context.getData(CONTENT_HASH_KEY).orElse(null);
+        if (cached instanceof ContentHash && ((ContentHash) cached).body == body) {
+            return Mono.just(((ContentHash) cached).hash);
+        }
 
-        return credentials
-            .getAuthorizationHeadersAsync(
-                context.getHttpRequest().getUrl(),
-                context.getHttpRequest().getHttpMethod().toString(),
-                contents.defaultIfEmpty(getEmptyBuffer()))
-            .flatMapMany(headers -> Flux.fromIterable(headers.entrySet()))
-            .map(header -> context.getHttpRequest().setHeader(header.getKey(), header.getValue()))
-            .last()
-            .flatMap(request -> next.process());
+        return credentials.getContentHashAsync(body)
+            .doOnNext(hash -> context.setData(CONTENT_HASH_KEY, new ContentHash(body, hash)));
     }
 
-    private ByteBuffer getEmptyBuffer() {
-        return ByteBuffer.allocate(0);
+    private static final class ContentHash {
+        private final Flux<ByteBuffer> body;
+        private final String hash;
+
+        private ContentHash(Flux<ByteBuffer> body, String hash) {
+            this.body = body;
+            this.hash = hash;
+        }
     }
 }
-
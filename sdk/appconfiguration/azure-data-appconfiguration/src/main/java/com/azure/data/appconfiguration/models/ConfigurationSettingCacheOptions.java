@@ -0,0 +1,150 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration.models;
+
+import com.azure.core.annotation.Fluent;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.data.appconfiguration.ConfigurationSettingCache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A set of options for a {@link ConfigurationSettingCache}.
+ *
+ * <ul>
+ * <li>
+ * {@link #getRefreshInterval() refreshInterval} is how often the snapshot of settings is refreshed in the background.
+ * </li>
+ * <li>
+ * {@link #getTimeToLive() timeToLive} is how long a cached setting is served without being revalidated with the
+ * service, should the background refreshes fail.
+ * </li>
+ * <li>
+ * {@link #getMaxSize() maxSize} is the maximum number of settings that are cached.
+ * </li>
+ * <li>
+ * {@link #getPersistencePath() persistencePath} is an optional file the snapshot is saved to, so a new cache can serve
+ * settings before its first refresh completes.
+ * </li>
+ * </ul>
+ *
+ * @see ConfigurationSettingCache
+ */
+@Fluent
+public class ConfigurationSettingCacheOptions {
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private final ClientLogger logger = new ClientLogger(ConfigurationSettingCacheOptions.class);
+
+    private Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private Path persistencePath;
+
+    /**
+     * Gets how often the snapshot of settings is refreshed in the background. Defaults to 30 seconds.
+     *
+     * @return The interval between background refreshes.
+     */
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Sets how often the snapshot of settings is refreshed in the background.
+     *
+     * @param refreshInterval The interval between background refreshes.
+     * @return The updated ConfigurationSettingCacheOptions object.
+     * @throws NullPointerException If {@code refreshInterval} is {@code null}.
+     * @throws IllegalArgumentException If {@code refreshInterval} is zero or negative.
+     */
+    public ConfigurationSettingCacheOptions setRefreshInterval(Duration refreshInterval) {
+        Objects.requireNonNull(refreshInterval, "'refreshInterval' cannot be null.");
+        if (refreshInterval.isZero() || refreshInterval.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'refreshInterval' must be positive."));
+        }
+        this.refreshInterval = refreshInterval;
+        return this;
+    }
+
+    /**
+     * Gets how long a cached setting is served without being revalidated. A setting that wasn't refreshed for longer,
+     * because the background refreshes failed, is revalidated with a conditional request when it is read. Defaults to
+     * 5 minutes.
+     *
+     * @return The time a cached setting is served without being revalidated.
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets how long a cached setting is served without being revalidated.
+     *
+     * @param timeToLive The time a cached setting is served without being revalidated.
+     * @return The updated ConfigurationSettingCacheOptions object.
+     * @throws NullPointerException If {@code timeToLive} is {@code null}.
+     * @throws IllegalArgumentException If {@code timeToLive} is zero or negative.
+     */
+    public ConfigurationSettingCacheOptions setTimeToLive(Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "'timeToLive' cannot be null.");
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'timeToLive' must be positive."));
+        }
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of settings that are cached. Settings beyond it are read from the service. Defaults to
+     * 10000.
+     *
+     * @return The maximum number of cached settings.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of settings that are cached.
+     *
+     * @param maxSize The maximum number of cached settings.
+     * @return The updated ConfigurationSettingCacheOptions object.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    public ConfigurationSettingCacheOptions setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxSize' must be positive."));
+        }
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Gets the file the snapshot of settings is saved to, or {@code null} if it isn't saved. By default the snapshot
+     * isn't saved.
+     *
+     * @return The file the snapshot of settings is saved to.
+     */
+    public Path getPersistencePath() {
+        return persistencePath;
+    }
+
+    /**
+     * Sets the file the snapshot of settings is saved to after it changes. A cache created with an existing file
+     * serves the settings saved in it until its first refresh completes.
+     *
+     * <p>The file contains the setting values in plain text.</p>
+     *
+     * @param persistencePath The file the snapshot of settings is saved to, or {@code null} to not save it.
+     * @return The updated ConfigurationSettingCacheOptions object.
+     */
+    public ConfigurationSettingCacheOptions setPersistencePath(Path persistencePath) {
+        this.persistencePath = persistencePath;
+        return this;
+    }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.data.appconfiguration.ConfigurationSettingCache;
+
+/**
+ * A change of a {@link ConfigurationSetting} observed by a {@link ConfigurationSettingCache}.
+ *
+ * <ul>
+ * <li>An added setting has no {@link #getPreviousSetting() previous setting}.</li>
+ * <li>A deleted setting has no {@link #getSetting() setting}.</li>
+ * <li>An updated setting has both.</li>
+ * </ul>
+ *
+ * @see ConfigurationSettingCache#getChanges()
+ */
+@Immutable
+public final class ConfigurationSettingChange {
+    private final ConfigurationSetting previousSetting;
+    private final ConfigurationSetting setting;
+
+    /**
+     * Creates a change of a configuration setting.
+     *
+     * @param previousSetting The setting before the change, or {@code null} if it was added.
+     * @param setting The setting after the change, or {@code null} if it was deleted.
+     */
+    public ConfigurationSettingChange(ConfigurationSetting previousSetting, ConfigurationSetting setting) {
+        this.previousSetting = previousSetting;
+        this.setting = setting;
+    }
+
+    /**
+     * Gets the setting before the change.
+     *
+     * @return The setting before the change, or {@code null} if it was added.
+     */
+    public ConfigurationSetting getPreviousSetting() {
+        return previousSetting;
+    }
+
+    /**
+     * Gets the setting after the change.
+     *
+     * @return The setting after the change, or {@code null} if it was deleted.
+     */
+    public ConfigurationSetting getSetting() {
+        return setting;
+    }
+
+    /**
+     * Gets whether the setting was deleted.
+     *
+     * @return {@code true} if the setting was deleted.
+     */
+    public boolean isDeleted() {
+        return setting == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationSettingChange(previous=" + previousSetting + ", current=" + setting + ")";
+    }
+}
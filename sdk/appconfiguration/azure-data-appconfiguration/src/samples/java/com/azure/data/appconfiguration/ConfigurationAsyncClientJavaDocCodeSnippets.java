@@ -4,9 +4,11 @@
 package com.azure.data.appconfiguration;
 
 import com.azure.data.appconfiguration.models.ConfigurationSetting;
+import com.azure.data.appconfiguration.models.ConfigurationSettingCacheOptions;
 import com.azure.data.appconfiguration.models.SettingSelector;
 import reactor.util.context.Context;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
@@ -233,6 +235,23 @@ public class ConfigurationAsyncClientJavaDocCodeSnippets {
         // END: com.azure.data.appconfiguration.configurationasyncclient.listsettingrevisions
     }
 
+    /**
+     * Code snippets for {@link ConfigurationAsyncClient#createSettingCache(SettingSelector,
+     * ConfigurationSettingCacheOptions)}
+     */
+    public void createSettingCacheCodeSnippet() {
+        ConfigurationAsyncClient client = getAsyncClient();
+        // BEGIN: com.azure.data.appconfiguration.configurationasyncclient.createSettingCache#SettingSelector-ConfigurationSettingCacheOptions
+        ConfigurationSettingCache cache = client.createSettingCache(new SettingSelector().setKeys("app1/*"),
+            new ConfigurationSettingCacheOptions().setRefreshInterval(Duration.ofMinutes(1)));
+        cache.getChanges()
+            .subscribe(change -> System.out.printf("Key: %s changed", change.isDeleted()
+                ? change.getPreviousSetting().getKey() : change.getSetting().getKey()));
+        cache.getConfigurationSetting("app1/prodDBConnection", "westUS")
+            .subscribe(setting -> System.out.printf("Key: %s, Value: %s", setting.getKey(), setting.getValue()));
+        // END: com.azure.data.appconfiguration.configurationasyncclient.createSettingCache#SettingSelector-ConfigurationSettingCacheOptions
+    }
+
     /**
      * Implementation not provided
      *
@@ -0,0 +1,205 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.data.appconfiguration.models.ConfigurationSetting;
+import com.azure.data.appconfiguration.models.ConfigurationSettingCacheOptions;
+import com.azure.data.appconfiguration.models.ConfigurationSettingChange;
+import com.azure.data.appconfiguration.models.SettingSelector;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigurationSettingCacheTest {
+    private static final String CONNECTION_STRING = "endpoint=https://contoso.azconfig.io;id=id;secret="
+        + Base64.getEncoder().encodeToString("secret".getBytes(StandardCharsets.UTF_8));
+
+    private final Map<String, ConfigurationSetting> store = new ConcurrentHashMap<>();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final List<String> getRequests = new CopyOnWriteArrayList<>();
+    private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+    private final List<ConfigurationSettingCache> caches = new ArrayList<>();
+    private volatile boolean serviceAvailable = true;
+
+    @After
+    public void closeCaches() {
+        caches.forEach(ConfigurationSettingCache::close);
+    }
+
+    @Test
+    public void readsAreServedFromSnapshot() {
+        put("app/key1", "value1");
+        put("app/key2", "value2");
+        ConfigurationSettingCache cache = createCache(new ConfigurationSettingCacheOptions());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value1", cache.getConfigurationSetting("app/key1", null).block().getValue());
+            assertEquals("value2", cache.getConfigurationSetting("app/key2", null).block().getValue());
+        }
+
+        assertEquals(1, listRequests.get());
+        assertEquals(Collections.emptyList(), getRequests);
+        assertEquals(2, cache.listConfigurationSettings().count().block().intValue());
+    }
+
+    @Test
+    public void refreshPublishesChanges() {
+        put("app/key1", "value1");
+        put("app/key2", "value2");
+        ConfigurationSettingCache cache = createCache(new ConfigurationSettingCacheOptions());
+        cache.listConfigurationSettings().blockLast();
+        List<ConfigurationSettingChange> changes = new CopyOnWriteArrayList<>();
+        cache.getChanges().subscribe(changes::add);
+
+        put("app/key1", "updated");
+        store.remove("app/key2");
+        put("app/key3", "value3");
+        cache.refresh().block();
+
+        assertEquals(3, changes.size());
+        Map<String, ConfigurationSettingChange> changesByKey = new HashMap<>();
+        for (ConfigurationSettingChange change : changes) {
+            changesByKey.put(change.isDeleted() ? change.getPreviousSetting().getKey() : change.getSetting().getKey(),
+                change);
+        }
+        assertEquals("value1", changesByKey.get("app/key1").getPreviousSetting().getValue());
+        assertEquals("updated", changesByKey.get("app/key1").getSetting().getValue());
+        assertTrue(changesByKey.get("app/key2").isDeleted());
+        assertNull(changesByKey.get("app/key3").getPreviousSetting());
+        assertEquals("updated", cache.getConfigurationSetting("app/key1", null).block().getValue());
+        assertEquals("value3", cache.getConfigurationSetting("app/key3", null).block().getValue());
+    }
+
+    @Test
+    public void expiredSettingIsRevalidated() throws InterruptedException {
+        ConfigurationSetting setting = put("app/key1", "value1");
+        ConfigurationSettingCache cache = createCache(new ConfigurationSettingCacheOptions()
+            .setTimeToLive(Duration.ofMillis(1)));
+        cache.listConfigurationSettings().blockLast();
+        Thread.sleep(10);
+
+        assertEquals("value1", cache.getConfigurationSetting("app/key1", null).block().getValue());
+
+        assertEquals(Collections.singletonList("app/key1"), getRequests);
+        assertEquals("\"" + setting.getETag() + "\"", ifNoneMatchHeaders.get(0));
+    }
+
+    @Test
+    public void settingsBeyondMaxSizeAreReadFromService() {
+        put("app/key1", "value1");
+        put("app/key2", "value2");
+        ConfigurationSettingCache cache = createCache(new ConfigurationSettingCacheOptions().setMaxSize(1));
+
+        assertEquals(1, cache.listConfigurationSettings().count().block().intValue());
+        cache.getConfigurationSetting("app/key1", null).block();
+        cache.getConfigurationSetting("app/key2", null).block();
+
+        assertEquals(1, getRequests.size());
+    }
+
+    @Test
+    public void savedSnapshotIsServedBeforeFirstRefresh() throws Exception {
+        Path persistencePath = Files.createTempFile("appconfig-cache", ".json");
+        Files.delete(persistencePath);
+        try {
+            put("app/key1", "value1");
+            ConfigurationSettingCacheOptions options = new ConfigurationSettingCacheOptions()
+                .setPersistencePath(persistencePath);
+            createCache(options).listConfigurationSettings().blockLast();
+            assertTrue(Files.exists(persistencePath));
+
+            serviceAvailable = false;
+            ConfigurationSettingCache cache = createCache(options);
+
+            assertEquals("value1", cache.getConfigurationSetting("app/key1", null).block().getValue());
+            assertEquals(Collections.emptyList(), getRequests);
+        } finally {
+            Files.deleteIfExists(persistencePath);
+        }
+    }
+
+    private ConfigurationSettingCache createCache(ConfigurationSettingCacheOptions options) {
+        ConfigurationAsyncClient client = new ConfigurationClientBuilder()
+            .connectionString(CONNECTION_STRING)
+            .httpClient(new FakeConfigurationService())
+            .retryPolicy(new RetryPolicy(new FixedDelay(0, Duration.ofMillis(1))))
+            .buildAsyncClient();
+        ConfigurationSettingCache cache = client.createSettingCache(new SettingSelector().setKeys("app/*"),
+            options.setRefreshInterval(Duration.ofHours(1)));
+        caches.add(cache);
+        return cache;
+    }
+
+    private ConfigurationSetting put(String key, String value) {
+        ConfigurationSetting setting = new ConfigurationSetting().setKey(key).setValue(value)
+            .setETag(UUID.randomUUID().toString());
+        store.put(key, setting);
+        return setting;
+    }
+
+    private class FakeConfigurationService implements HttpClient {
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            if (!serviceAvailable) {
+                return Mono.just(new MockHttpResponse(request, 503));
+            }
+
+            HttpHeaders headers = new HttpHeaders().put("Content-Type", "application/json");
+            String path = request.getUrl().getPath();
+            if (path.equals("/kv")) {
+                listRequests.incrementAndGet();
+                return Mono.just(new MockHttpResponse(request, 200, headers,
+                    Collections.singletonMap("items", new ArrayList<>(store.values()))));
+            }
+
+            String key;
+            try {
+                key = URLDecoder.decode(path.substring("/kv/".length()), "UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                return Mono.error(e);
+            }
+            getRequests.add(key);
+            ConfigurationSetting setting = store.get(key);
+            String ifNoneMatch = request.getHeaders().getValue("If-None-Match");
+            if (ifNoneMatch != null) {
+                ifNoneMatchHeaders.add(ifNoneMatch);
+            }
+
+            if (setting == null) {
+                return Mono.just(new MockHttpResponse(request, 404));
+            } else if (ifNoneMatch != null && ifNoneMatch.equals("\"" + setting.getETag() + "\"")) {
+                return Mono.just(new MockHttpResponse(request, 304));
+            }
+            return Mono.just(new MockHttpResponse(request, 200, headers, setting));
+        }
+    }
+}
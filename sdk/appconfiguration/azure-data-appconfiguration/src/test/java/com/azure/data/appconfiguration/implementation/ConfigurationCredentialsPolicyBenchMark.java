@@ -0,0 +1,82 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration.implementation;
+
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.http.MockHttpResponse;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures authenticating requests that set large configuration settings, whose bodies are hashed by
+ * {@link ConfigurationCredentialsPolicy} before they are sent.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ConfigurationCredentialsPolicyBenchMark {
+    private static final String CONNECTION_STRING = "endpoint=https://contoso.azconfig.io;id=id;secret="
+        + Base64.getEncoder().encodeToString("secret".getBytes(StandardCharsets.UTF_8));
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Param({"1024", "65536", "1048576"})
+    private int bodySize;
+
+    private HttpPipeline pipeline;
+    private URL url;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws Exception {
+        pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> request.getBody()
+                .reduce(0L, (length, buffer) -> length + buffer.remaining())
+                .then(Mono.just(new MockHttpResponse(request, 200))))
+            .policies(new ConfigurationCredentialsPolicy(new ConfigurationClientCredentials(CONNECTION_STRING)))
+            .build();
+        url = new URL("https://contoso.azconfig.io/kv/key");
+        body = new byte[bodySize];
+        ThreadLocalRandom.current().nextBytes(body);
+    }
+
+    @Benchmark
+    public HttpResponse setConfigurationSetting() {
+        // Emitted in chunks, as a serialized batch of settings would be
+        Flux<ByteBuffer> content = Flux.range(0, (bodySize + BUFFER_SIZE - 1) / BUFFER_SIZE)
+            .map(i -> ByteBuffer.wrap(body, i * BUFFER_SIZE, Math.min(BUFFER_SIZE, bodySize - i * BUFFER_SIZE)));
+        return pipeline.send(new HttpRequest(HttpMethod.PUT, url).setBody(content)).block();
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,122 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.data.appconfiguration.implementation;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.FixedDelay;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.http.policy.RetryPolicy;
+import com.azure.core.test.http.MockHttpResponse;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class ConfigurationCredentialsPolicyTest {
+    private static final String CONNECTION_STRING = "endpoint=https://contoso.azconfig.io;id=id;secret="
+        + Base64.getEncoder().encodeToString("secret".getBytes(StandardCharsets.UTF_8));
+
+    private final List<byte[]> sentBodies = new ArrayList<>();
+    private final List<String> sentContentHashes = new ArrayList<>();
+
+    @Test
+    public void hashesBodyWithoutConsumingIt() throws Exception {
+        byte[] content = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = new HttpRequest(HttpMethod.PUT, new URL("https://contoso.azconfig.io/kv/key"))
+            // The same buffer is emitted to every subscriber
+            .setBody(Flux.just(ByteBuffer.wrap(content, 0, 5), ByteBuffer.wrap(content, 5, content.length - 5)));
+
+        HttpResponse response = createPipeline(() -> 200).send(request).block();
+
+        assertNotNull(response);
+        assertEquals(1, sentBodies.size());
+        assertArrayEquals(content, sentBodies.get(0));
+        assertEquals(sha256(content), sentContentHashes.get(0));
+    }
+
+    @Test
+    public void requestWithoutBodyUsesEmptyContentHash() throws Exception {
+        HttpRequest request = new HttpRequest(HttpMethod.GET, new URL("https://contoso.azconfig.io/kv"));
+
+        createPipeline(() -> 200).send(request).block();
+
+        assertEquals(sha256(new byte[0]), sentContentHashes.get(0));
+        assertEquals(ConfigurationClientCredentials.EMPTY_CONTENT_HASH, sentContentHashes.get(0));
+    }
+
+    @Test
+    public void retriedRequestIsNotHashedAgain() throws Exception {
+        byte[] content = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger subscriptions = new AtomicInteger();
+        HttpRequest request = new HttpRequest(HttpMethod.PUT, new URL("https://contoso.azconfig.io/kv/key"))
+            .setBody(Flux.defer(() -> {
+                subscriptions.incrementAndGet();
+                return Flux.just(ByteBuffer.wrap(content));
+            }));
+
+        AtomicInteger attempts = new AtomicInteger();
+        HttpResponse response = createPipeline(() -> attempts.getAndIncrement() == 0 ? 503 : 200,
+            new RetryPolicy(new FixedDelay(1, Duration.ofMillis(1)))).send(request).block();
+
+        assertNotNull(response);
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, sentBodies.size());
+        // Hashed once, then sent twice
+        assertEquals(3, subscriptions.get());
+        assertEquals(sentContentHashes.get(0), sentContentHashes.get(1));
+    }
+
+    private HttpPipeline createPipeline(IntSupplier statusCodes, HttpPipelinePolicy... policiesBeforeCredentials)
+        throws Exception {
+        ConfigurationClientCredentials credentials = new ConfigurationClientCredentials(CONNECTION_STRING);
+        HttpClient httpClient = request -> request.getBody() == null
+            ? recordRequest(request, new byte[0], statusCodes)
+            : request.getBody()
+                .collect(ByteArrayOutputStream::new, (stream, buffer) -> {
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    stream.write(bytes, 0, bytes.length);
+                })
+                .flatMap(stream -> recordRequest(request, stream.toByteArray(), statusCodes));
+
+        List<HttpPipelinePolicy> policies = new ArrayList<>(Arrays.asList(policiesBeforeCredentials));
+        policies.add(new ConfigurationCredentialsPolicy(credentials));
+        return new HttpPipelineBuilder()
+            .httpClient(httpClient)
+            .policies(policies.toArray(new HttpPipelinePolicy[0]))
+            .build();
+    }
+
+    private Mono<HttpResponse> recordRequest(HttpRequest request, byte[] body, IntSupplier statusCodes) {
+        sentBodies.add(body);
+        sentContentHashes.add(request.getHeaders().getValue("x-ms-content-sha256"));
+        assertNotNull(request.getHeaders().getValue("Authorization"));
+        return Mono.just(new MockHttpResponse(request, statusCodes.getAsInt()));
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
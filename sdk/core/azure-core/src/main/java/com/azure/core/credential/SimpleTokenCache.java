@@ -3,25 +3,48 @@
 
 package com.azure.core.credential;
 
+import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.FluxSink.OverflowStrategy;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.ReplayProcessor;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 /**
  * A token cache that supports caching a token and refreshing it.
+ *
+ * <p>By default a new token is only fetched once the cached token has expired, and the requests made meanwhile wait
+ * for it. When created with {@link TokenRefreshOptions}, the cache instead starts refreshing the token in the
+ * background once part of its lifetime has passed, and keeps serving the cached token until the refresh succeeds or
+ * the token expires.</p>
  */
 public class SimpleTokenCache {
     private static final int REFRESH_TIMEOUT_SECONDS = 30;
+    private static final int MAX_RETRY_DELAY_DOUBLINGS = 6;
+    private final ClientLogger logger = new ClientLogger(SimpleTokenCache.class);
 
     private final AtomicBoolean wip;
-    private AccessToken cache;
+    private volatile AccessToken cache;
     private final ReplayProcessor<AccessToken> emitterProcessor = ReplayProcessor.create(1);
     private final FluxSink<AccessToken> sink = emitterProcessor.sink(OverflowStrategy.BUFFER);
     private final Supplier<Mono<AccessToken>> tokenSupplier;
+    private final TokenRefreshOptions refreshOptions;
+    private final Supplier<OffsetDateTime> clock;
+
+    // Only used when refreshing ahead of expiry. Updated while wip is held.
+    private volatile OffsetDateTime nextRefreshAt;
+    private int consecutiveRefreshFailures;
+
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong failedRefreshCount = new AtomicLong();
+    private final AtomicLong maxRefreshLatencyNanos = new AtomicLong();
+    private volatile Duration lastRefreshLatency;
 
     /**
      * Creates an instance of RefreshableTokenCredential with default scheme "Bearer".
@@ -29,8 +52,28 @@ public class SimpleTokenCache {
      * @param tokenSupplier a method to get a new token
      */
     public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier) {
+        this(tokenSupplier, null);
+    }
+
+    /**
+     * Creates a token cache that refreshes its token in the background before it expires.
+     *
+     * @param tokenSupplier a method to get a new token
+     * @param refreshOptions when to refresh the token in the background, or null to only refresh expired tokens
+     */
+    public SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, TokenRefreshOptions refreshOptions) {
+        this(tokenSupplier, refreshOptions, OffsetDateTime::now);
+    }
+
+    /*
+     * Creates a token cache that reads the time it schedules background refreshes against from the given clock.
+     */
+    SimpleTokenCache(Supplier<Mono<AccessToken>> tokenSupplier, TokenRefreshOptions refreshOptions,
+        Supplier<OffsetDateTime> clock) {
         this.wip = new AtomicBoolean(false);
         this.tokenSupplier = tokenSupplier;
+        this.refreshOptions = refreshOptions;
+        this.clock = clock;
     }
 
     /**
@@ -38,12 +81,17 @@ public class SimpleTokenCache {
      * @return a Publisher that emits an AccessToken
      */
     public Mono<AccessToken> getToken() {
-        if (cache != null && !cache.isExpired()) {
-            return Mono.just(cache);
+        AccessToken cached = cache;
+        if (cached != null && !cached.isExpired()) {
+            if (refreshOptions != null && clock.get().isAfter(nextRefreshAt)) {
+                refreshInBackground();
+            }
+            return Mono.just(cached);
         }
         return Mono.defer(() -> {
             if (!wip.getAndSet(true)) {
-                return tokenSupplier.get().doOnNext(ac -> cache = ac)
+                long startNanos = System.nanoTime();
+                return tokenSupplier.get().doOnNext(ac -> onRefreshed(ac, startNanos))
                     .doOnNext(sink::next)
                     .doOnError(sink::error)
                     .doOnTerminate(() -> wip.set(false));
@@ -52,4 +100,84 @@ public class SimpleTokenCache {
             }
         });
     }
+
+    /**
+     * @return the number of times a new token was fetched.
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * @return the number of background refreshes that failed while the cached token was still valid.
+     */
+    public long getFailedRefreshCount() {
+        return failedRefreshCount.get();
+    }
+
+    /**
+     * @return how long fetching the current token took, or null if no token was fetched yet.
+     */
+    public Duration getLastRefreshLatency() {
+        return lastRefreshLatency;
+    }
+
+    /**
+     * @return the longest time fetching a token took.
+     */
+    public Duration getMaxRefreshLatency() {
+        return Duration.ofNanos(maxRefreshLatencyNanos.get());
+    }
+
+    private void refreshInBackground() {
+        if (wip.getAndSet(true)) {
+            // A refresh is already running
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        tokenSupplier.get()
+            .doOnNext(ac -> onRefreshed(ac, startNanos))
+            .doOnNext(sink::next)
+            .doFinally(signal -> wip.set(false))
+            .subscribe(ac -> { }, error -> onBackgroundRefreshFailed(error));
+    }
+
+    private void onRefreshed(AccessToken token, long startNanos) {
+        Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+        lastRefreshLatency = latency;
+        maxRefreshLatencyNanos.accumulateAndGet(latency.toNanos(), Math::max);
+        refreshCount.incrementAndGet();
+        if (refreshOptions != null) {
+            consecutiveRefreshFailures = 0;
+            nextRefreshAt = computeNextRefreshAt(token);
+            logger.verbose("Token refreshed in {} ms, next refresh at {}", latency.toMillis(), nextRefreshAt);
+        }
+        cache = token;
+    }
+
+    private void onBackgroundRefreshFailed(Throwable error) {
+        failedRefreshCount.incrementAndGet();
+        // Keep serving the cached token until it expires, backing off between attempts
+        int doublings = Math.min(consecutiveRefreshFailures, MAX_RETRY_DELAY_DOUBLINGS);
+        consecutiveRefreshFailures++;
+        Duration retryDelay = refreshOptions.getRetryDelay().multipliedBy(1L << doublings);
+        nextRefreshAt = clock.get().plus(retryDelay);
+        logger.warning("Background token refresh failed, retrying after {} ms: {}", retryDelay.toMillis(),
+            error.getMessage());
+    }
+
+    private OffsetDateTime computeNextRefreshAt(AccessToken token) {
+        OffsetDateTime now = clock.get();
+        long lifetimeNanos = Duration.between(now, token.getExpiresAt()).toNanos();
+        if (lifetimeNanos <= 0) {
+            return now;
+        }
+
+        double jitterRatio = refreshOptions.getJitterRatio();
+        double ratio = refreshOptions.getRefreshRatio()
+            + (jitterRatio == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio));
+        ratio = Math.max(0, Math.min(1, ratio));
+        return now.plusNanos((long) (lifetimeNanos * ratio));
+    }
 }
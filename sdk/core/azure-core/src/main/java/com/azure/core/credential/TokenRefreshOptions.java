@@ -0,0 +1,105 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.credential;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Options that make a {@link SimpleTokenCache} refresh its token in the background before the token expires.
+ *
+ * <p>Once the configured fraction of a token's lifetime has passed, the next request for a token starts a refresh in
+ * the background and is served the cached token, which is still valid. Requests only wait for a refresh once the
+ * cached token has expired.</p>
+ */
+public class TokenRefreshOptions {
+    private static final double DEFAULT_REFRESH_RATIO = 0.8;
+    private static final double DEFAULT_JITTER_RATIO = 0.05;
+    private static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(10);
+    private final ClientLogger logger = new ClientLogger(TokenRefreshOptions.class);
+
+    private double refreshRatio = DEFAULT_REFRESH_RATIO;
+    private double jitterRatio = DEFAULT_JITTER_RATIO;
+    private Duration retryDelay = DEFAULT_RETRY_DELAY;
+
+    /**
+     * Gets the fraction of a token's lifetime after which it is refreshed in the background. Defaults to 0.8.
+     *
+     * @return the fraction of the token lifetime after which it is refreshed
+     */
+    public double getRefreshRatio() {
+        return refreshRatio;
+    }
+
+    /**
+     * Sets the fraction of a token's lifetime after which it is refreshed in the background.
+     *
+     * @param refreshRatio the fraction of the token lifetime, greater than 0 and less than 1
+     * @return the updated TokenRefreshOptions object
+     * @throws IllegalArgumentException if {@code refreshRatio} is not greater than 0 and less than 1
+     */
+    public TokenRefreshOptions setRefreshRatio(double refreshRatio) {
+        if (refreshRatio <= 0 || refreshRatio >= 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'refreshRatio' must be greater than 0 and less than 1."));
+        }
+        this.refreshRatio = refreshRatio;
+        return this;
+    }
+
+    /**
+     * Gets the fraction of a token's lifetime by which the refresh time is randomly moved earlier or later, so that
+     * clients started together do not all refresh at the same moment. Defaults to 0.05.
+     *
+     * @return the jitter as a fraction of the token lifetime
+     */
+    public double getJitterRatio() {
+        return jitterRatio;
+    }
+
+    /**
+     * Sets the fraction of a token's lifetime by which the refresh time is randomly moved earlier or later.
+     *
+     * @param jitterRatio the jitter as a fraction of the token lifetime, 0 to disable jitter
+     * @return the updated TokenRefreshOptions object
+     * @throws IllegalArgumentException if {@code jitterRatio} is negative or not less than 1
+     */
+    public TokenRefreshOptions setJitterRatio(double jitterRatio) {
+        if (jitterRatio < 0 || jitterRatio >= 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'jitterRatio' must be at least 0 and less than 1."));
+        }
+        this.jitterRatio = jitterRatio;
+        return this;
+    }
+
+    /**
+     * Gets the delay before a failed background refresh is retried. The delay doubles with each consecutive failure,
+     * and the cached token keeps being used until it expires. Defaults to 10 seconds.
+     *
+     * @return the delay before the first retry of a failed refresh
+     */
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Sets the delay before a failed background refresh is retried.
+     *
+     * @param retryDelay the delay before the first retry of a failed refresh
+     * @return the updated TokenRefreshOptions object
+     * @throws NullPointerException if {@code retryDelay} is null
+     * @throws IllegalArgumentException if {@code retryDelay} is zero or negative
+     */
+    public TokenRefreshOptions setRetryDelay(Duration retryDelay) {
+        Objects.requireNonNull(retryDelay, "'retryDelay' cannot be null.");
+        if (retryDelay.isZero() || retryDelay.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'retryDelay' must be positive."));
+        }
+        this.retryDelay = retryDelay;
+        return this;
+    }
+}
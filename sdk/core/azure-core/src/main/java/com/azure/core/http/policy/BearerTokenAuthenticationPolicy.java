@@ -5,6 +5,7 @@ package com.azure.core.http.policy;
 
 import com.azure.core.credential.SimpleTokenCache;
 import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRefreshOptions;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.core.http.HttpPipelineCallContext;
 import com.azure.core.http.HttpPipelineNextPolicy;
@@ -32,12 +33,26 @@ public class BearerTokenAuthenticationPolicy implements HttpPipelinePolicy {
      * @param scopes the scopes of authentication the credential should get token for
      */
     public BearerTokenAuthenticationPolicy(TokenCredential credential, String... scopes) {
+        this(credential, null, scopes);
+    }
+
+    /**
+     * Creates BearerTokenAuthenticationPolicy that refreshes its token in the background before the token expires,
+     * so requests do not wait for a new token while the current one is still valid.
+     *
+     * @param credential the token credential to authenticate the request
+     * @param refreshOptions when to refresh the token in the background, or null to only refresh expired tokens
+     * @param scopes the scopes of authentication the credential should get token for
+     */
+    public BearerTokenAuthenticationPolicy(TokenCredential credential, TokenRefreshOptions refreshOptions,
+        String... scopes) {
         Objects.requireNonNull(credential);
         Objects.requireNonNull(scopes);
         assert scopes.length > 0;
         this.credential = credential;
         this.scopes = scopes;
-        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)));
+        this.cache = new SimpleTokenCache(() -> credential.getToken(new TokenRequestContext().addScopes(scopes)),
+            refreshOptions);
     }
 
     @Override
@@ -3,6 +3,7 @@
 
 package com.azure.core.http.rest;
 
+import com.azure.core.util.logging.ClientLogger;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
@@ -31,6 +32,12 @@ import java.util.function.Supplier;
  * {@link #byPage(String)}.</p>
  * {@codesnippet com.azure.core.http.rest.pagedfluxbase.pagesWithContinuationToken}
  *
+ * <p><strong>Prefetch pages while processing a page</strong></p>
+ * <p>Each page is retrieved with the continuation token of the previous one, so pages are retrieved one after the
+ * other. To retrieve the following pages while a page is being processed, rather than once it has been processed, use
+ * {@link #byPage(int) byPage(int)}, {@link #byPage(String, int)} or {@link #byItem(int)} with the number of pages to
+ * retrieve ahead.</p>
+ *
  * @param <T> The type of items in {@code P}.
  * @param <P> The {@link PagedResponse} holding items of type {@code T}.
  *
@@ -39,6 +46,7 @@ import java.util.function.Supplier;
  * @see Flux
  */
 public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
+    private final ClientLogger logger = new ClientLogger(PagedFluxBase.class);
 
     private final Supplier<Mono<P>> firstPageRetriever;
 
@@ -110,6 +118,53 @@ public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
         return nextPageRetriever.apply(continuationToken).flatMapMany(this::extractAndFetchPage);
     }
 
+    /**
+     * Creates a flux of {@link PagedResponse} starting from the first page, which retrieves up to {@code prefetch}
+     * pages ahead of the pages that have been consumed.
+     *
+     * <p>The next page is requested as soon as a page is received, so the latency of retrieving it overlaps with the
+     * processing of the pages before it. Retrieval pauses once {@code prefetch} pages are waiting to be consumed, so at
+     * most one more page than that is held in memory. Pages are emitted on the thread that retrieved them, so a
+     * subscriber that processes pages with blocking code should publish them on another scheduler, or iterate them
+     * through {@link PagedIterableBase#iterableByPage(int)}, to let retrieval continue in the meantime.</p>
+     *
+     * @param prefetch The number of pages to retrieve ahead of the pages that have been consumed
+     * @return A {@link Flux} of pages starting from the first page
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Flux<P> byPage(int prefetch) {
+        return prefetchPages(byPage(), prefetch);
+    }
+
+    /**
+     * Creates a flux of {@link PagedResponse} starting from the next page associated with the given continuation
+     * token, which retrieves up to {@code prefetch} pages ahead of the pages that have been consumed. To start from
+     * the first page, use {@link #byPage(int)} instead.
+     *
+     * @param continuationToken The continuation token used to fetch the next page
+     * @param prefetch The number of pages to retrieve ahead of the pages that have been consumed
+     * @return A {@link Flux} of pages starting from the page associated with the continuation token
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Flux<P> byPage(String continuationToken, int prefetch) {
+        return prefetchPages(byPage(continuationToken), prefetch);
+    }
+
+    /**
+     * Creates a flux of the items of all pages, which retrieves up to {@code prefetch} pages ahead of the page whose
+     * items are being consumed. Subscribing to this {@link PagedFluxBase} directly retrieves the next page only once
+     * all the items of the current page have been emitted.
+     *
+     * @param prefetch The number of pages to retrieve ahead of the page whose items are being consumed
+     * @return A {@link Flux} of items starting from the first page
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     * @see #byPage(int)
+     */
+    public Flux<T> byItem(int prefetch) {
+        // Take one page at a time from the prefetched pages, so the pages waiting are bounded by the prefetch alone.
+        return byPage(prefetch).concatMapIterable(PagedResponse::getItems, 1);
+    }
+
     /**
      * Subscribe to consume all items of type {@code T} in the sequence respectively.
      * This is recommended for most common scenarios. This will seamlessly fetch next
@@ -138,6 +193,21 @@ public class PagedFluxBase<T, P extends PagedResponse<T>> extends Flux<T> {
         return nextPageRetriever.apply(continuationToken).flatMapMany(this::extractAndFetchT);
     }
 
+    /**
+     * Helper method to request pages ahead of the consumer. The buffer requests {@code prefetch} pages up front and
+     * one more each time a page is consumed, and the next page is retrieved as soon as a page is emitted into it.
+     *
+     * @param pages The flux of pages
+     * @param prefetch The number of pages to retrieve ahead of the pages that have been consumed
+     * @return A {@link Flux} of pages that is retrieved ahead of its consumer
+     */
+    private Flux<P> prefetchPages(Flux<P> pages, int prefetch) {
+        if (prefetch < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'prefetch' must be greater than 0."));
+        }
+        return pages.limitRate(prefetch, 1);
+    }
+
     /**
      * Helper method to string together a flux of items transparently extracting items from
      * next pages, if available.
@@ -4,6 +4,7 @@
 package com.azure.core.http.rest;
 
 import com.azure.core.util.IterableStream;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
 /**
@@ -39,6 +40,30 @@ public class PagedIterableBase<T, P extends PagedResponse<T>> extends IterableSt
         this.pagedFluxBase = pagedFluxBase;
     }
 
+    /**
+     * Retrieve the {@link Stream} of all items, retrieving up to {@code prefetch} pages ahead of the page whose items
+     * are being consumed. See {@link PagedFluxBase#byItem(int)}.
+     *
+     * @param prefetch The number of pages to retrieve ahead of the page whose items are being consumed
+     * @return {@link Stream} of items
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Stream<T> stream(int prefetch) {
+        return pagedFluxBase.byItem(prefetch).toStream();
+    }
+
+    /**
+     * Provides an {@link Iterator} over all items, retrieving up to {@code prefetch} pages ahead of the page whose
+     * items are being consumed. See {@link PagedFluxBase#byItem(int)}.
+     *
+     * @param prefetch The number of pages to retrieve ahead of the page whose items are being consumed
+     * @return {@link Iterator} of items
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Iterator<T> iterator(int prefetch) {
+        return pagedFluxBase.byItem(prefetch).toIterable().iterator();
+    }
+
     /**
      * Retrieve the {@link Stream}, one page at a time.
      * It will provide same {@link Stream} of T values from starting if called multiple times.
@@ -61,6 +86,18 @@ public class PagedIterableBase<T, P extends PagedResponse<T>> extends IterableSt
         return pagedFluxBase.byPage(continuationToken).toStream();
     }
 
+    /**
+     * Retrieve the {@link Stream}, one page at a time, retrieving up to {@code prefetch} pages ahead of the page being
+     * consumed. See {@link PagedFluxBase#byPage(int)}.
+     *
+     * @param prefetch The number of pages to retrieve ahead of the page being consumed
+     * @return {@link Stream} of a Response that extends {@link PagedResponse}
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Stream<P> streamByPage(int prefetch) {
+        return pagedFluxBase.byPage(prefetch).toStream(1);
+    }
+
     /**
      * Provides {@link Iterable} API for{ @link PagedResponse}
      * It will provide same collection of {@code T} values from starting if called multiple times.
@@ -82,4 +119,16 @@ public class PagedIterableBase<T, P extends PagedResponse<T>> extends IterableSt
     public Iterable<P> iterableByPage(String continuationToken) {
         return pagedFluxBase.byPage(continuationToken).toIterable();
     }
+
+    /**
+     * Provides {@link Iterable} API for {@link PagedResponse}, retrieving up to {@code prefetch} pages ahead of the
+     * page being consumed. See {@link PagedFluxBase#byPage(int)}.
+     *
+     * @param prefetch The number of pages to retrieve ahead of the page being consumed
+     * @return {@link Iterable} interface
+     * @throws IllegalArgumentException If {@code prefetch} is less than 1
+     */
+    public Iterable<P> iterableByPage(int prefetch) {
+        return pagedFluxBase.byPage(prefetch).toIterable(1);
+    }
 }
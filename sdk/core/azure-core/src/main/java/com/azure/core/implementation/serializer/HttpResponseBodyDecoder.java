@@ -21,6 +21,7 @@ import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -53,10 +54,10 @@ final class HttpResponseBodyDecoder {
         //
         return Mono.defer(() -> {
             if (isErrorStatus(httpResponse, decodeData)) {
-                return httpResponse.getBodyAsString()
-                    .flatMap(bodyString -> {
+                return httpResponse.getBodyAsByteArray()
+                    .flatMap(body -> {
                         try {
-                            final Object decodedErrorEntity = deserializeBody(bodyString,
+                            final Object decodedErrorEntity = deserializeBody(body,
                                 decodeData.getUnexpectedException(httpResponse.getStatusCode()).getExceptionBodyType(),
                                 null, serializer, SerializerEncoding.fromHeaders(httpResponse.getHeaders()));
                             return decodedErrorEntity == null ? Mono.empty() : Mono.just(decodedErrorEntity);
@@ -73,10 +74,10 @@ final class HttpResponseBodyDecoder {
             } else if (!isReturnTypeDecodable(decodeData)) {
                 return Mono.empty();
             } else {
-                return httpResponse.getBodyAsString()
-                    .flatMap(bodyString -> {
+                return httpResponse.getBodyAsByteArray()
+                    .flatMap(body -> {
                         try {
-                            final Object decodedSuccessEntity = deserializeBody(bodyString,
+                            final Object decodedSuccessEntity = deserializeBody(body,
                                 extractEntityTypeFromReturnType(decodeData),
                                 decodeData.getReturnValueWireType(),
                                 serializer,
@@ -148,12 +149,12 @@ final class HttpResponseBodyDecoder {
     }
 
     /**
-     * Deserialize the given string value representing content of a REST API response.
+     * Deserialize the given bytes representing content of a REST API response.
      *
      * If the {@link ReturnValueWireType} is of type {@link Page}, then the returned object will be an instance of that
      * {@param wireType}. Otherwise, the returned object is converted back to its {@param resultType}.
      *
-     * @param value the string value to deserialize
+     * @param value the bytes to deserialize
      * @param resultType the return type of the java proxy method
      * @param wireType value of optional {@link ReturnValueWireType} annotation present in java proxy method
      *     indicating 'entity type' (wireType) of REST API wire response body
@@ -161,15 +162,16 @@ final class HttpResponseBodyDecoder {
      * @return Deserialized object
      * @throws IOException When the body cannot be deserialized
      */
-    private static Object deserializeBody(String value, Type resultType, Type wireType, SerializerAdapter serializer,
+    private static Object deserializeBody(byte[] value, Type resultType, Type wireType, SerializerAdapter serializer,
                                           SerializerEncoding encoding) throws IOException {
         if (wireType == null) {
-            return serializer.deserialize(value, resultType, encoding);
+            return serializer.deserialize(new ByteArrayInputStream(value), resultType, encoding);
         } else if (TypeUtil.isTypeOrSubTypeOf(wireType, Page.class)) {
             return deserializePage(value, resultType, wireType, serializer, encoding);
         } else {
             final Type wireResponseType = constructWireResponseType(resultType, wireType);
-            final Object wireResponse = serializer.deserialize(value, wireResponseType, encoding);
+            final Object wireResponse = serializer.deserialize(new ByteArrayInputStream(value), wireResponseType,
+                encoding);
 
             return convertToResultType(wireResponse, resultType, wireType);
         }
@@ -231,15 +233,15 @@ final class HttpResponseBodyDecoder {
      * 1. A type that implements the interface
      * 2. Is of {@link Page}
      *
-     * @param value The string to deserialize
+     * @param value The bytes to deserialize
      * @param resultType The type T, of the page contents.
      * @param wireType The {@link Type} that either is, or implements {@link Page}
      * @param serializer The serializer used to deserialize the value.
-     * @param encoding Encoding used to deserialize string
+     * @param encoding Encoding used to deserialize the bytes
      * @return An object representing an instance of {@param wireType}
      * @throws IOException if the serializer is unable to deserialize the value.
      */
-    private static Object deserializePage(String value, Type resultType, Type wireType, SerializerAdapter serializer,
+    private static Object deserializePage(byte[] value, Type resultType, Type wireType, SerializerAdapter serializer,
                                           SerializerEncoding encoding) throws IOException {
         final Type wireResponseType;
 
@@ -251,7 +253,7 @@ final class HttpResponseBodyDecoder {
             wireResponseType = wireType;
         }
 
-        return serializer.deserialize(value, wireResponseType, encoding);
+        return serializer.deserialize(new ByteArrayInputStream(value), wireResponseType, encoding);
     }
 
     /**
@@ -6,8 +6,11 @@ package com.azure.core.implementation.serializer;
 import com.azure.core.http.HttpHeaders;
 import com.azure.core.implementation.CollectionFormat;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -55,6 +58,33 @@ public interface SerializerAdapter {
      */
     <U> U deserialize(String value, Type type, SerializerEncoding encoding) throws IOException;
 
+    /**
+     * Deserializes a byte stream into a {@link U} object.
+     *
+     * Implementations should parse the bytes directly rather than decode them to a string first. The default
+     * implementation reads the stream as UTF-8 text and deserializes the string.
+     *
+     * @param inputStream the stream of the serialized value
+     * @param <U> the type of the deserialized object
+     * @param type the type to deserialize
+     * @param encoding the encoding used in the serialized value
+     * @return the deserialized object
+     * @throws IOException exception from deserialization
+     */
+    default <U> U deserialize(InputStream inputStream, Type type, SerializerEncoding encoding) throws IOException {
+        if (inputStream == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream value = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            value.write(buffer, 0, read);
+        }
+        return deserialize(new String(value.toByteArray(), StandardCharsets.UTF_8), type, encoding);
+    }
+
     /**
      * Deserialize the provided headers returned from a REST API to an entity instance declared as
      * the model to hold 'Matching' headers.
@@ -0,0 +1,284 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.azure.core.annotation.HeaderCollection;
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.implementation.util.TypeUtil;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Populates a headers POJO directly from {@link HttpHeaders}.
+ *
+ * <p>A binder is compiled once per headers type from the Jackson metadata of its fields, so deserializing a response's
+ * headers looks up each property's header and sets the field through a {@link MethodHandle}, instead of writing the
+ * headers to JSON, parsing them back and scanning the fields for {@link HeaderCollection} annotations. Types that rely
+ * on Jackson features the binder doesn't replicate, such as creators, setters or custom deserializers, can't be
+ * compiled and are left to the JSON round trip.</p>
+ */
+final class HttpHeadersBinder {
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final ObjectMapper headerMapper;
+    private final MethodHandle constructor;
+    private final List<HeaderProperty> properties;
+    private final List<HeaderCollectionProperty> headerCollections;
+
+    private HttpHeadersBinder(ObjectMapper headerMapper, MethodHandle constructor, List<HeaderProperty> properties,
+        List<HeaderCollectionProperty> headerCollections) {
+        this.headerMapper = headerMapper;
+        this.constructor = constructor;
+        this.properties = properties;
+        this.headerCollections = headerCollections;
+    }
+
+    /**
+     * Compiles a binder for a headers type.
+     *
+     * @param headerMapper the mapper the values of the headers are converted with
+     * @param deserializedHeadersType the type of the headers POJO
+     * @return the binder, or null if the type can't be bound without Jackson's own deserialization
+     */
+    static HttpHeadersBinder create(ObjectMapper headerMapper, Type deserializedHeadersType) {
+        if (!(deserializedHeadersType instanceof Class)) {
+            return null;
+        }
+        Class<?> headersClass = (Class<?>) deserializedHeadersType;
+        if (headersClass.isInterface() || Modifier.isAbstract(headersClass.getModifiers())) {
+            return null;
+        }
+
+        BeanDescription description = headerMapper.getDeserializationConfig()
+            .introspect(headerMapper.constructType(headersClass));
+        if (description.getClassAnnotations().has(JsonDeserialize.class)
+            || description.getClassAnnotations().has(JsonTypeInfo.class)
+            || description.findAnySetterAccessor() != null
+            || description.findDefaultConstructor() == null) {
+            return null;
+        }
+        for (AnnotatedConstructor creator : description.getConstructors()) {
+            if (creator.hasAnnotation(JsonCreator.class)) {
+                return null;
+            }
+        }
+
+        try {
+            List<HeaderCollectionProperty> headerCollections = new ArrayList<>();
+            Set<Field> headerCollectionFields = new HashSet<>();
+            for (Field field : headersClass.getDeclaredFields()) {
+                HeaderCollectionProperty headerCollection = HeaderCollectionProperty.create(field);
+                if (headerCollection != null) {
+                    headerCollections.add(headerCollection);
+                    headerCollectionFields.add(field);
+                }
+            }
+
+            List<HeaderProperty> properties = new ArrayList<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                if (!property.couldDeserialize()) {
+                    continue;
+                }
+                if (!property.hasField() || property.hasSetter() || property.hasConstructorParameter()) {
+                    return null;
+                }
+
+                AnnotatedField field = property.getField();
+                if (headerCollectionFields.contains(field.getAnnotated())) {
+                    continue;
+                }
+                if (field.hasAnnotation(JsonDeserialize.class) || field.hasAnnotation(JsonFormat.class)) {
+                    return null;
+                }
+
+                Class<?> rawType = field.getRawType();
+                ObjectReader reader = rawType == String.class
+                    ? null
+                    : headerMapper.readerFor(property.getPrimaryType());
+                properties.add(new HeaderProperty(property.getName(), setter(field.getAnnotated()), reader,
+                    rawType.isPrimitive()));
+            }
+
+            Constructor<?> defaultConstructor = headersClass.getDeclaredConstructor();
+            setAccessible(defaultConstructor);
+            MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(defaultConstructor)
+                .asType(CONSTRUCTOR_TYPE);
+
+            return new HttpHeadersBinder(headerMapper, constructor, properties, headerCollections);
+        } catch (IllegalAccessException | NoSuchMethodException | RuntimeException e) {
+            // The type isn't open to reflective access or doesn't follow the field conventions of headers types.
+            return null;
+        }
+    }
+
+    /**
+     * Creates a headers POJO from the headers of a response.
+     *
+     * @param headers the headers of the response
+     * @param <T> the type of the headers POJO
+     * @return the headers POJO
+     * @throws IOException if the value of a header can't be converted to the type of its field
+     */
+    @SuppressWarnings("unchecked")
+    <T> T bind(HttpHeaders headers) throws IOException {
+        Object deserializedHeaders = invoke(() -> constructor.invokeExact());
+
+        for (HeaderProperty property : properties) {
+            String value = headers.getValue(property.headerName);
+            if (value != null) {
+                property.set(deserializedHeaders, value, headerMapper);
+            }
+        }
+
+        for (HeaderCollectionProperty headerCollection : headerCollections) {
+            headerCollection.set(deserializedHeaders, headers);
+        }
+
+        return (T) deserializedHeaders;
+    }
+
+    /*
+     * Invokes a method handle. The handles only ever wrap the default constructor and field setters, so anything thrown
+     * other than a runtime exception or an error is unexpected.
+     */
+    private static Object invoke(Invocation invocation) {
+        try {
+            return invocation.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle setter(Field field) throws IllegalAccessException {
+        setAccessible(field);
+        return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+    }
+
+    private static void setAccessible(AccessibleObject accessibleObject) {
+        if (!accessibleObject.isAccessible()) {
+            AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+                accessibleObject.setAccessible(true);
+                return null;
+            });
+        }
+    }
+
+    /*
+     * A field bound to the header named by its JSON property.
+     */
+    private static final class HeaderProperty {
+        private final String headerName;
+        private final MethodHandle setter;
+        private final ObjectReader reader;
+        private final boolean primitive;
+
+        HeaderProperty(String headerName, MethodHandle setter, ObjectReader reader, boolean primitive) {
+            this.headerName = headerName;
+            this.setter = setter;
+            this.reader = reader;
+            this.primitive = primitive;
+        }
+
+        void set(Object deserializedHeaders, String value, ObjectMapper headerMapper) throws IOException {
+            Object fieldValue;
+            if (reader == null) {
+                fieldValue = value;
+            } else {
+                // Convert the value as the string it would have been in the JSON representation of the headers.
+                TokenBuffer buffer = new TokenBuffer(headerMapper, false);
+                buffer.writeString(value);
+                fieldValue = reader.readValue(buffer.asParser());
+            }
+
+            if (fieldValue != null || !primitive) {
+                invoke(() -> {
+                    setter.invokeExact(deserializedHeaders, fieldValue);
+                    return null;
+                });
+            }
+        }
+    }
+
+    /*
+     * A Map<String, String> field annotated with HeaderCollection, holding every header that starts with its prefix.
+     */
+    private static final class HeaderCollectionProperty {
+        private final String prefix;
+        private final MethodHandle setter;
+
+        private HeaderCollectionProperty(String prefix, MethodHandle setter) {
+            this.prefix = prefix;
+            this.setter = setter;
+        }
+
+        static HeaderCollectionProperty create(Field field) throws IllegalAccessException {
+            HeaderCollection headerCollection = field.getAnnotation(HeaderCollection.class);
+            if (headerCollection == null || !TypeUtil.isTypeOrSubTypeOf(field.getType(), Map.class)) {
+                return null;
+            }
+            Type[] mapTypeArguments = TypeUtil.getTypeArguments(field.getGenericType());
+            String prefix = headerCollection.value().toLowerCase(Locale.ROOT);
+            if (mapTypeArguments.length != 2 || mapTypeArguments[0] != String.class
+                || mapTypeArguments[1] != String.class || prefix.isEmpty()) {
+                return null;
+            }
+            return new HeaderCollectionProperty(prefix, setter(field));
+        }
+
+        void set(Object deserializedHeaders, HttpHeaders headers) {
+            Map<String, String> headerCollection = new HashMap<>();
+            for (HttpHeader header : headers) {
+                String headerName = header.getName();
+                if (headerName.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    headerCollection.put(headerName.substring(prefix.length()), header.getValue());
+                }
+            }
+
+            invoke(() -> {
+                setter.invokeExact(deserializedHeaders, (Object) headerCollection);
+                return null;
+            });
+        }
+    }
+
+    /*
+     * A call to a method handle.
+     */
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke() throws Throwable;
+    }
+}
@@ -25,6 +25,8 @@ import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -32,10 +34,13 @@ import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link SerializerAdapter} for Jackson.
@@ -57,6 +62,11 @@ public class JacksonAdapter implements SerializerAdapter {
 
     private final ObjectMapper headerMapper;
 
+    /*
+     * The compiled binders of the headers types deserialized so far, empty for types that go through JSON.
+     */
+    private final Map<Type, Optional<HttpHeadersBinder>> headersBinders = new ConcurrentHashMap<>();
+
     /*
      * The lazily-created serializer for this ServiceClient.
      */
@@ -67,6 +77,11 @@ public class JacksonAdapter implements SerializerAdapter {
      */
     private static final String BOM = "\uFEFF";
 
+    /**
+     * The UTF-8 encoding of the BOM header, removed when deserializing byte streams.
+     */
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
     /**
      * Creates a new JacksonAdapter instance with default mapper settings.
      */
@@ -181,12 +196,74 @@ public class JacksonAdapter implements SerializerAdapter {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(InputStream inputStream, final Type type, SerializerEncoding encoding)
+        throws IOException {
+        if (inputStream == null) {
+            return null;
+        }
+        PushbackInputStream content = new PushbackInputStream(inputStream, UTF_8_BOM.length);
+        if (removeBomAndCheckEmpty(content)) {
+            return null;
+        }
+
+        // Jackson parses the bytes directly, so the body is never decoded into an intermediate string.
+        final JavaType javaType = createJavaType(type);
+        try {
+            if (encoding == SerializerEncoding.XML) {
+                return (T) xmlMapper.readValue(content, javaType);
+            } else {
+                return (T) serializer().readValue(content, javaType);
+            }
+        } catch (JsonParseException jpe) {
+            throw logger.logExceptionAsError(new MalformedValueException(jpe.getMessage(), jpe));
+        }
+    }
+
+    /*
+     * Removes a leading UTF-8 BOM from the stream and checks whether anything is left to deserialize.
+     */
+    private static boolean removeBomAndCheckEmpty(PushbackInputStream content) throws IOException {
+        byte[] start = new byte[UTF_8_BOM.length];
+        int length = 0;
+        int read;
+        while (length < start.length && (read = content.read(start, length, start.length - length)) != -1) {
+            length += read;
+        }
+
+        if (length == start.length && Arrays.equals(start, UTF_8_BOM)) {
+            int next = content.read();
+            if (next == -1) {
+                return true;
+            }
+            content.unread(next);
+            return false;
+        }
+
+        content.unread(start, 0, length);
+        return length == 0;
+    }
+
     @Override
     public <T> T deserialize(HttpHeaders headers, Type deserializedHeadersType) throws IOException {
         if (deserializedHeadersType == null) {
             return null;
         }
 
+        final Optional<HttpHeadersBinder> headersBinder = headersBinders.computeIfAbsent(deserializedHeadersType,
+            type -> Optional.ofNullable(HttpHeadersBinder.create(headerMapper, type)));
+        if (headersBinder.isPresent()) {
+            return headersBinder.get().bind(headers);
+        }
+        return deserializeThroughJson(headers, deserializedHeadersType);
+    }
+
+    /*
+     * Deserializes headers by writing them to JSON and reading that into the headers type, for types that rely on
+     * Jackson features a HttpHeadersBinder can't replicate.
+     */
+    <T> T deserializeThroughJson(HttpHeaders headers, Type deserializedHeadersType) throws IOException {
         final String headersJsonString = headerMapper.writeValueAsString(headers);
         T deserializedHeaders =
             headerMapper.readValue(headersJsonString, createJavaType(deserializedHeadersType));
@@ -69,6 +69,7 @@ module com.azure.core {
     exports com.azure.core.implementation.serializer to
         com.azure.core.management,              // FIXME this should not be a long-term solution
         com.azure.core.test,                    // FIXME this should not be a long-term solution
+        com.azure.data.appconfiguration,        // FIXME this should not be a long-term solution
         com.azure.http.netty,                   // FIXME this should not be a long-term solution
         com.azure.identity,                     // FIXME this should not be a long-term solution
         com.azure.storage.blob,                 // FIXME this should not be a long-term solution
@@ -78,6 +79,7 @@ module com.azure.core {
     exports com.azure.core.implementation.serializer.jackson to
         com.azure.core.management,              // FIXME this should not be a long-term solution
         com.azure.core.test,                    // FIXME this should not be a long-term solution
+        com.azure.data.appconfiguration,        // FIXME this should not be a long-term solution
         com.azure.http.netty,                   // FIXME this should not be a long-term solution
         com.azure.identity,                     // FIXME this should not be a long-term solution
         com.azure.storage.blob,                 // FIXME this should not be a long-term solution
@@ -7,6 +7,7 @@ import org.junit.Assert;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
@@ -15,9 +16,12 @@ import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 public class TokenCacheTests {
     private static final Random RANDOM = new Random();
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
 
     @Test
     public void testOnlyOneThreadRefreshesToken() throws Exception {
@@ -79,6 +83,69 @@ public class TokenCacheTests {
         Assert.assertTrue(refreshes.get() <= 11);
     }
 
+    @Test
+    public void testRefreshAheadServesCachedTokenWhileRefreshing() {
+        AtomicReference<OffsetDateTime> now = new AtomicReference<>(OffsetDateTime.now());
+        AccessToken first = new Token("first", now::get, Duration.ofSeconds(4));
+        AccessToken second = new Token("second", now::get, Duration.ofSeconds(4));
+        MonoProcessor<AccessToken> refresh = MonoProcessor.create();
+        AtomicInteger refreshes = new AtomicInteger(0);
+        SimpleTokenCache cache = new SimpleTokenCache(() -> refreshes.incrementAndGet() == 1 ? Mono.just(first)
+            : refresh, new TokenRefreshOptions().setRefreshRatio(0.25).setJitterRatio(0), now::get);
+
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        now.set(now.get().plus(Duration.ofMillis(900)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals("Refreshed before a quarter of the lifetime passed", 1, refreshes.get());
+
+        // Past a quarter of the lifetime the cached token is returned right away and refreshed in the background
+        now.set(now.get().plus(Duration.ofMillis(200)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertSame("Refresh started twice", first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(2, refreshes.get());
+
+        refresh.onNext(second);
+        Assert.assertSame(second, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(2, cache.getRefreshCount());
+        Assert.assertNotNull(cache.getLastRefreshLatency());
+    }
+
+    @Test
+    public void testFailedRefreshAheadKeepsCachedTokenAndBacksOff() {
+        AtomicReference<OffsetDateTime> now = new AtomicReference<>(OffsetDateTime.now());
+        AccessToken first = new Token("first", now::get, Duration.ofSeconds(20));
+        AtomicInteger refreshes = new AtomicInteger(0);
+        SimpleTokenCache cache = new SimpleTokenCache(() -> refreshes.incrementAndGet() == 1 ? Mono.just(first)
+            : Mono.error(new RuntimeException("token service unavailable")),
+            new TokenRefreshOptions().setRefreshRatio(0.25).setJitterRatio(0).setRetryDelay(Duration.ofSeconds(1)),
+            now::get);
+
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        now.set(now.get().plus(Duration.ofMillis(5100)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(2, refreshes.get());
+        Assert.assertEquals(1, cache.getFailedRefreshCount());
+
+        // The failed refresh is not retried before the retry delay
+        now.set(now.get().plus(Duration.ofMillis(900)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(2, refreshes.get());
+        now.set(now.get().plus(Duration.ofMillis(200)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(3, refreshes.get());
+
+        // The retry delay doubles after each consecutive failure
+        now.set(now.get().plus(Duration.ofMillis(1500)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(3, refreshes.get());
+        now.set(now.get().plus(Duration.ofMillis(600)));
+        Assert.assertSame(first, cache.getToken().block(TIMEOUT));
+        Assert.assertEquals(4, refreshes.get());
+        Assert.assertEquals(3, cache.getFailedRefreshCount());
+        Assert.assertEquals(1, cache.getRefreshCount());
+    }
+
     private Mono<AccessToken> remoteGetTokenAsync(long delayInMillis) {
         return Mono.delay(Duration.ofMillis(delayInMillis))
             .map(l -> new Token(Integer.toString(RANDOM.nextInt(100))));
@@ -98,6 +165,7 @@ public class TokenCacheTests {
     private static class Token extends AccessToken {
         private String token;
         private OffsetDateTime expiry;
+        private Supplier<OffsetDateTime> clock = OffsetDateTime::now;
 
         @Override
         public String getToken() {
@@ -114,6 +182,13 @@ public class TokenCacheTests {
             this.expiry = OffsetDateTime.now().plus(Duration.ofMillis(validityInMillis));
         }
 
+        Token(String token, Supplier<OffsetDateTime> clock, Duration validity) {
+            super(token, clock.get().plus(validity));
+            this.token = token;
+            this.expiry = clock.get().plus(validity);
+            this.clock = clock;
+        }
+
         @Override
         public OffsetDateTime getExpiresAt() {
             return expiry;
@@ -121,7 +196,7 @@ public class TokenCacheTests {
 
         @Override
         public boolean isExpired() {
-            return OffsetDateTime.now().isAfter(expiry);
+            return clock.get().isAfter(expiry);
         }
     }
 }
@@ -0,0 +1,128 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.http.rest;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.MockHttpResponse;
+import com.azure.core.implementation.http.PagedResponseBase;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Lists a large simulated container through a mock HttpClient that takes a fixed time to return each page, while the
+ * consumer takes a fixed time to process each page. A prefetch of 0 iterates the pages or items without prefetching.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class PagedFluxPrefetchBenchMark {
+    private static final int PAGE_COUNT = 50;
+    private static final int PAGE_SIZE = 1000;
+    private static final Duration PAGE_LATENCY = Duration.ofMillis(2);
+    private static final long PAGE_PROCESSING_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final String CONTINUATION_HEADER = "x-ms-continuation";
+
+    @Param({"0", "1", "4"})
+    private int prefetch;
+
+    private PagedIterable<String> pagedIterable;
+
+    @Setup
+    public void setup() {
+        List<String> items = IntStream.range(0, PAGE_SIZE)
+            .mapToObj(i -> "folder/blob" + i)
+            .collect(Collectors.toList());
+
+        HttpPipeline pipeline = new HttpPipelineBuilder()
+            .httpClient(request -> {
+                int page = Integer.parseInt(request.getUrl().getQuery().substring("page=".length()));
+                HttpHeaders headers = new HttpHeaders();
+                if (page < PAGE_COUNT - 1) {
+                    headers.put(CONTINUATION_HEADER, String.valueOf(page + 1));
+                }
+                return Mono.delay(PAGE_LATENCY).map(ignored -> new MockHttpResponse(request, 200, headers));
+            })
+            .build();
+
+        pagedIterable = new PagedIterable<>(new PagedFlux<>(
+            () -> listPage(pipeline, items, "0"),
+            continuationToken -> listPage(pipeline, items, continuationToken)));
+    }
+
+    @Benchmark
+    public void listPages(Blackhole blackhole) {
+        Iterable<PagedResponse<String>> pages = prefetch == 0
+            ? pagedIterable.iterableByPage()
+            : pagedIterable.iterableByPage(prefetch);
+
+        for (PagedResponse<String> page : pages) {
+            blackhole.consume(page.getItems());
+            LockSupport.parkNanos(PAGE_PROCESSING_NANOS);
+        }
+    }
+
+    @Benchmark
+    public void listItems(Blackhole blackhole) {
+        Iterator<String> items = prefetch == 0
+            ? pagedIterable.iterator()
+            : pagedIterable.iterator(prefetch);
+
+        // Processing the items of a page takes as long as processing a page, spread over the items in batches of 100.
+        int count = 0;
+        while (items.hasNext()) {
+            blackhole.consume(items.next());
+            if (++count % 100 == 0) {
+                LockSupport.parkNanos(PAGE_PROCESSING_NANOS * 100 / PAGE_SIZE);
+            }
+        }
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+    private static Mono<PagedResponse<String>> listPage(HttpPipeline pipeline, List<String> items, String page) {
+        URL url;
+        try {
+            url = new URL("http://localhost/container?page=" + page);
+        } catch (MalformedURLException e) {
+            return Mono.error(e);
+        }
+
+        return pipeline.send(new HttpRequest(HttpMethod.GET, url))
+            .map(response -> new PagedResponseBase<>(response.getRequest(), response.getStatusCode(),
+                response.getHeaders(), items, response.getHeaderValue(CONTINUATION_HEADER), null));
+    }
+}
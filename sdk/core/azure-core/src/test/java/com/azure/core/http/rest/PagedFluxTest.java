@@ -10,6 +10,7 @@ import com.azure.core.implementation.http.PagedResponseBase;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.Before;
@@ -19,6 +20,8 @@ import org.junit.rules.TestName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Unit tests for {@link PagedFlux}
  */
@@ -166,6 +169,60 @@ public class PagedFluxTest {
             .verifyComplete();
     }
 
+    @Test
+    public void testPagedFluxSubscribeToPagesWithPrefetch() throws MalformedURLException {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        StepVerifier.create(pagedFlux.byPage(2).log())
+            .expectNext(pagedResponses.get(0), pagedResponses.get(1), pagedResponses.get(2),
+                pagedResponses.get(3), pagedResponses.get(4))
+            .verifyComplete();
+
+        StepVerifier.create(pagedFlux.byPage("3", 10).log())
+            .expectNext(pagedResponses.get(3), pagedResponses.get(4))
+            .verifyComplete();
+
+        pagedFlux = getIntegerPagedFlux(0);
+        StepVerifier.create(pagedFlux.byPage(2).log())
+            .verifyComplete();
+    }
+
+    @Test
+    public void testPagedFluxPrefetchRetrievesPagesAhead() throws MalformedURLException {
+        getIntegerPagedFlux(10);
+        AtomicInteger retrievedPages = new AtomicInteger();
+        PagedFlux<Integer> pagedFlux = new PagedFlux<>(
+            () -> Mono.fromCallable(() -> {
+                retrievedPages.incrementAndGet();
+                return pagedResponses.get(0);
+            }),
+            continuationToken -> getNextPage(continuationToken, pagedResponses)
+                .doOnNext(page -> retrievedPages.incrementAndGet()));
+
+        // The page that has been consumed, the 3 prefetched pages waiting to be consumed and the next page retrieved
+        // while they wait.
+        StepVerifier.create(pagedFlux.byPage(3), 1)
+            .expectNext(pagedResponses.get(0))
+            .then(() -> assertEquals(5, retrievedPages.get()))
+            .thenRequest(1)
+            .expectNext(pagedResponses.get(1))
+            .then(() -> assertEquals(6, retrievedPages.get()))
+            .thenCancel()
+            .verify();
+    }
+
+    @Test
+    public void testPagedFluxSubscribeToItemsWithPrefetch() throws MalformedURLException {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        StepVerifier.create(pagedFlux.byItem(2).log())
+            .expectNext(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14)
+            .verifyComplete();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPagedFluxPrefetchMustBePositive() throws MalformedURLException {
+        getIntegerPagedFlux(5).byPage(0);
+    }
+
     private PagedFlux<Integer> getIntegerPagedFlux(int noOfPages) throws MalformedURLException {
         HttpHeaders httpHeaders = new HttpHeaders().put("header1", "value1")
             .put("header2", "value2");
@@ -56,6 +56,46 @@ public class PagedIterableTest {
         }
     }
 
+    @Test
+    public void testPageStreamWithPrefetch() {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(pagedFlux);
+        assertEquals(pagedResponses, pagedIterable.streamByPage(2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testPageIterableWithPrefetch() {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(pagedFlux);
+
+        int index = 0;
+        for (PagedResponse<Integer> pagedResponse : pagedIterable.iterableByPage(2)) {
+            assertEquals(pagedResponses.get(index++), pagedResponse);
+        }
+        assertEquals(5, index);
+    }
+
+    @Test
+    public void testStreamWithPrefetch() {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(pagedFlux);
+        assertEquals(IntStream.range(0, 15).boxed().collect(Collectors.toList()),
+            pagedIterable.stream(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testIteratorWithPrefetch() {
+        PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
+        PagedIterable<Integer> pagedIterable = new PagedIterable<>(pagedFlux);
+        Iterator<Integer> iter = pagedIterable.iterator(3);
+
+        int expected = 0;
+        while (iter.hasNext()) {
+            assertEquals(expected++, (int) iter.next());
+        }
+        assertEquals(15, expected);
+    }
+
     @Test
     public void testStream() {
         PagedFlux<Integer> pagedFlux = getIntegerPagedFlux(5);
@@ -0,0 +1,150 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.azure.core.annotation.HeaderCollection;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.implementation.DateTimeRfc1123;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HttpHeadersBinderTests {
+    @Test
+    public void bindsHeadersLikeJson() throws IOException {
+        HttpHeaders headers = new HttpHeaders()
+            .put("last-modified", "Wed, 02 Jan 2019 00:00:00 GMT")
+            .put("Content-Length", "1024")
+            .put("ETag", "\"0x8D7\"")
+            .put("Content-MD5", "CY9rzUYh03PK3k6DJie09g==")
+            .put("x-ms-server-encrypted", "true")
+            .put("x-ms-blob-type", "BlockBlob")
+            .put("x-ms-blob-committed-block-count", "3")
+            .put("x-ms-meta-Color", "blue")
+            .put("X-MS-META-size", "large")
+            .put("x-ms-request-id", "");
+        JacksonAdapter adapter = new JacksonAdapter();
+
+        TestHeaders bound = adapter.deserialize(headers, TestHeaders.class);
+        TestHeaders throughJson = adapter.deserializeThroughJson(headers, TestHeaders.class);
+
+        for (TestHeaders deserialized : new TestHeaders[] {bound, throughJson}) {
+            assertEquals(new DateTimeRfc1123("Wed, 02 Jan 2019 00:00:00 GMT").getDateTime(),
+                deserialized.lastModified.getDateTime());
+            assertEquals(Long.valueOf(1024), deserialized.contentLength);
+            assertEquals("\"0x8D7\"", deserialized.eTag);
+            assertArrayEquals(new byte[] {9, -113, 107, -51, 70, 33, -45, 115, -54, -34, 78, -125, 38, 39, -76, -10},
+                deserialized.contentMd5);
+            assertTrue(deserialized.isServerEncrypted);
+            assertEquals(TestBlobType.BLOCK_BLOB, deserialized.blobType);
+            assertEquals(3, deserialized.blobCommittedBlockCount);
+            assertEquals("", deserialized.requestId);
+            assertNull(deserialized.contentType);
+            assertEquals(2, deserialized.metadata.size());
+            assertEquals("blue", deserialized.metadata.get("Color"));
+            assertEquals("large", deserialized.metadata.get("size"));
+        }
+    }
+
+    @Test
+    public void missingHeadersLeaveDefaults() throws IOException {
+        TestHeaders deserialized = new JacksonAdapter().deserialize(new HttpHeaders(), TestHeaders.class);
+
+        assertNull(deserialized.lastModified);
+        assertNull(deserialized.isServerEncrypted);
+        assertEquals(0, deserialized.blobCommittedBlockCount);
+        assertNotNull(deserialized.metadata);
+        assertTrue(deserialized.metadata.isEmpty());
+    }
+
+    @Test
+    public void typesWithCreatorsAreDeserializedThroughJson() throws IOException {
+        assertNull(HttpHeadersBinder.create(new JacksonAdapter().simpleMapper(), CreatorHeaders.class));
+
+        CreatorHeaders deserialized = new JacksonAdapter()
+            .deserialize(new HttpHeaders().put("x-ms-request-id", "id"), CreatorHeaders.class);
+
+        assertEquals("id", deserialized.requestId);
+    }
+
+    @Test
+    public void headersTypesAreCompiled() {
+        assertNotNull(HttpHeadersBinder.create(new JacksonAdapter().simpleMapper(), TestHeaders.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void malformedHeaderValueThrows() throws IOException {
+        new JacksonAdapter().deserialize(new HttpHeaders().put("Content-Length", "large"), TestHeaders.class);
+    }
+
+    enum TestBlobType {
+        BLOCK_BLOB("BlockBlob");
+
+        private final String value;
+
+        TestBlobType(String value) {
+            this.value = value;
+        }
+
+        @JsonCreator
+        public static TestBlobType fromString(String value) {
+            for (TestBlobType blobType : values()) {
+                if (blobType.value.equalsIgnoreCase(value)) {
+                    return blobType;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final class TestHeaders {
+        @JsonProperty(value = "Last-Modified")
+        private DateTimeRfc1123 lastModified;
+
+        @HeaderCollection("x-ms-meta-")
+        private Map<String, String> metadata;
+
+        @JsonProperty(value = "Content-Length")
+        private Long contentLength;
+
+        @JsonProperty(value = "Content-Type")
+        private String contentType;
+
+        @JsonProperty(value = "ETag")
+        private String eTag;
+
+        @JsonProperty(value = "Content-MD5")
+        private byte[] contentMd5;
+
+        @JsonProperty(value = "x-ms-server-encrypted")
+        private Boolean isServerEncrypted;
+
+        @JsonProperty(value = "x-ms-blob-type")
+        private TestBlobType blobType;
+
+        @JsonProperty(value = "x-ms-blob-committed-block-count")
+        private int blobCommittedBlockCount;
+
+        @JsonProperty(value = "x-ms-request-id")
+        private String requestId;
+    }
+
+    static final class CreatorHeaders {
+        private final String requestId;
+
+        @JsonCreator
+        CreatorHeaders(@JsonProperty("x-ms-request-id") String requestId) {
+            this.requestId = requestId;
+        }
+    }
+}
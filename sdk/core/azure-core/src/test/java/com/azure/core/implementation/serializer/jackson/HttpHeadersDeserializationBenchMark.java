@@ -0,0 +1,160 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.core.implementation.serializer.jackson;
+
+import com.azure.core.annotation.HeaderCollection;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.implementation.DateTimeRfc1123;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deserializing the headers of a blob download response with a compiled {@link HttpHeadersBinder}, and
+ * through the JSON round trip used before.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HttpHeadersDeserializationBenchMark {
+    private JacksonAdapter adapter;
+    private HttpHeaders headers;
+
+    @Setup
+    public void setup() {
+        adapter = new JacksonAdapter();
+        headers = new HttpHeaders()
+            .put("Content-Length", "4194304")
+            .put("Content-Type", "application/octet-stream")
+            .put("Content-Range", "bytes 0-4194303/16777216")
+            .put("Last-Modified", "Wed, 02 Jan 2019 00:00:00 GMT")
+            .put("Accept-Ranges", "bytes")
+            .put("ETag", "\"0x8D6F0B9E4B2A1C3\"")
+            .put("Content-MD5", "CY9rzUYh03PK3k6DJie09g==")
+            .put("Server", "Windows-Azure-Blob/1.0 Microsoft-HTTPAPI/2.0")
+            .put("x-ms-request-id", "4b8f1c5e-301e-0037-2b3c-7a4e2d000000")
+            .put("x-ms-client-request-id", "4b8f1c5e-3a9d-4c4e-9b7a-2f0d6e1a5c3b")
+            .put("x-ms-version", "2019-02-02")
+            .put("x-ms-creation-time", "Wed, 02 Jan 2019 00:00:00 GMT")
+            .put("x-ms-lease-status", "unlocked")
+            .put("x-ms-lease-state", "available")
+            .put("x-ms-blob-type", "BlockBlob")
+            .put("x-ms-blob-committed-block-count", "4")
+            .put("x-ms-server-encrypted", "true")
+            .put("x-ms-meta-owner", "contoso")
+            .put("x-ms-meta-project", "benchmark")
+            .put("Date", "Wed, 02 Jan 2019 00:00:01 GMT");
+    }
+
+    @Benchmark
+    public DownloadHeaders compiledBinder() throws IOException {
+        return adapter.deserialize(headers, DownloadHeaders.class);
+    }
+
+    @Benchmark
+    public DownloadHeaders jsonRoundTrip() throws IOException {
+        return adapter.deserializeThroughJson(headers, DownloadHeaders.class);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+
+    /*
+     * Mirrors the shape of the generated blob download headers.
+     */
+    public static final class DownloadHeaders {
+        @JsonProperty(value = "Last-Modified")
+        private DateTimeRfc1123 lastModified;
+
+        @HeaderCollection("x-ms-meta-")
+        private Map<String, String> metadata;
+
+        @JsonProperty(value = "Content-Length")
+        private Long contentLength;
+
+        @JsonProperty(value = "Content-Type")
+        private String contentType;
+
+        @JsonProperty(value = "Content-Range")
+        private String contentRange;
+
+        @JsonProperty(value = "ETag")
+        private String eTag;
+
+        @JsonProperty(value = "Content-MD5")
+        private byte[] contentMd5;
+
+        @JsonProperty(value = "Content-Encoding")
+        private String contentEncoding;
+
+        @JsonProperty(value = "Cache-Control")
+        private String cacheControl;
+
+        @JsonProperty(value = "Content-Disposition")
+        private String contentDisposition;
+
+        @JsonProperty(value = "Content-Language")
+        private String contentLanguage;
+
+        @JsonProperty(value = "x-ms-blob-sequence-number")
+        private Long blobSequenceNumber;
+
+        @JsonProperty(value = "x-ms-blob-type")
+        private String blobType;
+
+        @JsonProperty(value = "x-ms-copy-completion-time")
+        private DateTimeRfc1123 copyCompletionTime;
+
+        @JsonProperty(value = "x-ms-copy-id")
+        private String copyId;
+
+        @JsonProperty(value = "x-ms-copy-status")
+        private String copyStatus;
+
+        @JsonProperty(value = "x-ms-lease-state")
+        private String leaseState;
+
+        @JsonProperty(value = "x-ms-lease-status")
+        private String leaseStatus;
+
+        @JsonProperty(value = "x-ms-client-request-id")
+        private String clientRequestId;
+
+        @JsonProperty(value = "x-ms-request-id")
+        private String requestId;
+
+        @JsonProperty(value = "x-ms-version")
+        private String version;
+
+        @JsonProperty(value = "Accept-Ranges")
+        private String acceptRanges;
+
+        @JsonProperty(value = "Date")
+        private DateTimeRfc1123 dateProperty;
+
+        @JsonProperty(value = "x-ms-blob-committed-block-count")
+        private Integer blobCommittedBlockCount;
+
+        @JsonProperty(value = "x-ms-server-encrypted")
+        private Boolean isServerEncrypted;
+    }
+}
@@ -3,15 +3,21 @@
 
 package com.azure.core.implementation.serializer.jackson;
 
+import com.azure.core.implementation.serializer.MalformedValueException;
 import com.azure.core.implementation.serializer.SerializerEncoding;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class JacksonAdapterTests {
     @Test
@@ -56,6 +62,59 @@ public class JacksonAdapterTests {
         assertEquals("{\"\":\"test\"}", serializer.serialize(map, SerializerEncoding.JSON));
     }
 
+    @Test
+    public void deserializeJsonStream() throws IOException {
+        final String json = "\uFEFF{\"name\":\"blob\",\"size\":\"1024\"}";
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        final Item fromString = serializer.deserialize(json, Item.class, SerializerEncoding.JSON);
+        final Item fromStream = serializer.deserialize(stream(json), Item.class, SerializerEncoding.JSON);
+
+        assertEquals("blob", fromStream.name);
+        assertEquals(1024, fromStream.size);
+        assertEquals(fromString.name, fromStream.name);
+        assertEquals(fromString.size, fromStream.size);
+    }
+
+    @Test
+    public void deserializeXmlStream() throws IOException {
+        final String xml = "\uFEFF<?xml version=\"1.0\" encoding=\"utf-8\"?>"
+            + "<Item><name>blob</name><size>1024</size></Item>";
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        final Item fromStream = serializer.deserialize(stream(xml), Item.class, SerializerEncoding.XML);
+
+        assertEquals("blob", fromStream.name);
+        assertEquals(1024, fromStream.size);
+    }
+
+    @Test
+    public void deserializeEmptyStream() throws IOException {
+        final JacksonAdapter serializer = new JacksonAdapter();
+
+        assertNull(serializer.deserialize(stream(""), Item.class, SerializerEncoding.JSON));
+        assertNull(serializer.deserialize(stream("\uFEFF"), Item.class, SerializerEncoding.JSON));
+        assertNull(serializer.deserialize(stream("\uFEFF"), Item.class, SerializerEncoding.XML));
+    }
+
+    @Test(expected = MalformedValueException.class)
+    public void deserializeMalformedStream() throws IOException {
+        new JacksonAdapter().deserialize(stream("{\"name\":"), Item.class, SerializerEncoding.JSON);
+    }
+
+    private static ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @JacksonXmlRootElement(localName = "Item")
+    private static class Item {
+        @JsonProperty("name")
+        private String name;
+
+        @JsonProperty("size")
+        private long size;
+    }
+
     private static class MapHolder {
         @JsonInclude(content = JsonInclude.Include.ALWAYS)
         private Map<String, String> map = new HashMap<>();
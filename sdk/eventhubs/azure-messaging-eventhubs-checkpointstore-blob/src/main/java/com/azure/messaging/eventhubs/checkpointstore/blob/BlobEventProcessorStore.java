@@ -3,6 +3,7 @@
 
 package com.azure.messaging.eventhubs.checkpointstore.blob;
 
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.http.rest.Response;
 import com.azure.core.implementation.util.ImplUtils;
 import com.azure.core.util.logging.ClientLogger;
@@ -20,11 +21,16 @@ import com.azure.storage.blob.models.ListBlobsOptions;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -34,6 +40,15 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * for persisting partition ownership and checkpoint information. {@link EventProcessor EventProcessors} can use this
  * implementation to load balance and update checkpoints.
  *
+ * <p>
+ * By default, every call to {@link #updateCheckpoint(Checkpoint)} is written to Storage Blobs before it completes. When
+ * created with {@link #BlobEventProcessorStore(BlobContainerAsyncClient, Duration, int)}, checkpoints are buffered in
+ * memory instead and only the most recent checkpoint of each partition is written, either periodically or after a
+ * number of updates. Buffered checkpoints are also written when the {@link EventProcessor} stops processing a partition
+ * or is stopped, or when {@link #flushCheckpoints()} or
+ * {@link #flushCheckpoint(String, String, String)} is called.
+ * </p>
+ *
  * @see EventProcessor
  */
 public class BlobEventProcessorStore implements EventProcessorStore {
@@ -43,6 +58,7 @@ public class BlobEventProcessorStore implements EventProcessorStore {
     private static final String OWNER_ID = "OwnerId";
     private static final String ETAG = "eTag";
     private static final String CLAIM_ERROR = "Couldn't claim ownership of partition {}, error {}";
+    private static final int PRECONDITION_FAILED = 412;
 
     private static final String BLOB_PATH_SEPARATOR = "/";
     private static final ByteBuffer UPLOAD_DATA = ByteBuffer.wrap("".getBytes(UTF_8));
@@ -50,15 +66,53 @@ public class BlobEventProcessorStore implements EventProcessorStore {
     private final BlobContainerAsyncClient blobContainerAsyncClient;
     private final ClientLogger logger = new ClientLogger(BlobEventProcessorStore.class);
     private final Map<String, BlobAsyncClient> blobClients = new ConcurrentHashMap<>();
+    private final Map<String, BufferedCheckpoint> bufferedCheckpoints = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedUpdates = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Duration checkpointFlushInterval;
+    private final int checkpointFlushThreshold;
 
     /**
-     * Creates an instance of BlobEventProcessorStore.
+     * Creates an instance of BlobEventProcessorStore that writes every checkpoint to Storage Blobs as it is updated.
      *
      * @param blobContainerAsyncClient The {@link BlobContainerAsyncClient} this instance will use to read and update
      * blobs in the storage container.
      */
     public BlobEventProcessorStore(BlobContainerAsyncClient blobContainerAsyncClient) {
         this.blobContainerAsyncClient = blobContainerAsyncClient;
+        this.checkpointFlushInterval = null;
+        this.checkpointFlushThreshold = 0;
+    }
+
+    /**
+     * Creates an instance of BlobEventProcessorStore that buffers checkpoints in memory and writes only the most recent
+     * checkpoint of each partition to Storage Blobs every {@code checkpointFlushInterval}, or as soon as
+     * {@code checkpointFlushThreshold} checkpoints have been updated since the last write.
+     *
+     * @param blobContainerAsyncClient The {@link BlobContainerAsyncClient} this instance will use to read and update
+     * blobs in the storage container.
+     * @param checkpointFlushInterval The maximum amount of time a checkpoint is buffered before it is written.
+     * @param checkpointFlushThreshold The number of checkpoint updates after which buffered checkpoints are written
+     * without waiting for {@code checkpointFlushInterval} to elapse.
+     * @throws NullPointerException if {@code checkpointFlushInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code checkpointFlushInterval} is zero or negative or if
+     * {@code checkpointFlushThreshold} is less than 1.
+     */
+    public BlobEventProcessorStore(BlobContainerAsyncClient blobContainerAsyncClient,
+        Duration checkpointFlushInterval, int checkpointFlushThreshold) {
+        Objects.requireNonNull(checkpointFlushInterval, "'checkpointFlushInterval' cannot be null.");
+        if (checkpointFlushInterval.isZero() || checkpointFlushInterval.isNegative()) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'checkpointFlushInterval' must be a positive duration."));
+        }
+        if (checkpointFlushThreshold < 1) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'checkpointFlushThreshold' must be greater than 0."));
+        }
+
+        this.blobContainerAsyncClient = blobContainerAsyncClient;
+        this.checkpointFlushInterval = checkpointFlushInterval;
+        this.checkpointFlushThreshold = checkpointFlushThreshold;
     }
 
     /**
@@ -132,11 +186,24 @@ public class BlobEventProcessorStore implements EventProcessorStore {
     }
 
     private Mono<PartitionOwnership> updateOwnershipETag(Response<?> response, PartitionOwnership ownership) {
-        return Mono.just(ownership.setETag(response.getHeaders().get(ETAG).getValue()));
+        String eTag = response.getHeaders().get(ETAG).getValue();
+        if (isBuffering()) {
+            // A checkpoint buffered before the claim is kept, but it and later checkpoints of this partition have to be
+            // written against the ETag of the new claim.
+            String blobName = getBlobName(ownership.getEventHubName(), ownership.getConsumerGroupName(),
+                ownership.getPartitionId());
+            BufferedCheckpoint buffered = bufferedCheckpoints.computeIfAbsent(blobName,
+                name -> new BufferedCheckpoint());
+            synchronized (buffered) {
+                buffered.eTag = eTag;
+            }
+        }
+        return Mono.just(ownership.setETag(eTag));
     }
 
     /**
-     * Updates the checkpoint in Storage Blobs for a partition.
+     * Updates the checkpoint in Storage Blobs for a partition. If this instance buffers checkpoints, the checkpoint is
+     * only recorded in memory and the returned ETag is the one of the last write of the partition's blob.
      *
      * @param checkpoint Checkpoint information containing sequence number and offset to be stored for this partition.
      * @return The new ETag on successful update.
@@ -149,8 +216,150 @@ public class BlobEventProcessorStore implements EventProcessorStore {
                     "Both sequence number and offset cannot be null when updating a checkpoint")));
         }
 
-        String partitionId = checkpoint.getPartitionId();
-        String blobName = getBlobName(checkpoint.getEventHubName(), checkpoint.getConsumerGroupName(), partitionId);
+        String blobName = getBlobName(checkpoint.getEventHubName(), checkpoint.getConsumerGroupName(),
+            checkpoint.getPartitionId());
+        if (isBuffering()) {
+            return Mono.justOrEmpty(bufferCheckpoint(blobName, checkpoint));
+        }
+
+        return writeCheckpoint(blobName, checkpoint, checkpoint.getETag());
+    }
+
+    /**
+     * Writes the most recent buffered checkpoint of every partition to Storage Blobs. Checkpoints of a partition whose
+     * ownership has been claimed by another {@link EventProcessor} since they were buffered are discarded. This is a
+     * no-op if this instance writes checkpoints as they are updated.
+     *
+     * @return A {@link Mono} that completes when all buffered checkpoints have been written.
+     */
+    @Override
+    public Mono<Void> flushCheckpoints() {
+        return Flux.fromIterable(bufferedCheckpoints.keySet())
+            .flatMap(this::flushCheckpoint)
+            .then();
+    }
+
+    /**
+     * Writes the most recent buffered checkpoint of a partition to Storage Blobs. The checkpoint is discarded if the
+     * partition's ownership has been claimed by another {@link EventProcessor} since it was buffered. This is a no-op
+     * if this instance writes checkpoints as they are updated.
+     *
+     * @param eventHubName The Event Hub name of the partition.
+     * @param consumerGroupName The consumer group name.
+     * @param partitionId The partition id.
+     * @return A {@link Mono} that completes when the buffered checkpoint of the partition has been written.
+     */
+    @Override
+    public Mono<Void> flushCheckpoint(String eventHubName, String consumerGroupName, String partitionId) {
+        return flushCheckpoint(getBlobName(eventHubName, consumerGroupName, partitionId));
+    }
+
+    private boolean isBuffering() {
+        return checkpointFlushInterval != null;
+    }
+
+    /*
+     * Records the checkpoint as the latest of its partition and returns the ETag the partition blob is known to have.
+     */
+    private String bufferCheckpoint(String blobName, Checkpoint checkpoint) {
+        BufferedCheckpoint buffered = bufferedCheckpoints.computeIfAbsent(blobName, name -> new BufferedCheckpoint());
+        String eTag;
+        synchronized (buffered) {
+            if (buffered.eTag == null) {
+                buffered.eTag = checkpoint.getETag();
+            }
+            if (isNewer(checkpoint, buffered.checkpoint)) {
+                buffered.checkpoint = checkpoint;
+            }
+            eTag = buffered.eTag;
+        }
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            Mono.delay(checkpointFlushInterval)
+                .then(Mono.defer(() -> {
+                    flushScheduled.set(false);
+                    return flushCheckpoints();
+                }))
+                .subscribe();
+        }
+        if (bufferedUpdates.incrementAndGet() >= checkpointFlushThreshold) {
+            bufferedUpdates.set(0);
+            flushCheckpoints().subscribe();
+        }
+        return eTag;
+    }
+
+    /*
+     * Writes the buffered checkpoint of a partition. Writes to the same blob are never issued concurrently; if a write
+     * is already in flight, this waits for it and then writes whatever has been buffered in the meantime.
+     */
+    private Mono<Void> flushCheckpoint(String blobName) {
+        return Mono.defer(() -> {
+            BufferedCheckpoint buffered = bufferedCheckpoints.get(blobName);
+            if (buffered == null) {
+                return Mono.empty();
+            }
+
+            synchronized (buffered) {
+                if (buffered.inFlight != null) {
+                    return buffered.inFlight.then(flushCheckpoint(blobName));
+                }
+                if (buffered.checkpoint == null) {
+                    return Mono.empty();
+                }
+
+                Checkpoint checkpoint = buffered.checkpoint;
+                buffered.checkpoint = null;
+                MonoProcessor<Void> inFlight = writeCheckpoint(blobName, checkpoint, buffered.eTag)
+                    .doOnNext(eTag -> {
+                        synchronized (buffered) {
+                            buffered.eTag = eTag;
+                        }
+                    })
+                    .then()
+                    .onErrorResume(error -> {
+                        onFlushError(blobName, checkpoint, buffered, error);
+                        return Mono.empty();
+                    })
+                    .doFinally(signal -> {
+                        synchronized (buffered) {
+                            buffered.inFlight = null;
+                        }
+                    })
+                    .toProcessor();
+
+                // The write may have already completed on this thread, in which case there is nothing to wait for.
+                if (!inFlight.isTerminated()) {
+                    buffered.inFlight = inFlight;
+                }
+                return inFlight;
+            }
+        });
+    }
+
+    private void onFlushError(String blobName, Checkpoint checkpoint, BufferedCheckpoint buffered, Throwable error) {
+        if (error instanceof HttpResponseException && ((HttpResponseException) error).getResponse() != null
+            && ((HttpResponseException) error).getResponse().getStatusCode() == PRECONDITION_FAILED) {
+            logger.info("Discarding checkpoint for partition {}, ownership has changed", checkpoint.getPartitionId());
+            return;
+        }
+
+        logger.warning("Failed to write checkpoint for partition {}, error {}", checkpoint.getPartitionId(),
+            error.getMessage());
+        synchronized (buffered) {
+            // Keep the checkpoint for the next flush unless a newer one has been buffered since.
+            if (isNewer(checkpoint, buffered.checkpoint)) {
+                buffered.checkpoint = checkpoint;
+            }
+        }
+    }
+
+    private static boolean isNewer(Checkpoint checkpoint, Checkpoint current) {
+        return current == null || checkpoint.getSequenceNumber() == null || current.getSequenceNumber() == null
+            || checkpoint.getSequenceNumber() >= current.getSequenceNumber();
+    }
+
+    private Mono<String> writeCheckpoint(String blobName, Checkpoint checkpoint, String eTag) {
         if (!blobClients.containsKey(blobName)) {
             blobClients.put(blobName, blobContainerAsyncClient.getBlobAsyncClient(blobName));
         }
@@ -164,7 +373,7 @@ public class BlobEventProcessorStore implements EventProcessorStore {
         metadata.put(OFFSET, offset);
         metadata.put(OWNER_ID, checkpoint.getOwnerId());
         BlobAsyncClient blobAsyncClient = blobClients.get(blobName);
-        BlobRequestConditions blobRequestConditions = new BlobRequestConditions().setIfMatch(checkpoint.getETag());
+        BlobRequestConditions blobRequestConditions = new BlobRequestConditions().setIfMatch(eTag);
 
         return blobAsyncClient.setMetadataWithResponse(metadata, blobRequestConditions)
             .map(response -> response.getHeaders().get(ETAG).getValue());
@@ -214,4 +423,13 @@ public class BlobEventProcessorStore implements EventProcessorStore {
         return partitionOwnership;
     }
 
+    /*
+     * The checkpoint of a partition that has not been written yet, along with the ETag of the partition blob and the
+     * write currently in flight, if any. Guarded by its own monitor.
+     */
+    private static final class BufferedCheckpoint {
+        private Checkpoint checkpoint;
+        private String eTag;
+        private MonoProcessor<Void> inFlight;
+    }
 }
@@ -20,6 +20,7 @@ import com.azure.storage.blob.models.BlobItemProperties;
 import com.azure.storage.blob.models.ListBlobsOptions;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -29,6 +30,7 @@ import reactor.test.StepVerifier;
 
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -39,6 +41,10 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -105,6 +111,141 @@ public class BlobEventProcessorStoreTest {
             .assertNext(etag -> assertEquals("etag2", etag)).verifyComplete();
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testBufferedCheckpointsWriteLatestOnFlush() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobEventProcessorStore blobEventProcessorStore = new BlobEventProcessorStore(blobContainerAsyncClient,
+            Duration.ofMinutes(1), 100);
+        for (long sequenceNumber = 1; sequenceNumber <= 3; sequenceNumber++) {
+            StepVerifier.create(blobEventProcessorStore.updateCheckpoint(createCheckpoint(sequenceNumber, "etag")))
+                .assertNext(etag -> assertEquals("etag", etag)).verifyComplete();
+        }
+        verify(blobAsyncClient, never())
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+
+        ArgumentCaptor<Map<String, String>> metadata = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<BlobRequestConditions> conditions = ArgumentCaptor.forClass(BlobRequestConditions.class);
+        verify(blobAsyncClient, times(1)).setMetadataWithResponse(metadata.capture(), conditions.capture());
+        assertEquals("3", metadata.getValue().get("SequenceNumber"));
+        assertEquals("etag", conditions.getValue().getIfMatch());
+
+        // The next checkpoint reports and is written against the ETag of the last write.
+        StepVerifier.create(blobEventProcessorStore.updateCheckpoint(createCheckpoint(4, "etag")))
+            .assertNext(etag -> assertEquals("etag2", etag)).verifyComplete();
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+        verify(blobAsyncClient, times(2)).setMetadataWithResponse(metadata.capture(), conditions.capture());
+        assertEquals("4", metadata.getValue().get("SequenceNumber"));
+        assertEquals("etag2", conditions.getValue().getIfMatch());
+    }
+
+    @Test
+    public void testBufferedCheckpointsFlushOnThreshold() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobEventProcessorStore blobEventProcessorStore = new BlobEventProcessorStore(blobContainerAsyncClient,
+            Duration.ofMinutes(1), 2);
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(1, "etag")).block();
+        verify(blobAsyncClient, never())
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(2, "etag")).block();
+        verify(blobAsyncClient, times(1))
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+    }
+
+    @Test
+    public void testBufferedCheckpointRetriedAfterError() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.error(new SocketTimeoutException()))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobEventProcessorStore blobEventProcessorStore = new BlobEventProcessorStore(blobContainerAsyncClient,
+            Duration.ofMinutes(1), 100);
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(1, "etag")).block();
+
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+        verify(blobAsyncClient, times(2))
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testBufferedCheckpointKeptWhenOwnershipIsRenewed() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag3");
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobEventProcessorStore blobEventProcessorStore = new BlobEventProcessorStore(blobContainerAsyncClient,
+            Duration.ofMinutes(1), 100);
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(5, "etag")).block();
+
+        // The load balancer renews ownership of the partition before the checkpoint is flushed.
+        StepVerifier.create(blobEventProcessorStore.claimOwnership(
+            createPartitionOwnership("eh", "cg", "0", "owner1").setETag("etag")))
+            .assertNext(partitionOwnership -> assertEquals("etag3", partitionOwnership.getETag()))
+            .verifyComplete();
+
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoints()).verifyComplete();
+
+        ArgumentCaptor<Map<String, String>> metadata = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<BlobRequestConditions> conditions = ArgumentCaptor.forClass(BlobRequestConditions.class);
+        verify(blobAsyncClient, times(2)).setMetadataWithResponse(metadata.capture(), conditions.capture());
+        assertEquals("5", metadata.getValue().get("SequenceNumber"));
+        assertEquals("500", metadata.getValue().get("Offset"));
+        assertEquals("etag3", conditions.getValue().getIfMatch());
+    }
+
+    @Test
+    public void testFlushCheckpointWritesOnlyThatPartition() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("eTag", "etag2");
+        BlobAsyncClient otherBlobAsyncClient = mock(BlobAsyncClient.class);
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/0")).thenReturn(blobAsyncClient);
+        when(blobContainerAsyncClient.getBlobAsyncClient("eh/cg/1")).thenReturn(otherBlobAsyncClient);
+        when(blobAsyncClient
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class)))
+            .thenReturn(Mono.just(new SimpleResponse<>(null, 200, new HttpHeaders(headers), null)));
+
+        BlobEventProcessorStore blobEventProcessorStore = new BlobEventProcessorStore(blobContainerAsyncClient,
+            Duration.ofMinutes(1), 100);
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(1, "etag")).block();
+        blobEventProcessorStore.updateCheckpoint(createCheckpoint(1, "etag").setPartitionId("1")).block();
+
+        StepVerifier.create(blobEventProcessorStore.flushCheckpoint("eh", "cg", "0")).verifyComplete();
+
+        verify(blobAsyncClient, times(1))
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+        verify(otherBlobAsyncClient, never())
+            .setMetadataWithResponse(ArgumentMatchers.<Map<String, String>>any(), any(BlobRequestConditions.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCheckpointFlushThreshold() {
+        new BlobEventProcessorStore(blobContainerAsyncClient, Duration.ofSeconds(10), 0);
+    }
 
     @SuppressWarnings("unchecked")
     @Test
@@ -183,6 +324,17 @@ public class BlobEventProcessorStoreTest {
         StepVerifier.create(blobEventProcessorStore.claimOwnership(po)).verifyComplete();
     }
 
+    private Checkpoint createCheckpoint(long sequenceNumber, String eTag) {
+        return new Checkpoint()
+            .setEventHubName("eh")
+            .setConsumerGroupName("cg")
+            .setOwnerId("owner1")
+            .setPartitionId("0")
+            .setETag(eTag)
+            .setSequenceNumber(sequenceNumber)
+            .setOffset(sequenceNumber * 100);
+    }
+
     private PartitionOwnership createPartitionOwnership(String eventHubName, String consumerGroupName,
         String partitionId, String ownerId) {
         return new PartitionOwnership()
@@ -0,0 +1,172 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides how many credits an {@link EventHubPartitionAsyncConsumer} adds to its receive link when
+ * {@link EventHubConsumerOptions#getAdaptivePrefetch() adaptive prefetch} is enabled.
+ *
+ * <p>
+ * The number of outstanding events is the link credit plus the events buffered locally that have not been delivered
+ * downstream. Credits are replenished up to a target once the outstanding events drop to a low-water mark. The target
+ * is the prefetch count, lowered so the estimated size of the outstanding events stays under the configured buffered
+ * byte limit. The low-water mark is the number of events expected to be consumed while a credit top-up travels to the
+ * service, based on the observed consumption rate and bounded to a quarter and three quarters of the target.
+ * </p>
+ */
+class AdaptiveCreditController {
+    // How far ahead of consumption credits are replenished.
+    private static final Duration CREDIT_LEAD_TIME = Duration.ofMillis(500);
+    // The consumption rate is sampled at most once per window and smoothed across windows.
+    private static final long RATE_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final double RATE_SMOOTHING_FACTOR = 0.5;
+
+    private final ClientLogger logger = new ClientLogger(AdaptiveCreditController.class);
+    private final String partitionId;
+    private final int prefetchCount;
+    private final Long maxBufferedBytes;
+    private final IntSupplier bufferedEventsSupplier;
+    private final LongSupplier nanoTimeSupplier;
+
+    private long receivedEvents;
+    private long receivedBytes;
+    private long windowStartNanos;
+    private long windowStartConsumedEvents;
+    private double eventsPerSecond;
+
+    /**
+     * Creates a controller for a partition consumer.
+     *
+     * @param partitionId Identifier of the partition, used for logging.
+     * @param prefetchCount The maximum number of outstanding events.
+     * @param maxBufferedBytes The maximum estimated number of bytes of outstanding events, or {@code null} if there
+     *     is no limit.
+     * @param bufferedEventsSupplier Supplies the number of events received but not yet delivered downstream.
+     */
+    AdaptiveCreditController(String partitionId, int prefetchCount, Long maxBufferedBytes,
+        IntSupplier bufferedEventsSupplier) {
+        this(partitionId, prefetchCount, maxBufferedBytes, bufferedEventsSupplier, System::nanoTime);
+    }
+
+    AdaptiveCreditController(String partitionId, int prefetchCount, Long maxBufferedBytes,
+        IntSupplier bufferedEventsSupplier, LongSupplier nanoTimeSupplier) {
+        this.partitionId = partitionId;
+        this.prefetchCount = prefetchCount;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.bufferedEventsSupplier = bufferedEventsSupplier;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.windowStartNanos = nanoTimeSupplier.getAsLong();
+    }
+
+    /**
+     * Records an event received from the link.
+     *
+     * @param sizeInBytes Size of the event body in bytes.
+     */
+    synchronized void onEventReceived(int sizeInBytes) {
+        receivedEvents++;
+        receivedBytes += sizeInBytes;
+    }
+
+    /**
+     * Gets the number of credits to add to the link.
+     *
+     * @param linkCredits Number of credits the link currently has.
+     * @return The number of credits to add, or 0 if the outstanding events are above the low-water mark.
+     */
+    synchronized int getCreditsToAdd(int linkCredits) {
+        final int bufferedEvents = bufferedEventsSupplier.getAsInt();
+        updateConsumptionRate(bufferedEvents);
+
+        final int target = getTargetCredits();
+        final int outstanding = Math.max(linkCredits, 0) + bufferedEvents;
+        final int lowWaterMark = getLowWaterMark(target);
+        if (outstanding > lowWaterMark) {
+            return 0;
+        }
+
+        final int credits = target - outstanding;
+        if (credits > 0) {
+            logger.verbose("partitionId[{}]: Adding {} credits. Link credits: {}, buffered events: {}, buffered bytes: "
+                + "{}, events per second: {}", partitionId, credits, linkCredits, bufferedEvents,
+                getBufferedBytes(bufferedEvents), (long) eventsPerSecond);
+        }
+        return Math.max(credits, 0);
+    }
+
+    /**
+     * Gets the number of events received from the link that have not been delivered downstream.
+     *
+     * @return The number of buffered events.
+     */
+    int getBufferedEvents() {
+        return bufferedEventsSupplier.getAsInt();
+    }
+
+    /**
+     * Gets the estimated size of the events received from the link that have not been delivered downstream.
+     *
+     * @return The estimated number of buffered bytes.
+     */
+    synchronized long getBufferedBytes() {
+        return getBufferedBytes(bufferedEventsSupplier.getAsInt());
+    }
+
+    /**
+     * Gets the rate at which events are delivered downstream.
+     *
+     * @return The smoothed number of events consumed per second.
+     */
+    synchronized double getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    private long getBufferedBytes(int bufferedEvents) {
+        return bufferedEvents * getAverageEventSize();
+    }
+
+    private long getAverageEventSize() {
+        return receivedEvents == 0 ? 0 : receivedBytes / receivedEvents;
+    }
+
+    private int getTargetCredits() {
+        final long averageEventSize = getAverageEventSize();
+        if (maxBufferedBytes == null || averageEventSize == 0) {
+            return prefetchCount;
+        }
+
+        return (int) Math.max(1, Math.min(prefetchCount, maxBufferedBytes / averageEventSize));
+    }
+
+    private int getLowWaterMark(int target) {
+        final long expectedConsumption = (long) Math.ceil(eventsPerSecond * CREDIT_LEAD_TIME.toNanos()
+            / TimeUnit.SECONDS.toNanos(1));
+        final int lowerBound = Math.max(target / 4, 0);
+        final int upperBound = Math.max(target * 3 / 4, lowerBound);
+        return (int) Math.max(lowerBound, Math.min(upperBound, expectedConsumption));
+    }
+
+    private void updateConsumptionRate(int bufferedEvents) {
+        final long now = nanoTimeSupplier.getAsLong();
+        final long elapsed = now - windowStartNanos;
+        if (elapsed < RATE_WINDOW_NANOS) {
+            return;
+        }
+
+        final long consumedEvents = Math.max(receivedEvents - bufferedEvents, windowStartConsumedEvents);
+        final double sample = (consumedEvents - windowStartConsumedEvents) * (double) TimeUnit.SECONDS.toNanos(1)
+            / elapsed;
+        eventsPerSecond = RATE_SMOOTHING_FACTOR * sample + (1 - RATE_SMOOTHING_FACTOR) * eventsPerSecond;
+        windowStartNanos = now;
+        windowStartConsumedEvents = consumedEvents;
+    }
+}
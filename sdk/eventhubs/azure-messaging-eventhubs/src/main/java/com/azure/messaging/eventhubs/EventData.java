@@ -15,6 +15,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.azure.core.amqp.MessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME;
 import static com.azure.core.amqp.MessageConstant.OFFSET_ANNOTATION_NAME;
@@ -131,10 +132,25 @@ public class EventData implements Comparable<EventData> {
      * @throws NullPointerException if {@code body}, {@code systemProperties}, or {@code context} is {@code null}.
      */
     EventData(ByteBuffer body, SystemProperties systemProperties, Context context) {
+        this(body, systemProperties, new HashMap<>(), context);
+    }
+
+    /**
+     * Creates an event with the given {@code body}, system properties, application properties and context. The
+     * {@code properties} map is used as-is, without copying.
+     *
+     * @param body The data to set for this event.
+     * @param systemProperties System properties set by message broker for this event.
+     * @param properties Application properties of this event.
+     * @param context A specified key-value pair of type {@link Context}.
+     * @throws NullPointerException if {@code body}, {@code systemProperties}, {@code properties}, or {@code context}
+     * is {@code null}.
+     */
+    EventData(ByteBuffer body, SystemProperties systemProperties, Map<String, Object> properties, Context context) {
         this.body = Objects.requireNonNull(body, "'body' cannot be null.");
         this.context = Objects.requireNonNull(context, "'context' cannot be null.");
         this.systemProperties =  Objects.requireNonNull(systemProperties, "'systemProperties' cannot be null.");
-        this.properties = new HashMap<>();
+        this.properties = Objects.requireNonNull(properties, "'properties' cannot be null.");
     }
 
     /**
@@ -212,6 +228,7 @@ public class EventData implements Comparable<EventData> {
      * the {@link EventData} is not received and is created by the public constructors.
      */
     public Map<String, Object> getSystemProperties() {
+        systemProperties.decode();
         return systemProperties;
     }
 
@@ -325,6 +342,7 @@ public class EventData implements Comparable<EventData> {
         private final String partitionKey;
         private final Instant enqueuedTime;
         private final Long sequenceNumber;
+        private transient Consumer<Map<String, Object>> decoder;
 
         SystemProperties() {
             super();
@@ -334,30 +352,51 @@ public class EventData implements Comparable<EventData> {
             sequenceNumber = null;
         }
 
-        SystemProperties(final Map<String, Object> map) {
-            super(map);
-            this.partitionKey = removeSystemProperty(PARTITION_KEY_ANNOTATION_NAME.getValue());
+        /**
+         * Creates the system properties of a received event. The properties other than the offset, partition key,
+         * enqueued time and sequence number are added by {@code decoder} the first time they are accessed.
+         *
+         * @param offset The offset of the event.
+         * @param partitionKey The partition key of the event, if any.
+         * @param enqueuedTime The time the event was enqueued.
+         * @param sequenceNumber The sequence number of the event.
+         * @param decoder Adds the remaining system properties to the map it is given.
+         * @throws IllegalStateException if {@code offset}, {@code enqueuedTime}, or {@code sequenceNumber} is
+         * {@code null}.
+         */
+        SystemProperties(final String offset, final String partitionKey, final Date enqueuedTime,
+            final Long sequenceNumber, final Consumer<Map<String, Object>> decoder) {
+            super();
+            this.partitionKey = partitionKey;
 
-            final String offset = removeSystemProperty(OFFSET_ANNOTATION_NAME.getValue());
             if (offset == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "offset: %s should always be in map.", OFFSET_ANNOTATION_NAME.getValue()));
             }
             this.offset = Long.valueOf(offset);
 
-            final Date enqueuedTimeValue = removeSystemProperty(ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue());
-            if (enqueuedTimeValue == null) {
+            if (enqueuedTime == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "enqueuedTime: %s should always be in map.", ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue()));
             }
-            this.enqueuedTime = enqueuedTimeValue.toInstant();
+            this.enqueuedTime = enqueuedTime.toInstant();
 
-            final Long sequenceNumber = removeSystemProperty(SEQUENCE_NUMBER_ANNOTATION_NAME.getValue());
             if (sequenceNumber == null) {
                 throw new IllegalStateException(String.format(Locale.US,
                     "sequenceNumber: %s should always be in map.", SEQUENCE_NUMBER_ANNOTATION_NAME.getValue()));
             }
             this.sequenceNumber = sequenceNumber;
+            this.decoder = decoder;
+        }
+
+        /**
+         * Adds the system properties that have not been decoded yet.
+         */
+        synchronized void decode() {
+            if (decoder != null) {
+                decoder.accept(this);
+                decoder = null;
+            }
         }
 
         /**
@@ -399,14 +438,5 @@ public class EventData implements Comparable<EventData> {
         private Long getSequenceNumber() {
             return sequenceNumber;
         }
-
-        @SuppressWarnings("unchecked")
-        private <T> T removeSystemProperty(final String key) {
-            if (this.containsKey(key)) {
-                return (T) (this.remove(key));
-            }
-
-            return null;
-        }
     }
 }
@@ -45,6 +45,13 @@ class EventHubMessageSerializer implements MessageSerializer {
     private static final Symbol LAST_ENQUEUED_TIME_UTC = Symbol.getSymbol(MANAGEMENT_RESULT_LAST_ENQUEUED_TIME_UTC);
     private static final Symbol RETRIEVAL_TIME_UTC =
         Symbol.getSymbol(MANAGEMENT_RESULT_RUNTIME_INFO_RETRIEVAL_TIME_UTC);
+    private static final Symbol OFFSET = Symbol.getSymbol(MessageConstant.OFFSET_ANNOTATION_NAME.getValue());
+    private static final Symbol PARTITION_KEY =
+        Symbol.getSymbol(MessageConstant.PARTITION_KEY_ANNOTATION_NAME.getValue());
+    private static final Symbol ENQUEUED_TIME_UTC =
+        Symbol.getSymbol(MessageConstant.ENQUEUED_TIME_UTC_ANNOTATION_NAME.getValue());
+    private static final Symbol SEQUENCE_NUMBER =
+        Symbol.getSymbol(MessageConstant.SEQUENCE_NUMBER_ANNOTATION_NAME.getValue());
 
     /**
      * Gets the serialized size of the AMQP message.
@@ -187,29 +194,19 @@ class EventHubMessageSerializer implements MessageSerializer {
             retrievalTime);
     }
 
+    /*
+     * Only the annotations needed to order and checkpoint events are read eagerly. The remaining system properties are
+     * decoded when they are first accessed, and the body and application properties reference the decoded message
+     * rather than being copied.
+     */
     private EventData deserializeEventData(Message message) {
         final Map<Symbol, Object> messageAnnotations = message.getMessageAnnotations().getValue();
-        final HashMap<String, Object> receiveProperties = new HashMap<>();
-
-        for (Map.Entry<Symbol, Object> annotation : messageAnnotations.entrySet()) {
-            receiveProperties.put(annotation.getKey().toString(), annotation.getValue());
-        }
-
-        if (message.getProperties() != null) {
-            addMapEntry(receiveProperties, MessageConstant.MESSAGE_ID, message.getMessageId());
-            addMapEntry(receiveProperties, MessageConstant.USER_ID, message.getUserId());
-            addMapEntry(receiveProperties, MessageConstant.TO, message.getAddress());
-            addMapEntry(receiveProperties, MessageConstant.SUBJECT, message.getSubject());
-            addMapEntry(receiveProperties, MessageConstant.REPLY_TO, message.getReplyTo());
-            addMapEntry(receiveProperties, MessageConstant.CORRELATION_ID, message.getCorrelationId());
-            addMapEntry(receiveProperties, MessageConstant.CONTENT_TYPE, message.getContentType());
-            addMapEntry(receiveProperties, MessageConstant.CONTENT_ENCODING, message.getContentEncoding());
-            addMapEntry(receiveProperties, MessageConstant.ABSOLUTE_EXPIRY_TIME, message.getExpiryTime());
-            addMapEntry(receiveProperties, MessageConstant.CREATION_TIME, message.getCreationTime());
-            addMapEntry(receiveProperties, MessageConstant.GROUP_ID, message.getGroupId());
-            addMapEntry(receiveProperties, MessageConstant.GROUP_SEQUENCE, message.getGroupSequence());
-            addMapEntry(receiveProperties, MessageConstant.REPLY_TO_GROUP_ID, message.getReplyToGroupId());
-        }
+        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(
+            (String) messageAnnotations.get(OFFSET),
+            (String) messageAnnotations.get(PARTITION_KEY),
+            (Date) messageAnnotations.get(ENQUEUED_TIME_UTC),
+            (Long) messageAnnotations.get(SEQUENCE_NUMBER),
+            map -> decodeSystemProperties(map, messageAnnotations, message));
 
         final Section bodySection = message.getBody();
         ByteBuffer body;
@@ -224,18 +221,48 @@ class EventHubMessageSerializer implements MessageSerializer {
             body = ByteBuffer.wrap(new byte[0]);
         }
 
-        final EventData.SystemProperties systemProperties = new EventData.SystemProperties(receiveProperties);
-        final EventData eventData = new EventData(body, systemProperties, Context.NONE);
         final Map<String, Object> properties = message.getApplicationProperties() == null
+            || message.getApplicationProperties().getValue() == null
             ? new HashMap<>()
             : message.getApplicationProperties().getValue();
-
-        properties.forEach((key, value) -> eventData.addProperty(key, value));
+        final EventData eventData = new EventData(body, systemProperties, properties, Context.NONE);
 
         message.clear();
         return eventData;
     }
 
+    /*
+     * Adds the message annotations that were not read eagerly and the AMQP message properties to the system properties.
+     */
+    private static void decodeSystemProperties(Map<String, Object> systemProperties,
+        Map<Symbol, Object> messageAnnotations, Message message) {
+        for (Map.Entry<Symbol, Object> annotation : messageAnnotations.entrySet()) {
+            final Symbol key = annotation.getKey();
+            if (OFFSET.equals(key) || PARTITION_KEY.equals(key) || ENQUEUED_TIME_UTC.equals(key)
+                || SEQUENCE_NUMBER.equals(key)) {
+                continue;
+            }
+
+            systemProperties.put(key.toString(), annotation.getValue());
+        }
+
+        if (message.getProperties() != null) {
+            addMapEntry(systemProperties, MessageConstant.MESSAGE_ID, message.getMessageId());
+            addMapEntry(systemProperties, MessageConstant.USER_ID, message.getUserId());
+            addMapEntry(systemProperties, MessageConstant.TO, message.getAddress());
+            addMapEntry(systemProperties, MessageConstant.SUBJECT, message.getSubject());
+            addMapEntry(systemProperties, MessageConstant.REPLY_TO, message.getReplyTo());
+            addMapEntry(systemProperties, MessageConstant.CORRELATION_ID, message.getCorrelationId());
+            addMapEntry(systemProperties, MessageConstant.CONTENT_TYPE, message.getContentType());
+            addMapEntry(systemProperties, MessageConstant.CONTENT_ENCODING, message.getContentEncoding());
+            addMapEntry(systemProperties, MessageConstant.ABSOLUTE_EXPIRY_TIME, message.getExpiryTime());
+            addMapEntry(systemProperties, MessageConstant.CREATION_TIME, message.getCreationTime());
+            addMapEntry(systemProperties, MessageConstant.GROUP_ID, message.getGroupId());
+            addMapEntry(systemProperties, MessageConstant.GROUP_SEQUENCE, message.getGroupSequence());
+            addMapEntry(systemProperties, MessageConstant.REPLY_TO_GROUP_ID, message.getReplyToGroupId());
+        }
+    }
+
     private EventHubProperties toEventHubProperties(Map<?, ?> amqpBody) {
         return new EventHubProperties(
             getValue(amqpBody, ManagementChannel.MANAGEMENT_ENTITY_NAME_KEY, String.class),
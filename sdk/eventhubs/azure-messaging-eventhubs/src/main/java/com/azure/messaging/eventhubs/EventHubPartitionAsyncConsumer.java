@@ -46,6 +46,7 @@ class EventHubPartitionAsyncConsumer implements Closeable {
     private final EmitterProcessor<PartitionEvent> emitterProcessor;
     private final Flux<PartitionEvent> messageFlux;
     private final boolean trackLastEnqueuedEventProperties;
+    private final AdaptiveCreditController creditController;
 
     private volatile AmqpReceiveLink receiveLink;
 
@@ -57,6 +58,10 @@ class EventHubPartitionAsyncConsumer implements Closeable {
         this.partitionId = partitionId;
         this.emitterProcessor = EmitterProcessor.create(options.getPrefetchCount(), false);
         this.trackLastEnqueuedEventProperties = options.getTrackLastEnqueuedEventProperties();
+        this.creditController = options.getAdaptivePrefetch()
+            ? new AdaptiveCreditController(partitionId, options.getPrefetchCount(), options.getMaxBufferedBytes(),
+                emitterProcessor::getPending)
+            : null;
 
         if (options.getTrackLastEnqueuedEventProperties()) {
             lastEnqueuedEventProperties.set(new LastEnqueuedEventProperties(null, null, null, null));
@@ -70,7 +75,9 @@ class EventHubPartitionAsyncConsumer implements Closeable {
 
                 link.setEmptyCreditListener(() -> {
                     if (emitterProcessor.hasDownstreams()) {
-                        return creditsToRequest.get();
+                        return creditController != null
+                            ? creditController.getCreditsToAdd(0)
+                            : creditsToRequest.get();
                     } else {
                         logger.verbose("Emitter has no downstream subscribers. Not adding credits.");
                         return 0;
@@ -95,7 +102,14 @@ class EventHubPartitionAsyncConsumer implements Closeable {
                 });
             }
 
-            return link.receive().map(message -> onMessageReceived(message));
+            return link.receive().map(message -> {
+                final PartitionEvent partitionEvent = onMessageReceived(message);
+                if (creditController != null) {
+                    creditController.onEventReceived(partitionEvent.getEventData().getBody().remaining());
+                    replenishCredits(link);
+                }
+                return partitionEvent;
+            });
         }).subscribeWith(emitterProcessor)
             .doOnSubscribe(subscription -> {
                 AmqpReceiveLink existingLink = RECEIVE_LINK_FIELD_UPDATER.get(this);
@@ -124,9 +138,35 @@ class EventHubPartitionAsyncConsumer implements Closeable {
                 logger.verbose("Back pressure request. Old value: {}. New value: {}", creditsToRequest.get(),
                     newRequest);
                 creditsToRequest.set(newRequest);
+
+                final AmqpReceiveLink existingLink = RECEIVE_LINK_FIELD_UPDATER.get(this);
+                if (creditController != null && existingLink != null) {
+                    // Downstream demand drains the local buffer, which may bring outstanding events under the
+                    // low-water mark.
+                    replenishCredits(existingLink);
+                }
             });
     }
 
+    /**
+     * Gets the number of events received from the service that have not been delivered to subscribers yet.
+     *
+     * @return The number of events buffered for this partition.
+     */
+    int getBufferedEventCount() {
+        return emitterProcessor.getPending();
+    }
+
+    /**
+     * Gets the estimated size of the events received from the service that have not been delivered to subscribers
+     * yet. Only tracked when {@link EventHubConsumerOptions#getAdaptivePrefetch() adaptive prefetch} is enabled.
+     *
+     * @return The estimated number of bytes buffered for this partition, or 0 if adaptive prefetch is disabled.
+     */
+    long getBufferedBytes() {
+        return creditController != null ? creditController.getBufferedBytes() : 0;
+    }
+
     /**
      * Disposes of the consumer by closing the underlying connection to the service.
      *
@@ -153,6 +193,20 @@ class EventHubPartitionAsyncConsumer implements Closeable {
         return messageFlux;
     }
 
+    /*
+     * Adds credits to the link if the controller decides the outstanding events are running low.
+     */
+    private void replenishCredits(AmqpReceiveLink link) {
+        if (!emitterProcessor.hasDownstreams()) {
+            return;
+        }
+
+        final int credits = creditController.getCreditsToAdd(link.getCredits());
+        if (credits > 0) {
+            link.addCredits(credits);
+        }
+    }
+
     /**
      * On each message received from the service, it will try to:
      * 1. Deserialize the message into an EventData
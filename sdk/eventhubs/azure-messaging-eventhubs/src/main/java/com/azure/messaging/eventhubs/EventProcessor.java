@@ -6,10 +6,12 @@ package com.azure.messaging.eventhubs;
 import com.azure.core.amqp.implementation.TracerProvider;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.messaging.eventhubs.models.EventPosition;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import reactor.core.Disposable;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
@@ -30,8 +32,10 @@ import java.util.function.Supplier;
  */
 public class EventProcessor {
 
-    private static final long INTERVAL_IN_SECONDS = 10; // run the load balancer every 10 seconds
+    static final Duration DEFAULT_LOAD_BALANCING_INTERVAL = Duration.ofSeconds(10);
+    static final Duration DEFAULT_PARTITION_OWNERSHIP_EXPIRATION_INTERVAL = Duration.ofMinutes(1);
     private static final long BASE_JITTER_IN_SECONDS = 2; // the initial delay jitter before starting the processor
+    private static final Duration FLUSH_CHECKPOINTS_TIMEOUT = Duration.ofSeconds(30);
     private final ClientLogger logger = new ClientLogger(EventProcessor.class);
 
     private final String identifier;
@@ -39,6 +43,7 @@ public class EventProcessor {
     private final PartitionPumpManager partitionPumpManager;
     private final PartitionBasedLoadBalancer partitionBasedLoadBalancer;
     private final EventProcessorStore eventProcessorStore;
+    private final Duration loadBalancingInterval;
 
     private Disposable runner;
     private Scheduler scheduler;
@@ -57,11 +62,41 @@ public class EventProcessor {
     EventProcessor(EventHubClientBuilder eventHubClientBuilder, String consumerGroup,
         Supplier<PartitionProcessor> partitionProcessorFactory, EventPosition initialEventPosition,
         EventProcessorStore eventProcessorStore, TracerProvider tracerProvider) {
+        this(eventHubClientBuilder, consumerGroup, partitionProcessorFactory, initialEventPosition, eventProcessorStore,
+            tracerProvider, LoadBalancingStrategy.BALANCED, DEFAULT_LOAD_BALANCING_INTERVAL,
+            DEFAULT_PARTITION_OWNERSHIP_EXPIRATION_INTERVAL);
+    }
+
+    /**
+     * Package-private constructor. Use {@link EventHubClientBuilder} to create an instance.
+     *
+     * @param eventHubClientBuilder The {@link EventHubClientBuilder}.
+     * @param consumerGroup The consumer group name used in this event processor to consumer events.
+     * @param partitionProcessorFactory The factory to create new partition processor(s).
+     * @param initialEventPosition Initial event position to start consuming events.
+     * @param eventProcessorStore The partition manager used for reading and updating partition ownership and checkpoint
+     * information.
+     * @param tracerProvider The tracer implementation.
+     * @param loadBalancingStrategy The strategy used to claim partitions while the load is not balanced.
+     * @param loadBalancingInterval The interval between two load balancing cycles.
+     * @param partitionOwnershipExpirationInterval The time after which a partition ownership that has not been
+     * updated is considered inactive.
+     */
+    EventProcessor(EventHubClientBuilder eventHubClientBuilder, String consumerGroup,
+        Supplier<PartitionProcessor> partitionProcessorFactory, EventPosition initialEventPosition,
+        EventProcessorStore eventProcessorStore, TracerProvider tracerProvider,
+        LoadBalancingStrategy loadBalancingStrategy, Duration loadBalancingInterval,
+        Duration partitionOwnershipExpirationInterval) {
 
         Objects.requireNonNull(eventHubClientBuilder, "eventHubClientBuilder cannot be null.");
         Objects.requireNonNull(consumerGroup, "consumerGroup cannot be null.");
         Objects.requireNonNull(partitionProcessorFactory, "partitionProcessorFactory cannot be null.");
         Objects.requireNonNull(initialEventPosition, "initialEventPosition cannot be null.");
+        Objects.requireNonNull(loadBalancingStrategy, "loadBalancingStrategy cannot be null.");
+        Objects.requireNonNull(partitionOwnershipExpirationInterval,
+            "partitionOwnershipExpirationInterval cannot be null.");
+        this.loadBalancingInterval = Objects.requireNonNull(loadBalancingInterval,
+            "loadBalancingInterval cannot be null.");
 
         this.eventProcessorStore = Objects.requireNonNull(eventProcessorStore, "eventProcessorStore cannot be null");
         this.identifier = UUID.randomUUID().toString();
@@ -72,7 +107,9 @@ public class EventProcessor {
         this.partitionBasedLoadBalancer =
             new PartitionBasedLoadBalancer(this.eventProcessorStore, eventHubAsyncClient,
                 eventHubAsyncClient.getFullyQualifiedDomainName(), eventHubAsyncClient.getEventHubName(),
-                consumerGroup, identifier, TimeUnit.MINUTES.toSeconds(1), partitionPumpManager);
+                consumerGroup, identifier, partitionOwnershipExpirationInterval.getSeconds(), partitionPumpManager,
+                loadBalancingStrategy, loadBalancingInterval,
+                PartitionBasedLoadBalancer.DEFAULT_INGRESS_SAMPLE_INTERVAL);
     }
 
     /**
@@ -107,7 +144,7 @@ public class EventProcessor {
             ThreadLocalRandom.current().nextDouble() * TimeUnit.SECONDS.toMillis(BASE_JITTER_IN_SECONDS);
         // Add a bit of jitter to initialDelay to minimize contention if multiple EventProcessors start at the same time
         runner = scheduler.schedulePeriodically(partitionBasedLoadBalancer::loadBalance, jitterInMillis.longValue(),
-            TimeUnit.SECONDS.toMillis(INTERVAL_IN_SECONDS) /* TODO: make this configurable */, TimeUnit.MILLISECONDS);
+            loadBalancingInterval.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -128,5 +165,10 @@ public class EventProcessor {
         runner.dispose();
         scheduler.dispose();
         this.partitionPumpManager.stopAllPartitionPumps();
+        try {
+            this.eventProcessorStore.flushCheckpoints().block(FLUSH_CHECKPOINTS_TIMEOUT);
+        } catch (RuntimeException ex) {
+            logger.warning("Failed to flush checkpoints while stopping the event processor", ex);
+        }
     }
 }
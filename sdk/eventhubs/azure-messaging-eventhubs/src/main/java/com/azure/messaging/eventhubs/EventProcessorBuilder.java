@@ -16,7 +16,9 @@ import com.azure.messaging.eventhubs.models.CloseContext;
 import com.azure.messaging.eventhubs.models.EventProcessingErrorContext;
 import com.azure.messaging.eventhubs.models.EventPosition;
 import com.azure.messaging.eventhubs.models.InitializationContext;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import com.azure.messaging.eventhubs.models.PartitionEvent;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.Function;
@@ -69,6 +71,10 @@ public class EventProcessorBuilder {
     private Function<EventProcessingErrorContext, Mono<Void>> processError;
     private Function<InitializationContext, Mono<Void>> initializePartition;
     private Function<CloseContext, Mono<Void>> closePartition;
+    private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.BALANCED;
+    private Duration loadBalancingInterval = EventProcessor.DEFAULT_LOAD_BALANCING_INTERVAL;
+    private Duration partitionOwnershipExpirationInterval =
+        EventProcessor.DEFAULT_PARTITION_OWNERSHIP_EXPIRATION_INTERVAL;
 
     /**
      * Creates a new instance of {@link EventProcessorBuilder}.
@@ -286,6 +292,63 @@ public class EventProcessorBuilder {
         return this;
     }
 
+    /**
+     * Sets the strategy the {@link EventProcessor} uses to claim partitions while the load is not balanced. If not
+     * specified, {@link LoadBalancingStrategy#BALANCED} is used.
+     *
+     * @param loadBalancingStrategy The strategy used to claim partitions.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws NullPointerException if {@code loadBalancingStrategy} is {@code null}.
+     */
+    public EventProcessorBuilder loadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+        this.loadBalancingStrategy = Objects.requireNonNull(loadBalancingStrategy,
+            "'loadBalancingStrategy' cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the interval at which the {@link EventProcessor} evaluates partition ownership and claims partitions. If
+     * not specified, the load is balanced every 10 seconds.
+     *
+     * @param loadBalancingInterval The interval between two load balancing cycles.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws NullPointerException if {@code loadBalancingInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code loadBalancingInterval} is zero or negative.
+     */
+    public EventProcessorBuilder loadBalancingInterval(Duration loadBalancingInterval) {
+        Objects.requireNonNull(loadBalancingInterval, "'loadBalancingInterval' cannot be null");
+        if (loadBalancingInterval.isZero() || loadBalancingInterval.isNegative()) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'loadBalancingInterval' must be a positive duration."));
+        }
+
+        this.loadBalancingInterval = loadBalancingInterval;
+        return this;
+    }
+
+    /**
+     * Sets the time after which a partition ownership that has not been updated is considered inactive, making the
+     * partition available to other {@link EventProcessor EventProcessors}. If not specified, ownership expires after 1
+     * minute.
+     *
+     * @param partitionOwnershipExpirationInterval The time after which an ownership that has not been updated
+     * expires.
+     * @return The updated {@link EventProcessorBuilder} instance.
+     * @throws NullPointerException if {@code partitionOwnershipExpirationInterval} is {@code null}.
+     * @throws IllegalArgumentException if {@code partitionOwnershipExpirationInterval} is less than one second.
+     */
+    public EventProcessorBuilder partitionOwnershipExpirationInterval(Duration partitionOwnershipExpirationInterval) {
+        Objects.requireNonNull(partitionOwnershipExpirationInterval,
+            "'partitionOwnershipExpirationInterval' cannot be null");
+        if (partitionOwnershipExpirationInterval.getSeconds() < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'partitionOwnershipExpirationInterval' must be at least one second."));
+        }
+
+        this.partitionOwnershipExpirationInterval = partitionOwnershipExpirationInterval;
+        return this;
+    }
+
     /**
      * This will create a new {@link EventProcessor} configured with the options set in this builder. Each call to this
      * method will return a new instance of {@link EventProcessor}.
@@ -299,17 +362,23 @@ public class EventProcessorBuilder {
      * {@code null}.
      * @throws IllegalArgumentException if the credentials have not been set using either {@link
      * #connectionString(String)} or {@link #credential(String, String, TokenCredential)}. Or, if a proxy is specified
-     * but the transport type is not {@link TransportType#AMQP_WEB_SOCKETS web sockets}.
+     * but the transport type is not {@link TransportType#AMQP_WEB_SOCKETS web sockets}. Or, if the partition
+     * ownership expiration interval is not greater than the load balancing interval.
      * @return A new instance of {@link EventProcessor}.
      */
     public EventProcessor buildEventProcessor() {
         Objects.requireNonNull(processEvent, "'processEvent' cannot be null");
         Objects.requireNonNull(eventProcessorStore, "'eventProcessStore' cannot be null");
         Objects.requireNonNull(consumerGroup, "'consumerGroup' cannot be null");
+        if (partitionOwnershipExpirationInterval.compareTo(loadBalancingInterval) <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'partitionOwnershipExpirationInterval' must be greater than 'loadBalancingInterval'."));
+        }
 
         final TracerProvider tracerProvider = new TracerProvider(ServiceLoader.load(Tracer.class));
         return new EventProcessor(eventHubClientBuilder, this.consumerGroup,
-            getPartitionProcessorSupplier(), EventPosition.earliest(), eventProcessorStore, tracerProvider);
+            getPartitionProcessorSupplier(), EventPosition.earliest(), eventProcessorStore, tracerProvider,
+            loadBalancingStrategy, loadBalancingInterval, partitionOwnershipExpirationInterval);
     }
 
     private Supplier<PartitionProcessor> getPartitionProcessorSupplier() {
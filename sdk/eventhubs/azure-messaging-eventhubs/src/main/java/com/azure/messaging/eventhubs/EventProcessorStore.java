@@ -42,4 +42,30 @@ public interface EventProcessorStore {
      * @return The new ETag on successful update.
      */
     Mono<String> updateCheckpoint(Checkpoint checkpoint);
+
+    /**
+     * Writes any checkpoints that were accepted by {@link #updateCheckpoint(Checkpoint)} but have not been persisted to
+     * the underlying data store yet, for every partition. The {@link EventProcessor} calls this when it is stopped.
+     * Implementations that persist every checkpoint as it is updated do not need to override this method.
+     *
+     * @return A {@link Mono} that completes when all pending checkpoints have been written.
+     */
+    default Mono<Void> flushCheckpoints() {
+        return Mono.empty();
+    }
+
+    /**
+     * Writes the checkpoint of a single partition that was accepted by {@link #updateCheckpoint(Checkpoint)} but has
+     * not been persisted to the underlying data store yet. The {@link EventProcessor} calls this when it stops
+     * processing the partition. The default implementation writes the pending checkpoints of all partitions with
+     * {@link #flushCheckpoints()}.
+     *
+     * @param eventHubName The Event Hub name of the partition.
+     * @param consumerGroupName The consumer group name.
+     * @param partitionId The partition id.
+     * @return A {@link Mono} that completes when the pending checkpoint of the partition has been written.
+     */
+    default Mono<Void> flushCheckpoint(String eventHubName, String consumerGroupName, String partitionId) {
+        return flushCheckpoints();
+    }
 }
@@ -5,14 +5,17 @@ package com.azure.messaging.eventhubs;
 
 import com.azure.core.implementation.util.ImplUtils;
 import com.azure.core.util.logging.ClientLogger;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import com.azure.messaging.eventhubs.models.PartitionOwnership;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -33,9 +36,23 @@ import static java.util.stream.Collectors.toList;
  * active. If a partition ownership entry has not be updated for a specified duration of time, the owner of that
  * partition is considered inactive and the partition is available for other EventProcessors to own.
  * </p>
+ * <p>
+ * The ingress of each partition is estimated from the change in its last enqueued sequence number between samples.
+ * When choosing which partition to claim or steal, the load balancer prefers the partition that brings this
+ * EventProcessor's ingress closest to its share of the total ingress, so partitions with high ingress are spread across
+ * EventProcessors.
+ * </p>
  */
 final class PartitionBasedLoadBalancer {
 
+    // Timeouts of the operations in a load balancing cycle. They are shortened to the load balancing interval when it
+    // is smaller so a cycle completes before the next one starts.
+    private static final Duration LIST_OWNERSHIP_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration GET_PARTITIONS_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration CLAIM_OWNERSHIP_TIMEOUT = Duration.ofSeconds(1);
+    // Partition properties are retrieved from the service at most this often to estimate ingress.
+    static final Duration DEFAULT_INGRESS_SAMPLE_INTERVAL = Duration.ofMinutes(1);
+
     private static final Random RANDOM = new Random();
     private final ClientLogger logger = new ClientLogger(PartitionBasedLoadBalancer.class);
 
@@ -47,6 +64,15 @@ final class PartitionBasedLoadBalancer {
     private final long inactiveTimeLimitInSeconds;
     private final PartitionPumpManager partitionPumpManager;
     private final String fullyQualifiedNamespace;
+    private final LoadBalancingStrategy loadBalancingStrategy;
+    private final Duration listOwnershipTimeout;
+    private final Duration getPartitionsTimeout;
+    private final Duration claimOwnershipTimeout;
+    private final long ingressSampleIntervalNanos;
+
+    private final Map<String, Long> lastEnqueuedSequenceNumbers = new HashMap<>();
+    private final Map<String, Double> partitionIngress = new HashMap<>();
+    private Long lastIngressSampleNanos;
 
     /**
      * Creates an instance of PartitionBasedLoadBalancer for the given Event Hub name and consumer group.
@@ -66,6 +92,39 @@ final class PartitionBasedLoadBalancer {
         final EventHubAsyncClient eventHubAsyncClient, final String fullyQualifiedNamespace,
         final String eventHubName, final String consumerGroupName, final String ownerId,
         final long inactiveTimeLimitInSeconds, final PartitionPumpManager partitionPumpManager) {
+        this(eventProcessorStore, eventHubAsyncClient, fullyQualifiedNamespace, eventHubName, consumerGroupName,
+            ownerId, inactiveTimeLimitInSeconds, partitionPumpManager, LoadBalancingStrategy.BALANCED,
+            EventProcessor.DEFAULT_LOAD_BALANCING_INTERVAL, DEFAULT_INGRESS_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates an instance of PartitionBasedLoadBalancer for the given Event Hub name and consumer group.
+     *
+     * @param eventProcessorStore The partition manager that this load balancer will use to read/update ownership
+     * details.
+     * @param eventHubAsyncClient The asynchronous Event Hub client used to consume events.
+     * @param eventHubName The Event Hub name the {@link EventProcessor} is associated with.
+     * @param consumerGroupName The consumer group name the {@link EventProcessor} is associated with.
+     * @param ownerId The identifier of the {@link EventProcessor} that owns this load balancer.
+     * @param inactiveTimeLimitInSeconds The time in seconds to wait for an update on an ownership record before
+     * assuming the owner of the partition is inactive.
+     * @param partitionPumpManager The partition pump manager that keeps track of all EventHubConsumers and partitions
+     * that this {@link EventProcessor} is processing.
+     * @param loadBalancingStrategy The strategy used to claim partitions while the load is not balanced.
+     * @param loadBalancingInterval The interval at which {@link #loadBalance()} is invoked.
+     * @param ingressSampleInterval The minimum interval between two samples of the partitions' ingress.
+     */
+    PartitionBasedLoadBalancer(final EventProcessorStore eventProcessorStore,
+        final EventHubAsyncClient eventHubAsyncClient, final String fullyQualifiedNamespace,
+        final String eventHubName, final String consumerGroupName, final String ownerId,
+        final long inactiveTimeLimitInSeconds, final PartitionPumpManager partitionPumpManager,
+        final LoadBalancingStrategy loadBalancingStrategy, final Duration loadBalancingInterval,
+        final Duration ingressSampleInterval) {
+        this.loadBalancingStrategy = loadBalancingStrategy;
+        this.listOwnershipTimeout = min(LIST_OWNERSHIP_TIMEOUT, loadBalancingInterval);
+        this.getPartitionsTimeout = min(GET_PARTITIONS_TIMEOUT, loadBalancingInterval);
+        this.claimOwnershipTimeout = min(CLAIM_OWNERSHIP_TIMEOUT, loadBalancingInterval);
+        this.ingressSampleIntervalNanos = ingressSampleInterval.toNanos();
         this.eventProcessorStore = eventProcessorStore;
         this.eventHubAsyncClient = eventHubAsyncClient;
         this.fullyQualifiedNamespace = fullyQualifiedNamespace;
@@ -78,12 +137,13 @@ final class PartitionBasedLoadBalancer {
 
     /**
      * This is the main method responsible for load balancing. This method is expected to be invoked by the {@link
-     * EventProcessor} periodically. Every call to this method will result in this {@link EventProcessor} owning <b>at
-     * most one</b> new partition.
+     * EventProcessor} periodically. With the {@link LoadBalancingStrategy#BALANCED balanced} strategy, every call to
+     * this method will result in this {@link EventProcessor} owning <b>at most one</b> new partition. With the {@link
+     * LoadBalancingStrategy#GREEDY greedy} strategy, it claims as many partitions as needed to reach its share.
      * <p>
      * The load is considered balanced when no active EventProcessor owns 2 partitions more than any other active
-     * EventProcessor. Given that each invocation to this method results in ownership claim of at most one partition,
-     * this algorithm converges gradually towards a steady state.
+     * EventProcessor. Given that each invocation to this method results in ownership claim of at most one partition
+     * with the balanced strategy, this algorithm converges gradually towards a steady state.
      * </p>
      * When a new partition is claimed, this method is also responsible for starting a partition pump that creates an
      * {@link EventHubConsumerAsyncClient} for processing events from that partition.
@@ -94,16 +154,17 @@ final class PartitionBasedLoadBalancer {
          */
         final Mono<Map<String, PartitionOwnership>> partitionOwnershipMono = eventProcessorStore
             .listOwnership(fullyQualifiedNamespace, eventHubName, consumerGroupName)
-            .timeout(Duration.ofSeconds(2)) // TODO: configurable by the user
+            .timeout(listOwnershipTimeout)
             .collectMap(PartitionOwnership::getPartitionId, Function.identity());
 
         /*
-         * Retrieve the list of partition ids from the Event Hub.
+         * Retrieve the list of partition ids from the Event Hub and sample their ingress.
          */
         final Mono<List<String>> partitionsMono = eventHubAsyncClient
             .getPartitionIds()
-            .timeout(Duration.ofSeconds(5)) // TODO: configurable
-            .collectList();
+            .timeout(getPartitionsTimeout)
+            .collectList()
+            .flatMap(partitionIds -> sampleIngress(partitionIds).thenReturn(partitionIds));
 
         Mono.zip(partitionOwnershipMono, partitionsMono)
             .flatMap(this::loadBalance)
@@ -151,19 +212,18 @@ final class PartitionBasedLoadBalancer {
                 /*
                  * If the active partition ownership map is empty, this is the first time an event processor is
                  * running or all Event Processors are down for this Event Hub, consumer group combination. All
-                 * partitions in this Event Hub are available to claim. Choose a random partition to claim ownership.
+                 * partitions in this Event Hub are available to claim.
                  */
-                claimOwnership(partitionOwnershipMap, partitionIds.get(RANDOM.nextInt(numberOfPartitions)));
-                return;
+                logger.info("No active ownership records, all partitions are available to claim");
             }
 
             /*
              * Create a map of owner id and a list of partitions it owns
              */
-            Map<String, List<PartitionOwnership>> ownerPartitionMap = activePartitionOwnershipMap.values()
+            Map<String, List<String>> ownerPartitionMap = activePartitionOwnershipMap.values()
                 .stream()
-                .collect(
-                    Collectors.groupingBy(PartitionOwnership::getOwnerId, mapping(Function.identity(), toList())));
+                .collect(Collectors.groupingBy(PartitionOwnership::getOwnerId,
+                    mapping(PartitionOwnership::getPartitionId, toList())));
 
             // add the current event processor to the map if it doesn't exist
             ownerPartitionMap.putIfAbsent(this.ownerId, new ArrayList<>());
@@ -188,44 +248,68 @@ final class PartitionBasedLoadBalancer {
                     + "processors with additional partition = {}", minPartitionsPerEventProcessor,
                 numberOfEventProcessorsWithAdditionalPartition);
 
-            if (isLoadBalanced(minPartitionsPerEventProcessor, numberOfEventProcessorsWithAdditionalPartition,
-                ownerPartitionMap)) {
-                // If the partitions are evenly distributed among all active event processors, no change required.
-                logger.info("Load is balanced");
-                return;
+            final Map<String, Double> ingress = getPartitionIngress();
+            final double ingressShare = partitionIds.stream().mapToDouble(id -> ingress.getOrDefault(id, 0d)).sum()
+                / numberOfActiveEventProcessors;
+            final int maximumClaims = loadBalancingStrategy == LoadBalancingStrategy.GREEDY ? numberOfPartitions : 1;
+            final List<String> partitionsToClaim = new ArrayList<>();
+
+            while (partitionsToClaim.size() < maximumClaims) {
+                if (isLoadBalanced(minPartitionsPerEventProcessor, numberOfEventProcessorsWithAdditionalPartition,
+                    ownerPartitionMap)) {
+                    // If the partitions are evenly distributed among all active event processors, no change required.
+                    logger.info("Load is balanced");
+                    break;
+                }
+
+                if (!shouldOwnMorePartitions(minPartitionsPerEventProcessor, ownerPartitionMap)) {
+                    // This event processor already has enough partitions and shouldn't own more.
+                    logger.info("This event processor owns {} partitions and shouldn't own more",
+                        ownerPartitionMap.get(ownerId).size());
+                    break;
+                }
+
+                // If we have reached this stage, this event processor has to claim/steal ownership of at least 1
+                // more partition
+                logger.info(
+                    "Load is unbalanced and this event processor should own more partitions");
+                /*
+                 * If some partitions are unclaimed, this could be because an event processor is down and
+                 * it's partitions are now available for others to own or because event processors are just
+                 * starting up and gradually claiming partitions to own or new partitions were added to Event Hub.
+                 * Find any partition that is not actively owned and claim it.
+                 *
+                 * OR
+                 *
+                 * Find a partition to steal from another event processor. Pick the event processor that has owns the
+                 * highest number of partitions.
+                 */
+                final List<String> unclaimedPartitions = partitionIds.stream()
+                    .filter(partitionId -> !activePartitionOwnershipMap.containsKey(partitionId)
+                        && !partitionsToClaim.contains(partitionId))
+                    .collect(toList());
+                final String partitionToClaim;
+                if (unclaimedPartitions.isEmpty()) {
+                    logger.info("No unclaimed partitions, stealing from another event processor");
+                    partitionToClaim = findPartitionToSteal(ownerPartitionMap, ingress, ingressShare);
+                } else {
+                    partitionToClaim = selectPartition(unclaimedPartitions, ownerPartitionMap.get(ownerId), ingress,
+                        ingressShare);
+                }
+
+                if (partitionToClaim == null) {
+                    break;
+                }
+
+                // Account for the claim so the next iteration evaluates the load as if it succeeded.
+                ownerPartitionMap.values().forEach(partitions -> partitions.remove(partitionToClaim));
+                ownerPartitionMap.get(ownerId).add(partitionToClaim);
+                partitionsToClaim.add(partitionToClaim);
             }
 
-            if (!shouldOwnMorePartitions(minPartitionsPerEventProcessor, ownerPartitionMap)) {
-                // This event processor already has enough partitions and shouldn't own more.
-                logger.info("This event processor owns {} partitions and shouldn't own more",
-                    ownerPartitionMap.get(ownerId).size());
-                return;
+            if (!partitionsToClaim.isEmpty()) {
+                claimOwnership(partitionOwnershipMap, partitionsToClaim);
             }
-
-            // If we have reached this stage, this event processor has to claim/steal ownership of at least 1
-            // more partition
-            logger.info(
-                "Load is unbalanced and this event processor should own more partitions");
-            /*
-             * If some partitions are unclaimed, this could be because an event processor is down and
-             * it's partitions are now available for others to own or because event processors are just
-             * starting up and gradually claiming partitions to own or new partitions were added to Event Hub.
-             * Find any partition that is not actively owned and claim it.
-             *
-             * OR
-             *
-             * Find a partition to steal from another event processor. Pick the event processor that has owns the
-             * highest number of partitions.
-             */
-            String partitionToClaim = partitionIds.parallelStream()
-                .filter(partitionId -> !activePartitionOwnershipMap.containsKey(partitionId))
-                .findAny()
-                .orElseGet(() -> {
-                    logger.info("No unclaimed partitions, stealing from another event processor");
-                    return findPartitionToSteal(ownerPartitionMap);
-                });
-
-            claimOwnership(partitionOwnershipMap, partitionToClaim);
         });
     }
 
@@ -247,18 +331,53 @@ final class PartitionBasedLoadBalancer {
     }
 
     /*
-     * Find the event processor that owns the maximum number of partitions and steal a random partition
-     * from it.
+     * Find the event processor that owns the maximum number of partitions and steal a partition from it. When several
+     * event processors own the maximum number of partitions, the one with the highest ingress is picked.
      */
-    private String findPartitionToSteal(final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
-        Map.Entry<String, List<PartitionOwnership>> ownerWithMaxPartitions = ownerPartitionMap.entrySet()
+    private String findPartitionToSteal(final Map<String, List<String>> ownerPartitionMap,
+        final Map<String, Double> ingress, final double ingressShare) {
+        Map.Entry<String, List<String>> ownerWithMaxPartitions = ownerPartitionMap.entrySet()
             .stream()
-            .max(Comparator.comparingInt(entry -> entry.getValue().size()))
-            .get();
+            .filter(entry -> !ownerId.equals(entry.getKey()))
+            .max(Comparator.<Entry<String, List<String>>>comparingInt(entry -> entry.getValue().size())
+                .thenComparingDouble(entry -> getIngress(entry.getValue(), ingress)))
+            .orElse(null);
+        if (ownerWithMaxPartitions == null || ownerWithMaxPartitions.getValue().isEmpty()) {
+            return null;
+        }
+
         int numberOfPartitions = ownerWithMaxPartitions.getValue().size();
         logger.info("Owner id {} owns {} partitions, stealing a partition from it", ownerWithMaxPartitions.getKey(),
             numberOfPartitions);
-        return ownerWithMaxPartitions.getValue().get(RANDOM.nextInt(numberOfPartitions)).getPartitionId();
+        return selectPartition(ownerWithMaxPartitions.getValue(), ownerPartitionMap.get(ownerId), ingress,
+            ingressShare);
+    }
+
+    /*
+     * Picks the candidate partition that brings the ingress of this event processor closest to its share of the total
+     * ingress. Ties, including the case where the ingress is not known yet, are broken at random.
+     */
+    private String selectPartition(final List<String> candidates, final List<String> ownedPartitions,
+        final Map<String, Double> ingress, final double ingressShare) {
+        final double ownedIngress = getIngress(ownedPartitions, ingress);
+        String selected = null;
+        double closestDistance = Double.MAX_VALUE;
+        int numberOfTies = 0;
+        for (String candidate : candidates) {
+            final double distance = Math.abs(ownedIngress + ingress.getOrDefault(candidate, 0d) - ingressShare);
+            if (distance < closestDistance) {
+                selected = candidate;
+                closestDistance = distance;
+                numberOfTies = 1;
+            } else if (distance == closestDistance && RANDOM.nextInt(++numberOfTies) == 0) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private static double getIngress(final List<String> partitionIds, final Map<String, Double> ingress) {
+        return partitionIds.stream().mapToDouble(partitionId -> ingress.getOrDefault(partitionId, 0d)).sum();
     }
 
     /*
@@ -268,10 +387,10 @@ final class PartitionBasedLoadBalancer {
      */
     private boolean isLoadBalanced(final int minPartitionsPerEventProcessor,
         final int numberOfEventProcessorsWithAdditionalPartition,
-        final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
+        final Map<String, List<String>> ownerPartitionMap) {
 
         int count = 0;
-        for (List<PartitionOwnership> partitionOwnership : ownerPartitionMap.values()) {
+        for (List<String> partitionOwnership : ownerPartitionMap.values()) {
             int numberOfPartitions = partitionOwnership.size();
             if (numberOfPartitions < minPartitionsPerEventProcessor
                 || numberOfPartitions > minPartitionsPerEventProcessor + 1) {
@@ -292,7 +411,7 @@ final class PartitionBasedLoadBalancer {
      * and no other event processor owns lesser number of partitions than this event processor.
      */
     private boolean shouldOwnMorePartitions(final int minPartitionsPerEventProcessor,
-        final Map<String, List<PartitionOwnership>> ownerPartitionMap) {
+        final Map<String, List<String>> ownerPartitionMap) {
 
         int numberOfPartitionsOwned = ownerPartitionMap.get(this.ownerId).size();
 
@@ -320,19 +439,70 @@ final class PartitionBasedLoadBalancer {
             }).collect(Collectors.toMap(Entry::getKey, Entry::getValue));
     }
 
+    /*
+     * Samples the last enqueued sequence number of each partition, at most once per ingress sample interval, to
+     * estimate its ingress. Partitions whose properties cannot be retrieved keep their previous estimate.
+     */
+    private Mono<Void> sampleIngress(final List<String> partitionIds) {
+        synchronized (this) {
+            if (lastIngressSampleNanos != null
+                && System.nanoTime() - lastIngressSampleNanos < ingressSampleIntervalNanos) {
+                return Mono.empty();
+            }
+        }
+
+        return Flux.fromIterable(partitionIds)
+            .flatMap(partitionId -> Mono.defer(() -> eventHubAsyncClient.getPartitionProperties(partitionId))
+                .timeout(getPartitionsTimeout)
+                .onErrorResume(ex -> {
+                    logger.verbose("Unable to get properties of partition {} - {}", partitionId, ex.getMessage());
+                    return Mono.empty();
+                }))
+            .collectMap(PartitionProperties::getId, PartitionProperties::getLastEnqueuedSequenceNumber)
+            .doOnNext(this::updateIngress)
+            .then();
+    }
+
+    private synchronized void updateIngress(final Map<String, Long> sequenceNumbers) {
+        final long now = System.nanoTime();
+        if (lastIngressSampleNanos != null && now > lastIngressSampleNanos) {
+            final double elapsedSeconds = (now - lastIngressSampleNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            sequenceNumbers.forEach((partitionId, sequenceNumber) -> {
+                final Long previousSequenceNumber = lastEnqueuedSequenceNumbers.get(partitionId);
+                if (previousSequenceNumber != null) {
+                    partitionIngress.put(partitionId,
+                        Math.max(0, sequenceNumber - previousSequenceNumber) / elapsedSeconds);
+                }
+            });
+        }
+
+        // Partitions missing from this sample have no baseline for the next one.
+        lastEnqueuedSequenceNumbers.clear();
+        lastEnqueuedSequenceNumbers.putAll(sequenceNumbers);
+        lastIngressSampleNanos = now;
+    }
+
+    /*
+     * Gets a snapshot of the estimated number of events enqueued per second in each partition.
+     */
+    synchronized Map<String, Double> getPartitionIngress() {
+        return new HashMap<>(partitionIngress);
+    }
+
     private void claimOwnership(final Map<String, PartitionOwnership> partitionOwnershipMap,
-        final String partitionIdToClaim) {
-        logger.info("Attempting to claim ownership of partition {}", partitionIdToClaim);
-        PartitionOwnership ownershipRequest = createPartitionOwnershipRequest(partitionOwnershipMap,
-            partitionIdToClaim);
+        final List<String> partitionIdsToClaim) {
+        logger.info("Attempting to claim ownership of partitions {}", partitionIdsToClaim);
+        final PartitionOwnership[] ownershipRequests = partitionIdsToClaim.stream()
+            .map(partitionId -> createPartitionOwnershipRequest(partitionOwnershipMap, partitionId))
+            .toArray(PartitionOwnership[]::new);
 
         eventProcessorStore
-            .claimOwnership(ownershipRequest)
-            .timeout(Duration.ofSeconds(1)) // TODO: configurable
+            .claimOwnership(ownershipRequests)
+            .timeout(claimOwnershipTimeout)
             .doOnNext(partitionOwnership -> logger.info("Successfully claimed ownership of partition {}",
                 partitionOwnership.getPartitionId()))
             .doOnError(ex -> logger
-                .warning("Failed to claim ownership of partition {} - {}", ownershipRequest.getPartitionId(),
+                .warning("Failed to claim ownership of partitions {} - {}", partitionIdsToClaim,
                     ex.getMessage(), ex))
             .subscribe(partitionPumpManager::startPartitionPump);
     }
@@ -354,4 +524,8 @@ final class PartitionBasedLoadBalancer {
             .setOwnerLevel(0L);
         return partitionOwnershipRequest;
     }
+
+    private static Duration min(final Duration first, final Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
 }
@@ -142,7 +142,10 @@ class PartitionPumpManager {
             }
         }, /* EventHubConsumer receive() returned an error */
             ex -> handleReceiveError(claimedOwnership, eventHubConsumer, partitionProcessor, ex, partitionContext),
-            () -> partitionProcessor.close(new CloseContext(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN)));
+            () -> {
+                partitionProcessor.close(new CloseContext(partitionContext, CloseReason.EVENT_PROCESSOR_SHUTDOWN));
+                flushCheckpoint(claimedOwnership);
+            });
     }
 
     private void handleProcessingError(PartitionOwnership claimedOwnership,
@@ -170,6 +173,7 @@ class PartitionPumpManager {
                 closeReason = CloseReason.LOST_PARTITION_OWNERSHIP;
             }
             partitionProcessor.close(new CloseContext(partitionContext, closeReason));
+            flushCheckpoint(claimedOwnership);
         } catch (Exception ex) {
             logger.warning("Failed while processing error on receive {}", claimedOwnership.getPartitionId(), ex);
         } finally {
@@ -183,6 +187,17 @@ class PartitionPumpManager {
         }
     }
 
+    /*
+     * Persists the checkpoint the store may still be buffering for a partition once processing of it has ended,
+     * including any checkpoint updated by the partition processor while it was being closed.
+     */
+    private void flushCheckpoint(PartitionOwnership claimedOwnership) {
+        eventProcessorStore.flushCheckpoint(claimedOwnership.getEventHubName(),
+            claimedOwnership.getConsumerGroupName(), claimedOwnership.getPartitionId()).subscribe(unused -> {
+            }, ex -> logger.warning("Failed to flush checkpoint after closing partition {}",
+                claimedOwnership.getPartitionId(), ex));
+    }
+
     /*
      * Starts a new process tracing span and attached context the EventData object for users.
      */
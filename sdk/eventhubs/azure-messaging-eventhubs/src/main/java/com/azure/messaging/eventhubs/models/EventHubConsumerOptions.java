@@ -43,6 +43,8 @@ public class EventHubConsumerOptions implements Cloneable {
     static final int DEFAULT_PREFETCH_COUNT = 500;
 
     private boolean trackLastEnqueuedEventProperties;
+    private boolean adaptivePrefetch;
+    private Long maxBufferedBytes;
     private String identifier;
     private Long ownerLevel;
     private RetryOptions retry;
@@ -145,6 +147,46 @@ public class EventHubConsumerOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * Sets whether or not the consumer adapts how it replenishes link credits to the rate at which events are consumed.
+     *
+     * <p>By default, the consumer adds {@link #getPrefetchCount() prefetch count} credits when the link is opened and
+     * only adds more once all credits have been used. When adaptive prefetch is enabled, credits are topped up as soon
+     * as the events in flight and buffered locally drop below a low-water mark derived from the observed consumption
+     * rate, so fast partitions do not stall waiting for credits. The prefetch count remains the upper bound of events
+     * requested from the service and, if {@link #setMaxBufferedBytes(Long) set}, so does the number of bytes buffered
+     * locally.</p>
+     *
+     * @param adaptivePrefetch {@code true} to replenish credits adaptively; {@code false} otherwise.
+     *
+     * @return The updated {@link EventHubConsumerOptions} object.
+     */
+    public EventHubConsumerOptions setAdaptivePrefetch(boolean adaptivePrefetch) {
+        this.adaptivePrefetch = adaptivePrefetch;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of event data the consumer buffers locally for each partition when
+     * {@link #setAdaptivePrefetch(boolean) adaptive prefetch} is enabled. Credits are not replenished while the
+     * estimated size of buffered events is above this limit. This value is ignored if adaptive prefetch is disabled.
+     *
+     * @param maxBufferedBytes The maximum number of bytes to buffer per partition, or {@code null} to only bound
+     *     buffering by the prefetch count.
+     *
+     * @return The updated {@link EventHubConsumerOptions} object.
+     * @throws IllegalArgumentException if {@code maxBufferedBytes} is not {@code null} and is less than 1.
+     */
+    public EventHubConsumerOptions setMaxBufferedBytes(Long maxBufferedBytes) {
+        if (maxBufferedBytes != null && maxBufferedBytes < 1) {
+            throw logger.logExceptionAsError(new IllegalArgumentException(
+                "'maxBufferedBytes' has to be a positive value."));
+        }
+
+        this.maxBufferedBytes = maxBufferedBytes;
+        return this;
+    }
+
     /**
      * Gets the optional text-based identifier label to assign to an event receiver. The identifier is used for
      * informational purposes only. If not specified, the receiver will have no assigned identifier label.
@@ -188,6 +230,26 @@ public class EventHubConsumerOptions implements Cloneable {
         return trackLastEnqueuedEventProperties;
     }
 
+    /**
+     * Gets whether or not the consumer adapts how it replenishes link credits to the rate at which events are consumed.
+     *
+     * @return {@code true} if credits are replenished adaptively; {@code false} otherwise.
+     */
+    public boolean getAdaptivePrefetch() {
+        return adaptivePrefetch;
+    }
+
+    /**
+     * Gets the maximum number of bytes of event data the consumer buffers locally for each partition when adaptive
+     * prefetch is enabled.
+     *
+     * @return The maximum number of bytes to buffer per partition, or {@code null} if buffering is only bounded by the
+     *     prefetch count.
+     */
+    public Long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
     /**
      * Creates a shallow clone of this instance.
      *
@@ -205,7 +267,9 @@ public class EventHubConsumerOptions implements Cloneable {
         clone
             .setIdentifier(this.getIdentifier())
             .setPrefetchCount(this.getPrefetchCount())
-            .setOwnerLevel(this.getOwnerLevel());
+            .setOwnerLevel(this.getOwnerLevel())
+            .setAdaptivePrefetch(this.getAdaptivePrefetch())
+            .setMaxBufferedBytes(this.getMaxBufferedBytes());
 
         return clone;
     }
@@ -0,0 +1,23 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs.models;
+
+import com.azure.messaging.eventhubs.EventProcessor;
+
+/**
+ * The strategy an {@link EventProcessor} uses to claim partitions while the load is not balanced.
+ */
+public enum LoadBalancingStrategy {
+    /**
+     * The event processor claims at most one partition in each load balancing cycle. Ownership converges gradually,
+     * which keeps contention between event processors low.
+     */
+    BALANCED,
+
+    /**
+     * The event processor claims as many partitions as needed to reach its share of the partitions in each load
+     * balancing cycle. Ownership converges in fewer cycles when event processors start or scale out.
+     */
+    GREEDY
+}
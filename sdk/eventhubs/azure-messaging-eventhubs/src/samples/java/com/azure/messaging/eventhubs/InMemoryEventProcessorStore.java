@@ -17,6 +17,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * A simple in-memory implementation of a {@link EventProcessorStore}. This implementation keeps track of partition
  * ownership details including checkpointing information in-memory. Using this implementation will only facilitate
  * checkpointing and load balancing of Event Processors running within this process.
+ *
+ * <p>
+ * Checkpoint updates are validated against the ETag of the partition's ownership the same way a durable store would,
+ * which makes this implementation suitable for exercising and benchmarking an {@link EventProcessor} without a storage
+ * account.
+ * </p>
  */
 public class InMemoryEventProcessorStore implements EventProcessorStore {
 
@@ -73,13 +79,27 @@ public class InMemoryEventProcessorStore implements EventProcessorStore {
      */
     @Override
     public Mono<String> updateCheckpoint(final Checkpoint checkpoint) {
-        String updatedETag = UUID.randomUUID().toString();
-        partitionOwnershipMap.get(checkpoint.getPartitionId())
-            .setSequenceNumber(checkpoint.getSequenceNumber())
-            .setOffset(checkpoint.getOffset())
-            .setETag(updatedETag);
-        logger.info("Updated checkpoint for partition {} with sequence number {}", checkpoint.getPartitionId(),
-            checkpoint.getSequenceNumber());
-        return Mono.just(updatedETag);
+        return Mono.fromCallable(() -> {
+            PartitionOwnership partitionOwnership = partitionOwnershipMap.get(checkpoint.getPartitionId());
+            if (partitionOwnership == null) {
+                throw logger.logExceptionAsError(new IllegalStateException(
+                    "Partition " + checkpoint.getPartitionId() + " has not been claimed."));
+            }
+
+            String updatedETag = UUID.randomUUID().toString();
+            synchronized (partitionOwnership) {
+                if (checkpoint.getETag() != null && !checkpoint.getETag().equals(partitionOwnership.getETag())) {
+                    throw logger.logExceptionAsWarning(new IllegalStateException(
+                        "ETag did not match for partition " + checkpoint.getPartitionId()));
+                }
+                partitionOwnership
+                    .setSequenceNumber(checkpoint.getSequenceNumber())
+                    .setOffset(checkpoint.getOffset())
+                    .setETag(updatedETag);
+            }
+            logger.info("Updated checkpoint for partition {} with sequence number {}", checkpoint.getPartitionId(),
+                checkpoint.getSequenceNumber());
+            return updatedETag;
+        });
     }
 }
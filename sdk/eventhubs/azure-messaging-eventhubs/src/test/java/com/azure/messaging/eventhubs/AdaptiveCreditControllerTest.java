@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link AdaptiveCreditController}.
+ */
+public class AdaptiveCreditControllerTest {
+    private static final String PARTITION_ID = "a-partition-id";
+    private static final int PREFETCH = 100;
+
+    private final AtomicInteger bufferedEvents = new AtomicInteger();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    /**
+     * Verifies that no credits are added while outstanding events are above the low-water mark, and that the link is
+     * topped up to the prefetch count once they drop below it.
+     */
+    @Test
+    public void replenishesAtLowWaterMark() {
+        // Arrange
+        final AdaptiveCreditController controller = new AdaptiveCreditController(PARTITION_ID, PREFETCH, null,
+            bufferedEvents::get, nanoTime::get);
+
+        // Act & Assert
+        // With no observed consumption, the low-water mark is a quarter of the prefetch count.
+        Assert.assertEquals(0, controller.getCreditsToAdd(PREFETCH / 2));
+        Assert.assertEquals(0, controller.getCreditsToAdd(PREFETCH / 4 + 1));
+        Assert.assertEquals(PREFETCH - PREFETCH / 4, controller.getCreditsToAdd(PREFETCH / 4));
+
+        bufferedEvents.set(10);
+        Assert.assertEquals(PREFETCH - 10, controller.getCreditsToAdd(0));
+    }
+
+    /**
+     * Verifies that a high consumption rate raises the low-water mark so credits are added earlier.
+     */
+    @Test
+    public void highConsumptionRateRaisesLowWaterMark() {
+        // Arrange
+        final AdaptiveCreditController controller = new AdaptiveCreditController(PARTITION_ID, PREFETCH, null,
+            bufferedEvents::get, nanoTime::get);
+
+        // 1000 events consumed in one second.
+        for (int i = 0; i < 1000; i++) {
+            controller.onEventReceived(10);
+        }
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Act
+        final int credits = controller.getCreditsToAdd(PREFETCH / 2);
+
+        // Assert
+        Assert.assertEquals(PREFETCH / 2, credits);
+        Assert.assertTrue(controller.getEventsPerSecond() > 0);
+    }
+
+    /**
+     * Verifies that the target number of outstanding events is lowered so buffered bytes stay under the limit.
+     */
+    @Test
+    public void capsOutstandingBytes() {
+        // Arrange
+        final long maxBufferedBytes = 10 * 1024;
+        final AdaptiveCreditController controller = new AdaptiveCreditController(PARTITION_ID, PREFETCH,
+            maxBufferedBytes, bufferedEvents::get, nanoTime::get);
+        controller.onEventReceived(1024);
+        controller.onEventReceived(1024);
+
+        // Act & Assert
+        Assert.assertEquals(10, controller.getCreditsToAdd(0));
+
+        bufferedEvents.set(10);
+        Assert.assertEquals(0, controller.getCreditsToAdd(0));
+        Assert.assertEquals(10, controller.getBufferedEvents());
+        Assert.assertEquals(maxBufferedBytes, controller.getBufferedBytes());
+    }
+}
@@ -0,0 +1,98 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.message.Message;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting a stream of received AMQP deliveries into {@link EventData}. Run with {@code -prof gc} to report
+ * the bytes allocated per operation.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EventDataDeserializationBenchMark {
+    private static final int NUMBER_OF_DELIVERIES = 1000;
+    private static final int BODY_SIZE = 1024;
+
+    private final EventHubMessageSerializer serializer = new EventHubMessageSerializer();
+    private byte[][] deliveries;
+
+    @Setup
+    public void setup() {
+        final byte[] body = new byte[BODY_SIZE];
+        Arrays.fill(body, (byte) 'a');
+        final byte[] buffer = new byte[BODY_SIZE * 4];
+
+        deliveries = new byte[NUMBER_OF_DELIVERIES][];
+        for (int i = 0; i < NUMBER_OF_DELIVERIES; i++) {
+            final Message message = TestUtils.getMessage(body, "tracking-" + i);
+            message.setMessageId("message-" + i);
+            message.setContentType("application/octet-stream");
+            message.setSubject("subject-" + i);
+
+            final int length = message.encode(buffer, 0, buffer.length);
+            deliveries[i] = Arrays.copyOf(buffer, length);
+        }
+    }
+
+    /**
+     * Reads only the fields needed to track a position in the partition, which is typical of consumers that
+     * checkpoint.
+     */
+    @Benchmark
+    public void readPosition(Blackhole blackhole) {
+        for (byte[] delivery : deliveries) {
+            final EventData eventData = deserialize(delivery);
+            blackhole.consume(eventData.getSequenceNumber());
+            blackhole.consume(eventData.getOffset());
+            blackhole.consume(eventData.getBody());
+        }
+    }
+
+    /**
+     * Reads every property of each event.
+     */
+    @Benchmark
+    public void readAllProperties(Blackhole blackhole) {
+        for (byte[] delivery : deliveries) {
+            final EventData eventData = deserialize(delivery);
+            blackhole.consume(eventData.getSequenceNumber());
+            blackhole.consume(eventData.getBody());
+            blackhole.consume(eventData.getProperties().size());
+            blackhole.consume(eventData.getSystemProperties().size());
+        }
+    }
+
+    private EventData deserialize(byte[] delivery) {
+        final Message message = Proton.message();
+        message.decode(delivery, 0, delivery.length);
+        return serializer.deserialize(message, EventData.class);
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
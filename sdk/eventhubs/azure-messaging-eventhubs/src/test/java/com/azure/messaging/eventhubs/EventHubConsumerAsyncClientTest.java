@@ -191,6 +191,34 @@ public class EventHubConsumerAsyncClientTest {
         verify(amqpReceiveLink, times(1)).addCredits(PREFETCH);
     }
 
+    /**
+     * Verifies that with adaptive prefetch, credits are topped up before the link runs out of credits.
+     */
+    @Test
+    public void adaptivePrefetchReplenishesBeforeCreditsRunOut() {
+        // Arrange
+        final int numberOfEvents = 10;
+        final EventHubConsumerAsyncClient adaptiveConsumer = new EventHubConsumerAsyncClient(HOSTNAME,
+            EVENT_HUB_NAME, linkProvider, messageSerializer, CONSUMER_GROUP, EventPosition.earliest(),
+            new EventHubConsumerOptions().setPrefetchCount(PREFETCH).setAdaptivePrefetch(true), false);
+
+        // A single credit left on the link is below the low-water mark of a quarter of the prefetch count.
+        when(amqpReceiveLink.getCredits()).thenReturn(1);
+
+        // Act & Assert
+        try {
+            StepVerifier.create(adaptiveConsumer.receive(PARTITION_ID).take(numberOfEvents))
+                .then(() -> sendMessages(numberOfEvents))
+                .expectNextCount(numberOfEvents)
+                .verifyComplete();
+        } finally {
+            adaptiveConsumer.close();
+        }
+
+        verify(amqpReceiveLink, times(1)).addCredits(PREFETCH);
+        verify(amqpReceiveLink, atLeastOnce()).addCredits(PREFETCH - 1);
+    }
+
     /**
      * Verifies that we can resubscribe to the receiver multiple times.
      */
@@ -3,9 +3,11 @@
 
 package com.azure.messaging.eventhubs;
 
+import com.azure.core.amqp.MessageConstant;
 import com.azure.core.exception.AzureException;
 import com.azure.messaging.eventhubs.implementation.ManagementChannel;
 import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.messaging.AmqpValue;
 import org.apache.qpid.proton.message.Message;
 import org.junit.Assert;
@@ -113,6 +115,60 @@ public class EventHubMessageSerializerTest {
         // Verifying the contents of our message is the same.
     }
 
+    /**
+     * Verify that the body of a deserialized {@link EventData} references the message contents rather than a copy.
+     */
+    @Test
+    public void deserializeEventDataDoesNotCopyBody() {
+        // Arrange
+        final byte[] contents = "hello-world".getBytes(UTF_8);
+        final Message message = getMessage(contents);
+
+        // Act
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Assert
+        Assert.assertTrue(eventData.getBody().hasArray());
+        Assert.assertSame(contents, eventData.getBody().array());
+        Assert.assertEquals(contents.length, eventData.getBody().remaining());
+    }
+
+    /**
+     * Verify that the AMQP message properties are added to the system properties when they are first accessed, after
+     * the message has been cleared.
+     */
+    @Test
+    public void deserializeEventDataDecodesMessageProperties() {
+        // Arrange
+        final String messageId = "my-message-id";
+        final String subject = "my-subject";
+        final Message message = getMessage("hello-world".getBytes(UTF_8));
+        message.setMessageId(messageId);
+        message.setSubject(subject);
+
+        // Act
+        final EventData eventData = serializer.deserialize(message, EventData.class);
+
+        // Assert
+        Assert.assertNull(message.getBody());
+        Assert.assertEquals(messageId, eventData.getSystemProperties().get(MessageConstant.MESSAGE_ID.getValue()));
+        Assert.assertEquals(subject, eventData.getSystemProperties().get(MessageConstant.SUBJECT.getValue()));
+        Assert.assertEquals(SEQUENCE_NUMBER, eventData.getSequenceNumber());
+    }
+
+    /**
+     * Verify that a message without an offset cannot be deserialized.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void deserializeEventDataRequiresOffset() {
+        // Arrange
+        final Message message = getMessage("hello-world".getBytes(UTF_8));
+        message.getMessageAnnotations().getValue().remove(Symbol.getSymbol(OFFSET_ANNOTATION_NAME.getValue()));
+
+        // Act
+        serializer.deserialize(message, EventData.class);
+    }
+
     /**
      * Verify we can deserialize a message to {@link PartitionProperties}.
      */
@@ -6,8 +6,10 @@ package com.azure.messaging.eventhubs;
 import static org.junit.Assert.assertNotNull;
 
 import com.azure.messaging.eventhubs.implementation.ClientConstants;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.util.Locale;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
@@ -66,4 +68,34 @@ public class EventProcessorBuilderTest {
         assertNotNull(eventProcessor);
     }
 
+    @Test
+    public void testEventProcessorBuilderWithLoadBalancingOptions() {
+        EventProcessor eventProcessor = new EventProcessorBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .consumerGroup("consumer-group")
+            .processEvent(partitionEvent -> Mono.empty())
+            .eventProcessorStore(new InMemoryEventProcessorStore())
+            .loadBalancingStrategy(LoadBalancingStrategy.GREEDY)
+            .loadBalancingInterval(Duration.ofSeconds(5))
+            .partitionOwnershipExpirationInterval(Duration.ofSeconds(30))
+            .buildEventProcessor();
+        assertNotNull(eventProcessor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEventProcessorBuilderInvalidLoadBalancingInterval() {
+        new EventProcessorBuilder().loadBalancingInterval(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEventProcessorBuilderOwnershipExpiresBeforeLoadBalancing() {
+        new EventProcessorBuilder()
+            .connectionString(CORRECT_CONNECTION_STRING)
+            .consumerGroup("consumer-group")
+            .processEvent(partitionEvent -> Mono.empty())
+            .eventProcessorStore(new InMemoryEventProcessorStore())
+            .loadBalancingInterval(Duration.ofSeconds(30))
+            .partitionOwnershipExpirationInterval(Duration.ofSeconds(10))
+            .buildEventProcessor();
+    }
 }
@@ -0,0 +1,229 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.messaging.eventhubs;
+
+import com.azure.core.amqp.implementation.TracerProvider;
+import com.azure.messaging.eventhubs.models.EventHubConsumerOptions;
+import com.azure.messaging.eventhubs.models.EventPosition;
+import com.azure.messaging.eventhubs.models.LoadBalancingStrategy;
+import com.azure.messaging.eventhubs.models.PartitionEvent;
+import com.azure.messaging.eventhubs.models.PartitionOwnership;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Simulates several {@link PartitionBasedLoadBalancer PartitionBasedLoadBalancers} sharing an
+ * {@link InMemoryEventProcessorStore}. Each simulated cycle advances the last enqueued sequence number of every
+ * partition by its ingress and then runs every load balancer once.
+ */
+public class PartitionBasedLoadBalancerSimulationTest {
+    private static final String FQ_NAMESPACE = "fq-namespace";
+    private static final String EVENT_HUB_NAME = "test-event-hub";
+    private static final String CONSUMER_GROUP_NAME = "test-consumer-group";
+
+    private final Map<String, AtomicLong> lastEnqueuedSequenceNumbers = new ConcurrentHashMap<>();
+    private final Map<String, Long> ingressPerCycle = new ConcurrentHashMap<>();
+    private final List<String> partitionIds = new ArrayList<>();
+    private SimulatedEventProcessorStore eventProcessorStore;
+
+    @Mock
+    private EventHubClientBuilder eventHubClientBuilder;
+
+    @Mock
+    private EventHubAsyncClient eventHubAsyncClient;
+
+    @Mock
+    private EventHubConsumerAsyncClient eventHubConsumer;
+
+    @Mock
+    private TracerProvider tracerProvider;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+
+        eventProcessorStore = new SimulatedEventProcessorStore();
+        when(eventHubClientBuilder.buildAsyncClient()).thenReturn(eventHubAsyncClient);
+        when(eventHubAsyncClient.getPartitionIds()).thenAnswer(invocation -> Flux.fromIterable(partitionIds));
+        when(eventHubAsyncClient.getPartitionProperties(anyString())).thenAnswer(invocation -> {
+            final String partitionId = invocation.getArgument(0);
+            final long sequenceNumber = lastEnqueuedSequenceNumbers.get(partitionId).get();
+            return Mono.just(new PartitionProperties(EVENT_HUB_NAME, partitionId, 0, sequenceNumber,
+                String.valueOf(sequenceNumber), Instant.now(), false));
+        });
+        when(eventHubAsyncClient.createConsumer(anyString(), any(EventPosition.class),
+            any(EventHubConsumerOptions.class))).thenReturn(eventHubConsumer);
+        when(eventHubConsumer.receive(anyString())).thenReturn(Flux.never());
+    }
+
+    @After
+    public void teardown() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    /**
+     * Verifies that a single event processor claims every partition in one cycle with the greedy strategy, and one
+     * partition per cycle with the balanced strategy.
+     */
+    @Test
+    public void greedyClaimsAllPartitionsInOneCycle() {
+        addPartitions(32, 0, 0);
+
+        final List<PartitionBasedLoadBalancer> balanced = createLoadBalancers(1, LoadBalancingStrategy.BALANCED);
+        runCycle(balanced);
+        assertEquals(1, listOwnership().size());
+
+        eventProcessorStore = new SimulatedEventProcessorStore();
+        final List<PartitionBasedLoadBalancer> greedy = createLoadBalancers(1, LoadBalancingStrategy.GREEDY);
+        runCycle(greedy);
+        assertEquals(32, listOwnership().size());
+    }
+
+    /**
+     * Verifies that scaling out from 2 to 4 event processors over 32 partitions converges in fewer cycles with the
+     * greedy strategy than with the balanced strategy.
+     */
+    @Test
+    public void greedyScaleOutConvergesFaster() {
+        addPartitions(32, 0, 0);
+
+        final int balancedCycles = cyclesToScaleOut(LoadBalancingStrategy.BALANCED);
+        eventProcessorStore = new SimulatedEventProcessorStore();
+        final int greedyCycles = cyclesToScaleOut(LoadBalancingStrategy.GREEDY);
+
+        assertTrue("Greedy took " + greedyCycles + " cycles, balanced took " + balancedCycles,
+            greedyCycles < balancedCycles);
+        assertTrue("Greedy took " + greedyCycles + " cycles", greedyCycles <= 3);
+    }
+
+    /**
+     * Verifies that partitions with high ingress are not co-located when the ingress is known before partitions are
+     * claimed.
+     */
+    @Test
+    public void hotPartitionsAreSpread() {
+        addPartitions(28, 1, 0);
+        addPartitions(4, 1000, 28);
+
+        final List<PartitionBasedLoadBalancer> loadBalancers = createLoadBalancers(4, LoadBalancingStrategy.GREEDY);
+
+        // Sample the ingress twice while claims are rejected, as if another event processor held the partitions.
+        eventProcessorStore.acceptClaims = false;
+        runCycle(loadBalancers);
+        runCycle(loadBalancers);
+        eventProcessorStore.acceptClaims = true;
+
+        assertTrue("Load was not balanced", runUntilBalanced(loadBalancers, 10) <= 10);
+
+        final Map<String, Long> hotPartitionsPerOwner = listOwnership().stream()
+            .filter(ownership -> ingressPerCycle.get(ownership.getPartitionId()) > 1)
+            .collect(Collectors.groupingBy(PartitionOwnership::getOwnerId, Collectors.counting()));
+        assertEquals(hotPartitionsPerOwner.toString(), 4, hotPartitionsPerOwner.size());
+        hotPartitionsPerOwner.values().forEach(count -> assertEquals(1L, (long) count));
+    }
+
+    private int cyclesToScaleOut(LoadBalancingStrategy strategy) {
+        final List<PartitionBasedLoadBalancer> loadBalancers = createLoadBalancers(2, strategy);
+        runUntilBalanced(loadBalancers, 64);
+
+        loadBalancers.addAll(createLoadBalancers(2, strategy));
+        return runUntilBalanced(loadBalancers, 64);
+    }
+
+    private void addPartitions(int count, long ingress, int firstId) {
+        IntStream.range(firstId, firstId + count).mapToObj(String::valueOf).forEach(partitionId -> {
+            partitionIds.add(partitionId);
+            lastEnqueuedSequenceNumbers.put(partitionId, new AtomicLong());
+            ingressPerCycle.put(partitionId, ingress);
+        });
+    }
+
+    private List<PartitionBasedLoadBalancer> createLoadBalancers(int count, LoadBalancingStrategy strategy) {
+        final String prefix = "owner-" + strategy + "-" + System.nanoTime() + "-";
+        return IntStream.range(0, count)
+            .mapToObj(index -> {
+                final PartitionPumpManager partitionPumpManager = new PartitionPumpManager(eventProcessorStore,
+                    () -> new PartitionProcessor() {
+                        @Override
+                        public Mono<Void> processEvent(PartitionEvent partitionEvent) {
+                            return Mono.empty();
+                        }
+                    }, EventPosition.earliest(), eventHubClientBuilder, tracerProvider);
+                return new PartitionBasedLoadBalancer(eventProcessorStore, eventHubAsyncClient, FQ_NAMESPACE,
+                    EVENT_HUB_NAME, CONSUMER_GROUP_NAME, prefix + index, TimeUnit.MINUTES.toSeconds(1),
+                    partitionPumpManager, strategy, Duration.ofSeconds(10), Duration.ZERO);
+            })
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /*
+     * Runs cycles until every partition is owned and the number of partitions owned by the load balancers differs by
+     * at most one. Returns the number of cycles run.
+     */
+    private int runUntilBalanced(List<PartitionBasedLoadBalancer> loadBalancers, int maximumCycles) {
+        int cycles = 0;
+        while (cycles < maximumCycles) {
+            runCycle(loadBalancers);
+            cycles++;
+
+            final List<PartitionOwnership> ownership = listOwnership();
+            final Map<String, Long> partitionsPerOwner = ownership.stream()
+                .collect(Collectors.groupingBy(PartitionOwnership::getOwnerId, Collectors.counting()));
+            if (ownership.size() == partitionIds.size() && partitionsPerOwner.size() == loadBalancers.size()
+                && Collections.max(partitionsPerOwner.values()) - Collections.min(partitionsPerOwner.values()) <= 1) {
+                return cycles;
+            }
+        }
+        return maximumCycles + 1;
+    }
+
+    private void runCycle(List<PartitionBasedLoadBalancer> loadBalancers) {
+        ingressPerCycle.forEach((partitionId, ingress) -> lastEnqueuedSequenceNumbers.get(partitionId)
+            .addAndGet(ingress));
+        loadBalancers.forEach(PartitionBasedLoadBalancer::loadBalance);
+    }
+
+    private List<PartitionOwnership> listOwnership() {
+        return eventProcessorStore.listOwnership(FQ_NAMESPACE, EVENT_HUB_NAME, CONSUMER_GROUP_NAME)
+            .collectList()
+            .block();
+    }
+
+    /**
+     * An in-memory store that can reject every ownership claim, as if another event processor had claimed the
+     * partitions first.
+     */
+    private static final class SimulatedEventProcessorStore extends InMemoryEventProcessorStore {
+        private volatile boolean acceptClaims = true;
+
+        @Override
+        public Flux<PartitionOwnership> claimOwnership(PartitionOwnership... requestedPartitionOwnerships) {
+            return acceptClaims ? super.claimOwnership(requestedPartitionOwnerships) : Flux.empty();
+        }
+    }
+}
@@ -99,4 +99,25 @@ public class EventHubConsumerClientOptionsTest {
         // Assert
         Assert.assertEquals(Long.valueOf(ownerLevel), options.getOwnerLevel());
     }
+
+    @Test
+    public void invalidMaxBufferedBytes() {
+        // Arrange
+        final EventHubConsumerOptions options = new EventHubConsumerOptions()
+            .setAdaptivePrefetch(true)
+            .setMaxBufferedBytes(1024L);
+
+        // Act
+        try {
+            options.setMaxBufferedBytes(0L);
+            Assert.fail("Setting this should have failed.");
+        } catch (IllegalArgumentException e) {
+            // This is what we expect.
+        }
+
+        // Assert
+        Assert.assertTrue(options.getAdaptivePrefetch());
+        Assert.assertEquals(Long.valueOf(1024L), options.getMaxBufferedBytes());
+        Assert.assertEquals(Long.valueOf(1024L), options.clone().getMaxBufferedBytes());
+    }
 }
@@ -206,10 +206,17 @@ class AzureStorageCheckpointLeaseManager implements ICheckpointManager, ILeaseMa
         updatedLease.setOffset(checkpoint.getOffset());
         updatedLease.setSequenceNumber(checkpoint.getSequenceNumber());
 
+        Checkpoint cached = this.latestCheckpoint.get(checkpoint.getPartitionId()); // HASHTABLE
+        if ((cached != null) && (cached.getSequenceNumber() == checkpoint.getSequenceNumber()) && checkpoint.getOffset().equals(cached.getOffset())) {
+            // This position was already written, for example by an earlier checkpoint on the same batch
+            TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(checkpoint.getPartitionId(), "Checkpoint unchanged, skipping write"));
+            return CompletableFuture.completedFuture(null);
+        }
+
         CompletableFuture<Void> future = null;
 
         try {
-            if (updateLeaseInternal(updatedLease, this.checkpointOperationOptions)) {
+            if (updateCheckpointInternal(updatedLease)) {
                 future = CompletableFuture.completedFuture(null);
             } else {
                 TRACE_LOGGER.warn(this.hostContext.withHostAndPartition(lease, "Lease lost"));
@@ -226,6 +233,27 @@ class AzureStorageCheckpointLeaseManager implements ICheckpointManager, ILeaseMa
         return future;
     }
 
+    private boolean updateCheckpointInternal(AzureBlobLease lease) throws StorageException, IOException {
+        String token = lease.getToken();
+        if ((token == null) || (token.length() == 0)) {
+            return false;
+        }
+
+        // The lease condition already makes the upload fail if this host does not hold the lease, so try it without
+        // renewing the lease first. That is one storage request per checkpoint instead of two. The pump renews the
+        // lease on its own schedule; only if the upload reports the lease as lost, for example because it expired,
+        // fall back to renewing and uploading.
+        try {
+            uploadLease(lease, lease.getBlob(), AccessCondition.generateLeaseCondition(token), UploadActivity.Update, this.checkpointOperationOptions);
+            return true;
+        } catch (StorageException se) {
+            if (wasLeaseLost(se, lease.getPartitionId())) {
+                return updateLeaseInternal(lease, this.checkpointOperationOptions);
+            }
+            throw se;
+        }
+    }
+
     @Override
     public CompletableFuture<Void> deleteCheckpoint(String partitionId) {
         // Not currently used by EventProcessorHost.
@@ -328,8 +356,13 @@ class AzureStorageCheckpointLeaseManager implements ICheckpointManager, ILeaseMa
         AzureBlobLease retval = null;
 
         CloudBlockBlob leaseBlob = this.consumerGroupDirectory.getBlockBlobReference(partitionId); // getBlockBlobReference does not take options
-        if (leaseBlob.exists(null, options, null)) {
+        try {
+            // Download directly instead of checking existence first, which would cost a second request
             retval = downloadLease(leaseBlob, options);
+        } catch (StorageException se) {
+            if (se.getHttpStatusCode() != 404) { // not found
+                throw se;
+            }
         }
 
         return retval;
@@ -676,6 +709,7 @@ class AzureStorageCheckpointLeaseManager implements ICheckpointManager, ILeaseMa
 
     private void uploadLease(AzureBlobLease lease, CloudBlockBlob blob, AccessCondition condition, UploadActivity activity, BlobRequestOptions options)
             throws StorageException, IOException {
+        boolean cacheCheckpoint = false;
         if (activity != UploadActivity.Create) {
             // It is possible for AzureBlobLease objects in memory to have stale offset/sequence number fields if a
             // checkpoint was written but PartitionManager hasn't done its ten-second sweep which downloads new copies
@@ -690,12 +724,16 @@ class AzureStorageCheckpointLeaseManager implements ICheckpointManager, ILeaseMa
                 TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(lease,
                         "Replacing stale offset/seqno while uploading lease"));
             } else if (lease.getOffset() != null) {
-                this.latestCheckpoint.put(lease.getPartitionId(), lease.getCheckpoint());
+                cacheCheckpoint = true;
             }
         }
 
         String jsonLease = this.gson.toJson(lease);
         blob.uploadText(jsonLease, null, condition, options, null);
+        if (cacheCheckpoint) {
+            // Only cache after the upload succeeded, updateCheckpoint skips writing positions found in the cache
+            this.latestCheckpoint.put(lease.getPartitionId(), lease.getCheckpoint());
+        }
         // During create, we blindly try upload and it may throw. Doing the logging after the upload
         // avoids a spurious trace in that case.
         TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(lease,
@@ -9,7 +9,10 @@ import com.microsoft.azure.eventhubs.ReceiverRuntimeInformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /***
@@ -28,6 +31,12 @@ public class PartitionContext {
     private long sequenceNumber = 0;
     private ReceiverRuntimeInformation runtimeInformation;
 
+    // State for combining checkpoint() calls made within the minimum checkpoint interval
+    private final Object checkpointSynchronizer = new Object();
+    private Instant lastCheckpointWrittenAt = Instant.EPOCH;
+    private Checkpoint pendingCheckpoint = null;
+    private CompletableFuture<Void> pendingCheckpointFuture = null;
+
     PartitionContext(HostContext hostContext, String partitionId) {
         this.hostContext = hostContext;
         this.partitionId = partitionId;
@@ -142,6 +151,10 @@ public class PartitionContext {
      * If receiving started from a user-provided EventPosition and no events have been received yet,
      * then this will fail. (This scenario is possible when invoke-after-receive-timeout has been set
      * in EventProcessorOptions.)
+     * <p>
+     * If a minimum checkpoint interval has been set in PartitionManagerOptions, calls made within the
+     * interval of the last write are combined: the position at the time of the last call is written once
+     * the interval has passed, and all of the combined calls complete when it has been persisted.
      *
      * @return CompletableFuture {@literal ->} null when the checkpoint has been persisted successfully, completes exceptionally on error.
      */
@@ -152,11 +165,66 @@ public class PartitionContext {
             result.completeExceptionally(new RuntimeException("Cannot checkpoint until at least one event has been received on this partition"));
         } else {
             Checkpoint capturedCheckpoint = new Checkpoint(this.partitionId, this.offset, this.sequenceNumber);
-            result = checkpoint(capturedCheckpoint);
+            int minimumInterval = this.hostContext.getPartitionManagerOptions().getMinimumCheckpointIntervalInSeconds();
+            result = (minimumInterval > 0) ? coalesceCheckpoint(capturedCheckpoint, Duration.ofSeconds(minimumInterval)) : checkpoint(capturedCheckpoint);
         }
         return result;
     }
 
+    private CompletableFuture<Void> coalesceCheckpoint(Checkpoint checkpoint, Duration minimumInterval) {
+        synchronized (this.checkpointSynchronizer) {
+            if (this.pendingCheckpointFuture != null) {
+                // A write is already scheduled, make it write the newer position
+                this.pendingCheckpoint = checkpoint;
+                return this.pendingCheckpointFuture;
+            }
+
+            Instant now = Instant.now();
+            Duration delay = minimumInterval.minus(Duration.between(this.lastCheckpointWrittenAt, now));
+            if (delay.isNegative() || delay.isZero()) {
+                this.lastCheckpointWrittenAt = now;
+            } else {
+                TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(this.partitionId, "Delaying checkpoint by " + delay.toMillis() + "ms"));
+                this.pendingCheckpoint = checkpoint;
+                this.pendingCheckpointFuture = new CompletableFuture<Void>();
+                this.hostContext.getExecutor().schedule(() -> flushPendingCheckpoint(), delay.toMillis(), TimeUnit.MILLISECONDS);
+                return this.pendingCheckpointFuture;
+            }
+        }
+
+        return checkpoint(checkpoint);
+    }
+
+    // Writes the checkpoint delayed by checkpoint(), if any. Called when the minimum interval has passed and
+    // when the pump shuts down, so that a position checkpointed in onClose is not lost.
+    CompletableFuture<Void> flushPendingCheckpoint() {
+        Checkpoint toWrite = null;
+        CompletableFuture<Void> writeFuture = null;
+        synchronized (this.checkpointSynchronizer) {
+            toWrite = this.pendingCheckpoint;
+            writeFuture = this.pendingCheckpointFuture;
+            this.pendingCheckpoint = null;
+            this.pendingCheckpointFuture = null;
+            if (toWrite != null) {
+                this.lastCheckpointWrittenAt = Instant.now();
+            }
+        }
+
+        if (toWrite == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> capturedWriteFuture = writeFuture;
+        checkpoint(toWrite).whenComplete((empty, e) -> {
+            if (e == null) {
+                capturedWriteFuture.complete(null);
+            } else {
+                capturedWriteFuture.completeExceptionally(e);
+            }
+        });
+        return capturedWriteFuture;
+    }
+
     /**
      * Writes the position of the provided EventData instance to the checkpoint store via the checkpoint manager.
      * <p>
@@ -29,6 +29,17 @@ public class PartitionManagerOptions {
     public static final int DefaultFastScanIntervalInSeconds = 3;
     public static final int DefaultSlowScanIntervalInSeconds = 5;
 
+    /**
+     * The default maximum number of leases that a partition scan reads, acquires or steals at the same time.
+     */
+    public static final int DefaultMaxConcurrentLeaseOperations = 16;
+
+    /**
+     * The default minimum interval between checkpoints written by PartitionContext.checkpoint(). Zero means that
+     * every call writes a checkpoint.
+     */
+    public static final int DefaultMinimumCheckpointIntervalInSeconds = 0;
+
     protected int leaseDurationInSeconds = PartitionManagerOptions.DefaultLeaseDurationInSeconds;
     protected int leaseRenewIntervalInSeconds = PartitionManagerOptions.DefaultLeaseRenewIntervalInSeconds;
     protected int checkpointTimeoutInSeconds = PartitionManagerOptions.DefaultCheckpointTimeoutInSeconds;
@@ -37,6 +48,9 @@ public class PartitionManagerOptions {
     protected int fastScanIntervalInSeconds = PartitionManagerOptions.DefaultFastScanIntervalInSeconds;
     protected int slowScanIntervalInSeconds = PartitionManagerOptions.DefaultSlowScanIntervalInSeconds;
 
+    protected int maxConcurrentLeaseOperations = PartitionManagerOptions.DefaultMaxConcurrentLeaseOperations;
+    protected int minimumCheckpointIntervalInSeconds = PartitionManagerOptions.DefaultMinimumCheckpointIntervalInSeconds;
+
     /***
      * The base class automatically sets members to the static defaults.
      */
@@ -183,4 +197,53 @@ public class PartitionManagerOptions {
         }
         this.slowScanIntervalInSeconds = interval;
     }
+
+    /**
+     * Gets the maximum number of leases that a partition scan reads, acquires or steals at the same time.
+     * Defaults to DefaultMaxConcurrentLeaseOperations.
+     *
+     * @return maximum number of concurrent lease operations
+     */
+    public int getMaxConcurrentLeaseOperations() {
+        return this.maxConcurrentLeaseOperations;
+    }
+
+    /**
+     * Sets the maximum number of leases that a partition scan reads, acquires or steals at the same time.
+     * Must be greater than 0.
+     *
+     * @param maxConcurrentLeaseOperations  new maximum number of concurrent lease operations
+     */
+    public void setMaxConcurrentLeaseOperations(int maxConcurrentLeaseOperations) {
+        if (maxConcurrentLeaseOperations <= 0) {
+            throw new IllegalArgumentException("Max concurrent lease operations must be greater than 0");
+        }
+        this.maxConcurrentLeaseOperations = maxConcurrentLeaseOperations;
+    }
+
+    /**
+     * Gets the minimum interval between checkpoints written by PartitionContext.checkpoint(). Calls made within
+     * the interval of the last write are combined, and only the latest position is written once the interval
+     * has passed. Checkpoints passed explicitly to PartitionContext are always written immediately.
+     * 
+     * Defaults to DefaultMinimumCheckpointIntervalInSeconds.
+     * 
+     * @return minimum checkpoint interval in seconds
+     */
+    public int getMinimumCheckpointIntervalInSeconds() {
+        return this.minimumCheckpointIntervalInSeconds;
+    }
+
+    /**
+     * Sets the minimum interval between checkpoints written by PartitionContext.checkpoint(). Zero disables
+     * combining checkpoints.
+     * 
+     * @param interval  new minimum checkpoint interval in seconds
+     */
+    public void setMinimumCheckpointIntervalInSeconds(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Minimum checkpoint interval must not be negative");
+        }
+        this.minimumCheckpointIntervalInSeconds = interval;
+    }
 }
@@ -57,6 +57,7 @@ class PartitionPump extends Closable implements PartitionReceiveHandler {
                     return cancelPendingOperations();
                 }, this.hostContext.getExecutor())
                 .thenComposeAsync((empty) -> cleanUpAll(this.shutdownReason), this.hostContext.getExecutor())
+                .thenComposeAsync((empty) -> flushCheckpointOnShutdown(), this.hostContext.getExecutor())
                 .thenComposeAsync((empty) -> releaseLeaseOnShutdown(), this.hostContext.getExecutor())
                 .whenCompleteAsync((empty, e) -> {
                     setClosed();
@@ -347,6 +348,18 @@ class PartitionPump extends Closable implements PartitionReceiveHandler {
         return null;
     }
 
+    private CompletableFuture<Void> flushCheckpointOnShutdown() { // swallows all exceptions
+        // Checkpoints delayed by the minimum checkpoint interval must be written while the lease is still held
+        return this.partitionContext.flushPendingCheckpoint()
+                .handleAsync((empty, e) -> {
+                    if (e != null) {
+                        TRACE_LOGGER.warn(this.hostContext.withHostAndPartition(this.partitionContext,
+                                "Failure writing delayed checkpoint on pump shutdown"), LoggingUtils.unwrapException(e, null));
+                    }
+                    return null; // stop propagation of exceptions
+                }, this.hostContext.getExecutor());
+    }
+
     private CompletableFuture<Void> releaseLeaseOnShutdown() { // swallows all exceptions
         CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
 
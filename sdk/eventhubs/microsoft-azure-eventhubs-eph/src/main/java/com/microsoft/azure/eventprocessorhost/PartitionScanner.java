@@ -14,9 +14,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 class PartitionScanner extends Closable {
     private static final Logger TRACE_LOGGER = LoggerFactory.getLogger(PartitionScanner.class);
@@ -183,38 +186,30 @@ class PartitionScanner extends Closable {
             resultFuture = findExpiredLeases(startAt, endAt)
                     .thenComposeAsync((getThese) -> {
                         throwIfClosingOrClosed("PartitionScanner is shutting down");
-                        CompletableFuture<Void> acquireFuture = CompletableFuture.completedFuture(null);
-                        if (getThese.size() > 0) {
-                            ArrayList<CompletableFuture<Void>> getFutures = new ArrayList<CompletableFuture<Void>>();
-                            for (BaseLease info : getThese) {
-                                throwIfClosingOrClosed("PartitionScanner is shutting down");
-                                final AcquisitionHolder holder = new AcquisitionHolder();
-                                CompletableFuture<Void> getOneFuture = this.hostContext.getLeaseManager().getLease(info.getPartitionId())
-                                        .thenComposeAsync((lease) -> {
-                                            throwIfClosingOrClosed("PartitionScanner is shutting down");
-                                            holder.setAcquiredLease(lease);
-                                            return this.hostContext.getLeaseManager().acquireLease(lease);
-                                        }, this.hostContext.getExecutor())
-                                        .thenAcceptAsync((acquired) -> {
-                                            throwIfClosingOrClosed("PartitionScanner is shutting down");
-                                            if (acquired) {
-                                                runningNeeded.decrementAndGet();
-                                                TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(holder.getAcquiredLease().getPartitionId(), "Acquired unowned/expired"));
-                                                if (this.leasesOwnedByOthers.containsKey(holder.getAcquiredLease().getPartitionId())) {
-                                                    this.leasesOwnedByOthers.remove(holder.getAcquiredLease().getPartitionId());
-                                                    this.unownedCount--;
-                                                }
-                                                this.addPump.accept(holder.getAcquiredLease());
-                                            } else {
-                                                this.leasesOwnedByOthers.put(holder.getAcquiredLease().getPartitionId(), holder.getAcquiredLease());
+                        return forEachLeaseBounded(getThese, (info) -> {
+                            throwIfClosingOrClosed("PartitionScanner is shutting down");
+                            final AcquisitionHolder holder = new AcquisitionHolder();
+                            return this.hostContext.getLeaseManager().getLease(info.getPartitionId())
+                                    .thenComposeAsync((lease) -> {
+                                        throwIfClosingOrClosed("PartitionScanner is shutting down");
+                                        holder.setAcquiredLease(lease);
+                                        return this.hostContext.getLeaseManager().acquireLease(lease);
+                                    }, this.hostContext.getExecutor())
+                                    .thenAcceptAsync((acquired) -> {
+                                        throwIfClosingOrClosed("PartitionScanner is shutting down");
+                                        if (acquired) {
+                                            runningNeeded.decrementAndGet();
+                                            TRACE_LOGGER.debug(this.hostContext.withHostAndPartition(holder.getAcquiredLease().getPartitionId(), "Acquired unowned/expired"));
+                                            if (this.leasesOwnedByOthers.containsKey(holder.getAcquiredLease().getPartitionId())) {
+                                                this.leasesOwnedByOthers.remove(holder.getAcquiredLease().getPartitionId());
+                                                this.unownedCount--;
                                             }
-                                        }, this.hostContext.getExecutor());
-                                getFutures.add(getOneFuture);
-                            }
-                            CompletableFuture<?>[] dummy = new CompletableFuture<?>[getFutures.size()];
-                            acquireFuture = CompletableFuture.allOf(getFutures.toArray(dummy));
-                        }
-                        return acquireFuture;
+                                            this.addPump.accept(holder.getAcquiredLease());
+                                        } else {
+                                            this.leasesOwnedByOthers.put(holder.getAcquiredLease().getPartitionId(), holder.getAcquiredLease());
+                                        }
+                                    }, this.hostContext.getExecutor());
+                        });
                     }, this.hostContext.getExecutor())
                     .handleAsync((empty, e) -> {
                         // log/notify if exception occurred, then swallow exception and continue with next chunk
@@ -285,12 +280,11 @@ class PartitionScanner extends Closable {
         CompletableFuture<Boolean> allSteals = CompletableFuture.completedFuture(false);
 
         if (stealThese.size() > 0) {
-            ArrayList<CompletableFuture<Void>> steals = new ArrayList<CompletableFuture<Void>>();
-            for (BaseLease info : stealThese) {
+            allSteals = forEachLeaseBounded(stealThese, (info) -> {
                 throwIfClosingOrClosed("PartitionScanner is shutting down");
 
                 final AcquisitionHolder holder = new AcquisitionHolder();
-                CompletableFuture<Void> oneSteal = this.hostContext.getLeaseManager().getLease(info.getPartitionId())
+                return this.hostContext.getLeaseManager().getLease(info.getPartitionId())
                     .thenComposeAsync((lease) -> {
                         throwIfClosingOrClosed("PartitionScanner is shutting down");
                         holder.setAcquiredLease(lease);
@@ -303,16 +297,45 @@ class PartitionScanner extends Closable {
                             this.addPump.accept(holder.getAcquiredLease());
                         }
                     }, this.hostContext.getExecutor());
-                steals.add(oneSteal);
-            }
-
-            CompletableFuture<?>[] dummy = new CompletableFuture<?>[steals.size()];
-            allSteals = CompletableFuture.allOf(steals.toArray(dummy)).thenApplyAsync((empty) -> true, this.hostContext.getExecutor());
+            }).thenApplyAsync((empty) -> true, this.hostContext.getExecutor());
         }
 
         return allSteals;
     }
 
+    // Runs the operation for each lease, at most PartitionManagerOptions.getMaxConcurrentLeaseOperations() at a time.
+    // Lease manager implementations such as AzureStorageCheckpointLeaseManager do their storage calls before returning
+    // a completed future, so each operation is started on the executor to make the storage calls actually overlap.
+    // An operation failing does not stop the others; the result completes exceptionally with the first failure.
+    private CompletableFuture<Void> forEachLeaseBounded(List<BaseLease> leases, Function<BaseLease, CompletableFuture<Void>> operation) {
+        final int maxConcurrent = this.hostContext.getPartitionManagerOptions().getMaxConcurrentLeaseOperations();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<Throwable>();
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (int startAt = 0; startAt < leases.size(); startAt += maxConcurrent) {
+            final List<BaseLease> window = leases.subList(startAt, Math.min(startAt + maxConcurrent, leases.size()));
+            result = result.thenComposeAsync((empty) -> {
+                ArrayList<CompletableFuture<Void>> windowFutures = new ArrayList<CompletableFuture<Void>>();
+                for (BaseLease info : window) {
+                    windowFutures.add(CompletableFuture.supplyAsync(() -> operation.apply(info), this.hostContext.getExecutor())
+                            .thenCompose((operationFuture) -> operationFuture)
+                            .exceptionally((e) -> {
+                                firstFailure.compareAndSet(null, e);
+                                return null;
+                            }));
+                }
+                CompletableFuture<?>[] dummy = new CompletableFuture<?>[windowFutures.size()];
+                return CompletableFuture.allOf(windowFutures.toArray(dummy));
+            }, this.hostContext.getExecutor());
+        }
+
+        return result.thenRun(() -> {
+            Throwable failure = firstFailure.get();
+            if (failure != null) {
+                throw (failure instanceof CompletionException) ? (CompletionException) failure : new CompletionException(failure);
+            }
+        });
+    }
+
     private static class AcquisitionHolder {
         private CompleteLease acquiredLease;
 
@@ -9,11 +9,14 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class CheckpointManagerTest extends TestBase {
@@ -41,6 +44,42 @@ public class CheckpointManagerTest extends TestBase {
         twoManagerCheckpointSmokeTest(true, 8);
     }
 
+    @Test
+    public void inMemoryCoalescedCheckpointTest() throws Exception {
+        this.leaseManagers = new ILeaseManager[1];
+        this.checkpointManagers = new ICheckpointManager[1];
+        this.hosts = new EventProcessorHost[1];
+        setupOneManager(false, 0, "coalesce", generateContainerName("coalesce"));
+        this.hosts[0].getPartitionManagerOptions().setMinimumCheckpointIntervalInSeconds(2);
+
+        this.checkpointManagers[0].createCheckpointStoreIfNotExists().get();
+        ArrayList<String> partitionIds = new ArrayList<String>();
+        partitionIds.add("0");
+        this.checkpointManagers[0].createAllCheckpointsIfNotExists(partitionIds).get();
+
+        PartitionContext context = new PartitionContext(this.hosts[0].getHostContext(), "0");
+        TestBase.logInfo("First checkpoint is written immediately");
+        context.checkpointToOffset(new Checkpoint("0", "100", 10));
+        context.checkpoint().get();
+        assertEquals(10, this.checkpointManagers[0].getCheckpoint("0").get().getSequenceNumber());
+
+        TestBase.logInfo("Checkpoints within the interval are combined");
+        context.checkpointToOffset(new Checkpoint("0", "200", 20));
+        CompletableFuture<Void> second = context.checkpoint();
+        context.checkpointToOffset(new Checkpoint("0", "300", 30));
+        CompletableFuture<Void> third = context.checkpoint();
+        assertSame("checkpoints within the interval were not combined", second, third);
+        assertFalse("combined checkpoint was written before the interval passed", third.isDone());
+        assertEquals(10, this.checkpointManagers[0].getCheckpoint("0").get().getSequenceNumber());
+
+        third.get(10, TimeUnit.SECONDS);
+        Checkpoint written = this.checkpointManagers[0].getCheckpoint("0").get();
+        assertEquals("latest position was not written", "300", written.getOffset());
+        assertEquals(30, written.getSequenceNumber());
+
+        this.checkpointManagers[0].deleteCheckpointStore().get();
+    }
+
     public void singleManagerCheckpointSmokeTest(boolean useAzureStorage, int partitionCount) throws Exception {
         this.leaseManagers = new ILeaseManager[1];
         this.checkpointManagers = new ICheckpointManager[1];
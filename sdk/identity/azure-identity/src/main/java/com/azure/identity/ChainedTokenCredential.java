@@ -9,14 +9,26 @@ import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * A token credential provider that can provide a credential from a list of providers.
  *
+ * <p>The credentials are tried in order, and the first one to acquire a token is used for the following token
+ * requests. Should it fail later, the credentials are tried in order again. If a probe timeout is configured, all the
+ * credentials are tried concurrently instead, each for at most the timeout, and the token of the first credential in
+ * the list that acquires one is returned.</p>
+ *
  * <p><strong>Sample: Construct a ChainedTokenCredential with silent username+password login tried first, then
  * interactive browser login as needed (e.g. when 2FA is turned on in the directory).</strong></p>
  * {@codesnippet com.azure.identity.credential.chainedtokencredential.construct}
@@ -24,30 +36,68 @@ import java.util.stream.Collectors;
 @Immutable
 public class ChainedTokenCredential implements TokenCredential {
     private final Deque<TokenCredential> credentials;
+    private final Duration probeTimeout;
+    private final AtomicReference<TokenCredential> selectedCredential = new AtomicReference<>();
 
     /**
      * Create an instance of chained token credential that aggregates a list of token
      * credentials.
      */
     ChainedTokenCredential(Deque<TokenCredential> credentials) {
+        this(credentials, null);
+    }
+
+    /**
+     * Create an instance of chained token credential that aggregates a list of token
+     * credentials, and tries them concurrently for at most {@code probeTimeout} each if it's not null.
+     */
+    ChainedTokenCredential(Deque<TokenCredential> credentials, Duration probeTimeout) {
         this.credentials = credentials;
+        this.probeTimeout = probeTimeout;
     }
 
     @Override
     public Mono<AccessToken> getToken(TokenRequestContext request) {
-        AtomicReference<Throwable> cause = new AtomicReference<>();
-        return Flux.fromIterable(credentials)
-            .flatMap(p -> p.getToken(request).onErrorResume(t -> {
-                if (cause.get() != null) {
-                    t.initCause(cause.get());
-                }
-                cause.set(t);
-                return Mono.empty();
-            }))
+        TokenCredential selected = selectedCredential.get();
+        if (selected == null) {
+            return probe(request);
+        }
+        return selected.getToken(request).onErrorResume(t -> {
+            selectedCredential.compareAndSet(selected, null);
+            return probe(request);
+        });
+    }
+
+    private Mono<AccessToken> probe(TokenRequestContext request) {
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Flux<Mono<Tuple2<TokenCredential, AccessToken>>> attempts = Flux.fromIterable(credentials)
+            .map(p -> {
+                // Credentials like ManagedIdentityCredential block the subscribing thread, so concurrent probes are
+                // each subscribed on their own thread for the timeout to apply while they're blocked.
+                Mono<AccessToken> token = probeTimeout == null ? p.getToken(request)
+                    : p.getToken(request).subscribeOn(Schedulers.elastic()).timeout(probeTimeout);
+                return token.map(accessToken -> Tuples.of(p, accessToken)).onErrorResume(t -> {
+                    failures.add(t);
+                    return Mono.empty();
+                });
+            });
+        // mergeSequential subscribes to every credential at once but still emits in the order of the list.
+        return (probeTimeout == null ? Flux.concat(attempts) : Flux.mergeSequential(attempts))
             .next()
-            .switchIfEmpty(Mono.defer(() -> Mono.error(new RuntimeException("Tried "
-                + credentials.stream().map(c -> c.getClass().getSimpleName()).collect(Collectors.joining(", "))
-                + " but failed to acquire a token for any of them. Please verify the environment for either of them"
-                + " and see more details in the causes below.", cause.get()))));
+            .map(attempt -> {
+                selectedCredential.set(attempt.getT1());
+                return attempt.getT2();
+            })
+            .switchIfEmpty(Mono.defer(() -> {
+                RuntimeException exception = new RuntimeException("Tried "
+                    + credentials.stream().map(c -> c.getClass().getSimpleName()).collect(Collectors.joining(", "))
+                    + " but failed to acquire a token for any of them. Please verify the environment for either of"
+                    + " them and see more details in the suppressed exceptions below.");
+                // The failures may be shared with other callers, so they're attached rather than chained as causes.
+                synchronized (failures) {
+                    failures.forEach(exception::addSuppressed);
+                }
+                return Mono.error(exception);
+            }));
     }
 }
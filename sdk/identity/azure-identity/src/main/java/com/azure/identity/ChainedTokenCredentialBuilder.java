@@ -5,6 +5,7 @@ package com.azure.identity;
 
 import com.azure.core.credential.TokenCredential;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -15,6 +16,7 @@ import java.util.Deque;
  */
 public class ChainedTokenCredentialBuilder {
     private final Deque<TokenCredential> credentials;
+    private Duration probeTimeout;
 
     /**
      * Creates an instance of the builder to config the credential.
@@ -44,12 +46,26 @@ public class ChainedTokenCredentialBuilder {
         return this;
     }
 
+    /**
+     * Tries all the credentials concurrently on the first token request, instead of one after another, and gives each
+     * of them at most {@code probeTimeout} to acquire a token. The token of the first credential in the chain that
+     * acquires one is returned, and the credential is used for the following token requests.
+     *
+     * @param probeTimeout the time each credential is given to acquire a token, or null to try the credentials one
+     * after another
+     * @return the ChainedTokenCredential itself
+     */
+    public ChainedTokenCredentialBuilder probeTimeout(Duration probeTimeout) {
+        this.probeTimeout = probeTimeout;
+        return this;
+    }
+
     /**
      * Creates a new {@link ChainedTokenCredential} with the current configurations.
      *
      * @return a {@link ChainedTokenCredential} with the current configurations.
      */
     public ChainedTokenCredential build() {
-        return new ChainedTokenCredential(new ArrayDeque<>(credentials));
+        return new ChainedTokenCredential(new ArrayDeque<>(credentials), probeTimeout);
     }
 }
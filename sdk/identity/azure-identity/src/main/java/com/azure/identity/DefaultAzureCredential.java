@@ -6,6 +6,7 @@ package com.azure.identity;
 import com.azure.core.annotation.Immutable;
 import com.azure.identity.implementation.IdentityClientOptions;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 
@@ -19,6 +20,8 @@ import java.util.Arrays;
  * <li>{@link SharedTokenCacheCredential}</li>
  * <li>Fails if none of the credentials above could be created.</li>
  * </ol>
+ *
+ * <p>The first credential that acquires a token is used for the following token requests, until it fails.</p>
  */
 @Immutable
 public final class DefaultAzureCredential extends ChainedTokenCredential {
@@ -32,11 +35,13 @@ public final class DefaultAzureCredential extends ChainedTokenCredential {
      * token cache.
      *
      * @param identityClientOptions the options to configure the IdentityClient
+     * @param probeTimeout the time each credential is given to acquire a token when they're tried concurrently, or
+     * null to try them one after another
      */
-    DefaultAzureCredential(IdentityClientOptions identityClientOptions) {
+    DefaultAzureCredential(IdentityClientOptions identityClientOptions, Duration probeTimeout) {
         super(new ArrayDeque<>(Arrays.asList(new EnvironmentCredential(identityClientOptions),
             new ManagedIdentityCredential(null, identityClientOptions),
             new SharedTokenCacheCredential(null, "04b07795-8ddb-461a-bbee-02f9e1bf7b46",
-                identityClientOptions))));
+                identityClientOptions))), probeTimeout);
     }
 }
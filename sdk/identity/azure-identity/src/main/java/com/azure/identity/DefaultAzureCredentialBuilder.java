@@ -3,18 +3,37 @@
 
 package com.azure.identity;
 
+import java.time.Duration;
+
 /**
  * Fluent credential builder for instantiating a {@link DefaultAzureCredential}.
  *
  * @see DefaultAzureCredential
  */
 public class DefaultAzureCredentialBuilder extends CredentialBuilderBase<DefaultAzureCredentialBuilder> {
+    private Duration probeTimeout;
+
+    /**
+     * Tries all the credentials concurrently on the first token request, instead of one after another, and gives each
+     * of them at most {@code probeTimeout} to acquire a token. This avoids waiting for the managed identity endpoint to
+     * time out on hosts that don't have one.
+     *
+     * @param probeTimeout the time each credential is given to acquire a token, or null to try the credentials one
+     * after another
+     * @return itself
+     * @see ChainedTokenCredentialBuilder#probeTimeout(Duration)
+     */
+    public DefaultAzureCredentialBuilder probeTimeout(Duration probeTimeout) {
+        this.probeTimeout = probeTimeout;
+        return this;
+    }
+
     /**
      * Creates new {@link DefaultAzureCredential} with the configured options set.
      *
      * @return a {@link DefaultAzureCredential} with the current configurations.
      */
     public DefaultAzureCredential build() {
-        return new DefaultAzureCredential(identityClientOptions);
+        return new DefaultAzureCredential(identityClientOptions, probeTimeout);
     }
 }
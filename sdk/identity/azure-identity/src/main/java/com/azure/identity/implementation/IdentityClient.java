@@ -59,6 +59,14 @@ import java.util.function.Consumer;
 public class IdentityClient {
     private static final SerializerAdapter SERIALIZER_ADAPTER = JacksonAdapter.createDefaultSerializerAdapter();
     private static final Random RANDOM = new Random();
+    private static final Duration IMDS_UNAVAILABLE_RECHECK_INTERVAL = Duration.ofMinutes(1);
+    // Whether the IMDS endpoint is reachable is a property of the host, so it's checked once per process. A failed
+    // check is cached for a while so credential chains don't wait for the connection timeout on every token request.
+    // Only the outcome is cached, each caller gets its own exception.
+    private static final Mono<Boolean> IMDS_AVAILABILITY = checkIMDSAvailable()
+        .onErrorReturn(false)
+        .cache(available -> available ? Duration.ofMillis(Long.MAX_VALUE) : IMDS_UNAVAILABLE_RECHECK_INTERVAL,
+            error -> Duration.ZERO, () -> Duration.ZERO);
     private final ClientLogger logger = new ClientLogger(IdentityClient.class);
 
     private final IdentityClientOptions options;
@@ -101,7 +109,8 @@ public class IdentityClient {
     }
 
     /**
-     * Asynchronously acquire a token from Active Directory with a client secret.
+     * Asynchronously acquire a token from Active Directory with a client secret. Tokens are shared with the other
+     * clients of the application through a process-wide cache.
      *
      * @param clientSecret the client secret of the application
      * @param request the details of the token request
@@ -109,6 +118,12 @@ public class IdentityClient {
      */
     public Mono<AccessToken> authenticateWithClientSecret(String clientSecret, TokenRequestContext request) {
         String authorityUrl = options.getAuthorityHost().replaceAll("/+$", "") + "/" + tenantId;
+        return InMemoryTokenCache.getInstance().getToken(authorityUrl, clientId, clientSecret, request,
+            () -> acquireTokenWithClientSecret(authorityUrl, clientSecret, request));
+    }
+
+    private Mono<AccessToken> acquireTokenWithClientSecret(String authorityUrl, String clientSecret,
+                                                           TokenRequestContext request) {
         try {
             ConfidentialClientApplication.Builder applicationBuilder =
                 ConfidentialClientApplication.builder(clientId, ClientCredentialFactory.create(clientSecret))
@@ -128,7 +143,8 @@ public class IdentityClient {
     }
 
     /**
-     * Asynchronously acquire a token from Active Directory with a PKCS12 certificate.
+     * Asynchronously acquire a token from Active Directory with a PKCS12 certificate. Tokens are shared with the other
+     * clients of the application through a process-wide cache.
      *
      * @param pfxCertificatePath the path to the PKCS12 certificate of the application
      * @param pfxCertificatePassword the password protecting the PFX certificate
@@ -138,6 +154,14 @@ public class IdentityClient {
     public Mono<AccessToken> authenticateWithPfxCertificate(String pfxCertificatePath, String pfxCertificatePassword,
                                                             TokenRequestContext request) {
         String authorityUrl = options.getAuthorityHost().replaceAll("/+$", "") + "/" + tenantId;
+        return InMemoryTokenCache.getInstance().getToken(authorityUrl, clientId,
+            pfxCertificatePath + "|" + pfxCertificatePassword, request,
+            () -> acquireTokenWithPfxCertificate(authorityUrl, pfxCertificatePath, pfxCertificatePassword, request));
+    }
+
+    private Mono<AccessToken> acquireTokenWithPfxCertificate(String authorityUrl, String pfxCertificatePath,
+                                                             String pfxCertificatePassword,
+                                                             TokenRequestContext request) {
         try {
             ConfidentialClientApplication.Builder applicationBuilder =
                 ConfidentialClientApplication.builder(clientId,
@@ -163,7 +187,8 @@ public class IdentityClient {
     }
 
     /**
-     * Asynchronously acquire a token from Active Directory with a PEM certificate.
+     * Asynchronously acquire a token from Active Directory with a PEM certificate. Tokens are shared with the other
+     * clients of the application through a process-wide cache.
      *
      * @param pemCertificatePath the path to the PEM certificate of the application
      * @param request the details of the token request
@@ -171,6 +196,12 @@ public class IdentityClient {
      */
     public Mono<AccessToken> authenticateWithPemCertificate(String pemCertificatePath, TokenRequestContext request) {
         String authorityUrl = options.getAuthorityHost().replaceAll("/+$", "") + "/" + tenantId;
+        return InMemoryTokenCache.getInstance().getToken(authorityUrl, clientId, pemCertificatePath, request,
+            () -> acquireTokenWithPemCertificate(authorityUrl, pemCertificatePath, request));
+    }
+
+    private Mono<AccessToken> acquireTokenWithPemCertificate(String authorityUrl, String pemCertificatePath,
+                                                             TokenRequestContext request) {
         try {
             byte[] pemCertificateBytes = Files.readAllBytes(Paths.get(pemCertificatePath));
             ConfidentialClientApplication.Builder applicationBuilder =
@@ -382,7 +413,7 @@ public class IdentityClient {
             return Mono.error(exception);
         }
 
-        return checkIMDSAvailable().flatMap(available -> Mono.fromCallable(() -> {
+        return IMDS_AVAILABILITY.flatMap(available -> available ? Mono.fromCallable(() -> {
             int retry = 1;
             while (retry <= options.getMaxRetry()) {
                 URL url = null;
@@ -439,10 +470,11 @@ public class IdentityClient {
             throw logger.logExceptionAsError(new RuntimeException(
                     String.format("MSI: Failed to acquire tokens after retrying %s times",
                     options.getMaxRetry())));
-        }));
+        }) : Mono.error(logger.logExceptionAsError(new RuntimeException(
+                "Could not connect to the IMDS endpoint at http://169.254.169.254/metadata/identity/oauth2/token."))));
     }
 
-    private Mono<Boolean> checkIMDSAvailable() {
+    private static Mono<Boolean> checkIMDSAvailable() {
         StringBuilder payload = new StringBuilder();
 
         try {
@@ -0,0 +1,150 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.identity.implementation;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRefreshOptions;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A process-wide cache of the tokens acquired by confidential client credentials, keyed by authority, client ID,
+ * client credential and scopes, so credentials for the same application share their tokens.
+ *
+ * <p>Concurrent requests for a token that isn't cached share a single acquisition. Once part of the lifetime of a
+ * cached token has passed, a new token is acquired in the background while the cached token is still served.</p>
+ *
+ * <p>Entries whose token has expired, or whose acquisition failed, and that have no acquisition pending are removed
+ * whenever an entry is added, so keys that are no longer used, such as those of rotated secrets, don't accumulate.</p>
+ */
+final class InMemoryTokenCache {
+    private static final InMemoryTokenCache INSTANCE = new InMemoryTokenCache(new TokenRefreshOptions());
+    private final ClientLogger logger = new ClientLogger(InMemoryTokenCache.class);
+
+    private final TokenRefreshOptions refreshOptions;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    InMemoryTokenCache(TokenRefreshOptions refreshOptions) {
+        this.refreshOptions = refreshOptions;
+    }
+
+    /**
+     * @return the cache shared by the credentials of the process.
+     */
+    static InMemoryTokenCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a token from the cache, or acquires one with {@code tokenSupplier} if none is cached or it has expired.
+     *
+     * @param authorityUrl the authority the token is acquired from
+     * @param clientId the client ID of the application
+     * @param clientCredential the secret or certificate details the application authenticates with
+     * @param request the details of the token request
+     * @param tokenSupplier acquires a new token
+     * @return a Publisher that emits an AccessToken
+     */
+    Mono<AccessToken> getToken(String authorityUrl, String clientId, String clientCredential,
+                               TokenRequestContext request, Supplier<Mono<AccessToken>> tokenSupplier) {
+        String key = authorityUrl + "|" + clientId + "|" + fingerprint(clientCredential) + "|"
+            + String.join(" ", new TreeSet<>(request.getScopes()));
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            evictExpiredEntries();
+            entry = entries.computeIfAbsent(key, ignored -> new Entry());
+        }
+        Entry current = entry;
+
+        return Mono.defer(() -> {
+            AccessToken cached = current.token;
+            if (cached == null || cached.isExpired()) {
+                return acquire(current, tokenSupplier);
+            }
+            if (OffsetDateTime.now().isAfter(current.refreshAt) && current.pendingAcquisition.get() == null) {
+                acquire(current, tokenSupplier).subscribe(ignored -> { }, error -> onRefreshFailed(current, error));
+            }
+            return Mono.just(cached);
+        });
+    }
+
+    /**
+     * @return the number of entries in the cache.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void evictExpiredEntries() {
+        // A caller still holding a removed entry keeps using it; the next request for its key creates a new one.
+        entries.entrySet().removeIf(mapping -> {
+            Entry entry = mapping.getValue();
+            AccessToken token = entry.token;
+            return entry.pendingAcquisition.get() == null && (token == null || token.isExpired());
+        });
+    }
+
+    private Mono<AccessToken> acquire(Entry entry, Supplier<Mono<AccessToken>> tokenSupplier) {
+        while (true) {
+            Mono<AccessToken> pending = entry.pendingAcquisition.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            Mono<AccessToken> acquisition = Mono.defer(tokenSupplier)
+                .doOnNext(token -> {
+                    entry.refreshAt = computeRefreshAt(token);
+                    entry.token = token;
+                })
+                .doFinally(ignored -> entry.pendingAcquisition.set(null))
+                .cache();
+            if (entry.pendingAcquisition.compareAndSet(null, acquisition)) {
+                return acquisition;
+            }
+        }
+    }
+
+    private void onRefreshFailed(Entry entry, Throwable error) {
+        // Keep serving the cached token until it expires, and try again after a delay
+        Duration retryDelay = refreshOptions.getRetryDelay();
+        entry.refreshAt = OffsetDateTime.now().plus(retryDelay);
+        logger.warning("Background token refresh failed, retrying after {} ms: {}", retryDelay.toMillis(),
+            error.getMessage());
+    }
+
+    private OffsetDateTime computeRefreshAt(AccessToken token) {
+        OffsetDateTime now = OffsetDateTime.now();
+        long lifetimeNanos = Duration.between(now, token.getExpiresAt()).toNanos();
+        return lifetimeNanos <= 0 ? now : now.plusNanos((long) (lifetimeNanos * refreshOptions.getRefreshRatio()));
+    }
+
+    private String fingerprint(String clientCredential) {
+        // Only a digest of the secret is kept, and credentials with a different secret don't share tokens.
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(clientCredential.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw logger.logExceptionAsError(new IllegalStateException(e));
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicReference<Mono<AccessToken>> pendingAcquisition = new AtomicReference<>();
+        private volatile AccessToken token;
+        private volatile OffsetDateTime refreshAt;
+    }
+}
@@ -0,0 +1,183 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.identity;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenCredential;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.util.TestUtils;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChainedTokenCredentialTest {
+    private final TokenRequestContext request = new TokenRequestContext().addScopes("https://management.azure.com");
+    private final OffsetDateTime expiresOn = OffsetDateTime.now(ZoneOffset.UTC).plusHours(1);
+
+    @Test
+    public void testSucceededCredentialIsUsedAfterwards() {
+        CountingCredential failing = new CountingCredential(Mono.error(new RuntimeException("unavailable")));
+        CountingCredential succeeding = new CountingCredential(TestUtils.getMockAccessToken("token", expiresOn));
+        ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+            .addLast(failing)
+            .addLast(succeeding)
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(credential.getToken(request))
+                .expectNextMatches(accessToken -> "token".equals(accessToken.getToken()))
+                .verifyComplete();
+        }
+
+        assertEquals(1, failing.attempts.get());
+        assertEquals(3, succeeding.attempts.get());
+    }
+
+    @Test
+    public void testChainIsRetriedWhenSucceededCredentialFails() {
+        CountingCredential first = new CountingCredential(Mono.error(new RuntimeException("unavailable")));
+        FlakyCredential second = new FlakyCredential();
+        CountingCredential third = new CountingCredential(TestUtils.getMockAccessToken("third", expiresOn));
+        ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+            .addLast(first)
+            .addLast(second)
+            .addLast(third)
+            .build();
+
+        StepVerifier.create(credential.getToken(request))
+            .expectNextMatches(accessToken -> "second".equals(accessToken.getToken()))
+            .verifyComplete();
+        second.failing = true;
+        StepVerifier.create(credential.getToken(request))
+            .expectNextMatches(accessToken -> "third".equals(accessToken.getToken()))
+            .verifyComplete();
+
+        assertEquals(2, first.attempts.get());
+        assertEquals(1, third.attempts.get());
+    }
+
+    @Test
+    public void testConcurrentProbingSkipsSlowCredentials() {
+        CountingCredential slow = new CountingCredential(Mono.delay(Duration.ofSeconds(30))
+            .then(TestUtils.getMockAccessToken("slow", expiresOn)));
+        CountingCredential fast = new CountingCredential(TestUtils.getMockAccessToken("fast", expiresOn));
+        ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+            .addLast(slow)
+            .addLast(fast)
+            .probeTimeout(Duration.ofMillis(200))
+            .build();
+
+        StepVerifier.create(credential.getToken(request))
+            .expectNextMatches(accessToken -> "fast".equals(accessToken.getToken()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+        StepVerifier.create(credential.getToken(request))
+            .expectNextMatches(accessToken -> "fast".equals(accessToken.getToken()))
+            .verifyComplete();
+
+        assertEquals(1, slow.attempts.get());
+    }
+
+    @Test
+    public void testConcurrentProbingPrefersEarlierCredentials() {
+        CountingCredential first = new CountingCredential(Mono.delay(Duration.ofMillis(50))
+            .then(TestUtils.getMockAccessToken("first", expiresOn)));
+        CountingCredential second = new CountingCredential(TestUtils.getMockAccessToken("second", expiresOn));
+        ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+            .addLast(first)
+            .addLast(second)
+            .probeTimeout(Duration.ofSeconds(5))
+            .build();
+
+        StepVerifier.create(credential.getToken(request))
+            .expectNextMatches(accessToken -> "first".equals(accessToken.getToken()))
+            .verifyComplete();
+
+        assertEquals(1, second.attempts.get());
+    }
+
+    @Test
+    public void testConcurrentProbingSkipsBlockingCredentials() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingCredential blocking = new CountingCredential(Mono.fromCallable(() -> {
+            release.await(30, TimeUnit.SECONDS);
+            return new AccessToken("blocking", expiresOn);
+        }));
+        CountingCredential fast = new CountingCredential(TestUtils.getMockAccessToken("fast", expiresOn));
+        ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+            .addLast(blocking)
+            .addLast(fast)
+            .probeTimeout(Duration.ofMillis(200))
+            .build();
+
+        try {
+            // The blocking credential would block the subscription itself, so the time taken is checked separately.
+            Duration elapsed = StepVerifier.create(credential.getToken(request))
+                .expectNextMatches(accessToken -> "fast".equals(accessToken.getToken()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+            assertTrue(elapsed.compareTo(Duration.ofSeconds(5)) < 0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testSharedFailuresAreNotModified() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second");
+        for (int i = 0; i < 2; i++) {
+            ChainedTokenCredential credential = new ChainedTokenCredentialBuilder()
+                .addLast(new CountingCredential(Mono.error(first)))
+                .addLast(new CountingCredential(Mono.error(second)))
+                .build();
+
+            StepVerifier.create(credential.getToken(request))
+                .expectErrorMatches(e -> Arrays.asList(e.getSuppressed()).equals(Arrays.asList(first, second)))
+                .verify();
+        }
+
+        assertNull(first.getCause());
+        assertNull(second.getCause());
+    }
+
+    private static final class CountingCredential implements TokenCredential {
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final Mono<AccessToken> token;
+
+        private CountingCredential(Mono<AccessToken> token) {
+            this.token = token;
+        }
+
+        @Override
+        public Mono<AccessToken> getToken(TokenRequestContext request) {
+            return Mono.defer(() -> {
+                attempts.incrementAndGet();
+                return token;
+            });
+        }
+    }
+
+    private final class FlakyCredential implements TokenCredential {
+        private volatile boolean failing;
+
+        @Override
+        public Mono<AccessToken> getToken(TokenRequestContext request) {
+            return Mono.defer(() -> failing ? Mono.error(new RuntimeException("expired"))
+                : TestUtils.getMockAccessToken("second", expiresOn));
+        }
+    }
+}
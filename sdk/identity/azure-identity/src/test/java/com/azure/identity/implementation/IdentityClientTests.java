@@ -20,6 +20,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -30,6 +31,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.whenNew;
 
@@ -81,6 +84,27 @@ public class IdentityClientTests {
         }
     }
 
+    @Test
+    public void testTokensAreSharedAcrossClients() throws Exception {
+        // setup
+        String secret = "secret";
+        String accessToken = "token";
+        TokenRequestContext request = new TokenRequestContext().addScopes("https://management.azure.com");
+        OffsetDateTime expiresOn = OffsetDateTime.now(ZoneOffset.UTC).plusHours(1);
+
+        // mock
+        ConfidentialClientApplication application = mockForClientSecret(secret, request, accessToken, expiresOn);
+
+        // test
+        IdentityClient client1 = new IdentityClientBuilder().tenantId(tenantId).clientId(clientId).build();
+        IdentityClient client2 = new IdentityClientBuilder().tenantId(tenantId).clientId(clientId).build();
+        Mono.zip(client1.authenticateWithClientSecret(secret, request),
+            client2.authenticateWithClientSecret(secret, request)).block();
+        AccessToken token = client2.authenticateWithClientSecret(secret, request).block();
+        Assert.assertEquals(accessToken, token.getToken());
+        verify(application, times(1)).acquireToken(any(ClientCredentialParameters.class));
+    }
+
     @Test
     public void testValidCertificate() throws Exception {
         // setup
@@ -139,7 +163,7 @@ public class IdentityClientTests {
 
     /****** mocks ******/
 
-    private void mockForClientSecret(String secret, TokenRequestContext request, String accessToken, OffsetDateTime expiresOn) throws Exception {
+    private ConfidentialClientApplication mockForClientSecret(String secret, TokenRequestContext request, String accessToken, OffsetDateTime expiresOn) throws Exception {
         ConfidentialClientApplication application = PowerMockito.mock(ConfidentialClientApplication.class);
         when(application.acquireToken(any(ClientCredentialParameters.class))).thenAnswer(invocation -> {
             ClientCredentialParameters argument = (ClientCredentialParameters) invocation.getArguments()[0];
@@ -165,6 +189,7 @@ public class IdentityClientTests {
             }
             return builder;
         });
+        return application;
     }
 
     private void mockForClientCertificate(TokenRequestContext request, String accessToken, OffsetDateTime expiresOn) throws Exception {
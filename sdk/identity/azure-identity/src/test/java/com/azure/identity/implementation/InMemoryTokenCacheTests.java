@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.identity.implementation;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRefreshOptions;
+import com.azure.core.credential.TokenRequestContext;
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InMemoryTokenCacheTests {
+    private static final String AUTHORITY = "https://login.microsoftonline.com/contoso.com/";
+    private final TokenRequestContext request = new TokenRequestContext().addScopes("https://vault.azure.net/.default");
+
+    @Test
+    public void unusedEntriesAreEvictedWhenAnEntryIsAdded() {
+        InMemoryTokenCache cache = new InMemoryTokenCache(new TokenRefreshOptions());
+        AccessToken valid = new AccessToken("valid", OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+
+        cache.getToken(AUTHORITY, "valid", "secret", request, () -> Mono.just(valid)).block();
+        cache.getToken(AUTHORITY, "pending", "secret", request, Mono::never).subscribe();
+        // AccessToken treats tokens as expired two minutes early, so this one has already expired
+        cache.getToken(AUTHORITY, "expired", "secret", request,
+            () -> Mono.just(new AccessToken("expired", OffsetDateTime.now(ZoneOffset.UTC)))).block();
+        Assert.assertEquals(3, cache.size());
+
+        // Adding an entry evicts the expired one, but keeps the valid and pending ones
+        cache.getToken(AUTHORITY, "failed", "wrong secret", request,
+            () -> Mono.error(new IllegalStateException("invalid client secret"))).onErrorResume(e -> Mono.empty())
+            .block();
+        Assert.assertEquals(3, cache.size());
+
+        // The entry whose acquisition failed is evicted in turn
+        cache.getToken(AUTHORITY, "new", "secret", request, () -> Mono.just(valid)).block();
+        Assert.assertEquals(3, cache.size());
+
+        AtomicInteger acquisitions = new AtomicInteger();
+        Assert.assertSame(valid, cache.getToken(AUTHORITY, "valid", "secret", request, () -> {
+            acquisitions.incrementAndGet();
+            return Mono.just(new AccessToken("other", OffsetDateTime.now(ZoneOffset.UTC).plusHours(1)));
+        }).block());
+        Assert.assertEquals(0, acquisitions.get());
+    }
+
+    @Test
+    public void requestsForCachedKeysDoNotEvict() {
+        InMemoryTokenCache cache = new InMemoryTokenCache(new TokenRefreshOptions());
+        cache.getToken(AUTHORITY, "expired", "secret", request,
+            () -> Mono.just(new AccessToken("expired", OffsetDateTime.now(ZoneOffset.UTC)))).block();
+
+        AccessToken renewed = new AccessToken("renewed", OffsetDateTime.now(ZoneOffset.UTC).plusHours(1));
+        Assert.assertSame(renewed, cache.getToken(AUTHORITY, "expired", "secret", request,
+            () -> Mono.just(renewed)).block());
+        Assert.assertEquals(1, cache.size());
+    }
+}
@@ -3,7 +3,21 @@
 
 package com.azure.security.keyvault.keys.cryptography;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
 class CryptoUtil {
+    /*
+     * Looking up JCA instances is expensive compared to the operations done with them, so each thread reuses its own.
+     * Callers must initialize and use the instance within a single call and not hold on to it.
+     */
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS =
+        ThreadLocal.withInitial(HashMap::new);
 
     /*
      * Determines whether the key is valid and of required size.
@@ -20,4 +34,38 @@ class CryptoUtil {
             throw new IllegalArgumentException(String.format("key must be at least %d bits long", keySizeInBytes << 3));
         }
     }
+
+    /*
+     * Gets the calling thread's signature instance for the algorithm and provider. It must be initialized before use.
+     *
+     * @param algorithm The signature algorithm.
+     * @param provider The provider, or null to use the default one.
+     */
+    static Signature getSignature(String algorithm, Provider provider) throws NoSuchAlgorithmException {
+        String cacheKey = provider == null ? algorithm : algorithm + "/" + provider.getName();
+        Map<String, Signature> signatures = SIGNATURES.get();
+        Signature signature = signatures.get(cacheKey);
+        if (signature == null) {
+            signature = provider == null ? Signature.getInstance(algorithm) : Signature.getInstance(algorithm, provider);
+            signatures.put(cacheKey, signature);
+        }
+        return signature;
+    }
+
+    /*
+     * Gets the calling thread's message digest for the algorithm, reset and ready to use.
+     *
+     * @param algorithm The digest algorithm.
+     */
+    static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digests = MESSAGE_DIGESTS.get();
+        MessageDigest digest = digests.get(algorithm);
+        if (digest == null) {
+            digest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, digest);
+        } else {
+            digest.reset();
+        }
+        return digest;
+    }
 }
@@ -31,8 +31,11 @@ import reactor.core.publisher.Mono;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.azure.core.implementation.util.FluxUtil.monoError;
 import static com.azure.core.implementation.util.FluxUtil.withContext;
@@ -47,6 +50,11 @@ import static com.azure.security.keyvault.keys.models.KeyType.OCT;
  * symmetric keys. The client supports encrypt, decrypt, wrap key, unwrap key, sign and verify operations using the
  * configured key.
  *
+ * <p>When created with a key identifier, the client retrieves the key the first time it's needed, or when
+ * {@link #refreshKey()} is called, and performs the operations the public key material allows, such as encrypt,
+ * wrap key and verify, locally. If a {@link CryptographyClientBuilder#keyTimeToLive(Duration) key time to live} is
+ * configured the key is revalidated with the service in the background once it's older than that.</p>
+ *
  * <p><strong>Samples to construct the sync client</strong></p>
  * {@codesnippet com.azure.security.keyvault.keys.cryptography.async.cryptographyclient.instantiation}
  *
@@ -55,12 +63,21 @@ import static com.azure.security.keyvault.keys.models.KeyType.OCT;
 @ServiceClient(builder = CryptographyClientBuilder.class, isAsync = true, serviceInterfaces = CryptographyService.class)
 public class CryptographyAsyncClient {
     static final String KEY_VAULT_SCOPE = "https://vault.azure.net/.default";
-    JsonWebKey key;
+    static final Duration KEY_RETRIEVAL_RETRY_DELAY = Duration.ofSeconds(30);
+    volatile JsonWebKey key;
     private final CryptographyService service;
     private final CryptographyServiceClient cryptographyServiceClient;
-    private LocalKeyCryptographyClient localKeyCryptographyClient;
+    private volatile LocalKeyCryptographyClient localKeyCryptographyClient;
     private final ClientLogger logger = new ClientLogger(CryptographyAsyncClient.class);
 
+    // Only used when the client was created with a key identifier.
+    private final boolean keyRetrievable;
+    private final Duration keyTimeToLive;
+    private final AtomicReference<Mono<JsonWebKey>> pendingKeyRetrieval = new AtomicReference<>();
+    private volatile long nextKeyRetrievalNanos;
+
+    private final AtomicLong operationCount = new AtomicLong();
+
     /**
      * Creates a CryptographyAsyncClient that uses {@code pipeline} to service requests
      *
@@ -88,7 +105,9 @@ public class CryptographyAsyncClient {
         } else {
             cryptographyServiceClient = null;
         }
-        initializeCryptoClients();
+        this.keyRetrievable = false;
+        this.keyTimeToLive = null;
+        this.localKeyCryptographyClient = createLocalKeyCryptographyClient(key);
     }
 
     /**
@@ -99,22 +118,37 @@ public class CryptographyAsyncClient {
      * @param version {@link CryptographyServiceVersion} of the service to be used when making requests.
      */
     CryptographyAsyncClient(String keyId, HttpPipeline pipeline, CryptographyServiceVersion version) {
+        this(keyId, pipeline, version, null);
+    }
+
+    /**
+     * Creates a CryptographyAsyncClient that uses {@code pipeline} to service requests and revalidates the key it
+     * retrieved once it's older than {@code keyTimeToLive}.
+     *
+     * @param keyId THe Azure Key vault key identifier to use for cryptography operations.
+     * @param pipeline HttpPipeline that the HTTP requests and responses flow through.
+     * @param version {@link CryptographyServiceVersion} of the service to be used when making requests.
+     * @param keyTimeToLive How long the retrieved key is used before it's revalidated, or {@code null} to never
+     * revalidate it.
+     */
+    CryptographyAsyncClient(String keyId, HttpPipeline pipeline, CryptographyServiceVersion version,
+                            Duration keyTimeToLive) {
         unpackAndValidateId(keyId);
         service = RestProxy.create(CryptographyService.class, pipeline);
         cryptographyServiceClient = new CryptographyServiceClient(keyId, service);
         this.key = null;
+        this.keyRetrievable = true;
+        this.keyTimeToLive = keyTimeToLive;
+        this.nextKeyRetrievalNanos = System.nanoTime();
     }
 
-    private void initializeCryptoClients() {
-        if (localKeyCryptographyClient != null) {
-            return;
-        }
+    private LocalKeyCryptographyClient createLocalKeyCryptographyClient(JsonWebKey key) {
         if (key.getKeyType().equals(RSA) || key.getKeyType().equals(RSA_HSM)) {
-            localKeyCryptographyClient = new RsaKeyCryptographyClient(key, cryptographyServiceClient);
+            return new RsaKeyCryptographyClient(key, cryptographyServiceClient);
         } else if (key.getKeyType().equals(EC) || key.getKeyType().equals(EC_HSM)) {
-            localKeyCryptographyClient = new EcKeyCryptographyClient(key, cryptographyServiceClient);
+            return new EcKeyCryptographyClient(key, cryptographyServiceClient);
         } else if (key.getKeyType().equals(OCT)) {
-            localKeyCryptographyClient = new SymmetricKeyCryptographyClient(key, cryptographyServiceClient);
+            return new SymmetricKeyCryptographyClient(key, cryptographyServiceClient);
         } else {
             throw logger.logExceptionAsError(new IllegalArgumentException(String.format(
                 "The Json Web Key Type: %s is not supported.", key.getKeyType().toString())));
@@ -168,6 +202,46 @@ public class CryptographyAsyncClient {
         return cryptographyServiceClient.getKey(context);
     }
 
+    /**
+     * Retrieves the configured key from the service and caches it, so the operations its public key material allows
+     * are performed locally from then on. Operations retrieve the key on first use anyway; calling this method ahead
+     * of time avoids that latency and surfaces retrieval failures, which operations otherwise handle by falling back
+     * to the service. It requires the {@code keys/get} permission.
+     *
+     * <p>A client created with a {@link JsonWebKey} has its key material already and completes right away.</p>
+     *
+     * @return A {@link Mono} that completes once the key is cached.
+     * @throws ResourceNotFoundException when the configured key doesn't exist in the key vault.
+     */
+    public Mono<Void> refreshKey() {
+        try {
+            return keyRetrievable ? retrieveKey().then() : Mono.empty();
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Gets the number of cryptography operations the client performed without calling the service, using the cached
+     * key material.
+     *
+     * @return The number of operations performed locally.
+     */
+    public long getLocalOperationCount() {
+        return operationCount.get() - getServiceOperationCount();
+    }
+
+    /**
+     * Gets the number of cryptography operations the client sent to the service, because the key material wasn't
+     * available locally or doesn't allow the operation, such as decrypting with a key whose private portion is kept
+     * in the vault.
+     *
+     * @return The number of operations sent to the service.
+     */
+    public long getServiceOperationCount() {
+        return cryptographyServiceClient == null ? 0 : cryptographyServiceClient.getOperationCount();
+    }
+
     /**
      * Encrypts an arbitrary sequence of bytes using the configured key. Note that the encrypt operation only supports a
      * single block of data, the size of which is dependent on the target key and the encryption algorithm to be used.
@@ -211,17 +285,20 @@ public class CryptographyAsyncClient {
         Objects.requireNonNull(algorithm, "Encryption algorithm cannot be null.");
         Objects.requireNonNull(plaintext, "Plain text content to be encrypted cannot be null.");
 
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.encrypt(algorithm, plaintext, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.encrypt(algorithm, plaintext, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.ENCRYPT)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Encrypt Operation is missing "
-                + "permission/not supported for key with id %s", key.getId()))));
-        }
-        return localKeyCryptographyClient.encryptAsync(algorithm, plaintext, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.ENCRYPT)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Encrypt Operation is missing "
+                    + "permission/not supported for key with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.encryptAsync(algorithm, plaintext, context, jsonWebKey);
+        });
     }
 
     /**
@@ -264,17 +341,20 @@ public class CryptographyAsyncClient {
     Mono<DecryptResult> decrypt(EncryptionAlgorithm algorithm, byte[] cipherText, Context context) {
         Objects.requireNonNull(algorithm, "Encryption algorithm cannot be null.");
         Objects.requireNonNull(cipherText, "Cipher text content to be decrypted cannot be null.");
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.decrypt(algorithm, cipherText, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.decrypt(algorithm, cipherText, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.DECRYPT)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Decrypt Operation is not allowed for "
-                + "key with id %s", key.getId()))));
-        }
-        return localKeyCryptographyClient.decryptAsync(algorithm, cipherText, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.DECRYPT)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Decrypt Operation is not allowed for "
+                    + "key with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.decryptAsync(algorithm, cipherText, context, jsonWebKey);
+        });
     }
 
     /**
@@ -314,18 +394,21 @@ public class CryptographyAsyncClient {
     Mono<SignResult> sign(SignatureAlgorithm algorithm, byte[] digest, Context context) {
         Objects.requireNonNull(algorithm, "Signature algorithm cannot be null.");
         Objects.requireNonNull(digest, "Digest content to be signed cannot be null.");
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.sign(algorithm, digest, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.sign(algorithm, digest, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.SIGN)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Sign Operation is not allowed for key "
-                + "with id %s", key.getId()))));
-        }
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.SIGN)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Sign Operation is not allowed for key "
+                    + "with id %s", jsonWebKey.getId()))));
+            }
 
-        return localKeyCryptographyClient.signAsync(algorithm, digest, context, key);
+            return localClient.signAsync(algorithm, digest, context, jsonWebKey);
+        });
     }
 
     /**
@@ -366,17 +449,20 @@ public class CryptographyAsyncClient {
         Objects.requireNonNull(algorithm, "Signature algorithm cannot be null.");
         Objects.requireNonNull(digest, "Digest content cannot be null.");
         Objects.requireNonNull(signature, "Signature to be verified cannot be null.");
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.verify(algorithm, digest, signature, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.verify(algorithm, digest, signature, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.VERIFY)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Verify Operation is not allowed for "
-                + "key with id %s", key.getId()))));
-        }
-        return localKeyCryptographyClient.verifyAsync(algorithm, digest, signature, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.VERIFY)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Verify Operation is not allowed for "
+                    + "key with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.verifyAsync(algorithm, digest, signature, context, jsonWebKey);
+        });
     }
 
     /**
@@ -413,18 +499,21 @@ public class CryptographyAsyncClient {
     Mono<WrapResult> wrapKey(KeyWrapAlgorithm algorithm, byte[] key, Context context) {
         Objects.requireNonNull(algorithm, "Key Wrap algorithm cannot be null.");
         Objects.requireNonNull(key, "Key content to be wrapped cannot be null.");
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.wrapKey(algorithm, key, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.wrapKey(algorithm, key, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.WRAP_KEY)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Wrap Key Operation is not allowed for "
-                + "key with id %s", this.key.getId()))));
-        }
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.WRAP_KEY)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Wrap Key Operation is not allowed for "
+                    + "key with id %s", jsonWebKey.getId()))));
+            }
 
-        return localKeyCryptographyClient.wrapKeyAsync(algorithm, key, context, this.key);
+            return localClient.wrapKeyAsync(algorithm, key, context, jsonWebKey);
+        });
     }
 
     /**
@@ -465,17 +554,20 @@ public class CryptographyAsyncClient {
         Objects.requireNonNull(algorithm, "Key Wrap algorithm cannot be null.");
         Objects.requireNonNull(encryptedKey, "Encrypted key content to be unwrapped cannot be null.");
 
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.unwrapKey(algorithm, encryptedKey, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.unwrapKey(algorithm, encryptedKey, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.WRAP_KEY)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Unwrap Key Operation is not allowed "
-                + "for key with id %s", this.key.getId()))));
-        }
-        return localKeyCryptographyClient.unwrapKeyAsync(algorithm, encryptedKey, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.WRAP_KEY)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Unwrap Key Operation is not allowed "
+                    + "for key with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.unwrapKeyAsync(algorithm, encryptedKey, context, jsonWebKey);
+        });
     }
 
     /**
@@ -516,17 +608,20 @@ public class CryptographyAsyncClient {
         Objects.requireNonNull(algorithm, "Signature algorithm cannot be null.");
         Objects.requireNonNull(data, "Data to be signed cannot be null.");
 
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.signData(algorithm, data, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.signData(algorithm, data, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.SIGN)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Sign Operation is not allowed for key "
-                + "with id %s", this.key.getId()))));
-        }
-        return localKeyCryptographyClient.signDataAsync(algorithm, data, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.SIGN)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format("Sign Operation is not allowed for key "
+                    + "with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.signDataAsync(algorithm, data, context, jsonWebKey);
+        });
     }
 
     /**
@@ -568,17 +663,20 @@ public class CryptographyAsyncClient {
         Objects.requireNonNull(algorithm, "Signature algorithm cannot be null.");
         Objects.requireNonNull(data, "Data cannot be null.");
         Objects.requireNonNull(signature, "Signature to be verified cannot be null.");
-        boolean keyAvailableLocally = ensureValidKeyAvailable();
-
-        if (!keyAvailableLocally) {
-            return cryptographyServiceClient.verifyData(algorithm, data, signature, context);
-        }
+        operationCount.incrementAndGet();
+        return ensureValidKeyAvailable().flatMap(available -> {
+            JsonWebKey jsonWebKey = this.key;
+            LocalKeyCryptographyClient localClient = localKeyCryptographyClient;
+            if (!available || jsonWebKey == null) {
+                return cryptographyServiceClient.verifyData(algorithm, data, signature, context);
+            }
 
-        if (!checkKeyPermissions(this.key.getKeyOps(), KeyOperation.VERIFY)) {
-            return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format(
-                "Verify Operation is not allowed for key with id %s", this.key.getId()))));
-        }
-        return localKeyCryptographyClient.verifyDataAsync(algorithm, data, signature, context, key);
+            if (!checkKeyPermissions(jsonWebKey.getKeyOps(), KeyOperation.VERIFY)) {
+                return Mono.error(logger.logExceptionAsError(new UnsupportedOperationException(String.format(
+                    "Verify Operation is not allowed for key with id %s", jsonWebKey.getId()))));
+            }
+            return localClient.verifyDataAsync(algorithm, data, signature, context, jsonWebKey);
+        });
     }
 
     private void unpackAndValidateId(String keyId) {
@@ -607,21 +705,73 @@ public class CryptographyAsyncClient {
         return operations.contains(keyOperation);
     }
 
-    private boolean ensureValidKeyAvailable() {
-        boolean keyAvailableLocally = true;
-        if (this.key == null) {
-            try {
-                KeyVaultKey keyVaultKey = getKey().block();
-                this.key = keyVaultKey.getKey();
-                keyAvailableLocally = this.key.isValid();
-                initializeCryptoClients();
-            } catch (HttpResponseException | NullPointerException e) {
-                logger.warning("Failed to retrieve key from key vault");
-                logger.logExceptionAsWarning(e);
-                keyAvailableLocally = false;
+    /*
+     * Emits whether the key is available locally, retrieving it if it wasn't yet. A cached key is used right away,
+     * and revalidated in the background once it's older than the key time to live.
+     */
+    private Mono<Boolean> ensureValidKeyAvailable() {
+        if (key != null) {
+            if (keyRetrievable && keyTimeToLive != null && System.nanoTime() - nextKeyRetrievalNanos >= 0) {
+                retrieveKey().subscribe(ignored -> { }, ignored -> { });
             }
+            return Mono.just(true);
+        }
+
+        if (!keyRetrievable || System.nanoTime() - nextKeyRetrievalNanos < 0) {
+            // The last retrieval failed recently, use the service meanwhile.
+            return Mono.just(false);
+        }
+        return retrieveKey().map(ignored -> true).onErrorReturn(false);
+    }
+
+    /*
+     * Retrieves the key, sharing a retrieval that is already in progress.
+     */
+    private Mono<JsonWebKey> retrieveKey() {
+        Mono<JsonWebKey> retrieval = pendingKeyRetrieval.get();
+        if (retrieval != null) {
+            return retrieval;
+        }
+
+        Mono<JsonWebKey> newRetrieval = getKey()
+            .map(this::onKeyRetrieved)
+            .doOnError(this::onKeyRetrievalFailed)
+            .doFinally(signal -> pendingKeyRetrieval.set(null))
+            .cache();
+        if (pendingKeyRetrieval.compareAndSet(null, newRetrieval)) {
+            return newRetrieval;
+        }
+        retrieval = pendingKeyRetrieval.get();
+        return retrieval == null ? newRetrieval : retrieval;
+    }
+
+    private JsonWebKey onKeyRetrieved(KeyVaultKey keyVaultKey) {
+        JsonWebKey retrievedKey = keyVaultKey.getKey();
+        if (retrievedKey == null || !retrievedKey.isValid()) {
+            throw logger.logExceptionAsError(new IllegalStateException("The retrieved key is not valid."));
+        }
+
+        localKeyCryptographyClient = createLocalKeyCryptographyClient(retrievedKey);
+        key = retrievedKey;
+        if (keyTimeToLive != null) {
+            nextKeyRetrievalNanos = System.nanoTime() + keyTimeToLive.toNanos();
         }
-        return keyAvailableLocally;
+        return retrievedKey;
+    }
+
+    private void onKeyRetrievalFailed(Throwable error) {
+        nextKeyRetrievalNanos = System.nanoTime() + KEY_RETRIEVAL_RETRY_DELAY.toNanos();
+        if (error instanceof HttpResponseException && isKeyUnusable((HttpResponseException) error)) {
+            // Let the service report the failure on each operation rather than using a key that's gone.
+            key = null;
+        }
+        logger.warning("Failed to retrieve key from key vault, retrying after {} seconds: {}",
+            KEY_RETRIEVAL_RETRY_DELAY.getSeconds(), error.getMessage());
+    }
+
+    private static boolean isKeyUnusable(HttpResponseException error) {
+        int statusCode = error.getResponse() == null ? 0 : error.getResponse().getStatusCode();
+        return statusCode == 403 || statusCode == 404;
     }
 
     CryptographyServiceClient getCryptographyServiceClient() {
@@ -18,6 +18,7 @@ import com.azure.security.keyvault.keys.cryptography.models.SignatureAlgorithm;
 import com.azure.security.keyvault.keys.cryptography.models.SignResult;
 import com.azure.security.keyvault.keys.cryptography.models.VerifyResult;
 import com.azure.security.keyvault.keys.cryptography.models.WrapResult;
+import com.azure.security.keyvault.keys.models.JsonWebKey;
 import com.azure.security.keyvault.keys.models.KeyVaultKey;
 
 
@@ -77,6 +78,37 @@ public class CryptographyClient {
         return client.getKeyWithResponse(context).block();
     }
 
+    /**
+     * Retrieves the configured key from the service and caches it, so the operations its public key material allows
+     * are performed locally from then on. It requires the {@code keys/get} permission.
+     *
+     * <p>A client created with a {@link JsonWebKey} has its key material already and returns right away.</p>
+     *
+     * @throws ResourceNotFoundException when the configured key doesn't exist in the key vault.
+     */
+    public void refreshKey() {
+        client.refreshKey().block();
+    }
+
+    /**
+     * Gets the number of cryptography operations the client performed without calling the service, using the cached
+     * key material.
+     *
+     * @return The number of operations performed locally.
+     */
+    public long getLocalOperationCount() {
+        return client.getLocalOperationCount();
+    }
+
+    /**
+     * Gets the number of cryptography operations the client sent to the service.
+     *
+     * @return The number of operations sent to the service.
+     */
+    public long getServiceOperationCount() {
+        return client.getServiceOperationCount();
+    }
+
     /**
      * Encrypts an arbitrary sequence of bytes using the configured key. Note that the encrypt operation only supports a
      * single block of data, the size of which is dependent on the target key and the encryption algorithm to be used.
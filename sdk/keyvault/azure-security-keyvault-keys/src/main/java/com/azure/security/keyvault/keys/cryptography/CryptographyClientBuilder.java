@@ -21,6 +21,7 @@ import com.azure.security.keyvault.keys.implementation.KeyVaultCredentialPolicy;
 import com.azure.security.keyvault.keys.implementation.AzureKeyVaultConfiguration;
 import com.azure.security.keyvault.keys.models.JsonWebKey;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -73,6 +74,7 @@ public final class CryptographyClientBuilder {
     final RetryPolicy retryPolicy;
     private Configuration configuration;
     private CryptographyServiceVersion version;
+    private Duration keyTimeToLive;
 
     /**
      * The constructor with defaults.
@@ -129,7 +131,7 @@ public final class CryptographyClientBuilder {
             if (jsonWebKey != null) {
                 return new CryptographyAsyncClient(jsonWebKey, pipeline, serviceVersion);
             } else {
-                return new CryptographyAsyncClient(keyId, pipeline, serviceVersion);
+                return new CryptographyAsyncClient(keyId, pipeline, serviceVersion, keyTimeToLive);
             }
         }
 
@@ -143,7 +145,7 @@ public final class CryptographyClientBuilder {
         if (jsonWebKey != null) {
             return new CryptographyAsyncClient(jsonWebKey, pipeline, serviceVersion);
         } else {
-            return new CryptographyAsyncClient(keyId, pipeline, serviceVersion);
+            return new CryptographyAsyncClient(keyId, pipeline, serviceVersion, keyTimeToLive);
         }
     }
 
@@ -180,6 +182,10 @@ public final class CryptographyClientBuilder {
         return version;
     }
 
+    Duration getKeyTimeToLive() {
+        return keyTimeToLive;
+    }
+
     /**
      * Sets the identifier of the jsonWebKey from Azure Key Vault to be used for cryptography operations.
      *
@@ -289,4 +295,23 @@ public final class CryptographyClientBuilder {
         this.version = version;
         return this;
     }
+
+    /**
+     * Sets how long a client created with a {@link #keyIdentifier(String) key identifier} uses the key it retrieved
+     * before revalidating it with the service. The revalidation happens in the background while the cached key keeps
+     * being used, and a key that was deleted or can no longer be accessed stops being used locally.
+     *
+     * <p>If not set, the key is retrieved once and never revalidated.</p>
+     *
+     * @param keyTimeToLive How long the retrieved key is used before it's revalidated.
+     * @return The updated CryptographyClientBuilder object.
+     * @throws IllegalArgumentException If {@code keyTimeToLive} is zero or negative.
+     */
+    public CryptographyClientBuilder keyTimeToLive(Duration keyTimeToLive) {
+        if (keyTimeToLive != null && (keyTimeToLive.isZero() || keyTimeToLive.isNegative())) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'keyTimeToLive' must be positive."));
+        }
+        this.keyTimeToLive = keyTimeToLive;
+        return this;
+    }
 }
@@ -23,6 +23,7 @@ import java.net.URL;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 class CryptographyServiceClient {
     static final String API_VERSION = "7.0";
@@ -35,6 +36,7 @@ class CryptographyServiceClient {
     private String version;
     private String keyName;
     private final String keyId;
+    private final AtomicLong operationCount = new AtomicLong();
 
     CryptographyServiceClient(String keyId, CryptographyService service) {
         Objects.requireNonNull(keyId);
@@ -58,7 +60,7 @@ class CryptographyServiceClient {
     }
 
     Mono<EncryptResult> encrypt(EncryptionAlgorithm algorithm, byte[] plaintext, Context context) {
-
+        operationCount.incrementAndGet();
         KeyOperationParameters parameters = new KeyOperationParameters().setAlgorithm(algorithm).setValue(plaintext);
         return service.encrypt(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -72,6 +74,7 @@ class CryptographyServiceClient {
     }
 
     Mono<DecryptResult> decrypt(EncryptionAlgorithm algorithm, byte[] cipherText, Context context) {
+        operationCount.incrementAndGet();
         KeyOperationParameters parameters = new KeyOperationParameters().setAlgorithm(algorithm).setValue(cipherText);
         return service.decrypt(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -85,6 +88,7 @@ class CryptographyServiceClient {
     }
 
     Mono<SignResult> sign(SignatureAlgorithm algorithm, byte[] digest, Context context) {
+        operationCount.incrementAndGet();
         KeySignRequest parameters = new KeySignRequest().setAlgorithm(algorithm).setValue(digest);
         return service.sign(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -97,7 +101,7 @@ class CryptographyServiceClient {
     }
 
     Mono<VerifyResult> verify(SignatureAlgorithm algorithm, byte[] digest, byte[] signature, Context context) {
-
+        operationCount.incrementAndGet();
         KeyVerifyRequest parameters = new KeyVerifyRequest().setAlgorithm(algorithm).setDigest(digest).setSignature(signature);
         return service.verify(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -110,7 +114,7 @@ class CryptographyServiceClient {
     }
 
     Mono<WrapResult> wrapKey(KeyWrapAlgorithm algorithm, byte[] key, Context context) {
-
+        operationCount.incrementAndGet();
         KeyWrapUnwrapRequest parameters = new KeyWrapUnwrapRequest().setAlgorithm(algorithm).setValue(key);
         return service.wrapKey(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -124,7 +128,7 @@ class CryptographyServiceClient {
     }
 
     Mono<UnwrapResult> unwrapKey(KeyWrapAlgorithm algorithm, byte[] encryptedKey, Context context) {
-
+        operationCount.incrementAndGet();
         KeyWrapUnwrapRequest parameters = new KeyWrapUnwrapRequest().setAlgorithm(algorithm).setValue(encryptedKey);
         return service.unwrapKey(vaultUrl, keyName, version, API_VERSION, ACCEPT_LANGUAGE, parameters,
             CONTENT_TYPE_HEADER_VALUE, context)
@@ -141,7 +145,7 @@ class CryptographyServiceClient {
     Mono<SignResult> signData(SignatureAlgorithm algorithm, byte[] data, Context context) {
         try {
             HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
             return sign(algorithm, digest, context);
@@ -154,7 +158,7 @@ class CryptographyServiceClient {
     Mono<VerifyResult> verifyData(SignatureAlgorithm algorithm, byte[] data, byte[] signature, Context context) {
         try {
             HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
             return verify(algorithm, digest, signature, context);
@@ -163,6 +167,14 @@ class CryptographyServiceClient {
         }
     }
 
+    /*
+     * Gets the number of cryptography operations sent to the service. Hashing data before signing or verifying it
+     * doesn't count as a separate operation.
+     */
+    long getOperationCount() {
+        return operationCount.get();
+    }
+
     private void unpackId(String keyId) {
         if (keyId != null && keyId.length() > 0) {
             try {
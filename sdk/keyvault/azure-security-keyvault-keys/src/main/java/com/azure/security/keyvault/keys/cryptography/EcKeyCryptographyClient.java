@@ -166,7 +166,7 @@ class EcKeyCryptographyClient extends LocalKeyCryptographyClient {
     Mono<SignResult> signDataAsync(SignatureAlgorithm algorithm, byte[] data, Context context, JsonWebKey key) {
         try {
             HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
             return signAsync(algorithm, digest, context, key);
@@ -180,7 +180,7 @@ class EcKeyCryptographyClient extends LocalKeyCryptographyClient {
                                        JsonWebKey key) {
         try {
             HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
 
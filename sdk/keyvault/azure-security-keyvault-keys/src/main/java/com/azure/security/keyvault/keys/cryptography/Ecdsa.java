@@ -39,7 +39,7 @@ abstract class Ecdsa extends AsymmetricSignatureAlgorithm {
         @Override
         public byte[] sign(byte[] digest) throws GeneralSecurityException {
             checkDigestLength(digest);
-            Signature signature = Signature.getInstance(ALGORITHM, provider);
+            Signature signature = CryptoUtil.getSignature(ALGORITHM, provider);
             signature.initSign(keyPair.getPrivate());
             signature.update(digest);
             return SignatureEncoding.fromAsn1Der(signature.sign(), algorithm);
@@ -47,8 +47,8 @@ abstract class Ecdsa extends AsymmetricSignatureAlgorithm {
 
         @Override
         public boolean verify(byte[] digest, byte[] signature) throws GeneralSecurityException {
-            Signature verify = Signature.getInstance(ALGORITHM, provider);
             checkDigestLength(digest);
+            Signature verify = CryptoUtil.getSignature(ALGORITHM, provider);
             signature = SignatureEncoding.toAsn1Der(signature, algorithm);
             verify.initVerify(keyPair.getPublic());
             verify.update(digest);
@@ -3,20 +3,52 @@
 
 package com.azure.security.keyvault.keys.cryptography;
 
+import static com.azure.core.implementation.util.FluxUtil.fluxError;
 import static com.azure.core.implementation.util.FluxUtil.monoError;
 
 import com.azure.core.cryptography.AsyncKeyEncryptionKey;
 import com.azure.core.http.HttpPipeline;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.security.keyvault.keys.cryptography.models.KeyWrapAlgorithm;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A key client which is used to asynchronously encrypt, or wrap, another key.
  */
 public final class KeyEncryptionKeyAsyncClient extends CryptographyAsyncClient implements AsyncKeyEncryptionKey {
 
+    static final int DEFAULT_MAX_CONCURRENCY = 16;
+    private static final int UNWRAPPED_KEY_SWEEP_INTERVAL = 256;
+
     private final ClientLogger logger = new ClientLogger(KeyEncryptionKeyAsyncClient.class);
+    private final int maxConcurrency;
+    private final long unwrappedKeyTimeToLiveNanos;
+    private final Map<UnwrappedKeyId, UnwrappedKey> unwrappedKeys = new ConcurrentHashMap<>();
+    private final AtomicInteger unwrappedKeysAdded = new AtomicInteger();
+
+    /**
+     * Creates a KeyEncryptionKeyAsyncClient that uses {@code pipeline} to service requests
+     *
+     * @param keyId The identifier of the key to use for cryptography operations.
+     * @param pipeline The HttpPipeline that the HTTP requests and responses flow through.
+     * @param version {@link CryptographyServiceVersion} of the service to be used when making requests.
+     * @param keyTimeToLive How long the retrieved key is used before it's revalidated, or {@code null} to never
+     * revalidate it.
+     */
+    KeyEncryptionKeyAsyncClient(String keyId, HttpPipeline pipeline, CryptographyServiceVersion version,
+                                Duration keyTimeToLive) {
+        this(keyId, pipeline, version, keyTimeToLive, DEFAULT_MAX_CONCURRENCY, null);
+    }
 
     /**
      * Creates a KeyEncryptionKeyAsyncClient that uses {@code pipeline} to service requests
@@ -24,9 +56,16 @@ public final class KeyEncryptionKeyAsyncClient extends CryptographyAsyncClient i
      * @param keyId The identifier of the key to use for cryptography operations.
      * @param pipeline The HttpPipeline that the HTTP requests and responses flow through.
      * @param version {@link CryptographyServiceVersion} of the service to be used when making requests.
+     * @param keyTimeToLive How long the retrieved key is used before it's revalidated, or {@code null} to never
+     * revalidate it.
+     * @param maxConcurrency The maximum number of keys wrapped or unwrapped concurrently by a batch operation.
+     * @param unwrappedKeyTimeToLive How long unwrapped keys are kept in memory, or {@code null} to not keep them.
      */
-    KeyEncryptionKeyAsyncClient(String keyId, HttpPipeline pipeline, CryptographyServiceVersion version) {
-        super(keyId, pipeline, version);
+    KeyEncryptionKeyAsyncClient(String keyId, HttpPipeline pipeline, CryptographyServiceVersion version,
+                                Duration keyTimeToLive, int maxConcurrency, Duration unwrappedKeyTimeToLive) {
+        super(keyId, pipeline, version, keyTimeToLive);
+        this.maxConcurrency = maxConcurrency;
+        this.unwrappedKeyTimeToLiveNanos = unwrappedKeyTimeToLive == null ? 0 : unwrappedKeyTimeToLive.toNanos();
     }
 
     /**
@@ -61,9 +100,113 @@ public final class KeyEncryptionKeyAsyncClient extends CryptographyAsyncClient i
     public Mono<byte[]> unwrapKey(String algorithm, byte[] encryptedKey) {
         try {
             KeyWrapAlgorithm wrapAlgorithm = KeyWrapAlgorithm.fromString(algorithm);
-            return unwrapKey(wrapAlgorithm, encryptedKey).flatMap(keyUnwrapResult -> Mono.just(keyUnwrapResult.getKey()));
+            if (unwrappedKeyTimeToLiveNanos == 0) {
+                return unwrapKey(wrapAlgorithm, encryptedKey)
+                    .flatMap(keyUnwrapResult -> Mono.just(keyUnwrapResult.getKey()));
+            }
+            return getUnwrappedKey(wrapAlgorithm, encryptedKey).map(byte[]::clone);
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
     }
+
+    /**
+     * Wraps keys with the configured key, wrapping up to the configured maximum concurrency of keys at a time.
+     *
+     * @param algorithm The encryption algorithm to use for wrapping the keys.
+     * @param keys The keys to be wrapped.
+     * @return A {@link Flux} containing the wrapped keys, in the order of {@code keys}.
+     * @throws NullPointerException If {@code algorithm} or {@code keys} is {@code null}.
+     */
+    public Flux<byte[]> wrapKeys(String algorithm, List<byte[]> keys) {
+        try {
+            Objects.requireNonNull(algorithm, "'algorithm' cannot be null.");
+            Objects.requireNonNull(keys, "'keys' cannot be null.");
+            return Flux.fromIterable(keys).flatMapSequential(key -> wrapKey(algorithm, key), maxConcurrency);
+        } catch (RuntimeException ex) {
+            return fluxError(logger, ex);
+        }
+    }
+
+    /**
+     * Unwraps keys with the configured key, unwrapping up to the configured maximum concurrency of keys at a time.
+     * Identical encrypted keys are only unwrapped once.
+     *
+     * @param algorithm The encryption algorithm to use for unwrapping the keys.
+     * @param encryptedKeys The encrypted keys to be unwrapped.
+     * @return A {@link Flux} containing the unwrapped keys, in the order of {@code encryptedKeys}.
+     * @throws NullPointerException If {@code algorithm} or {@code encryptedKeys} is {@code null}.
+     */
+    public Flux<byte[]> unwrapKeys(String algorithm, List<byte[]> encryptedKeys) {
+        try {
+            Objects.requireNonNull(algorithm, "'algorithm' cannot be null.");
+            Objects.requireNonNull(encryptedKeys, "'encryptedKeys' cannot be null.");
+
+            Map<ByteBuffer, Mono<byte[]>> unwraps = new HashMap<>();
+            for (byte[] encryptedKey : encryptedKeys) {
+                unwraps.computeIfAbsent(ByteBuffer.wrap(encryptedKey),
+                    ignored -> unwrapKey(algorithm, encryptedKey).cache());
+            }
+            // Duplicates share the unwrap of their first occurrence, and each gets its own copy of the key.
+            return Flux.fromIterable(encryptedKeys)
+                .flatMapSequential(encryptedKey -> unwraps.get(ByteBuffer.wrap(encryptedKey)), maxConcurrency)
+                .map(byte[]::clone);
+        } catch (RuntimeException ex) {
+            return fluxError(logger, ex);
+        }
+    }
+
+    private Mono<byte[]> getUnwrappedKey(KeyWrapAlgorithm algorithm, byte[] encryptedKey) {
+        UnwrappedKeyId id = new UnwrappedKeyId(algorithm, encryptedKey);
+        long now = System.nanoTime();
+        UnwrappedKey unwrappedKey = unwrappedKeys.get(id);
+        if (unwrappedKey != null && now - unwrappedKey.createdNanos < unwrappedKeyTimeToLiveNanos) {
+            return unwrappedKey.key;
+        }
+
+        UnwrappedKey created = new UnwrappedKey(now);
+        created.key = unwrapKey(algorithm, encryptedKey)
+            .map(keyUnwrapResult -> keyUnwrapResult.getKey())
+            .doOnError(ignored -> unwrappedKeys.remove(id, created))
+            .cache();
+        UnwrappedKey current = unwrappedKeys.merge(id, created, (existing, ignored) ->
+            now - existing.createdNanos < unwrappedKeyTimeToLiveNanos ? existing : created);
+        if (unwrappedKeysAdded.incrementAndGet() % UNWRAPPED_KEY_SWEEP_INTERVAL == 0) {
+            unwrappedKeys.values().removeIf(key -> now - key.createdNanos >= unwrappedKeyTimeToLiveNanos);
+        }
+        return current.key;
+    }
+
+    private static final class UnwrappedKeyId {
+        private final KeyWrapAlgorithm algorithm;
+        private final ByteBuffer encryptedKey;
+
+        UnwrappedKeyId(KeyWrapAlgorithm algorithm, byte[] encryptedKey) {
+            this.algorithm = algorithm;
+            this.encryptedKey = ByteBuffer.wrap(encryptedKey.clone());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof UnwrappedKeyId)) {
+                return false;
+            }
+            UnwrappedKeyId other = (UnwrappedKeyId) obj;
+            return algorithm.equals(other.algorithm) && encryptedKey.equals(other.encryptedKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * algorithm.hashCode() + encryptedKey.hashCode();
+        }
+    }
+
+    private static final class UnwrappedKey {
+        private final long createdNanos;
+        private Mono<byte[]> key;
+
+        UnwrappedKey(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
 }
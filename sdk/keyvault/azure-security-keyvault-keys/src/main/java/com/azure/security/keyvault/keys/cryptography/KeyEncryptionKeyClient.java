@@ -5,6 +5,8 @@ package com.azure.security.keyvault.keys.cryptography;
 
 import com.azure.core.cryptography.KeyEncryptionKey;
 
+import java.util.List;
+
 /**
  * A key client which is used to asynchronously encrypt, or wrap, another key.
  */
@@ -43,4 +45,29 @@ public final class KeyEncryptionKeyClient implements KeyEncryptionKey {
     public byte[] unwrapKey(String algorithm, byte[] encryptedKey) {
         return client.unwrapKey(algorithm, encryptedKey).block();
     }
+
+    /**
+     * Wraps keys with the configured key, wrapping up to the configured maximum concurrency of keys at a time.
+     *
+     * @param algorithm The encryption algorithm to use for wrapping the keys.
+     * @param keys The keys to be wrapped.
+     * @return The wrapped keys, in the order of {@code keys}.
+     * @throws NullPointerException If {@code algorithm} or {@code keys} is {@code null}.
+     */
+    public List<byte[]> wrapKeys(String algorithm, List<byte[]> keys) {
+        return client.wrapKeys(algorithm, keys).collectList().block();
+    }
+
+    /**
+     * Unwraps keys with the configured key, unwrapping up to the configured maximum concurrency of keys at a time.
+     * Identical encrypted keys are only unwrapped once.
+     *
+     * @param algorithm The encryption algorithm to use for unwrapping the keys.
+     * @param encryptedKeys The encrypted keys to be unwrapped.
+     * @return The unwrapped keys, in the order of {@code encryptedKeys}.
+     * @throws NullPointerException If {@code algorithm} or {@code encryptedKeys} is {@code null}.
+     */
+    public List<byte[]> unwrapKeys(String algorithm, List<byte[]> encryptedKeys) {
+        return client.unwrapKeys(algorithm, encryptedKeys).collectList().block();
+    }
 }
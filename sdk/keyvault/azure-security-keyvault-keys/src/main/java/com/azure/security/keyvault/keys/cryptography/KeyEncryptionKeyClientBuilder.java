@@ -19,6 +19,8 @@ import com.azure.core.util.Configuration;
 import com.azure.core.util.logging.ClientLogger;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 /**
  * This class provides a fluent builder API to help aid the configuration and instantiation of the {@link
  * AsyncKeyEncryptionKey KeyEncryptionKey async client} and {@link KeyEncryptionKey KeyEncryptionKey sync client},
@@ -48,6 +50,8 @@ import reactor.core.publisher.Mono;
 public final class KeyEncryptionKeyClientBuilder implements KeyEncryptionKeyResolver, AsyncKeyEncryptionKeyResolver {
     private final ClientLogger logger = new ClientLogger(KeyEncryptionKeyClientBuilder.class);
     private final CryptographyClientBuilder builder;
+    private int maxConcurrency = KeyEncryptionKeyAsyncClient.DEFAULT_MAX_CONCURRENCY;
+    private Duration unwrappedKeyTimeToLive;
 
     /**
      * The constructor with defaults.
@@ -101,7 +105,8 @@ public final class KeyEncryptionKeyClientBuilder implements KeyEncryptionKeyReso
         CryptographyServiceVersion serviceVersion = builder.getServiceVersion() != null ? builder.getServiceVersion() : CryptographyServiceVersion.getLatest();
 
         if (builder.getPipeline() != null) {
-            return Mono.defer(() -> Mono.just(new KeyEncryptionKeyAsyncClient(keyId, builder.getPipeline(), serviceVersion)));
+            return Mono.defer(() -> Mono.just(new KeyEncryptionKeyAsyncClient(keyId, builder.getPipeline(), serviceVersion,
+                builder.getKeyTimeToLive(), maxConcurrency, unwrappedKeyTimeToLive)));
         }
 
         if (builder.getCredential() == null) {
@@ -111,7 +116,8 @@ public final class KeyEncryptionKeyClientBuilder implements KeyEncryptionKeyReso
 
         HttpPipeline pipeline = builder.setupPipeline(serviceVersion);
 
-        return Mono.defer(() -> Mono.just(new KeyEncryptionKeyAsyncClient(keyId, pipeline, serviceVersion)));
+        return Mono.defer(() -> Mono.just(new KeyEncryptionKeyAsyncClient(keyId, pipeline, serviceVersion,
+            builder.getKeyTimeToLive(), maxConcurrency, unwrappedKeyTimeToLive)));
     }
 
     /**
@@ -206,4 +212,53 @@ public final class KeyEncryptionKeyClientBuilder implements KeyEncryptionKeyReso
         builder.serviceVersion(version);
         return this;
     }
+
+    /**
+     * Sets how long the key encryption key uses the key it retrieved before revalidating it with the service.
+     *
+     * @param keyTimeToLive How long the retrieved key is used before it's revalidated.
+     * @return The updated builder object.
+     * @throws IllegalArgumentException If {@code keyTimeToLive} is zero or negative.
+     * @see CryptographyClientBuilder#keyTimeToLive(Duration)
+     */
+    public KeyEncryptionKeyClientBuilder keyTimeToLive(Duration keyTimeToLive) {
+        builder.keyTimeToLive(keyTimeToLive);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of keys a batch operation, such as
+     * {@link KeyEncryptionKeyAsyncClient#unwrapKeys(String, java.util.List)}, wraps or unwraps concurrently. Defaults
+     * to 16.
+     *
+     * @param maxConcurrency The maximum number of keys wrapped or unwrapped concurrently.
+     * @return The updated builder object.
+     * @throws IllegalArgumentException If {@code maxConcurrency} is not positive.
+     */
+    public KeyEncryptionKeyClientBuilder maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxConcurrency' must be positive."));
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Sets how long unwrapped keys are kept in memory, so unwrapping the same encrypted key again, for example to
+     * decrypt several blobs that share a content encryption key, doesn't call the service. By default unwrapped keys
+     * aren't kept.
+     *
+     * @param unwrappedKeyTimeToLive How long unwrapped keys are kept in memory, or {@code null} to not keep them.
+     * @return The updated builder object.
+     * @throws IllegalArgumentException If {@code unwrappedKeyTimeToLive} is zero or negative.
+     */
+    public KeyEncryptionKeyClientBuilder unwrappedKeyTimeToLive(Duration unwrappedKeyTimeToLive) {
+        if (unwrappedKeyTimeToLive != null
+            && (unwrappedKeyTimeToLive.isZero() || unwrappedKeyTimeToLive.isNegative())) {
+            throw logger.logExceptionAsError(
+                new IllegalArgumentException("'unwrappedKeyTimeToLive' must be positive."));
+        }
+        this.unwrappedKeyTimeToLive = unwrappedKeyTimeToLive;
+        return this;
+    }
 }
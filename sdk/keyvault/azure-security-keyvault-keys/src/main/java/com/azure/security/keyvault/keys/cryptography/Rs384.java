@@ -0,0 +1,26 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+class Rs384 extends RsaSsaPkcs1 {
+    public static final String ALGORITHM_NAME = "RS384";
+
+    private static final byte[] DIGEST_INFO_PREFIX = new byte[]{
+        0x30, 0x41, 0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x02, 0x05, 0x00,
+        0x04, 0x30};
+
+    Rs384() {
+        super(ALGORITHM_NAME);
+    }
+
+    @Override
+    byte[] getDigestInfoPrefix() {
+        return DIGEST_INFO_PREFIX;
+    }
+
+    @Override
+    int getDigestLength() {
+        return 48;
+    }
+}
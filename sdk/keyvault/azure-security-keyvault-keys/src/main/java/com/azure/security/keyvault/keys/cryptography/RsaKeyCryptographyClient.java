@@ -23,10 +23,15 @@ import java.security.InvalidKeyException;
 import java.security.KeyPair;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
     private KeyPair keyPair;
 
+    // An initialized RSA cipher is reset by doFinal, so each thread reuses one per algorithm and mode.
+    private final ThreadLocal<Map<String, ICryptoTransform>> transforms = ThreadLocal.withInitial(HashMap::new);
+
     /*
      * Creates a RsaKeyCryptographyClient that uses {@code serviceClient) to service requests
      *
@@ -75,11 +80,8 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         AsymmetricEncryptionAlgorithm algo = (AsymmetricEncryptionAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform;
-
         try {
-            transform = algo.createEncryptor(keyPair);
-            return Mono.just(new EncryptResult(transform.doFinal(plaintext), algorithm, jsonWebKey.getId()));
+            return Mono.just(new EncryptResult(transform(algo, true, plaintext), algorithm, jsonWebKey.getId()));
         } catch (InvalidKeyException
             | NoSuchAlgorithmException
             | NoSuchPaddingException
@@ -116,11 +118,8 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         AsymmetricEncryptionAlgorithm algo = (AsymmetricEncryptionAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform;
-
         try {
-            transform = algo.createDecryptor(keyPair);
-            return Mono.just(new DecryptResult(transform.doFinal(cipherText), algorithm, jsonWebKey.getId()));
+            return Mono.just(new DecryptResult(transform(algo, false, cipherText), algorithm, jsonWebKey.getId()));
         } catch (InvalidKeyException
             | NoSuchAlgorithmException
             | NoSuchPaddingException
@@ -132,16 +131,49 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
 
     @Override
     Mono<SignResult> signAsync(SignatureAlgorithm algorithm, byte[] digest, Context context, JsonWebKey key) {
+        keyPair = getKeyPair(key);
+
+        // Only the RSxxx algorithms are done locally, and only with the private key at hand.
+        Algorithm baseAlgorithm = AlgorithmResolver.Default.get(algorithm.toString());
 
-        return serviceClient.sign(algorithm, digest, context);
+        if (!(baseAlgorithm instanceof RsaSsaPkcs1) || keyPair.getPrivate() == null) {
+            if (serviceCryptoAvailable()) {
+                return serviceClient.sign(algorithm, digest, context);
+            }
+            return Mono.error(new NoSuchAlgorithmException(algorithm.toString()));
+        }
+
+        ISignatureTransform signer = ((RsaSsaPkcs1) baseAlgorithm).createSignatureTransform(keyPair, null);
+
+        try {
+            return Mono.just(new SignResult(signer.sign(digest), algorithm, key.getId()));
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
     }
 
     @Override
     Mono<VerifyResult> verifyAsync(SignatureAlgorithm algorithm, byte[] digest, byte[] signature, Context context,
                                    JsonWebKey key) {
+        keyPair = getKeyPair(key);
+
+        // Only the RSxxx algorithms are done locally, the PSxxx ones are verified by the service.
+        Algorithm baseAlgorithm = AlgorithmResolver.Default.get(algorithm.toString());
+
+        if (!(baseAlgorithm instanceof RsaSsaPkcs1) || keyPair.getPublic() == null) {
+            if (serviceCryptoAvailable()) {
+                return serviceClient.verify(algorithm, digest, signature, context);
+            }
+            return Mono.error(new NoSuchAlgorithmException(algorithm.toString()));
+        }
+
+        ISignatureTransform verifier = ((RsaSsaPkcs1) baseAlgorithm).createSignatureTransform(keyPair, null);
 
-        return serviceClient.verify(algorithm, digest, signature, context);
-        // do a service call for now.
+        try {
+            return Mono.just(new VerifyResult(verifier.verify(digest, signature), algorithm, key.getId()));
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
     }
 
     @Override
@@ -170,11 +202,8 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         AsymmetricEncryptionAlgorithm algo = (AsymmetricEncryptionAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform;
-
         try {
-            transform = algo.createEncryptor(keyPair);
-            return Mono.just(new WrapResult(transform.doFinal(key), algorithm, jsonWebKey.getId()));
+            return Mono.just(new WrapResult(transform(algo, true, key), algorithm, jsonWebKey.getId()));
         } catch (InvalidKeyException
             | NoSuchAlgorithmException
             | NoSuchPaddingException
@@ -212,11 +241,8 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         AsymmetricEncryptionAlgorithm algo = (AsymmetricEncryptionAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform;
-
         try {
-            transform = algo.createDecryptor(keyPair);
-            return Mono.just(new UnwrapResult(transform.doFinal(encryptedKey), algorithm, jsonWebKey.getId()));
+            return Mono.just(new UnwrapResult(transform(algo, false, encryptedKey), algorithm, jsonWebKey.getId()));
         } catch (InvalidKeyException
             | NoSuchAlgorithmException
             | NoSuchPaddingException
@@ -230,7 +256,7 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
     Mono<SignResult> signDataAsync(SignatureAlgorithm algorithm, byte[] data, Context context, JsonWebKey key) {
         try {
             HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
             return signAsync(algorithm, digest, context, key);
@@ -244,7 +270,7 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
                                        JsonWebKey key) {
         HashAlgorithm hashAlgorithm = SignatureHashResolver.DEFAULT.get(algorithm);
         try {
-            MessageDigest md = MessageDigest.getInstance(hashAlgorithm.toString());
+            MessageDigest md = CryptoUtil.getMessageDigest(hashAlgorithm.toString());
             md.update(data);
             byte[] digest = md.digest();
             return verifyAsync(algorithm, digest, signature, context, key);
@@ -253,6 +279,30 @@ class RsaKeyCryptographyClient extends LocalKeyCryptographyClient {
         }
     }
 
+    private byte[] transform(AsymmetricEncryptionAlgorithm algorithm, boolean encrypt, byte[] input)
+        throws InvalidKeyException, NoSuchAlgorithmException, NoSuchPaddingException, IllegalBlockSizeException,
+        BadPaddingException {
+        Map<String, ICryptoTransform> cache = transforms.get();
+        String cacheKey = (encrypt ? "encrypt/" : "decrypt/") + algorithm.getName();
+        ICryptoTransform transform = cache.get(cacheKey);
+        if (transform == null) {
+            transform = encrypt ? algorithm.createEncryptor(keyPair) : algorithm.createDecryptor(keyPair);
+            cache.put(cacheKey, transform);
+        }
+
+        boolean succeeded = false;
+        try {
+            byte[] output = transform.doFinal(input);
+            succeeded = true;
+            return output;
+        } finally {
+            if (!succeeded) {
+                // Don't reuse a cipher that failed part way through
+                cache.remove(cacheKey);
+            }
+        }
+    }
+
     private boolean serviceCryptoAvailable() {
         return serviceClient != null;
     }
@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+import com.azure.core.util.logging.ClientLogger;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.SignatureException;
+
+/*
+ * RSASSA-PKCS1-v1_5 signatures over a precomputed digest. The digest is wrapped in its DigestInfo structure and
+ * signed with the raw "NONEwithRSA" signature, which is what the service does for the RSxxx algorithms.
+ */
+abstract class RsaSsaPkcs1 extends AsymmetricSignatureAlgorithm {
+    private static final String ALGORITHM = "NONEwithRSA";
+    private final ClientLogger logger = new ClientLogger(RsaSsaPkcs1.class);
+
+    protected RsaSsaPkcs1(String name) {
+        super(name);
+    }
+
+    public ISignatureTransform createSignatureTransform(KeyPair key, Provider provider) {
+        return new RsaSsaPkcs1SignatureTransform(key, provider);
+    }
+
+    /*
+     * The DER encoding of the DigestInfo structure that precedes the digest.
+     */
+    abstract byte[] getDigestInfoPrefix();
+
+    abstract int getDigestLength();
+
+    class RsaSsaPkcs1SignatureTransform implements ISignatureTransform {
+        private final KeyPair keyPair;
+        private final Provider provider;
+
+        RsaSsaPkcs1SignatureTransform(KeyPair keyPair, Provider provider) {
+            this.keyPair = keyPair;
+            this.provider = provider;
+        }
+
+        @Override
+        public byte[] sign(byte[] digest) throws GeneralSecurityException {
+            Signature signature = CryptoUtil.getSignature(ALGORITHM, provider);
+            signature.initSign(keyPair.getPrivate());
+            updateDigestInfo(signature, digest);
+            return signature.sign();
+        }
+
+        @Override
+        public boolean verify(byte[] digest, byte[] signature) throws GeneralSecurityException {
+            Signature verify = CryptoUtil.getSignature(ALGORITHM, provider);
+            verify.initVerify(keyPair.getPublic());
+            updateDigestInfo(verify, digest);
+            try {
+                return verify.verify(signature);
+            } catch (SignatureException e) {
+                // A signature of the wrong length is simply not valid, as the service reports it.
+                return false;
+            }
+        }
+
+        private void updateDigestInfo(Signature signature, byte[] digest) throws SignatureException {
+            if (digest.length != getDigestLength()) {
+                throw logger.logExceptionAsError(new IllegalArgumentException("Invalid digest length."));
+            }
+            signature.update(getDigestInfoPrefix());
+            signature.update(digest);
+        }
+    }
+}
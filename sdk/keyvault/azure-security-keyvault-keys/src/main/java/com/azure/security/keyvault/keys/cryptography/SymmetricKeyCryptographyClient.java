@@ -18,12 +18,17 @@ import com.azure.security.keyvault.keys.models.JsonWebKey;
 import reactor.core.publisher.Mono;
 
 import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
 
 class SymmetricKeyCryptographyClient extends LocalKeyCryptographyClient {
     private final ClientLogger logger = new ClientLogger(SymmetricKeyCryptographyClient.class);
 
     private byte[] key;
 
+    // An initialized AES key wrap cipher can be reused, so each thread keeps one per algorithm and mode.
+    private final ThreadLocal<Map<String, ICryptoTransform>> transforms = ThreadLocal.withInitial(HashMap::new);
+
     /*
      * Creates a RsaKeyCryptographyClient that uses {@code serviceClient) to service requests
      *
@@ -85,18 +90,10 @@ class SymmetricKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         LocalKeyWrapAlgorithm algo = (LocalKeyWrapAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform = null;
-
-        try {
-            transform = algo.createEncryptor(this.key, null, null);
-        } catch (Exception e) {
-            return Mono.error(e);
-        }
-
-        byte[] encrypted = null;
+        byte[] encrypted;
 
         try {
-            encrypted = transform.doFinal(key);
+            encrypted = transform(algo, true, key);
         } catch (Exception e) {
             return Mono.error(e);
         }
@@ -117,18 +114,10 @@ class SymmetricKeyCryptographyClient extends LocalKeyCryptographyClient {
 
         LocalKeyWrapAlgorithm algo = (LocalKeyWrapAlgorithm) baseAlgorithm;
 
-        ICryptoTransform transform;
-
-        try {
-            transform = algo.createDecryptor(key, null, null);
-        } catch (Exception e) {
-            return Mono.error(e);
-        }
-
         byte[] decrypted;
 
         try {
-            decrypted = transform.doFinal(encryptedKey);
+            decrypted = transform(algo, false, encryptedKey);
         } catch (Exception e) {
             return Mono.error(e);
         }
@@ -146,4 +135,26 @@ class SymmetricKeyCryptographyClient extends LocalKeyCryptographyClient {
                                        JsonWebKey key) {
         return verifyAsync(algorithm, data, signature, context, key);
     }
+
+    private byte[] transform(LocalKeyWrapAlgorithm algorithm, boolean encrypt, byte[] input) throws Exception {
+        Map<String, ICryptoTransform> cache = transforms.get();
+        String cacheKey = (encrypt ? "wrap/" : "unwrap/") + algorithm.getName();
+        ICryptoTransform transform = cache.get(cacheKey);
+        if (transform == null) {
+            transform = encrypt ? algorithm.createEncryptor(key, null, null) : algorithm.createDecryptor(key, null, null);
+            cache.put(cacheKey, transform);
+        }
+
+        boolean succeeded = false;
+        try {
+            byte[] output = transform.doFinal(input);
+            succeeded = true;
+            return output;
+        } finally {
+            if (!succeeded) {
+                // Don't reuse a cipher that failed part way through
+                cache.remove(cacheKey);
+            }
+        }
+    }
 }
@@ -0,0 +1,129 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.security.keyvault.keys.cryptography.models.KeyWrapAlgorithm;
+import com.azure.security.keyvault.keys.cryptography.models.SignatureAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CryptographyAsyncClientKeyCacheTest {
+    private static final String KEY_ID = "https://contoso.vault.azure.net/keys/key1/0123456789abcdef";
+    private static final String KEY_PATH = "/keys/key1/0123456789abcdef";
+
+    private KeyPair keyPair;
+    private FakeKeyVault keyVault;
+    private List<String> requests;
+
+    @Before
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        keyVault = new FakeKeyVault(KEY_ID, (RSAPublicKey) keyPair.getPublic(), "encrypt", "decrypt", "sign",
+            "verify", "wrapKey", "unwrapKey");
+        requests = keyVault.getRequests();
+    }
+
+    @Test
+    public void publicKeyOperationsArePerformedLocally() throws Exception {
+        CryptographyAsyncClient client = createClient(null);
+        byte[] dataKey = new byte[32];
+
+        for (int i = 0; i < 3; i++) {
+            byte[] wrapped = client.wrapKey(KeyWrapAlgorithm.RSA_OAEP, dataKey).block().getEncryptedKey();
+            assertArrayEquals(dataKey, unwrapLocally(wrapped));
+        }
+        // The private portion of the key stays in the vault
+        byte[] encryptedKey = new byte[256];
+        encryptedKey[0] = 1;
+        assertArrayEquals(encryptedKey, client.unwrapKey(KeyWrapAlgorithm.RSA_OAEP, encryptedKey).block().getKey());
+
+        assertEquals(Arrays.asList("GET " + KEY_PATH, "POST " + KEY_PATH + "/unwrapkey"), requests);
+        assertEquals(3, client.getLocalOperationCount());
+        assertEquals(1, client.getServiceOperationCount());
+    }
+
+    @Test
+    public void rsaSignaturesAreVerifiedLocally() throws Exception {
+        CryptographyAsyncClient client = createClient(null);
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        for (String algorithm : new String[]{"SHA256withRSA", "SHA384withRSA", "SHA512withRSA"}) {
+            Signature signer = Signature.getInstance(algorithm);
+            signer.initSign(keyPair.getPrivate());
+            signer.update(data);
+            byte[] signature = signer.sign();
+            SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.fromString("RS" + algorithm.substring(3, 6));
+
+            assertTrue(client.verifyData(signatureAlgorithm, data, signature).block().isValid());
+            signature[0] ^= 1;
+            assertFalse(client.verifyData(signatureAlgorithm, data, signature).block().isValid());
+        }
+
+        assertEquals(Arrays.asList("GET " + KEY_PATH), requests);
+        assertEquals(0, client.getServiceOperationCount());
+    }
+
+    @Test
+    public void failedKeyRetrievalIsNotRetriedOnEveryOperation() {
+        keyVault.setGetKeyStatusCode(403);
+        CryptographyAsyncClient client = createClient(null);
+
+        client.wrapKey(KeyWrapAlgorithm.RSA_OAEP, new byte[32]).block();
+        client.wrapKey(KeyWrapAlgorithm.RSA_OAEP, new byte[32]).block();
+
+        assertEquals(Arrays.asList("GET " + KEY_PATH, "POST " + KEY_PATH + "/wrapkey", "POST " + KEY_PATH + "/wrapkey"),
+            requests);
+        assertEquals(2, client.getServiceOperationCount());
+    }
+
+    @Test
+    public void expiredKeyIsRevalidated() throws Exception {
+        CryptographyAsyncClient client = createClient(Duration.ofMillis(200));
+        client.refreshKey().block();
+        client.wrapKey(KeyWrapAlgorithm.RSA_OAEP, new byte[32]).block();
+        keyVault.setGetKeyStatusCode(404);
+        Thread.sleep(250);
+
+        // The key is revalidated in the background, and once it's gone operations are sent to the service
+        for (int i = 0; i < 100 && !requests.contains("POST " + KEY_PATH + "/wrapkey"); i++) {
+            client.wrapKey(KeyWrapAlgorithm.RSA_OAEP, new byte[32]).block();
+            Thread.sleep(10);
+        }
+
+        assertEquals(Arrays.asList("GET " + KEY_PATH, "GET " + KEY_PATH), requests.subList(0, 2));
+        assertTrue(requests.contains("POST " + KEY_PATH + "/wrapkey"));
+        assertTrue(client.getLocalOperationCount() >= 1);
+    }
+
+    private CryptographyAsyncClient createClient(Duration keyTimeToLive) {
+        return new CryptographyClientBuilder()
+            .pipeline(new HttpPipelineBuilder().httpClient(keyVault).build())
+            .keyIdentifier(KEY_ID)
+            .keyTimeToLive(keyTimeToLive)
+            .buildAsyncClient();
+    }
+
+    private byte[] unwrapLocally(byte[] wrapped) throws Exception {
+        Cipher cipher = Cipher.getInstance(RsaOaep.RSAOAEP);
+        cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+        return cipher.doFinal(wrapped);
+    }
+}
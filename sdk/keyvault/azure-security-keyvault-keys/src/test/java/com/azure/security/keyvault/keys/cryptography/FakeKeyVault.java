@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.implementation.util.FluxUtil;
+import com.azure.core.test.http.MockHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Key vault serving a single RSA key, used by the tests that check which cryptography operations are sent to the
+ * service. Key operations return the value they're sent, and every request is recorded for the tests to assert on.
+ */
+class FakeKeyVault implements HttpClient {
+    private static final Pattern VALUE = Pattern.compile("\"value\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String keyId;
+    private final RSAPublicKey publicKey;
+    private final List<String> keyOperations;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int getKeyStatusCode = 200;
+    private volatile Duration operationLatency = Duration.ZERO;
+
+    FakeKeyVault(String keyId, RSAPublicKey publicKey, String... keyOperations) {
+        this.keyId = keyId;
+        this.publicKey = publicKey;
+        this.keyOperations = Arrays.asList(keyOperations);
+    }
+
+    /**
+     * @return The method and path of every request served, in order.
+     */
+    List<String> getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return The number of key operations served at the same time at most.
+     */
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    void setGetKeyStatusCode(int getKeyStatusCode) {
+        this.getKeyStatusCode = getKeyStatusCode;
+    }
+
+    /**
+     * Sets how long each key operation stays in flight before it's answered.
+     */
+    void setOperationLatency(Duration operationLatency) {
+        this.operationLatency = operationLatency;
+    }
+
+    @Override
+    public Mono<HttpResponse> send(HttpRequest request) {
+        requests.add(request.getHttpMethod() + " " + request.getUrl().getPath());
+        HttpHeaders headers = new HttpHeaders().put("Content-Type", "application/json");
+        Map<String, Object> body = new HashMap<>();
+
+        if (request.getHttpMethod() == HttpMethod.GET) {
+            if (getKeyStatusCode != 200) {
+                return Mono.just(new MockHttpResponse(request, getKeyStatusCode, headers, body));
+            }
+            Map<String, Object> key = new HashMap<>();
+            key.put("kid", keyId);
+            key.put("kty", "RSA");
+            key.put("key_ops", keyOperations);
+            key.put("n", base64Url(publicKey.getModulus().toByteArray()));
+            key.put("e", base64Url(publicKey.getPublicExponent().toByteArray()));
+            body.put("key", key);
+            body.put("attributes", new HashMap<>());
+            return Mono.just(new MockHttpResponse(request, 200, headers, body));
+        }
+
+        Mono<HttpResponse> response = FluxUtil.collectBytesInByteBufferStream(request.getBody())
+            .map(requestBody -> {
+                Matcher value = VALUE.matcher(new String(requestBody, StandardCharsets.UTF_8));
+                body.put("kid", keyId);
+                body.put("value", value.find() ? value.group(1) : "");
+                return new MockHttpResponse(request, 200, headers, body);
+            });
+        Duration latency = operationLatency;
+        if (!latency.isZero()) {
+            response = response.delayElement(latency);
+        }
+        return response
+            .doOnSubscribe(ignored -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+            .doOnSuccess(ignored -> inFlight.decrementAndGet());
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+import com.azure.core.http.HttpPipelineBuilder;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to unwrap a list of keys with one unwrapKey call per key, and with a single unwrapKeys call, from a
+ * key vault answering each unwrap after a fixed latency.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class KeyEncryptionKeyBatchBenchMark {
+    private static final String KEY_ID = "https://contoso.vault.azure.net/keys/key1/0123456789abcdef";
+    private static final int KEY_COUNT = 32;
+
+    @Param({"1", "4", "16"})
+    private int maxConcurrency;
+
+    private KeyEncryptionKeyAsyncClient client;
+    private List<byte[]> encryptedKeys;
+
+    @Setup
+    public void setup() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        FakeKeyVault keyVault = new FakeKeyVault(KEY_ID, (RSAPublicKey) generator.generateKeyPair().getPublic(),
+            "wrapKey", "unwrapKey");
+        keyVault.setOperationLatency(Duration.ofMillis(20));
+        client = (KeyEncryptionKeyAsyncClient) new KeyEncryptionKeyClientBuilder()
+            .pipeline(new HttpPipelineBuilder().httpClient(keyVault).build())
+            .maxConcurrency(maxConcurrency)
+            .buildAsyncKeyEncryptionKey(KEY_ID)
+            .block();
+        client.refreshKey().block();
+
+        encryptedKeys = new ArrayList<>();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            encryptedKeys.add(("key" + i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public List<byte[]> unwrapKey() {
+        List<byte[]> keys = new ArrayList<>();
+        for (byte[] encryptedKey : encryptedKeys) {
+            keys.add(client.unwrapKey("RSA-OAEP", encryptedKey).block());
+        }
+        return keys;
+    }
+
+    @Benchmark
+    public List<byte[]> unwrapKeys() {
+        return client.unwrapKeys("RSA-OAEP", encryptedKeys).collectList().block();
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.keys.cryptography;
+
+import com.azure.core.http.HttpPipelineBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class KeyEncryptionKeyBatchTest {
+    private static final String KEY_ID = "https://contoso.vault.azure.net/keys/key1/0123456789abcdef";
+    private static final Duration UNWRAP_LATENCY = Duration.ofMillis(50);
+
+    private FakeKeyVault keyVault;
+
+    @Before
+    public void setup() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyVault = new FakeKeyVault(KEY_ID, (RSAPublicKey) generator.generateKeyPair().getPublic(), "wrapKey",
+            "unwrapKey");
+        keyVault.setOperationLatency(UNWRAP_LATENCY);
+    }
+
+    @Test
+    public void unwrapKeysRunsConcurrentlyAndDeduplicates() {
+        KeyEncryptionKeyAsyncClient client = createClient(new KeyEncryptionKeyClientBuilder().maxConcurrency(4));
+        List<byte[]> encryptedKeys = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            encryptedKeys.add(("key" + i % 10).getBytes(StandardCharsets.UTF_8));
+        }
+        client.refreshKey().block();
+
+        List<byte[]> keys = client.unwrapKeys("RSA-OAEP", encryptedKeys).collectList().block();
+
+        // The local stand-in echoes the encrypted key back, so every key must line up with its input.
+        assertEquals(encryptedKeys.size(), keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertArrayEquals(encryptedKeys.get(i), keys.get(i));
+        }
+        assertNotSame(keys.get(0), keys.get(10));
+        assertEquals(10, unwrapRequests());
+        // Each unwrap stays in flight for a fixed latency, so the batch fills every slot the bound allows.
+        assertEquals(4, keyVault.getMaxInFlight());
+    }
+
+    @Test
+    public void unwrappedKeysAreCached() {
+        KeyEncryptionKeyAsyncClient client = createClient(new KeyEncryptionKeyClientBuilder()
+            .unwrappedKeyTimeToLive(Duration.ofMinutes(1)));
+        byte[] encryptedKey = "key".getBytes(StandardCharsets.UTF_8);
+
+        byte[] first = client.unwrapKey("RSA-OAEP", encryptedKey).block();
+        byte[] second = client.unwrapKey("RSA-OAEP", encryptedKey).block();
+        client.unwrapKeys("RSA-OAEP", Arrays.asList(encryptedKey, encryptedKey)).blockLast();
+
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, unwrapRequests());
+    }
+
+    @Test
+    public void wrapKeysPreservesOrder() {
+        KeyEncryptionKeyClient client = new KeyEncryptionKeyClient(createClient(new KeyEncryptionKeyClientBuilder()));
+        List<byte[]> keys = Arrays.asList(new byte[32], new byte[32], new byte[32]);
+
+        List<byte[]> wrappedKeys = client.wrapKeys("RSA-OAEP", keys);
+
+        assertEquals(3, wrappedKeys.size());
+        wrappedKeys.forEach(wrappedKey -> assertEquals(256, wrappedKey.length));
+        assertEquals(0, unwrapRequests());
+    }
+
+    private KeyEncryptionKeyAsyncClient createClient(KeyEncryptionKeyClientBuilder builder) {
+        return (KeyEncryptionKeyAsyncClient) builder
+            .pipeline(new HttpPipelineBuilder().httpClient(keyVault).build())
+            .buildAsyncKeyEncryptionKey(KEY_ID)
+            .block();
+    }
+
+    private long unwrapRequests() {
+        return keyVault.getRequests().stream().filter(request -> request.endsWith("/unwrapkey")).count();
+    }
+}
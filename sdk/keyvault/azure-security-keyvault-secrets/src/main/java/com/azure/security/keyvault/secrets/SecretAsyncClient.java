@@ -22,6 +22,8 @@ import com.azure.core.util.polling.PollerFlux;
 import com.azure.core.util.polling.PollingContext;
 import com.azure.security.keyvault.secrets.models.DeletedSecret;
 import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import com.azure.security.keyvault.secrets.models.SecretCacheOptions;
+import com.azure.security.keyvault.secrets.models.SecretCacheStatistics;
 import com.azure.security.keyvault.secrets.models.SecretProperties;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -62,6 +64,7 @@ public final class SecretAsyncClient {
 
     private final String vaultUrl;
     private final SecretService service;
+    private final SecretCache cache;
     private final ClientLogger logger = new ClientLogger(SecretAsyncClient.class);
 
     /**
@@ -72,10 +75,24 @@ public final class SecretAsyncClient {
      * @param version {@link SecretServiceVersion} of the service to be used when making requests.
      */
     SecretAsyncClient(URL vaultUrl, HttpPipeline pipeline, SecretServiceVersion version) {
+        this(vaultUrl, pipeline, version, null);
+    }
+
+    /**
+     * Creates a SecretAsyncClient that uses {@code pipeline} to service requests and caches the secrets it retrieves
+     *
+     * @param vaultUrl URL for the Azure KeyVault service.
+     * @param pipeline HttpPipeline that the HTTP requests and responses flow through.
+     * @param version {@link SecretServiceVersion} of the service to be used when making requests.
+     * @param cacheOptions {@link SecretCacheOptions} of the secret cache, or {@code null} to not cache secrets.
+     */
+    SecretAsyncClient(URL vaultUrl, HttpPipeline pipeline, SecretServiceVersion version,
+        SecretCacheOptions cacheOptions) {
         Objects.requireNonNull(vaultUrl,
             KeyVaultErrorCodeStrings.getErrorString(KeyVaultErrorCodeStrings.VAULT_END_POINT_REQUIRED));
         this.vaultUrl = vaultUrl.toString();
         this.service = RestProxy.create(SecretService.class, pipeline);
+        this.cache = cacheOptions == null ? null : new SecretCache(cacheOptions, this::retrieveSecretWithResponse);
     }
 
     /**
@@ -163,6 +180,7 @@ public final class SecretAsyncClient {
             CONTENT_TYPE_HEADER_VALUE, context)
             .doOnRequest(ignored -> logger.info("Setting secret - {}", secret.getName()))
             .doOnSuccess(response -> logger.info("Set secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(response.getValue().getName()))
             .doOnError(error -> logger.warning("Failed to set secret - {}", secret.getName(), error));
     }
 
@@ -196,6 +214,7 @@ public final class SecretAsyncClient {
             context)
             .doOnRequest(ignored -> logger.info("Setting secret - {}", name))
             .doOnSuccess(response -> logger.info("Set secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(response.getValue().getName()))
             .doOnError(error -> logger.warning("Failed to set secret - {}", name, error));
     }
 
@@ -256,6 +275,13 @@ public final class SecretAsyncClient {
     }
 
     Mono<Response<KeyVaultSecret>> getSecretWithResponse(String name, String version, Context context) {
+        if (cache != null) {
+            return cache.get(name, version, context);
+        }
+        return retrieveSecretWithResponse(name, version, context);
+    }
+
+    private Mono<Response<KeyVaultSecret>> retrieveSecretWithResponse(String name, String version, Context context) {
         return service.getSecret(vaultUrl, name, version == null ? "" : version, API_VERSION, ACCEPT_LANGUAGE,
             CONTENT_TYPE_HEADER_VALUE, context)
             .doOnRequest(ignoredValue -> logger.info("Retrieving secret - {}", name))
@@ -362,6 +388,7 @@ public final class SecretAsyncClient {
             parameters, CONTENT_TYPE_HEADER_VALUE, context)
             .doOnRequest(ignored -> logger.info("Updating secret - {}", secretProperties.getName()))
             .doOnSuccess(response -> logger.info("Updated secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(secretProperties.getName()))
             .doOnError(error -> logger.warning("Failed to update secret - {}", secretProperties.getName(), error));
     }
 
@@ -419,6 +446,7 @@ public final class SecretAsyncClient {
         return service.deleteSecret(vaultUrl, name, API_VERSION, ACCEPT_LANGUAGE, CONTENT_TYPE_HEADER_VALUE, context)
             .doOnRequest(ignored -> logger.info("Deleting secret - {}", name))
             .doOnSuccess(response -> logger.info("Deleted secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(name))
             .doOnError(error -> logger.warning("Failed to delete secret - {}", name, error));
     }
 
@@ -587,6 +615,7 @@ public final class SecretAsyncClient {
             context)
             .doOnRequest(ignored -> logger.info("Recovering deleted secret - {}", name))
             .doOnSuccess(response -> logger.info("Recovered deleted secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(name))
             .doOnError(error -> logger.warning("Failed to recover deleted secret - {}", name, error));
     }
 
@@ -702,6 +731,7 @@ public final class SecretAsyncClient {
             context)
             .doOnRequest(ignored -> logger.info("Attempting to restore secret"))
             .doOnSuccess(response -> logger.info("Restored secret - {}", response.getValue().getName()))
+            .doOnSuccess(response -> invalidateCachedSecret(response.getValue().getName()))
             .doOnError(error -> logger.warning("Failed to restore secret", error));
     }
 
@@ -911,4 +941,20 @@ public final class SecretAsyncClient {
             return monoError(logger, ex);
         }
     }
+
+    /**
+     * Gets the statistics of the secret cache configured with
+     * {@link SecretClientBuilder#cacheOptions(SecretCacheOptions)}.
+     *
+     * @return A snapshot of the statistics of the secret cache, or {@code null} if secrets aren't cached.
+     */
+    public SecretCacheStatistics getCacheStatistics() {
+        return cache == null ? null : cache.getStatistics();
+    }
+
+    private void invalidateCachedSecret(String name) {
+        if (cache != null) {
+            cache.invalidate(name);
+        }
+    }
 }
@@ -0,0 +1,192 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.secrets;
+
+import com.azure.core.exception.ResourceNotFoundException;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import com.azure.security.keyvault.secrets.models.SecretCacheOptions;
+import com.azure.security.keyvault.secrets.models.SecretCacheStatistics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Caches the secrets retrieved by a {@link SecretAsyncClient}.
+ *
+ * <p>The latest version of a secret is served until its time to live passes, and for the stale-while-revalidate
+ * period after that while it's refreshed in the background. A specific version of a secret never changes, so it is
+ * served until it's evicted. Concurrent requests for a secret that isn't cached share a single retrieval, and the
+ * least recently used secrets are evicted beyond the maximum size.</p>
+ */
+final class SecretCache {
+    private final ClientLogger logger = new ClientLogger(SecretCache.class);
+    private final SecretLoader loader;
+    private final Duration timeToLive;
+    private final Map<String, Duration> secretTimeToLives;
+    private final Map<String, String> pinnedVersions;
+    private final long staleWhileRevalidateNanos;
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong staleHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong failedRefreshCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Retrieves a secret from the service.
+     */
+    @FunctionalInterface
+    interface SecretLoader {
+        Mono<Response<KeyVaultSecret>> load(String name, String version, Context context);
+    }
+
+    SecretCache(SecretCacheOptions options, SecretLoader loader) {
+        this.loader = loader;
+        this.timeToLive = options.getTimeToLive();
+        this.secretTimeToLives = new HashMap<>(options.getSecretTimeToLives());
+        this.pinnedVersions = new HashMap<>(options.getPinnedVersions());
+        this.staleWhileRevalidateNanos = options.getStaleWhileRevalidate().toNanos();
+
+        int maxSize = options.getMaxSize();
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets a secret from the cache, retrieving it from the service if it isn't cached or has expired.
+     *
+     * @param name The name of the secret.
+     * @param version The version of the secret, or {@code null} or empty for its latest or pinned version.
+     * @param context Additional context passed through the pipeline when the secret is retrieved.
+     * @return A {@link Mono} containing the secret.
+     */
+    Mono<Response<KeyVaultSecret>> get(String name, String version, Context context) {
+        boolean latestVersion = version == null || version.isEmpty();
+        String effectiveVersion = latestVersion ? pinnedVersions.getOrDefault(name, "") : version;
+        long timeToLiveNanos = effectiveVersion.isEmpty()
+            ? secretTimeToLives.getOrDefault(name, timeToLive).toNanos()
+            : Long.MAX_VALUE;
+        String key = name.toLowerCase(Locale.ROOT) + "/" + effectiveVersion;
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(key, ignored -> new Entry());
+        }
+
+        Response<KeyVaultSecret> cached = entry.response;
+        if (cached != null) {
+            long age = System.nanoTime() - entry.retrievedNanos;
+            if (timeToLiveNanos == Long.MAX_VALUE || age < timeToLiveNanos) {
+                hitCount.incrementAndGet();
+                return Mono.just(cached);
+            }
+            if (age - timeToLiveNanos < staleWhileRevalidateNanos) {
+                hitCount.incrementAndGet();
+                staleHitCount.incrementAndGet();
+                refresh(key, entry, name, effectiveVersion);
+                return Mono.just(cached);
+            }
+        }
+
+        missCount.incrementAndGet();
+        return load(key, entry, name, effectiveVersion, context, false);
+    }
+
+    /**
+     * Removes every cached version of a secret, so the next request retrieves it from the service.
+     *
+     * @param name The name of the secret.
+     */
+    void invalidate(String name) {
+        String prefix = name.toLowerCase(Locale.ROOT) + "/";
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    SecretCacheStatistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new SecretCacheStatistics(hitCount.get(), staleHitCount.get(), missCount.get(), refreshCount.get(),
+            failedRefreshCount.get(), evictionCount.get(), size);
+    }
+
+    private void refresh(String key, Entry entry, String name, String version) {
+        if (entry.pendingRetrieval.get() == null) {
+            load(key, entry, name, version, Context.NONE, true).subscribe(ignored -> { }, ignored -> { });
+        }
+    }
+
+    private Mono<Response<KeyVaultSecret>> load(String key, Entry entry, String name, String version,
+        Context context, boolean background) {
+        while (true) {
+            Mono<Response<KeyVaultSecret>> pending = entry.pendingRetrieval.get();
+            if (pending != null) {
+                return pending;
+            }
+
+            Mono<Response<KeyVaultSecret>> retrieval = loader.load(name, version, context)
+                .doOnSuccess(response -> {
+                    entry.retrievedNanos = System.nanoTime();
+                    entry.response = response;
+                    if (background) {
+                        refreshCount.incrementAndGet();
+                    }
+                })
+                .doOnError(error -> onRetrievalFailed(key, entry, name, error, background))
+                .doFinally(ignored -> entry.pendingRetrieval.set(null))
+                .cache();
+            if (entry.pendingRetrieval.compareAndSet(null, retrieval)) {
+                return retrieval;
+            }
+        }
+    }
+
+    private void onRetrievalFailed(String key, Entry entry, String name, Throwable error, boolean background) {
+        if (background) {
+            failedRefreshCount.incrementAndGet();
+            logger.warning("Failed to refresh cached secret - {}", name, error);
+        }
+
+        // Keep serving a stale secret through transient failures, but not once it's gone from the vault.
+        if (entry.response == null || error instanceof ResourceNotFoundException) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final AtomicReference<Mono<Response<KeyVaultSecret>>> pendingRetrieval = new AtomicReference<>();
+        private volatile Response<KeyVaultSecret> response;
+        private volatile long retrievedNanos;
+    }
+}
@@ -13,6 +13,8 @@ import com.azure.core.util.Context;
 import com.azure.core.util.polling.SyncPoller;
 import com.azure.security.keyvault.secrets.models.DeletedSecret;
 import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import com.azure.security.keyvault.secrets.models.SecretCacheOptions;
+import com.azure.security.keyvault.secrets.models.SecretCacheStatistics;
 import com.azure.security.keyvault.secrets.models.SecretProperties;
 
 /**
@@ -536,4 +538,14 @@ public final class SecretClient {
     public PagedIterable<SecretProperties> listPropertiesOfSecretVersions(String name, Context context) {
         return new PagedIterable<>(client.listPropertiesOfSecretVersions(name, context));
     }
+
+    /**
+     * Gets the statistics of the secret cache configured with
+     * {@link SecretClientBuilder#cacheOptions(SecretCacheOptions)}.
+     *
+     * @return A snapshot of the statistics of the secret cache, or {@code null} if secrets aren't cached.
+     */
+    public SecretCacheStatistics getCacheStatistics() {
+        return client.getCacheStatistics();
+    }
 }
@@ -19,6 +19,7 @@ import com.azure.core.http.policy.UserAgentPolicy;
 import com.azure.core.implementation.util.ImplUtils;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.security.keyvault.secrets.implementation.KeyVaultCredentialPolicy;
+import com.azure.security.keyvault.secrets.models.SecretCacheOptions;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -68,6 +69,7 @@ public final class SecretClientBuilder {
     private final RetryPolicy retryPolicy;
     private Configuration configuration;
     private SecretServiceVersion version;
+    private SecretCacheOptions cacheOptions;
 
     /**
      * The constructor with defaults.
@@ -126,7 +128,7 @@ public final class SecretClientBuilder {
         SecretServiceVersion serviceVersion = version != null ? version : SecretServiceVersion.getLatest();
 
         if (pipeline != null) {
-            return new SecretAsyncClient(vaultUrl, pipeline, serviceVersion);
+            return new SecretAsyncClient(vaultUrl, pipeline, serviceVersion, cacheOptions);
         }
 
         if (credential == null) {
@@ -151,7 +153,7 @@ public final class SecretClientBuilder {
             .httpClient(httpClient)
             .build();
 
-        return new SecretAsyncClient(vaultUrl, pipeline, serviceVersion);
+        return new SecretAsyncClient(vaultUrl, pipeline, serviceVersion, cacheOptions);
     }
 
     /**
@@ -268,6 +270,22 @@ public final class SecretClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@link SecretCacheOptions} used to cache the secrets the clients retrieve.
+     *
+     * <p>By default secrets aren't cached, and every request is sent to the service. With a cache, secrets are served
+     * from memory until their time to live passes, and are then refreshed in the background while the stale value is
+     * still served. Setting, updating, deleting, recovering or restoring a secret through the client removes it from
+     * the cache, but changes made by other clients are only seen once the cached secret expires.</p>
+     *
+     * @param cacheOptions {@link SecretCacheOptions} of the secret cache, or {@code null} to not cache secrets.
+     * @return The updated SecretClientBuilder object.
+     */
+    public SecretClientBuilder cacheOptions(SecretCacheOptions cacheOptions) {
+        this.cacheOptions = cacheOptions;
+        return this;
+    }
+
     private URL getBuildEndpoint(Configuration configuration) {
         if (vaultUrl != null) {
             return vaultUrl;
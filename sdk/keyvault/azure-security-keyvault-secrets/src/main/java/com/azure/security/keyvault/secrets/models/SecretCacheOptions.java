@@ -0,0 +1,214 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.secrets.models;
+
+import com.azure.core.annotation.Fluent;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.security.keyvault.secrets.SecretClientBuilder;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of options for caching the secrets a {@link com.azure.security.keyvault.secrets.SecretAsyncClient} retrieves.
+ *
+ * <ul>
+ * <li>
+ * {@link #getTimeToLive() timeToLive} is how long a retrieved secret is served from the cache. It can be overridden for
+ * individual secrets with {@link #setTimeToLive(String, Duration)}.
+ * </li>
+ * <li>
+ * {@link #getStaleWhileRevalidate() staleWhileRevalidate} is how long an expired secret is still served while it's
+ * refreshed in the background.
+ * </li>
+ * <li>
+ * {@link #getMaxSize() maxSize} is the maximum number of cached secrets. The least recently used secrets are evicted
+ * beyond it.
+ * </li>
+ * <li>
+ * {@link #setPinnedVersion(String, String) Pinned versions} are returned when the latest version of a secret is
+ * requested.
+ * </li>
+ * </ul>
+ *
+ * <p>A specific version of a secret never changes, so it is served from the cache until it's evicted.</p>
+ *
+ * @see SecretClientBuilder#cacheOptions(SecretCacheOptions)
+ */
+@Fluent
+public final class SecretCacheOptions {
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_STALE_WHILE_REVALIDATE = Duration.ofMinutes(1);
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private final ClientLogger logger = new ClientLogger(SecretCacheOptions.class);
+
+    private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+    private Duration staleWhileRevalidate = DEFAULT_STALE_WHILE_REVALIDATE;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private final Map<String, Duration> secretTimeToLives = new HashMap<>();
+    private final Map<String, String> pinnedVersions = new HashMap<>();
+
+    /**
+     * Gets how long a retrieved secret is served from the cache before it's refreshed. Defaults to 5 minutes.
+     *
+     * @return The time a retrieved secret is served from the cache.
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets how long a retrieved secret is served from the cache before it's refreshed.
+     *
+     * @param timeToLive The time a retrieved secret is served from the cache.
+     * @return The updated SecretCacheOptions object.
+     * @throws NullPointerException If {@code timeToLive} is {@code null}.
+     * @throws IllegalArgumentException If {@code timeToLive} is zero or negative.
+     */
+    public SecretCacheOptions setTimeToLive(Duration timeToLive) {
+        this.timeToLive = validatePositive(timeToLive, "timeToLive");
+        return this;
+    }
+
+    /**
+     * Gets how long the secret with the given name is served from the cache before it's refreshed.
+     *
+     * @param secretName The name of the secret.
+     * @return The time the secret is served from the cache, which is {@link #getTimeToLive()} unless it was
+     * overridden for the secret.
+     */
+    public Duration getTimeToLive(String secretName) {
+        return secretTimeToLives.getOrDefault(secretName, timeToLive);
+    }
+
+    /**
+     * Overrides how long the secret with the given name is served from the cache before it's refreshed.
+     *
+     * @param secretName The name of the secret.
+     * @param timeToLive The time the secret is served from the cache, or {@code null} to use
+     * {@link #getTimeToLive()}.
+     * @return The updated SecretCacheOptions object.
+     * @throws NullPointerException If {@code secretName} is {@code null}.
+     * @throws IllegalArgumentException If {@code timeToLive} is zero or negative.
+     */
+    public SecretCacheOptions setTimeToLive(String secretName, Duration timeToLive) {
+        Objects.requireNonNull(secretName, "'secretName' cannot be null.");
+        if (timeToLive == null) {
+            secretTimeToLives.remove(secretName);
+        } else {
+            secretTimeToLives.put(secretName, validatePositive(timeToLive, "timeToLive"));
+        }
+        return this;
+    }
+
+    /**
+     * Gets how long an expired secret is still served from the cache while it's refreshed in the background. Once
+     * it passes, callers wait for the secret to be retrieved again. Defaults to 1 minute.
+     *
+     * @return The time an expired secret is still served while it's refreshed.
+     */
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    /**
+     * Sets how long an expired secret is still served from the cache while it's refreshed in the background.
+     *
+     * @param staleWhileRevalidate The time an expired secret is still served while it's refreshed, or
+     * {@link Duration#ZERO} to always wait for the refresh.
+     * @return The updated SecretCacheOptions object.
+     * @throws NullPointerException If {@code staleWhileRevalidate} is {@code null}.
+     * @throws IllegalArgumentException If {@code staleWhileRevalidate} is negative.
+     */
+    public SecretCacheOptions setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+        Objects.requireNonNull(staleWhileRevalidate, "'staleWhileRevalidate' cannot be null.");
+        if (staleWhileRevalidate.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'staleWhileRevalidate' cannot be negative."));
+        }
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of cached secrets. Defaults to 1000.
+     *
+     * @return The maximum number of cached secrets.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of cached secrets. The least recently used secrets are evicted beyond it.
+     *
+     * @param maxSize The maximum number of cached secrets.
+     * @return The updated SecretCacheOptions object.
+     * @throws IllegalArgumentException If {@code maxSize} is not positive.
+     */
+    public SecretCacheOptions setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'maxSize' must be positive."));
+        }
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Gets the version returned when the latest version of the secret with the given name is requested.
+     *
+     * @param secretName The name of the secret.
+     * @return The pinned version of the secret, or {@code null} if the latest version is returned.
+     */
+    public String getPinnedVersion(String secretName) {
+        return pinnedVersions.get(secretName);
+    }
+
+    /**
+     * Pins the version returned when the latest version of the secret with the given name is requested, so new
+     * versions of the secret are only picked up once the pinned version is changed.
+     *
+     * @param secretName The name of the secret.
+     * @param version The version to return, or {@code null} to return the latest version.
+     * @return The updated SecretCacheOptions object.
+     * @throws NullPointerException If {@code secretName} is {@code null}.
+     */
+    public SecretCacheOptions setPinnedVersion(String secretName, String version) {
+        Objects.requireNonNull(secretName, "'secretName' cannot be null.");
+        if (version == null || version.isEmpty()) {
+            pinnedVersions.remove(secretName);
+        } else {
+            pinnedVersions.put(secretName, version);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the secrets whose time to live is overridden.
+     *
+     * @return A read-only view of the time to live of each secret it was overridden for.
+     */
+    public Map<String, Duration> getSecretTimeToLives() {
+        return Collections.unmodifiableMap(secretTimeToLives);
+    }
+
+    /**
+     * Gets the pinned secret versions.
+     *
+     * @return A read-only view of the pinned version of each secret.
+     */
+    public Map<String, String> getPinnedVersions() {
+        return Collections.unmodifiableMap(pinnedVersions);
+    }
+
+    private Duration validatePositive(Duration duration, String name) {
+        Objects.requireNonNull(duration, "'" + name + "' cannot be null.");
+        if (duration.isZero() || duration.isNegative()) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("'" + name + "' must be positive."));
+        }
+        return duration;
+    }
+}
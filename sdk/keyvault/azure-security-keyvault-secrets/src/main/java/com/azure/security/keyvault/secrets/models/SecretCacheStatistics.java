@@ -0,0 +1,115 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.secrets.models;
+
+import com.azure.core.annotation.Immutable;
+
+/**
+ * A snapshot of the statistics of the secret cache of a {@link com.azure.security.keyvault.secrets.SecretAsyncClient}.
+ *
+ * @see SecretCacheOptions
+ */
+@Immutable
+public final class SecretCacheStatistics {
+    private final long hitCount;
+    private final long staleHitCount;
+    private final long missCount;
+    private final long refreshCount;
+    private final long failedRefreshCount;
+    private final long evictionCount;
+    private final int size;
+
+    /**
+     * Creates a snapshot of the statistics of a secret cache.
+     *
+     * @param hitCount The number of requests served from the cache, including stale ones.
+     * @param staleHitCount The number of requests served with an expired secret while it was refreshed.
+     * @param missCount The number of requests that waited for the secret to be retrieved.
+     * @param refreshCount The number of background refreshes that succeeded.
+     * @param failedRefreshCount The number of background refreshes that failed.
+     * @param evictionCount The number of secrets evicted to stay within the maximum size.
+     * @param size The number of cached secrets.
+     */
+    public SecretCacheStatistics(long hitCount, long staleHitCount, long missCount, long refreshCount,
+        long failedRefreshCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.staleHitCount = staleHitCount;
+        this.missCount = missCount;
+        this.refreshCount = refreshCount;
+        this.failedRefreshCount = failedRefreshCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of requests served from the cache, including the ones served with an expired secret.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of requests served with an expired secret while it was refreshed in the background.
+     *
+     * @return The number of stale cache hits.
+     */
+    public long getStaleHitCount() {
+        return staleHitCount;
+    }
+
+    /**
+     * Gets the number of requests that waited for the secret to be retrieved from the service. Concurrent requests
+     * for the same secret share a single retrieval.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of background refreshes that succeeded.
+     *
+     * @return The number of background refreshes.
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * Gets the number of background refreshes that failed.
+     *
+     * @return The number of failed background refreshes.
+     */
+    public long getFailedRefreshCount() {
+        return failedRefreshCount;
+    }
+
+    /**
+     * Gets the number of secrets evicted to stay within the maximum size of the cache.
+     *
+     * @return The number of evictions.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of cached secrets.
+     *
+     * @return The number of cached secrets.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "SecretCacheStatistics(hits=" + hitCount + ", staleHits=" + staleHitCount + ", misses=" + missCount
+            + ", refreshes=" + refreshCount + ", failedRefreshes=" + failedRefreshCount + ", evictions="
+            + evictionCount + ", size=" + size + ")";
+    }
+}
@@ -0,0 +1,169 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.security.keyvault.secrets;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import com.azure.security.keyvault.secrets.models.SecretCacheOptions;
+import com.azure.security.keyvault.secrets.models.SecretCacheStatistics;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+public class SecretCacheTest {
+    private static final String VAULT_URL = "https://contoso.vault.azure.net";
+
+    private final Map<String, List<String>> versions = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private volatile Duration responseDelay = Duration.ZERO;
+
+    @Test
+    public void concurrentMissesShareOneRetrieval() {
+        put("secret1");
+        responseDelay = Duration.ofMillis(100);
+        SecretAsyncClient client = createClient(new SecretCacheOptions());
+
+        List<KeyVaultSecret> secrets = Flux.range(0, 5)
+            .flatMap(ignored -> client.getSecret("secret1"))
+            .collectList()
+            .block();
+        client.getSecret("secret1").block();
+
+        assertEquals(5, secrets.size());
+        secrets.forEach(secret -> assertEquals("secret1-v1", secret.getValue()));
+        assertEquals(Arrays.asList("GET /secrets/secret1/"), requests);
+        SecretCacheStatistics statistics = client.getCacheStatistics();
+        assertEquals(5, statistics.getMissCount());
+        assertEquals(1, statistics.getHitCount());
+    }
+
+    @Test
+    public void expiredSecretIsServedWhileRefreshed() throws InterruptedException {
+        put("secret1");
+        SecretAsyncClient client = createClient(new SecretCacheOptions()
+            .setTimeToLive("secret1", Duration.ofMillis(50))
+            .setStaleWhileRevalidate(Duration.ofHours(1)));
+        client.getSecret("secret1").block();
+        put("secret1");
+        responseDelay = Duration.ofMillis(100);
+        Thread.sleep(100);
+
+        assertEquals("secret1-v1", client.getSecret("secret1").block().getValue());
+        for (int i = 0; i < 100 && client.getCacheStatistics().getRefreshCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("secret1-v2", client.getSecret("secret1").block().getValue());
+
+        assertEquals(2, requests.size());
+        SecretCacheStatistics statistics = client.getCacheStatistics();
+        assertEquals(1, statistics.getStaleHitCount());
+        assertEquals(1, statistics.getRefreshCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedSecretsAreEvicted() {
+        put("secret1");
+        put("secret2");
+        put("secret3");
+        SecretAsyncClient client = createClient(new SecretCacheOptions().setMaxSize(2));
+
+        client.getSecret("secret1").block();
+        client.getSecret("secret2").block();
+        client.getSecret("secret1").block();
+        client.getSecret("secret3").block();
+        client.getSecret("secret1").block();
+        client.getSecret("secret2").block();
+
+        assertEquals(Arrays.asList("GET /secrets/secret1/", "GET /secrets/secret2/", "GET /secrets/secret3/",
+            "GET /secrets/secret2/"), requests);
+        SecretCacheStatistics statistics = client.getCacheStatistics();
+        assertEquals(2, statistics.getEvictionCount());
+        assertEquals(2, statistics.getSize());
+    }
+
+    @Test
+    public void pinnedVersionIsServedForLatestVersion() {
+        put("secret1");
+        put("secret1");
+        SecretAsyncClient client = createClient(new SecretCacheOptions().setPinnedVersion("secret1", "v1"));
+
+        assertEquals("secret1-v1", client.getSecret("secret1").block().getValue());
+        assertEquals("secret1-v1", client.getSecret("secret1", "v1").block().getValue());
+        assertEquals("secret1-v2", client.getSecret("secret1", "v2").block().getValue());
+
+        assertEquals(Arrays.asList("GET /secrets/secret1/v1", "GET /secrets/secret1/v2"), requests);
+    }
+
+    @Test
+    public void settingSecretInvalidatesCachedVersions() {
+        put("secret1");
+        SecretAsyncClient client = createClient(new SecretCacheOptions());
+        client.getSecret("secret1").block();
+
+        client.setSecret("secret1", "ignored").block();
+
+        assertEquals("secret1-v2", client.getSecret("secret1").block().getValue());
+        assertEquals(Arrays.asList("GET /secrets/secret1/", "PUT /secrets/secret1", "GET /secrets/secret1/"),
+            requests);
+    }
+
+    private SecretAsyncClient createClient(SecretCacheOptions cacheOptions) {
+        return new SecretClientBuilder()
+            .vaultUrl(VAULT_URL)
+            .pipeline(new HttpPipelineBuilder().httpClient(new FakeKeyVault()).build())
+            .cacheOptions(cacheOptions)
+            .buildAsyncClient();
+    }
+
+    private String put(String name) {
+        List<String> secretVersions = versions.computeIfAbsent(name, ignored -> new CopyOnWriteArrayList<>());
+        String version = "v" + (secretVersions.size() + 1);
+        secretVersions.add(version);
+        return version;
+    }
+
+    private class FakeKeyVault implements HttpClient {
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            String path = request.getUrl().getPath();
+            requests.add(request.getHttpMethod() + " " + path);
+            HttpHeaders headers = new HttpHeaders().put("Content-Type", "application/json");
+
+            String[] segments = path.split("/");
+            String name = segments[2];
+            String version;
+            if (request.getHttpMethod() == HttpMethod.PUT) {
+                version = put(name);
+            } else {
+                List<String> secretVersions = versions.getOrDefault(name, new ArrayList<>());
+                version = segments.length > 3 ? segments[3] : secretVersions.get(secretVersions.size() - 1);
+            }
+
+            Map<String, Object> body = new HashMap<>();
+            body.put("id", VAULT_URL + "/secrets/" + name + "/" + version);
+            body.put("value", name + "-" + version);
+            body.put("attributes", new HashMap<>());
+            Mono<HttpResponse> response = Mono.just(new MockHttpResponse(request, 200, headers, body));
+            return responseDelay.isZero() ? response : response.delayElement(responseDelay);
+        }
+    }
+}
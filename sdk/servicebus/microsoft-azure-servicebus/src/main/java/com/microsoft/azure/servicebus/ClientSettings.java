@@ -21,6 +21,7 @@ public class ClientSettings {
     private RetryPolicy retryPolicy;
     private Duration operationTimeout;
     private TransportType transportType;
+    private boolean sendCoalescingEnabled;
 
     /**
      * Creates a new instance with the given token provider, default retry policy and default operation timeout.
@@ -50,10 +51,24 @@ public class ClientSettings {
      * @param transportType {@link TransportType} instance
      */
     public ClientSettings(TokenProvider tokenProvider, RetryPolicy retryPolicy, Duration operationTimeout, TransportType transportType) {
+        this(tokenProvider, retryPolicy, operationTimeout, transportType, false);
+    }
+
+    /**
+     * Creates a new instance with the given token provider, retry policy, operation timeout and send coalescing setting.
+     * @param tokenProvider {@link TokenProvider} instance
+     * @param retryPolicy {@link RetryPolicy} instance
+     * @param operationTimeout default operation timeout to be used for all client operations. Client can override this value by explicitly specifying a timeout in the operation.
+     * @param transportType {@link TransportType} instance
+     * @param sendCoalescingEnabled whether messages sent concurrently by a sender outside of a transaction can be combined into batch messages.
+     * Messages are only combined with messages that have the same session id and partition key, and each send still completes or fails individually.
+     */
+    public ClientSettings(TokenProvider tokenProvider, RetryPolicy retryPolicy, Duration operationTimeout, TransportType transportType, boolean sendCoalescingEnabled) {
         this.tokenProvider = tokenProvider;
         this.retryPolicy = retryPolicy;
         this.operationTimeout = operationTimeout;
         this.transportType = transportType;
+        this.sendCoalescingEnabled = sendCoalescingEnabled;
     }
 
     /**
@@ -87,4 +102,12 @@ public class ClientSettings {
     public TransportType getTransportType() {
         return transportType;
     }
+
+    /**
+     * Gets whether messages sent concurrently by a sender can be combined into batch messages.
+     * @return true if send coalescing is enabled, false otherwise
+     */
+    public boolean isSendCoalescingEnabled() {
+        return sendCoalescingEnabled;
+    }
 }
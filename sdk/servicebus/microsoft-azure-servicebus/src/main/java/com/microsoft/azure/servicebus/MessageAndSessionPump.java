@@ -5,6 +5,10 @@ package com.microsoft.azure.servicebus;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -17,7 +21,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.microsoft.azure.servicebus.primitives.ExceptionUtil;
-import com.microsoft.azure.servicebus.primitives.MessageLockLostException;
 import com.microsoft.azure.servicebus.primitives.MessagingEntityType;
 import com.microsoft.azure.servicebus.primitives.MessagingFactory;
 import com.microsoft.azure.servicebus.primitives.OperationCancelledException;
@@ -42,6 +45,10 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
     private final ReceiveMode receiveMode;
     private final MessagingEntityType entityType;
     private IMessageReceiver innerReceiver;
+    private MessageLockRenewalCoordinator messageLockRenewalCoordinator;
+    private final Object handlerCallsSync = new Object();
+    private int availableHandlerCalls;
+    private int suspendedReceiveLoops;
 
     private boolean handlerRegistered = false;
     private IMessageHandler messageHandler;
@@ -92,8 +99,13 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
         if (this.prefetchCount != UNSET_PREFETCH_COUNT) {
             this.innerReceiver.setPrefetchCount(this.prefetchCount);
         }
-        for (int i = 0; i < handlerOptions.getMaxConcurrentCalls(); i++) {
-            this.receiveAndPumpMessage();
+        if (this.innerReceiver.getReceiveMode() == ReceiveMode.PEEKLOCK) {
+            this.messageLockRenewalCoordinator = new MessageLockRenewalCoordinator(this.entityPath, this::renewMessageLocksAsync,
+                (renewLockEx) -> this.notifyExceptionToMessageHandler(renewLockEx, ExceptionPhase.RENEWMESSAGELOCK));
+        }
+        this.availableHandlerCalls = handlerOptions.getMaxConcurrentCalls();
+        for (int i = 0; i < handlerOptions.getMaxConcurrentReceives(); i++) {
+            this.receiveAndPumpMessages();
         }
     }
 
@@ -145,102 +157,144 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
         this.handlerRegistered = true;
     }
 
-    private void receiveAndPumpMessage() {
+    private void receiveAndPumpMessages() {
         if (!this.getIsClosingOrClosed()) {
-            CompletableFuture<IMessage> receiveMessageFuture = this.innerReceiver.receiveAsync(this.messageHandlerOptions.getMessageWaitDuration());
-            receiveMessageFuture.handleAsync((message, receiveEx) -> {
+            int maxMessageCount = this.reserveHandlerCalls();
+            if (maxMessageCount == 0) {
+                TRACE_LOGGER.trace("All '{}' concurrent calls to onMessage are in progress. Suspending receive loop on entity '{}'.", this.messageHandlerOptions.getMaxConcurrentCalls(), this.entityPath);
+                return;
+            }
+
+            CompletableFuture<Collection<IMessage>> receiveMessagesFuture;
+            if (this.messageHandlerOptions.getReceiveBatchSize() == 1) {
+                receiveMessagesFuture = this.innerReceiver.receiveAsync(this.messageHandlerOptions.getMessageWaitDuration())
+                    .thenApply((message) -> message == null ? null : Collections.singletonList(message));
+            } else {
+                receiveMessagesFuture = this.innerReceiver.receiveBatchAsync(maxMessageCount, this.messageHandlerOptions.getMessageWaitDuration());
+            }
+
+            receiveMessagesFuture.handleAsync((messages, receiveEx) -> {
+                int receivedMessageCount = messages == null ? 0 : messages.size();
+                this.releaseHandlerCalls(maxMessageCount - receivedMessageCount);
                 if (receiveEx != null) {
                     receiveEx = ExceptionUtil.extractAsyncCompletionCause(receiveEx);
                     TRACE_LOGGER.info("Receiving message from entity '{}' failed.", this.entityPath, receiveEx);
                     this.notifyExceptionToMessageHandler(receiveEx, ExceptionPhase.RECEIVE);
-                    this.receiveAndPumpMessage();
+                } else if (receivedMessageCount == 0) {
+                    TRACE_LOGGER.debug("Receive from entity '{}' returned no messages.", this.entityPath);
                 } else {
-                    if (message == null) {
-                        TRACE_LOGGER.debug("Receive from entity '{}' returned no messages.", this.entityPath);
-                        this.receiveAndPumpMessage();
-                    } else {
-                        TRACE_LOGGER.trace("Message with sequence number '{}' received from entity '{}'.", message.getSequenceNumber(), this.entityPath);
-                        // Start renew lock loop
-                        final MessgeRenewLockLoop renewLockLoop;
-                        if (this.innerReceiver.getReceiveMode() == ReceiveMode.PEEKLOCK) {
-                            Instant stopRenewMessageLockAt = Instant.now().plus(this.messageHandlerOptions.getMaxAutoRenewDuration());
-                            renewLockLoop = new MessgeRenewLockLoop(this.innerReceiver, this, message, stopRenewMessageLockAt);
-                            renewLockLoop.startLoop();
-                            TRACE_LOGGER.trace("Started loop to renew lock on message with sequence number '{}' until '{}'", message.getSequenceNumber(), stopRenewMessageLockAt);
-                        } else {
-                            renewLockLoop = null;
-                        }
+                    for (IMessage message : messages) {
+                        this.pumpMessage(message);
+                    }
+                }
 
-                        CompletableFuture<Void> onMessageFuture;
-                        try {
-                            TRACE_LOGGER.debug("Invoking onMessage with message containing sequence number '{}'", message.getSequenceNumber());
-                            onMessageFuture = COMPLETED_FUTURE.thenComposeAsync((v) -> this.messageHandler.onMessageAsync(message), this.customCodeExecutor);
-                        } catch (Exception onMessageSyncEx) {
-                            TRACE_LOGGER.info("Invocation of onMessage with message containing sequence number '{}' threw unexpected exception", message.getSequenceNumber(), onMessageSyncEx);
-                            onMessageFuture = new CompletableFuture<Void>();
-                            onMessageFuture.completeExceptionally(onMessageSyncEx);
-                        }
-                        
-                        // Some clients are returning null from the call
-                        if (onMessageFuture == null) {
-                            onMessageFuture = COMPLETED_FUTURE;
-                        }
+                this.receiveAndPumpMessages();
+                return null;
+            }, MessagingFactory.INTERNAL_THREAD_POOL);
+        }
+    }
 
-                        onMessageFuture.handleAsync((v, onMessageEx) -> {
-                            if (onMessageEx != null) {
-                                onMessageEx = ExceptionUtil.extractAsyncCompletionCause(onMessageEx);
-                                TRACE_LOGGER.info("onMessage with message containing sequence number '{}' threw exception", message.getSequenceNumber(), onMessageEx);
-                                this.notifyExceptionToMessageHandler(onMessageEx, ExceptionPhase.USERCALLBACK);
-                            }
-                            if (this.innerReceiver.getReceiveMode() == ReceiveMode.PEEKLOCK) {
-                                if (renewLockLoop != null) {
-                                    renewLockLoop.cancelLoop();
-                                    TRACE_LOGGER.trace("Cancelled loop to renew lock on message with sequence number '{}'", message.getSequenceNumber());
-                                }
-                                CompletableFuture<Void> updateDispositionFuture;
-                                ExceptionPhase dispositionPhase;
-                                if (onMessageEx == null) {
-                                    // Complete message
-                                    dispositionPhase = ExceptionPhase.COMPLETE;
-                                    if (this.messageHandlerOptions.isAutoComplete()) {
-                                        TRACE_LOGGER.debug("Completing message with sequence number '{}'", message.getSequenceNumber());
-                                        updateDispositionFuture = this.innerReceiver.completeAsync(message.getLockToken());
-                                    } else {
-                                        updateDispositionFuture = CompletableFuture.completedFuture(null);
-                                    }
-                                } else {
-                                    // Abandon message
-                                    dispositionPhase = ExceptionPhase.ABANDON;
-                                    if (this.messageHandlerOptions.isAutoComplete()) {
-                                        TRACE_LOGGER.debug("Abandoning message with sequence number '{}'", message.getSequenceNumber());
-                                        updateDispositionFuture = this.innerReceiver.abandonAsync(message.getLockToken());
-                                    } else {
-                                        updateDispositionFuture = CompletableFuture.completedFuture(null);
-                                    }
-                                }
+    // Reserves calls to onMessage for the messages of one receive. Returns 0 and suspends the receive loop if all calls are in progress.
+    private int reserveHandlerCalls() {
+        synchronized (this.handlerCallsSync) {
+            int reservedCalls = Math.min(this.availableHandlerCalls, this.messageHandlerOptions.getReceiveBatchSize());
+            if (reservedCalls == 0) {
+                this.suspendedReceiveLoops++;
+            }
+            this.availableHandlerCalls -= reservedCalls;
+            return reservedCalls;
+        }
+    }
 
-                                updateDispositionFuture.handleAsync((u, updateDispositionEx) -> {
-                                    if (updateDispositionEx != null) {
-                                        updateDispositionEx = ExceptionUtil.extractAsyncCompletionCause(updateDispositionEx);
-                                        TRACE_LOGGER.info("{} message with sequence number '{}' failed", dispositionPhase == ExceptionPhase.COMPLETE ? "Completing" : "Abandoning", message.getSequenceNumber(), updateDispositionEx);
-                                        this.notifyExceptionToMessageHandler(updateDispositionEx, dispositionPhase);
-                                    }
-                                    this.receiveAndPumpMessage();
-                                    return null;
-                                }, MessagingFactory.INTERNAL_THREAD_POOL);
-                            } else {
-                                this.receiveAndPumpMessage();
-                            }
+    // Releases calls to onMessage and resumes as many suspended receive loops as the available calls can serve.
+    private void releaseHandlerCalls(int releasedCalls) {
+        if (releasedCalls == 0) {
+            return;
+        }
 
-                            return null;
-                        }, MessagingFactory.INTERNAL_THREAD_POOL);
-                    }
+        int loopsToResume;
+        synchronized (this.handlerCallsSync) {
+            this.availableHandlerCalls += releasedCalls;
+            int servableLoops = (this.availableHandlerCalls + this.messageHandlerOptions.getReceiveBatchSize() - 1) / this.messageHandlerOptions.getReceiveBatchSize();
+            loopsToResume = Math.min(this.suspendedReceiveLoops, servableLoops);
+            this.suspendedReceiveLoops -= loopsToResume;
+        }
 
-                }
+        for (int i = 0; i < loopsToResume; i++) {
+            this.receiveAndPumpMessages();
+        }
+    }
 
-                return null;
-            }, MessagingFactory.INTERNAL_THREAD_POOL);
+    private void pumpMessage(IMessage message) {
+        TRACE_LOGGER.trace("Message with sequence number '{}' received from entity '{}'.", message.getSequenceNumber(), this.entityPath);
+        // Start renewing lock
+        if (this.innerReceiver.getReceiveMode() == ReceiveMode.PEEKLOCK) {
+            Instant stopRenewMessageLockAt = Instant.now().plus(this.messageHandlerOptions.getMaxAutoRenewDuration());
+            this.messageLockRenewalCoordinator.register(message, stopRenewMessageLockAt);
+            TRACE_LOGGER.trace("Started renewing lock on message with sequence number '{}' until '{}'", message.getSequenceNumber(), stopRenewMessageLockAt);
         }
+
+        CompletableFuture<Void> onMessageFuture;
+        try {
+            TRACE_LOGGER.debug("Invoking onMessage with message containing sequence number '{}'", message.getSequenceNumber());
+            onMessageFuture = COMPLETED_FUTURE.thenComposeAsync((v) -> this.messageHandler.onMessageAsync(message), this.customCodeExecutor);
+        } catch (Exception onMessageSyncEx) {
+            TRACE_LOGGER.info("Invocation of onMessage with message containing sequence number '{}' threw unexpected exception", message.getSequenceNumber(), onMessageSyncEx);
+            onMessageFuture = new CompletableFuture<Void>();
+            onMessageFuture.completeExceptionally(onMessageSyncEx);
+        }
+
+        // Some clients are returning null from the call
+        if (onMessageFuture == null) {
+            onMessageFuture = COMPLETED_FUTURE;
+        }
+
+        onMessageFuture.handleAsync((v, onMessageEx) -> {
+            if (onMessageEx != null) {
+                onMessageEx = ExceptionUtil.extractAsyncCompletionCause(onMessageEx);
+                TRACE_LOGGER.info("onMessage with message containing sequence number '{}' threw exception", message.getSequenceNumber(), onMessageEx);
+                this.notifyExceptionToMessageHandler(onMessageEx, ExceptionPhase.USERCALLBACK);
+            }
+            if (this.innerReceiver.getReceiveMode() == ReceiveMode.PEEKLOCK) {
+                this.messageLockRenewalCoordinator.unregister(message.getLockToken());
+                TRACE_LOGGER.trace("Stopped renewing lock on message with sequence number '{}'", message.getSequenceNumber());
+                CompletableFuture<Void> updateDispositionFuture;
+                ExceptionPhase dispositionPhase;
+                if (onMessageEx == null) {
+                    // Complete message
+                    dispositionPhase = ExceptionPhase.COMPLETE;
+                    if (this.messageHandlerOptions.isAutoComplete()) {
+                        TRACE_LOGGER.debug("Completing message with sequence number '{}'", message.getSequenceNumber());
+                        updateDispositionFuture = this.innerReceiver.completeAsync(message.getLockToken());
+                    } else {
+                        updateDispositionFuture = CompletableFuture.completedFuture(null);
+                    }
+                } else {
+                    // Abandon message
+                    dispositionPhase = ExceptionPhase.ABANDON;
+                    if (this.messageHandlerOptions.isAutoComplete()) {
+                        TRACE_LOGGER.debug("Abandoning message with sequence number '{}'", message.getSequenceNumber());
+                        updateDispositionFuture = this.innerReceiver.abandonAsync(message.getLockToken());
+                    } else {
+                        updateDispositionFuture = CompletableFuture.completedFuture(null);
+                    }
+                }
+
+                updateDispositionFuture.handleAsync((u, updateDispositionEx) -> {
+                    if (updateDispositionEx != null) {
+                        updateDispositionEx = ExceptionUtil.extractAsyncCompletionCause(updateDispositionEx);
+                        TRACE_LOGGER.info("{} message with sequence number '{}' failed", dispositionPhase == ExceptionPhase.COMPLETE ? "Completing" : "Abandoning", message.getSequenceNumber(), updateDispositionEx);
+                        this.notifyExceptionToMessageHandler(updateDispositionEx, dispositionPhase);
+                    }
+                    this.releaseHandlerCalls(1);
+                    return null;
+                }, MessagingFactory.INTERNAL_THREAD_POOL);
+            } else {
+                this.releaseHandlerCalls(1);
+            }
+
+            return null;
+        }, MessagingFactory.INTERNAL_THREAD_POOL);
     }
 
     private void acceptSessionAndPumpMessages() {
@@ -400,6 +454,9 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
     @Override
     protected CompletableFuture<Void> onClose() {
         TRACE_LOGGER.info("Closing message and session pump on entity '{}'", this.entityPath);
+        if (this.messageLockRenewalCoordinator != null) {
+            this.messageLockRenewalCoordinator.close();
+        }
         CompletableFuture[] closeFutures = new CompletableFuture[this.openSessions.size() + 1];
         int arrayIndex = 0;
         for (IMessageSession session : this.openSessions.values()) {
@@ -500,6 +557,37 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
         }
     }
 
+    static Duration getNextRenewInterval(Instant lockedUntilUtc, String identifier) {
+        Duration remainingTime = Duration.between(Instant.now(), lockedUntilUtc);
+        if (remainingTime.isNegative()) {
+            // Lock likely expired. May be there is clock skew. Assume some minimum time
+            remainingTime = MessageAndSessionPump.MINIMUM_MESSAGE_LOCK_VALIDITY;
+            TRACE_LOGGER.info("Lock of '{}' already expired. May be there is clock skew. Still trying to renew lock", identifier);
+        }
+
+        Duration buffer = remainingTime.dividedBy(2).compareTo(MAXIMUM_RENEW_LOCK_BUFFER) > 0 ? MAXIMUM_RENEW_LOCK_BUFFER : remainingTime.dividedBy(2);
+        TRACE_LOGGER.debug("Lock of '{}' is valid for '{}'. It will be renewed '{}' before it expires.", identifier, remainingTime, buffer);
+        return remainingTime.minus(buffer);
+    }
+
+    private CompletableFuture<Collection<Instant>> renewMessageLocksAsync(Collection<IMessage> messages) {
+        if (this.innerReceiver instanceof MessageReceiver) {
+            return ((MessageReceiver) this.innerReceiver).renewMessageLockBatchAsync(messages);
+        }
+
+        List<CompletableFuture<Instant>> renewFutures = new ArrayList<>(messages.size());
+        for (IMessage message : messages) {
+            renewFutures.add(this.innerReceiver.renewMessageLockAsync(message));
+        }
+        return CompletableFuture.allOf(renewFutures.toArray(new CompletableFuture[0])).thenApply((v) -> {
+            List<Instant> lockedUntilTimes = new ArrayList<>(renewFutures.size());
+            for (CompletableFuture<Instant> renewFuture : renewFutures) {
+                lockedUntilTimes.add(renewFuture.join());
+            }
+            return lockedUntilTimes;
+        });
+    }
+
     private abstract static class RenewLockLoop {
         private boolean cancelled = false;
 
@@ -527,77 +615,6 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
                 }
             }
         }
-
-        protected static Duration getNextRenewInterval(Instant lockedUntilUtc, String identifier) {
-            Duration remainingTime = Duration.between(Instant.now(), lockedUntilUtc);
-            if (remainingTime.isNegative()) {
-                // Lock likely expired. May be there is clock skew. Assume some minimum time
-                remainingTime = MessageAndSessionPump.MINIMUM_MESSAGE_LOCK_VALIDITY;
-                TRACE_LOGGER.info("Lock of '{}' already expired. May be there is clock skew. Still trying to renew lock", identifier);
-            }
-
-            Duration buffer = remainingTime.dividedBy(2).compareTo(MAXIMUM_RENEW_LOCK_BUFFER) > 0 ? MAXIMUM_RENEW_LOCK_BUFFER : remainingTime.dividedBy(2);
-            TRACE_LOGGER.debug("Lock of '{}' is valid for '{}'. It will be renewed '{}' before it expires.", identifier, remainingTime, buffer);
-            return remainingTime.minus(buffer);
-        }
-    }
-
-    private static class MessgeRenewLockLoop extends RenewLockLoop {
-        private IMessageReceiver innerReceiver;
-        private MessageAndSessionPump messageAndSessionPump;
-        private IMessage message;
-        private Instant stopRenewalAt;
-        private String messageIdentifier;
-        ScheduledFuture<?> timerFuture;
-
-        MessgeRenewLockLoop(IMessageReceiver innerReceiver, MessageAndSessionPump messageAndSessionPump, IMessage message, Instant stopRenewalAt) {
-            super();
-            this.innerReceiver = innerReceiver;
-            this.messageAndSessionPump = messageAndSessionPump;
-            this.message = message;
-            this.stopRenewalAt = stopRenewalAt;
-            this.messageIdentifier = String.format("message with locktoken : %s, sequence number : %s", this.message.getLockToken(), this.message.getSequenceNumber());
-        }
-
-        @Override
-        protected ScheduledFuture<?> getTimerFuture() {
-            return this.timerFuture;
-        }
-
-        @Override
-        protected void loop() {
-            if (!this.isCancelled()) {
-                Duration renewInterval = this.getNextRenewInterval();
-                if (renewInterval != null && !renewInterval.isNegative()) {
-                    this.timerFuture = Timer.schedule(() -> {
-                        TRACE_LOGGER.debug("Renewing lock on '{}'", this.messageIdentifier);
-                        this.innerReceiver.renewMessageLockAsync(message).handleAsync((v, renewLockEx) -> {
-                            if (renewLockEx != null) {
-                                renewLockEx = ExceptionUtil.extractAsyncCompletionCause(renewLockEx);
-                                TRACE_LOGGER.info("Renewing lock on '{}' failed", this.messageIdentifier, renewLockEx);
-                                this.messageAndSessionPump.notifyExceptionToMessageHandler(renewLockEx, ExceptionPhase.RENEWMESSAGELOCK);
-                                if (!(renewLockEx instanceof MessageLockLostException || renewLockEx instanceof OperationCancelledException)) {
-                                    this.loop();
-                                }
-                            } else {
-                                TRACE_LOGGER.debug("Renewed lock on '{}'", this.messageIdentifier);
-                                this.loop();
-                            }
-
-                            return null;
-                        }, MessagingFactory.INTERNAL_THREAD_POOL);
-                    }, renewInterval, TimerType.OneTimeRun);
-                }
-            }
-        }
-
-        private Duration getNextRenewInterval() {
-            if (this.message.getLockedUntilUtc().isBefore(stopRenewalAt)) {
-                return RenewLockLoop.getNextRenewInterval(this.message.getLockedUntilUtc(), this.messageIdentifier);
-            } else {
-                return null;
-            }
-        }
     }
 
     private static class SessionRenewLockLoop extends RenewLockLoop {
@@ -621,7 +638,7 @@ class MessageAndSessionPump extends InitializableEntity implements IMessageAndSe
         @Override
         protected void loop() {
             if (!this.isCancelled()) {
-                Duration renewInterval = RenewLockLoop.getNextRenewInterval(this.session.getLockedUntilUtc(), this.sessionIdentifier);
+                Duration renewInterval = MessageAndSessionPump.getNextRenewInterval(this.session.getLockedUntilUtc(), this.sessionIdentifier);
                 if (renewInterval != null && !renewInterval.isNegative()) {
                     this.timerFuture = Timer.schedule(() -> {
                         TRACE_LOGGER.debug("Renewing lock on '{}'", this.sessionIdentifier);
@@ -13,11 +13,14 @@ public final class MessageHandlerOptions {
     private static final int DEFAULT_MAX_CONCURRENT_CALLS = 1;
     private static final int DEFAULT_MAX_RENEW_TIME_MINUTES = 5;
     private static final int DEFAULT_MESSAGE_WAIT_TIME_MINUTES = 1;
+    private static final int DEFAULT_RECEIVE_BATCH_SIZE = 1;
 
     private boolean autoComplete;
     private Duration maxAutoRenewDuration;
     private Duration messageWaitDuration;
     private int maxConcurrentCalls;
+    private int maxConcurrentReceives;
+    private int receiveBatchSize;
 
     /**
      * Default constructor for create {@link MessageHandlerOptions} with default settings.
@@ -52,6 +55,33 @@ public final class MessageHandlerOptions {
         this.autoComplete = autoComplete;
         this.maxAutoRenewDuration = maxAutoRenewDuration;
         this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxConcurrentReceives = maxConcurrentCalls;
+        this.receiveBatchSize = DEFAULT_RECEIVE_BATCH_SIZE;
+        this.messageWaitDuration = messageWaitDuration;
+    }
+
+    /**
+     * Create a instance of {@link MessageHandlerOptions} whose number of receive calls is independent of the number of concurrent calls to the onMessage handler.
+     * The pump never has more messages received and not yet processed than the maximum number of concurrent calls to the onMessage handler,
+     * so a few receive calls fetching batches of messages can keep many calls to the handler busy.
+     *
+     * @param maxConcurrentCalls    maximum number of concurrent calls to the onMessage handler
+     * @param maxConcurrentReceives maximum number of concurrent receive calls the pump makes to fetch messages
+     * @param receiveBatchSize      maximum number of messages fetched by one receive call
+     * @param autoComplete          true if the pump should automatically complete message after onMessageHandler action is completed. false otherwise.
+     * @param maxAutoRenewDuration  - Maximum duration within which the client keeps renewing the message lock if the processing of the message is not completed by the handler.
+     * @param messageWaitDuration   duration to wait for receiving the message
+     */
+    public MessageHandlerOptions(int maxConcurrentCalls, int maxConcurrentReceives, int receiveBatchSize, boolean autoComplete, Duration maxAutoRenewDuration, Duration messageWaitDuration) {
+        if (maxConcurrentReceives < 1 || receiveBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum number of concurrent receives and receive batch size must be greater than 0.");
+        }
+
+        this.autoComplete = autoComplete;
+        this.maxAutoRenewDuration = maxAutoRenewDuration;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxConcurrentReceives = maxConcurrentReceives;
+        this.receiveBatchSize = receiveBatchSize;
         this.messageWaitDuration = messageWaitDuration;
     }
 
@@ -73,6 +103,24 @@ public final class MessageHandlerOptions {
         return this.maxConcurrentCalls;
     }
 
+    /**
+     * Gets the maximum number of concurrent receive calls the message pump makes to fetch messages. Defaults to the maximum number of concurrent calls to the callback.
+     *
+     * @return The maximum number of concurrent receive calls.
+     */
+    public int getMaxConcurrentReceives() {
+        return this.maxConcurrentReceives;
+    }
+
+    /**
+     * Gets the maximum number of messages the message pump fetches in one receive call. Defaults to 1.
+     *
+     * @return The maximum number of messages fetched in one receive call.
+     */
+    public int getReceiveBatchSize() {
+        return this.receiveBatchSize;
+    }
+
     /**
      * Gets the maximum duration within which the lock will be renewed automatically. This value should be greater than the longest message lock duration; for example, the LockDuration Property.
      *
@@ -92,6 +140,7 @@ public final class MessageHandlerOptions {
 
     @Override
     public String toString() {
-        return String.format(Locale.US, "MessageHandlerOptions - AutoComplete:%s, MaxConcurrentCalls:%s, MaxAutoRenewDuration:%s", this.autoComplete, this.maxConcurrentCalls, this.maxAutoRenewDuration);
+        return String.format(Locale.US, "MessageHandlerOptions - AutoComplete:%s, MaxConcurrentCalls:%s, MaxConcurrentReceives:%s, ReceiveBatchSize:%s, MaxAutoRenewDuration:%s",
+            this.autoComplete, this.maxConcurrentCalls, this.maxConcurrentReceives, this.receiveBatchSize, this.maxAutoRenewDuration);
     }
 }
@@ -0,0 +1,273 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.microsoft.azure.servicebus.primitives.ExceptionUtil;
+import com.microsoft.azure.servicebus.primitives.MessageLockLostException;
+import com.microsoft.azure.servicebus.primitives.MessagingFactory;
+import com.microsoft.azure.servicebus.primitives.OperationCancelledException;
+import com.microsoft.azure.servicebus.primitives.Timer;
+import com.microsoft.azure.servicebus.primitives.TimerType;
+
+/**
+ * Renews the locks of the messages being processed by a {@link MessageAndSessionPump}. Instead of a timer and a
+ * management request per message, a single timer fires when the earliest lock is due and all locks due within
+ * {@link #RENEWAL_WINDOW} are renewed together in one request.
+ */
+final class MessageLockRenewalCoordinator {
+    private static final Logger TRACE_LOGGER = LoggerFactory.getLogger(MessageLockRenewalCoordinator.class);
+    // Locks due within this window of the earliest one are renewed in the same request
+    static final Duration RENEWAL_WINDOW = Duration.ofSeconds(2);
+    static final int MAX_LOCK_TOKENS_PER_REQUEST = 100;
+
+    private final String entityPath;
+    private final Function<Collection<IMessage>, CompletableFuture<Collection<Instant>>> lockRenewer;
+    private final Consumer<Throwable> exceptionHandler;
+    private final BiFunction<Runnable, Duration, ScheduledFuture<?>> scheduler;
+    private final ConcurrentHashMap<UUID, Registration> registrations = new ConcurrentHashMap<>();
+    private final Object scheduleSync = new Object();
+    private final AtomicLong renewalRequestCount = new AtomicLong();
+    private final AtomicLong renewedLockCount = new AtomicLong();
+    private final AtomicLong failedRenewalCount = new AtomicLong();
+    private final AtomicLong maxRenewalLagMillis = new AtomicLong();
+
+    private ScheduledFuture<?> timerFuture;
+    private Instant nextRunAt;
+    private boolean closed;
+
+    MessageLockRenewalCoordinator(String entityPath, Function<Collection<IMessage>, CompletableFuture<Collection<Instant>>> lockRenewer, Consumer<Throwable> exceptionHandler) {
+        this(entityPath, lockRenewer, exceptionHandler, (runnable, delay) -> Timer.schedule(runnable, delay, TimerType.OneTimeRun));
+    }
+
+    MessageLockRenewalCoordinator(String entityPath, Function<Collection<IMessage>, CompletableFuture<Collection<Instant>>> lockRenewer, Consumer<Throwable> exceptionHandler,
+        BiFunction<Runnable, Duration, ScheduledFuture<?>> scheduler) {
+        this.entityPath = entityPath;
+        this.lockRenewer = lockRenewer;
+        this.exceptionHandler = exceptionHandler;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts renewing the lock of a message until it is unregistered or its lock is valid beyond {@code stopRenewalAt}.
+     */
+    void register(IMessage message, Instant stopRenewalAt) {
+        if (!message.getLockedUntilUtc().isBefore(stopRenewalAt)) {
+            return;
+        }
+
+        Registration registration = new Registration(message, stopRenewalAt);
+        registration.renewAt = Instant.now().plus(MessageAndSessionPump.getNextRenewInterval(message.getLockedUntilUtc(), registration.identifier));
+        this.registrations.put(message.getLockToken(), registration);
+        this.scheduleAt(registration.renewAt);
+    }
+
+    /**
+     * Stops renewing the lock of a message.
+     */
+    void unregister(UUID lockToken) {
+        this.registrations.remove(lockToken);
+    }
+
+    void close() {
+        synchronized (this.scheduleSync) {
+            this.closed = true;
+            if (this.timerFuture != null) {
+                this.timerFuture.cancel(false);
+                this.timerFuture = null;
+            }
+        }
+        this.registrations.clear();
+    }
+
+    int getRegisteredLockCount() {
+        return this.registrations.size();
+    }
+
+    long getRenewalRequestCount() {
+        return this.renewalRequestCount.get();
+    }
+
+    long getRenewedLockCount() {
+        return this.renewedLockCount.get();
+    }
+
+    long getFailedRenewalCount() {
+        return this.failedRenewalCount.get();
+    }
+
+    /**
+     * Gets the longest delay observed between the time a lock was due for renewal and the time its renewal was sent.
+     */
+    Duration getMaxRenewalLag() {
+        return Duration.ofMillis(this.maxRenewalLagMillis.get());
+    }
+
+    void renewDueLocks() {
+        synchronized (this.scheduleSync) {
+            this.timerFuture = null;
+            this.nextRunAt = null;
+            if (this.closed) {
+                return;
+            }
+        }
+
+        Instant now = Instant.now();
+        Instant dueBy = now.plus(RENEWAL_WINDOW);
+        List<Registration> dueRegistrations = new ArrayList<>();
+        for (Registration registration : this.registrations.values()) {
+            if (!registration.renewing && !registration.renewAt.isAfter(dueBy)) {
+                registration.renewing = true;
+                dueRegistrations.add(registration);
+                long lagMillis = Duration.between(registration.renewAt, now).toMillis();
+                if (lagMillis > 0) {
+                    this.maxRenewalLagMillis.accumulateAndGet(lagMillis, Math::max);
+                }
+            }
+        }
+
+        for (int i = 0; i < dueRegistrations.size(); i += MAX_LOCK_TOKENS_PER_REQUEST) {
+            this.renew(dueRegistrations.subList(i, Math.min(i + MAX_LOCK_TOKENS_PER_REQUEST, dueRegistrations.size())));
+        }
+
+        this.scheduleNext();
+    }
+
+    private void renew(List<Registration> batch) {
+        List<IMessage> messages = new ArrayList<>(batch.size());
+        for (Registration registration : batch) {
+            messages.add(registration.message);
+        }
+
+        this.renewalRequestCount.incrementAndGet();
+        TRACE_LOGGER.debug("Renewing locks of '{}' messages on entity '{}'", batch.size(), this.entityPath);
+        CompletableFuture<Collection<Instant>> renewFuture;
+        try {
+            renewFuture = this.lockRenewer.apply(messages);
+        } catch (RuntimeException renewSyncEx) {
+            renewFuture = new CompletableFuture<>();
+            renewFuture.completeExceptionally(renewSyncEx);
+        }
+
+        renewFuture.handleAsync((lockedUntilTimes, renewLockEx) -> {
+            if (renewLockEx == null) {
+                Iterator<Instant> lockedUntilIterator = lockedUntilTimes.iterator();
+                for (Registration registration : batch) {
+                    if (lockedUntilIterator.hasNext()) {
+                        this.onRenewed(registration, lockedUntilIterator.next());
+                    } else {
+                        this.onRenewFailed(registration, null);
+                    }
+                }
+                TRACE_LOGGER.debug("Renewed locks of '{}' messages on entity '{}'. Requests: '{}', renewed locks: '{}', failed renewals: '{}', max renewal lag: '{}'",
+                    batch.size(), this.entityPath, this.renewalRequestCount.get(), this.renewedLockCount.get(), this.failedRenewalCount.get(), this.getMaxRenewalLag());
+            } else {
+                renewLockEx = ExceptionUtil.extractAsyncCompletionCause(renewLockEx);
+                if (batch.size() > 1 && renewLockEx instanceof MessageLockLostException) {
+                    // A single lost lock fails the whole request. Renew the locks one by one to find it.
+                    TRACE_LOGGER.info("Renewing locks of '{}' messages on entity '{}' failed as a lock was lost. Renewing them individually.", batch.size(), this.entityPath);
+                    for (Registration registration : batch) {
+                        this.renew(Collections.singletonList(registration));
+                    }
+                    return null;
+                }
+
+                TRACE_LOGGER.info("Renewing locks of '{}' messages on entity '{}' failed", batch.size(), this.entityPath, renewLockEx);
+                this.exceptionHandler.accept(renewLockEx);
+                for (Registration registration : batch) {
+                    this.onRenewFailed(registration, renewLockEx);
+                }
+            }
+
+            this.scheduleNext();
+            return null;
+        }, MessagingFactory.INTERNAL_THREAD_POOL);
+    }
+
+    private void onRenewed(Registration registration, Instant lockedUntilUtc) {
+        this.renewedLockCount.incrementAndGet();
+        if (registration.message instanceof Message) {
+            ((Message) registration.message).setLockedUntilUtc(lockedUntilUtc);
+        }
+
+        TRACE_LOGGER.debug("Renewed lock on '{}'", registration.identifier);
+        if (lockedUntilUtc.isBefore(registration.stopRenewalAt)) {
+            registration.renewAt = Instant.now().plus(MessageAndSessionPump.getNextRenewInterval(lockedUntilUtc, registration.identifier));
+            registration.renewing = false;
+        } else {
+            this.registrations.remove(registration.message.getLockToken(), registration);
+        }
+    }
+
+    private void onRenewFailed(Registration registration, Throwable renewLockEx) {
+        this.failedRenewalCount.incrementAndGet();
+        if (renewLockEx instanceof MessageLockLostException || renewLockEx instanceof OperationCancelledException) {
+            this.registrations.remove(registration.message.getLockToken(), registration);
+        } else {
+            registration.renewAt = Instant.now().plus(MessageAndSessionPump.getNextRenewInterval(registration.message.getLockedUntilUtc(), registration.identifier));
+            registration.renewing = false;
+        }
+    }
+
+    private void scheduleNext() {
+        Instant earliest = null;
+        for (Registration registration : this.registrations.values()) {
+            if (!registration.renewing && (earliest == null || registration.renewAt.isBefore(earliest))) {
+                earliest = registration.renewAt;
+            }
+        }
+
+        if (earliest != null) {
+            this.scheduleAt(earliest);
+        }
+    }
+
+    private void scheduleAt(Instant runAt) {
+        synchronized (this.scheduleSync) {
+            if (this.closed || (this.timerFuture != null && !this.nextRunAt.isAfter(runAt))) {
+                return;
+            }
+
+            if (this.timerFuture != null) {
+                this.timerFuture.cancel(false);
+            }
+
+            Duration delay = Duration.between(Instant.now(), runAt);
+            this.nextRunAt = runAt;
+            this.timerFuture = this.scheduler.apply(this::renewDueLocks, delay.isNegative() ? Duration.ZERO : delay);
+        }
+    }
+
+    private static final class Registration {
+        private final IMessage message;
+        private final Instant stopRenewalAt;
+        private final String identifier;
+        private volatile Instant renewAt;
+        private volatile boolean renewing;
+
+        Registration(IMessage message, Instant stopRenewalAt) {
+            this.message = message;
+            this.stopRenewalAt = stopRenewalAt;
+            this.identifier = String.format("message with locktoken : %s, sequence number : %s", message.getLockToken(), message.getSequenceNumber());
+        }
+    }
+}
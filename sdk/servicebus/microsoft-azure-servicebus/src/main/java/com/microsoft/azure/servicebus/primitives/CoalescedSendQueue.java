@@ -0,0 +1,157 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.microsoft.azure.servicebus.TransactionContext;
+import com.microsoft.azure.servicebus.amqp.AmqpConstants;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
+import org.apache.qpid.proton.engine.impl.DeliveryImpl;
+import org.apache.qpid.proton.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Messages a sender combines into batch messages while they wait for link credit or for earlier messages to be sent.
+ * Each message times out on its own while it is queued. Except for the timeout tasks, which take it themselves, all
+ * methods must be called holding the lock the queue is created with.
+ */
+final class CoalescedSendQueue {
+    private static final Logger TRACE_LOGGER = LoggerFactory.getLogger(CoalescedSendQueue.class);
+
+    private final Object lock;
+    private final TimeoutWheel timeouts;
+    private final Consumer<CompletableFuture<DeliveryState>> timeoutHandler;
+    private final ArrayDeque<CoalescedSendWorkItem> queue;
+
+    CoalescedSendQueue(Object lock, TimeoutWheel timeouts, Consumer<CompletableFuture<DeliveryState>> timeoutHandler) {
+        this.lock = lock;
+        this.timeouts = timeouts;
+        this.timeoutHandler = timeoutHandler;
+        this.queue = new ArrayDeque<>();
+    }
+
+    void offer(CoalescedSendWorkItem coalescedSend, Duration timeout) {
+        this.queue.offer(coalescedSend);
+        coalescedSend.setTimeoutTask(this.timeouts.schedule(() -> {
+            boolean removed;
+            synchronized (this.lock) {
+                removed = this.queue.remove(coalescedSend);
+            }
+
+            if (removed) {
+                TRACE_LOGGER.info("Coalesced message was not sent before the operation timed out. Throwing timeout.");
+                this.timeoutHandler.accept(coalescedSend.getWork());
+            }
+        }, timeout));
+    }
+
+    boolean remove(CoalescedSendWorkItem coalescedSend) {
+        return this.queue.remove(coalescedSend);
+    }
+
+    boolean isEmpty() {
+        return this.queue.isEmpty();
+    }
+
+    /**
+     * Takes the messages queued first that can be combined into one batch message no larger than the given size. The
+     * outcome of the returned work item completes every message in it, and it times out when the message queued first
+     * does. Its delivery tag is left for the caller to set.
+     *
+     * @return the work item to send, or null if no message is queued
+     */
+    SendWorkItem<DeliveryState> takeBatch(int maxMessageSize) {
+        final List<CoalescedSendWorkItem> batch = new ArrayList<>();
+        CoalescedSendWorkItem first;
+        do {
+            first = this.queue.poll();
+            if (first == null) {
+                return null;
+            }
+        } while (!this.claim(first));
+        batch.add(first);
+
+        byte[] bytes = first.getMessage();
+        int encodedSize = first.getEncodedMessageSize();
+        int messageFormat = DeliveryImpl.DEFAULT_MESSAGE_FORMAT;
+        CoalescedSendWorkItem next = this.queue.peek();
+        if (next != null && first.canBeBatchedWith(next)) {
+            try {
+                // Same envelope as CoreMessageSender.sendAsync(Iterable) uses
+                Message batchMessage = Proton.message();
+                batchMessage.setMessageAnnotations(first.getAmqpMessage().getMessageAnnotations());
+                Pair<byte[], Integer> encodedPair = Util.encodeMessageToMaxSizeArray(batchMessage, maxMessageSize);
+                byte[] batchBytes = encodedPair.getFirstItem();
+                int batchOffset = encodedPair.getSecondItem();
+                batchOffset += Util.encodeBatchedMessage(first.getMessage(), first.getEncodedMessageSize(), batchBytes, batchOffset, maxMessageSize);
+                while (next != null && first.canBeBatchedWith(next)) {
+                    int batchedSize;
+                    try {
+                        batchedSize = Util.encodeBatchedMessage(next.getMessage(), next.getEncodedMessageSize(), batchBytes, batchOffset, maxMessageSize);
+                    } catch (PayloadSizeExceededException e) {
+                        // The batch is full, the message goes into the next one
+                        break;
+                    }
+
+                    this.queue.poll();
+                    if (this.claim(next)) {
+                        batchOffset += batchedSize;
+                        batch.add(next);
+                    }
+                    next = this.queue.peek();
+                }
+
+                if (batch.size() > 1) {
+                    bytes = batchBytes;
+                    encodedSize = batchOffset;
+                    messageFormat = AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT;
+                }
+            } catch (PayloadSizeExceededException e) {
+                // The first message doesn't fit in a batch message, so it is sent on its own
+                TRACE_LOGGER.debug("Coalesced message does not fit in a batch message. Sending it on its own.");
+            }
+        }
+
+        final CompletableFuture<DeliveryState> batchSendFuture = new CompletableFuture<DeliveryState>();
+        batchSendFuture.whenComplete((deliveryState, sendEx) -> {
+            for (CoalescedSendWorkItem coalescedSend : batch) {
+                if (sendEx == null) {
+                    AsyncUtil.completeFuture(coalescedSend.getWork(), deliveryState);
+                } else {
+                    AsyncUtil.completeFutureExceptionally(coalescedSend.getWork(), ExceptionUtil.extractAsyncCompletionCause(sendEx));
+                }
+            }
+        });
+
+        return new SendWorkItem<DeliveryState>(bytes, encodedSize, messageFormat, null, TransactionContext.NULL_TXN, batchSendFuture, first.getTimeoutTracker());
+    }
+
+    /**
+     * Removes all queued messages, for the caller to fail them.
+     */
+    List<CoalescedSendWorkItem> drain() {
+        List<CoalescedSendWorkItem> drained = new ArrayList<>(this.queue);
+        this.queue.clear();
+        return drained;
+    }
+
+    // Called after taking the message off the queue. Returns false if it timed out.
+    private boolean claim(CoalescedSendWorkItem coalescedSend) {
+        if (coalescedSend.cancelTimeoutTask()) {
+            return !coalescedSend.getWork().isDone();
+        }
+
+        // The timeout fired but its task can no longer find the message in the queue
+        this.timeoutHandler.accept(coalescedSend.getWork());
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import com.microsoft.azure.servicebus.TransactionContext;
+import org.apache.qpid.proton.amqp.Symbol;
+import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
+import org.apache.qpid.proton.engine.impl.DeliveryImpl;
+import org.apache.qpid.proton.message.Message;
+
+// A message waiting to be combined with other messages into a batch message
+class CoalescedSendWorkItem extends SendWorkItem<DeliveryState> {
+    private final Message amqpMessage;
+
+    CoalescedSendWorkItem(Message amqpMessage, byte[] encodedMessage, int encodedMessageSize, CompletableFuture<DeliveryState> completableFuture, Duration timeout) {
+        super(encodedMessage, encodedMessageSize, DeliveryImpl.DEFAULT_MESSAGE_FORMAT, null, TransactionContext.NULL_TXN, completableFuture, timeout);
+        this.amqpMessage = amqpMessage;
+    }
+
+    Message getAmqpMessage() {
+        return this.amqpMessage;
+    }
+
+    // Messages in a batch share the message annotations, which include the partition key, and the session
+    boolean canBeBatchedWith(CoalescedSendWorkItem other) {
+        return Objects.equals(getAnnotationsMap(this.amqpMessage.getMessageAnnotations()), getAnnotationsMap(other.amqpMessage.getMessageAnnotations()))
+            && Objects.equals(this.amqpMessage.getGroupId(), other.amqpMessage.getGroupId());
+    }
+
+    private static Map<Symbol, Object> getAnnotationsMap(MessageAnnotations messageAnnotations) {
+        return messageAnnotations == null || messageAnnotations.getValue() == null || messageAnnotations.getValue().isEmpty() ? null : messageAnnotations.getValue();
+    }
+}
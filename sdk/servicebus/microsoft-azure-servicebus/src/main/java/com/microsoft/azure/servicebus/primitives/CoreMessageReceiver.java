@@ -105,6 +105,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
     private final Runnable timedOutUpdateStateRequestsDaemon;
     private final Runnable returnMesagesLoopDaemon;
     private final MessagingEntityType entityType;
+    private final TimeoutWheel receiveTimeouts;
     private ScheduledFuture<?> updateStateRequestsTimeoutChecker;
     private ScheduledFuture<?> returnMessagesLoopRunner;
 
@@ -133,6 +134,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
         this.prefetchCountSync = new Object();
         this.retryPolicy = factory.getRetryPolicy();
         this.pendingReceives = new ConcurrentLinkedQueue<>();
+        this.receiveTimeouts = new TimeoutWheel();
 
         this.pendingUpdateStateRequests = new ConcurrentHashMap<>();
         this.tagsToDeliveriesMap = new ConcurrentHashMap<>();
@@ -183,7 +185,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
                     if (currentReceive != null) {
                         if (!currentReceive.getWork().isDone()) {
                             TRACE_LOGGER.debug("Returning the message received from '{}' to a pending receive request", CoreMessageReceiver.this.receivePath);
-                            currentReceive.cancelTimeoutTask(false);
+                            currentReceive.cancelTimeoutTask();
                             List<MessageWithDeliveryTag> messages = CoreMessageReceiver.this.receiveCore(currentReceive.getMaxMessageCount());
                             CoreMessageReceiver.this.reduceCreditForCompletedReceiveRequest(currentReceive.getMaxMessageCount());
                             AsyncUtil.completeFuture(currentReceive.getWork(), messages);
@@ -485,7 +487,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
             timeout = ZERO_TIMEOUT_APPROXIMATION;
         }
 
-        Timer.schedule(
+        receiveWorkItem.setTimeoutTask(this.receiveTimeouts.schedule(
             () -> {
                 if (CoreMessageReceiver.this.pendingReceives.remove(receiveWorkItem)) {
                     CoreMessageReceiver.this.reduceCreditForCompletedReceiveRequest(receiveWorkItem.getMaxMessageCount());
@@ -493,8 +495,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
                     AsyncUtil.completeFuture(receiveWorkItem.getWork(), null);
                 }
             },
-            timeout,
-            TimerType.OneTimeRun);
+            timeout));
         
         this.ensureLinkIsOpen().thenRun(() -> this.addCredit(receiveWorkItem));
         return onReceive;
@@ -737,7 +738,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
                     this.pendingReceives.remove(receiveWorkItem);
                     this.reduceCreditForCompletedReceiveRequest(receiveWorkItem.getMaxMessageCount());
                     receiveWorkItem.getWork().completeExceptionally(generateDispatacherSchedulingFailedException("completeMessage", ioException));
-                    receiveWorkItem.cancelTimeoutTask(false);
+                    receiveWorkItem.cancelTimeoutTask();
                 }
             }
         }
@@ -1066,7 +1067,7 @@ public class CoreMessageReceiver extends ClientEntity implements IAmqpReceiver,
             pendingRecivesIterator.remove();
 
             CompletableFuture<Collection<MessageWithDeliveryTag>> future = workItem.getWork();
-            workItem.cancelTimeoutTask(false);
+            workItem.cancelTimeoutTask();
             this.reduceCreditForCompletedReceiveRequest(workItem.getMaxMessageCount());
             if (isTransientException) {
                 AsyncUtil.completeFuture(future, null);
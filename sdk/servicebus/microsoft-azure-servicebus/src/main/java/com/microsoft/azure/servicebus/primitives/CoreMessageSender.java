@@ -17,7 +17,6 @@ import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Map;
 import java.util.PriorityQueue;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
@@ -28,7 +27,6 @@ import org.apache.qpid.proton.amqp.Binary;
 import org.apache.qpid.proton.amqp.Symbol;
 import org.apache.qpid.proton.amqp.UnsignedInteger;
 import org.apache.qpid.proton.amqp.messaging.Accepted;
-import org.apache.qpid.proton.amqp.messaging.Data;
 import org.apache.qpid.proton.amqp.messaging.Outcome;
 import org.apache.qpid.proton.amqp.messaging.Rejected;
 import org.apache.qpid.proton.amqp.messaging.Released;
@@ -79,6 +77,11 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
     private final PriorityQueue<WeightedDeliveryTag> pendingSends;
     private final DispatchHandler sendWork;
     private final MessagingEntityType entityType;
+    private final TimeoutWheel sendTimeouts;
+    private final boolean isSendCoalescingEnabled;
+    // Messages waiting to be combined into a batch message, guarded by pendingSendLock
+    private final CoalescedSendQueue coalescedSends;
+    private final DeliveryTagGenerator deliveryTags;
     private boolean isSendLoopRunning;
 
     private Sender sendLink;
@@ -228,7 +231,11 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
 
         this.pendingSendLock = new Object();
         this.pendingSendsData = new ConcurrentHashMap<String, SendWorkItem<DeliveryState>>();
+        this.sendTimeouts = new TimeoutWheel();
         this.pendingSends = new PriorityQueue<WeightedDeliveryTag>(1000, new DeliveryTagComparator());
+        this.isSendCoalescingEnabled = factory.getClientSettings().isSendCoalescingEnabled();
+        this.coalescedSends = new CoalescedSendQueue(this.pendingSendLock, this.sendTimeouts, (work) -> this.throwSenderTimeout(work, null));
+        this.deliveryTags = new DeliveryTagGenerator();
         this.linkCredit = 0;
 
         this.linkClose = new CompletableFuture<Void>();
@@ -246,8 +253,8 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
         return this.sendPath;
     }
 
-    private static String generateRandomDeliveryTag() {
-        return UUID.randomUUID().toString().replace("-", StringUtil.EMPTY);
+    private String generateDeliveryTag() {
+        return this.deliveryTags.next();
     }
 
     CompletableFuture<DeliveryState> sendCoreAsync(
@@ -257,7 +264,7 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
             final TransactionContext transaction) {
         this.throwIfClosed(this.lastKnownLinkError);
         TRACE_LOGGER.debug("Sending message to '{}'", this.sendPath);
-        String deliveryTag = CoreMessageSender.generateRandomDeliveryTag();
+        String deliveryTag = this.generateDeliveryTag();
         CompletableFuture<DeliveryState> onSendFuture = new CompletableFuture<DeliveryState>();
         SendWorkItem<DeliveryState> sendWorkItem = new SendWorkItem<DeliveryState>(bytes, arrayOffset, messageFormat, deliveryTag, transaction, onSendFuture, this.operationTimeout);
         this.enlistSendRequest(deliveryTag, sendWorkItem, false);
@@ -267,7 +274,7 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
 
     private void scheduleSendTimeout(SendWorkItem<DeliveryState> sendWorkItem) {
         // Timer to timeout the request
-        ScheduledFuture<?> timeoutTask = Timer.schedule(() -> {
+        TimeoutWheel.Timeout timeoutTask = this.sendTimeouts.schedule(() -> {
             if (!sendWorkItem.getWork().isDone()) {
                 TRACE_LOGGER.info("Delivery '{}' to '{}' did not receive ack from service. Throwing timeout.", sendWorkItem.getDeliveryTag(), CoreMessageSender.this.sendPath);
                 CoreMessageSender.this.pendingSendsData.remove(sendWorkItem.getDeliveryTag());
@@ -275,8 +282,7 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
                 // Weighted delivery tag not removed from the pending sends queue, but send loop will ignore it anyway if it is present
             }
         },
-            sendWorkItem.getTimeoutTracker().remaining(),
-            TimerType.OneTimeRun);
+            sendWorkItem.getTimeoutTracker().remaining());
         sendWorkItem.setTimeoutTask(timeoutTask);
     }
 
@@ -296,11 +302,11 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
     }
 
     private void reSendAsync(String deliveryTag, SendWorkItem<DeliveryState> retryingSendWorkItem, boolean reuseDeliveryTag) {
-        if (!retryingSendWorkItem.getWork().isDone() && retryingSendWorkItem.cancelTimeoutTask(false)) {
+        if (!retryingSendWorkItem.getWork().isDone() && retryingSendWorkItem.cancelTimeoutTask()) {
             Duration remainingTime = retryingSendWorkItem.getTimeoutTracker().remaining();
             if (!remainingTime.isNegative() && !remainingTime.isZero()) {
                 if (!reuseDeliveryTag) {
-                    deliveryTag = CoreMessageSender.generateRandomDeliveryTag();
+                    deliveryTag = this.generateDeliveryTag();
                     retryingSendWorkItem.setDeliveryTag(deliveryTag);
                 }
 
@@ -335,12 +341,8 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
             byteArrayOffset = encodedPair.getSecondItem();
 
             for (Message amqpMessage: messages) {
-                Message messageWrappedByData = Proton.message();
                 encodedPair = Util.encodeMessageToOptimalSizeArray(amqpMessage, this.maxMessageSize);
-                messageWrappedByData.setBody(new Data(new Binary(encodedPair.getFirstItem(), 0, encodedPair.getSecondItem())));
-
-                int encodedSize = Util.encodeMessageToCustomArray(messageWrappedByData, bytes, byteArrayOffset, this.maxMessageSize - byteArrayOffset - 1);
-                byteArrayOffset = byteArrayOffset + encodedSize;
+                byteArrayOffset = byteArrayOffset + Util.encodeBatchedMessage(encodedPair.getFirstItem(), encodedPair.getSecondItem(), bytes, byteArrayOffset, this.maxMessageSize);
             }
         } catch (PayloadSizeExceededException ex) {
             TRACE_LOGGER.info("Payload size of batch of messages exceeded limit", ex);
@@ -353,9 +355,59 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
     }
 
     public CompletableFuture<Void> sendAsync(Message msg, TransactionContext transaction) {
+        if (this.isSendCoalescingEnabled && transaction == TransactionContext.NULL_TXN) {
+            return this.sendCoalescedAsync(msg).thenAccept((x) -> { /*Do nothing*/ });
+        }
+
         return this.sendAndReturnDeliveryStateAsync(msg, transaction).thenAccept((x) -> { /*Do nothing*/ });
     }
 
+    // Queues the message so the send loop can combine it with other messages queued while it waits for link credit or
+    // while it sends earlier messages. Each message still completes or times out on its own.
+    private CompletableFuture<DeliveryState> sendCoalescedAsync(Message msg) {
+        this.throwIfClosed(this.lastKnownLinkError);
+        final CompletableFuture<DeliveryState> onSendFuture = new CompletableFuture<DeliveryState>();
+        final Pair<byte[], Integer> encodedPair;
+        try {
+            encodedPair = Util.encodeMessageToOptimalSizeArray(msg, this.maxMessageSize);
+        } catch (PayloadSizeExceededException exception) {
+            TRACE_LOGGER.info("Payload size of message exceeded limit", exception);
+            onSendFuture.completeExceptionally(exception);
+            return onSendFuture;
+        }
+
+        final CoalescedSendWorkItem coalescedSend = new CoalescedSendWorkItem(msg, encodedPair.getFirstItem(), encodedPair.getSecondItem(), onSendFuture, this.operationTimeout);
+        synchronized (this.pendingSendLock) {
+            this.coalescedSends.offer(coalescedSend, this.operationTimeout);
+
+            if (!this.isSendLoopRunning) {
+                try {
+                    this.underlyingFactory.scheduleOnReactorThread(this.sendWork);
+                } catch (IOException ioException) {
+                    this.coalescedSends.remove(coalescedSend);
+                    this.cleanupFailedSend(coalescedSend, new ServiceBusException(false, "Send failed while dispatching to Reactor, see cause for more details.", ioException));
+                }
+            }
+        }
+
+        return onSendFuture;
+    }
+
+    // Must be called holding pendingSendLock. Combines the queued messages that fit into one batch message and enlists it.
+    private void enlistCoalescedSends() {
+        final SendWorkItem<DeliveryState> sendWorkItem = this.coalescedSends.takeBatch(this.maxMessageSize);
+        if (sendWorkItem == null) {
+            return;
+        }
+
+        final String deliveryTag = this.generateDeliveryTag();
+        TRACE_LOGGER.debug("Sending coalesced message(s) to '{}' with delivery tag '{}'", this.sendPath, deliveryTag);
+        sendWorkItem.setDeliveryTag(deliveryTag);
+        this.pendingSendsData.put(deliveryTag, sendWorkItem);
+        this.pendingSends.offer(new WeightedDeliveryTag(deliveryTag, 0));
+        this.scheduleSendTimeout(sendWorkItem);
+    }
+
     // To be used only by internal components like TransactionController
     CompletableFuture<DeliveryState> sendAndReturnDeliveryStateAsync(Message msg, TransactionContext transaction) {
         try {
@@ -489,7 +541,7 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
                 this.lastKnownLinkError = null;
                 this.retryPolicy.resetRetryCount(this.getClientId());
 
-                pendingSendWorkItem.cancelTimeoutTask(false);
+                pendingSendWorkItem.cancelTimeoutTask();
                 AsyncUtil.completeFuture(pendingSendWorkItem.getWork(), outcome);
             } else if (outcome instanceof Declared) {
                 AsyncUtil.completeFuture(pendingSendWorkItem.getWork(), outcome);
@@ -530,11 +582,15 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
 
             this.pendingSendsData.clear();
             this.pendingSends.clear();
+
+            for (CoalescedSendWorkItem coalescedSend : this.coalescedSends.drain()) {
+                this.cleanupFailedSend(coalescedSend, failureException);
+            }
         }
     }
 
     private void cleanupFailedSend(final SendWorkItem<DeliveryState> failedSend, final Throwable exception) {
-        failedSend.cancelTimeoutTask(false);
+        failedSend.cancelTimeoutTask();
         ExceptionUtil.completeExceptionally(failedSend.getWork(), exception, this, true);
     }
 
@@ -746,6 +802,10 @@ public class CoreMessageSender extends ClientEntity implements IAmqpSender, IErr
                 final WeightedDeliveryTag deliveryTag;
                 final SendWorkItem<DeliveryState> sendData;
                 synchronized (this.pendingSendLock) {
+                    if (this.pendingSends.isEmpty() && !this.coalescedSends.isEmpty()) {
+                        this.enlistCoalescedSends();
+                    }
+
                     deliveryTag = this.pendingSends.poll();
                     if (deliveryTag == null) {
                         TRACE_LOGGER.debug("There are no pending sends to '{}'.", this.sendPath);
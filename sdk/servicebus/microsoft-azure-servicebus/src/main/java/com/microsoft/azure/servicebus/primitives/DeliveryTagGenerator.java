@@ -0,0 +1,16 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Delivery tags only need to be unique among the unsettled deliveries of a link, so a counter per link is enough and
+// creating one doesn't touch SecureRandom like a random UUID does
+final class DeliveryTagGenerator {
+    private final AtomicLong counter = new AtomicLong();
+
+    String next() {
+        return Long.toString(this.counter.incrementAndGet());
+    }
+}
@@ -62,6 +62,7 @@ class RequestResponseLink extends ClientEntity {
     private final ConcurrentHashMap<String, RequestResponseWorkItem> pendingRequests;
     private final AtomicInteger requestCounter;
     private final String replyTo;
+    private final TimeoutWheel requestTimeouts;
 
     private ScheduledFuture<?> sasTokenRenewTimerFuture;
     private InternalReceiver amqpReceiver;
@@ -173,6 +174,7 @@ class RequestResponseLink extends ClientEntity {
         this.pendingRequests = new ConcurrentHashMap<>();
         this.requestCounter = new AtomicInteger();
         this.replyTo = UUID.randomUUID().toString();
+        this.requestTimeouts = new TimeoutWheel();
         this.createFuture = new CompletableFuture<RequestResponseLink>();
         this.entityType = entityType;
         this.isInnerLinksCloseHandled = false;
@@ -390,7 +392,7 @@ class RequestResponseLink extends ClientEntity {
         TRACE_LOGGER.info("Completing all pending requests with exception in request response link to {}", this.linkPath);
         for (RequestResponseWorkItem workItem : this.pendingRequests.values()) {
             AsyncUtil.completeFutureExceptionally(workItem.getWork(), exception);
-            workItem.cancelTimeoutTask(true);
+            workItem.cancelTimeoutTask();
         }
 
         this.pendingRequests.clear();
@@ -418,13 +420,13 @@ class RequestResponseLink extends ClientEntity {
         return responseFuture;
     }
 
-    private ScheduledFuture<?> scheduleRequestTimeout(String requestId, Duration timeout) {
-        return Timer.schedule(() -> {
+    private TimeoutWheel.Timeout scheduleRequestTimeout(String requestId, Duration timeout) {
+        return this.requestTimeouts.schedule(() -> {
             TRACE_LOGGER.info("Request with id:{} timed out", requestId);
             RequestResponseWorkItem completedWorkItem = RequestResponseLink.this.exceptionallyCompleteRequest(requestId, new TimeoutException("Request timed out."), true);
             boolean isRetriedWorkItem = completedWorkItem.getLastKnownException() != null;
             RequestResponseLink.this.amqpSender.removeEnqueuedRequest(requestId, isRetriedWorkItem);
-        }, timeout, TimerType.OneTimeRun);
+        }, timeout);
     }
 
     private RequestResponseWorkItem exceptionallyCompleteRequest(String requestId, Exception exception, boolean useLastKnownException) {
@@ -437,7 +439,7 @@ class RequestResponseLink extends ClientEntity {
 
             workItem.getWork().completeExceptionally(exceptionToReport);
             AsyncUtil.completeFutureExceptionally(workItem.getWork(), exceptionToReport);
-            workItem.cancelTimeoutTask(true);
+            workItem.cancelTimeoutTask();
         }
 
         return workItem;
@@ -480,7 +482,7 @@ class RequestResponseLink extends ClientEntity {
                 this.underlyingFactory.getRetryPolicy().resetRetryCount(this.getClientId());
                 this.pendingRequests.remove(requestId);
                 workItem.getWork().complete(responseMessage);
-                workItem.cancelTimeoutTask(true);
+                workItem.cancelTimeoutTask();
             }
         } else {
             TRACE_LOGGER.info("Request with id:{} not found in the requestresponse link.", requestId);
@@ -0,0 +1,198 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel that tracks the timeouts of the operations pending on a link. Scheduling and cancelling a timeout
+ * take constant time, unlike scheduling a task per operation on the shared {@link Timer} executor whose queue is a heap.
+ * The wheel is advanced by a single repeating {@link Timer} task that only runs while timeouts are pending.
+ * Timeouts fire at most one tick after they are due.
+ */
+final class TimeoutWheel {
+    private static final Logger TRACE_LOGGER = LoggerFactory.getLogger(TimeoutWheel.class);
+    static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(50);
+    static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] buckets;
+    private final LongSupplier nanoClock;
+    private final BiFunction<Runnable, Duration, ScheduledFuture<?>> tickerScheduler;
+    private final long startNanos;
+
+    private long nextTick;
+    private int pendingCount;
+    private ScheduledFuture<?> ticker;
+
+    TimeoutWheel() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE, System::nanoTime, (runnable, tickDuration) -> Timer.schedule(runnable, tickDuration, TimerType.RepeatRun));
+    }
+
+    TimeoutWheel(Duration tickDuration, int wheelSize, LongSupplier nanoClock, BiFunction<Runnable, Duration, ScheduledFuture<?>> tickerScheduler) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of 2.");
+        }
+
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.buckets[i] = new Bucket();
+        }
+        this.nanoClock = nanoClock;
+        this.tickerScheduler = tickerScheduler;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Schedules a task to run once the given delay elapses, unless the returned timeout is cancelled first.
+     */
+    Timeout schedule(Runnable task, Duration delay) {
+        Timeout timeout = new Timeout(this, task);
+        synchronized (this) {
+            long nowNanos = this.nanoClock.getAsLong() - this.startNanos;
+            if (this.pendingCount == 0) {
+                // The wheel was idle, so no ticks were processed since the last timeout expired
+                this.nextTick = Math.max(this.nextTick, nowNanos / this.tickNanos);
+            }
+
+            long deadlineNanos = nowNanos + Math.max(delay.toNanos(), 0);
+            long tick = Math.max((deadlineNanos + this.tickNanos - 1) / this.tickNanos, this.nextTick);
+            timeout.remainingRounds = (tick - this.nextTick) / this.buckets.length;
+            this.buckets[(int) (tick & this.mask)].add(timeout);
+            this.pendingCount++;
+            if (this.ticker == null || this.ticker.isDone()) {
+                this.ticker = this.tickerScheduler.apply(this::expireTimeouts, Duration.ofNanos(this.tickNanos));
+            }
+        }
+
+        return timeout;
+    }
+
+    synchronized int getPendingCount() {
+        return this.pendingCount;
+    }
+
+    /**
+     * Runs the tasks of all timeouts that are due. Called on every tick.
+     */
+    void expireTimeouts() {
+        List<Timeout> expiredTimeouts = new ArrayList<>();
+        synchronized (this) {
+            long currentTick = (this.nanoClock.getAsLong() - this.startNanos) / this.tickNanos;
+            while (this.nextTick <= currentTick && this.pendingCount > 0) {
+                Bucket bucket = this.buckets[(int) (this.nextTick & this.mask)];
+                Timeout timeout = bucket.head;
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.remainingRounds <= 0) {
+                        bucket.remove(timeout);
+                        this.pendingCount--;
+                        expiredTimeouts.add(timeout);
+                    } else {
+                        timeout.remainingRounds--;
+                    }
+                    timeout = next;
+                }
+                this.nextTick++;
+            }
+
+            // Skip the ticks that passed without pending timeouts
+            this.nextTick = Math.max(this.nextTick, currentTick + 1);
+            if (this.pendingCount == 0 && this.ticker != null) {
+                this.ticker.cancel(false);
+                this.ticker = null;
+            }
+        }
+
+        for (Timeout timeout : expiredTimeouts) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                TRACE_LOGGER.warn("Timeout task threw an exception", e);
+            }
+        }
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+
+        timeout.bucket.remove(timeout);
+        this.pendingCount--;
+        return true;
+    }
+
+    /**
+     * A timeout scheduled on a {@link TimeoutWheel}.
+     */
+    static final class Timeout {
+        private final TimeoutWheel wheel;
+        private final Runnable task;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimeoutWheel wheel, Runnable task) {
+            this.wheel = wheel;
+            this.task = task;
+        }
+
+        /**
+         * Cancels the timeout.
+         *
+         * @return true if the timeout was cancelled before it expired, false if it already expired or was cancelled
+         */
+        boolean cancel() {
+            return this.wheel.cancel(this);
+        }
+    }
+
+    // A doubly linked list of timeouts, so a timeout can be removed from the middle of it in constant time
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (this.tail == null) {
+                this.head = timeout;
+            } else {
+                this.tail.next = timeout;
+                timeout.previous = this.tail;
+            }
+            this.tail = timeout;
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                this.head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+
+            if (timeout.next == null) {
+                this.tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+    }
+}
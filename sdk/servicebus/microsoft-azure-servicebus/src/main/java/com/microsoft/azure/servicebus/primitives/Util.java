@@ -343,6 +343,13 @@ public class Util {
         }
     }
 
+    // Writes an encoded message into a batch message as a data section
+    static int encodeBatchedMessage(byte[] encodedMessage, int encodedMessageSize, byte[] batchBytes, int batchOffset, int maxMessageSize) throws PayloadSizeExceededException {
+        Message messageWrappedByData = Proton.message();
+        messageWrappedByData.setBody(new Data(new Binary(encodedMessage, 0, encodedMessageSize)));
+        return encodeMessageToCustomArray(messageWrappedByData, batchBytes, batchOffset, maxMessageSize - batchOffset - 1);
+    }
+
     // Pass little less than client timeout to the server so client doesn't time out before server times out
     public static Duration adjustServerTimeout(Duration clientTimeout) {
         return clientTimeout.minusMillis(200);
@@ -5,12 +5,11 @@ package com.microsoft.azure.servicebus.primitives;
 
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledFuture;
 
 class WorkItem<T> {
     private final TimeoutTracker tracker;
     private final CompletableFuture<T> work;
-    private ScheduledFuture<?> timeoutTask;
+    private TimeoutWheel.Timeout timeoutTask;
     private Exception lastKnownException;
 
     WorkItem(final CompletableFuture<T> completableFuture, final Duration timeout) {
@@ -32,17 +31,17 @@ class WorkItem<T> {
         return this.work;
     }
 
-    public ScheduledFuture<?> getTimeoutTask() {
+    public TimeoutWheel.Timeout getTimeoutTask() {
         return this.timeoutTask;
     }
 
-    public void setTimeoutTask(final ScheduledFuture<?> timeoutTask) {
+    public void setTimeoutTask(final TimeoutWheel.Timeout timeoutTask) {
         this.timeoutTask = timeoutTask;
     }
 
-    public boolean cancelTimeoutTask(boolean mayInterruptIfRunning) {
+    public boolean cancelTimeoutTask() {
         if (this.timeoutTask != null) {
-            return this.timeoutTask.cancel(mayInterruptIfRunning);
+            return this.timeoutTask.cancel();
         }
 
         return false;
@@ -125,6 +125,12 @@ public abstract class ClientTests extends Tests {
         MessageAndSessionPumpTests.testMessagePumpAutoComplete(this.sendClient, this.receiveClient);
     }
     
+    @Test
+    public void testMessagePumpWithBatchedReceives() throws InterruptedException, ServiceBusException {
+        this.createClients(ReceiveMode.PEEKLOCK);
+        MessageAndSessionPumpTests.testMessagePumpWithBatchedReceives(this.sendClient, this.receiveClient);
+    }
+    
     @Test
     public void testMessagePumpClientComplete() throws InterruptedException, ServiceBusException {
         this.createClients(ReceiveMode.PEEKLOCK);
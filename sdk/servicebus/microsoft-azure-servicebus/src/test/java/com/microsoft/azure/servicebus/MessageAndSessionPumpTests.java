@@ -45,6 +45,24 @@ public class MessageAndSessionPumpTests {
     }
 
 
+    public static void testMessagePumpWithBatchedReceives(IMessageSender sender, IMessageAndSessionPump messagePump) throws InterruptedException, ServiceBusException {
+        int numMessages = 10;
+        for (int i = 0; i < numMessages; i++) {
+            sender.send(new Message("AMQPMessage"));
+        }
+        boolean autoComplete = true;
+        CountingMessageHandler messageHandler = new CountingMessageHandler(messagePump, !autoComplete, numMessages, false);
+        messagePump.registerMessageHandler(messageHandler, new MessageHandlerOptions(DEFAULT_MAX_CONCURRENT_CALLS, 1, DEFAULT_MAX_CONCURRENT_CALLS, autoComplete, Duration.ofMinutes(10), Duration.ofMinutes(1)), EXECUTOR_SERVICE);
+        if (!messageHandler.getMessageCountDownLatch().await(2, TimeUnit.MINUTES)) {
+            Assert.assertEquals("All messages not pumped even after waiting for 2 minutes.", numMessages, numMessages - messageHandler.getMessageCountDownLatch().getCount());
+        }
+
+        Assert.assertTrue("OnMessage called by maximum of one concurrent thread with a single receive call.", messageHandler.getMaxConcurrencyCounter().getMaxConcurrencyCount() > 1);
+        Assert.assertTrue("OnMessage called by more than maxconcurrentcalls threads.", messageHandler.getMaxConcurrencyCounter().getMaxConcurrencyCount() <= DEFAULT_MAX_CONCURRENT_CALLS);
+        // So completes will pass before links are closed by teardown
+        Thread.sleep(1000);
+    }
+
     public static void testMessagePumpClientComplete(IMessageSender sender, IMessageAndSessionPump messagePump) throws InterruptedException, ServiceBusException {
         int numMessages = 10;
         for (int i = 0; i < numMessages; i++) {
@@ -0,0 +1,155 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.microsoft.azure.servicebus.primitives.MessageLockLostException;
+
+public class MessageLockRenewalCoordinatorTests {
+    private static final Duration RENEWED_LOCK_DURATION = Duration.ofSeconds(60);
+
+    private final List<Collection<IMessage>> renewRequests = Collections.synchronizedList(new ArrayList<>());
+    private final ConcurrentLinkedQueue<Throwable> notifiedExceptions = new ConcurrentLinkedQueue<>();
+    private final List<Duration> scheduledDelays = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void locksDueInSameWindowAreRenewedInOneRequest() throws InterruptedException {
+        MessageLockRenewalCoordinator coordinator = this.createCoordinator(this::renewAll);
+        List<IMessage> dueMessages = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            IMessage message = createMessage(Instant.now().plusSeconds(2));
+            dueMessages.add(message);
+            coordinator.register(message, Instant.now().plusSeconds(300));
+        }
+        IMessage laterMessage = createMessage(Instant.now().plusSeconds(60));
+        coordinator.register(laterMessage, Instant.now().plusSeconds(300));
+
+        coordinator.renewDueLocks();
+        waitFor(() -> coordinator.getRenewedLockCount() == 3);
+
+        Assert.assertEquals("Due locks were not renewed in one request", 1, this.renewRequests.size());
+        Assert.assertEquals(3, this.renewRequests.get(0).size());
+        Assert.assertFalse(this.renewRequests.get(0).contains(laterMessage));
+        for (IMessage message : dueMessages) {
+            Assert.assertTrue("Lock of renewed message was not updated", message.getLockedUntilUtc().isAfter(Instant.now().plusSeconds(30)));
+        }
+        Assert.assertEquals(4, coordinator.getRegisteredLockCount());
+        Assert.assertEquals(0, coordinator.getFailedRenewalCount());
+        Assert.assertTrue("Renewal was not rescheduled", this.scheduledDelays.size() > 1);
+    }
+
+    @Test
+    public void locksAreRenewedInBoundedBatches() throws InterruptedException {
+        MessageLockRenewalCoordinator coordinator = this.createCoordinator(this::renewAll);
+        int messageCount = MessageLockRenewalCoordinator.MAX_LOCK_TOKENS_PER_REQUEST * 2 + 1;
+        for (int i = 0; i < messageCount; i++) {
+            coordinator.register(createMessage(Instant.now().plusSeconds(2)), Instant.now().plusSeconds(300));
+        }
+
+        coordinator.renewDueLocks();
+        waitFor(() -> coordinator.getRenewedLockCount() == messageCount);
+
+        Assert.assertEquals(3, coordinator.getRenewalRequestCount());
+        for (Collection<IMessage> request : this.renewRequests) {
+            Assert.assertTrue(request.size() <= MessageLockRenewalCoordinator.MAX_LOCK_TOKENS_PER_REQUEST);
+        }
+    }
+
+    @Test
+    public void lostLockInBatchIsIsolated() throws InterruptedException {
+        IMessage lostMessage = createMessage(Instant.now().plusSeconds(2));
+        MessageLockRenewalCoordinator coordinator = this.createCoordinator((messages) -> {
+            if (messages.contains(lostMessage)) {
+                CompletableFuture<Collection<Instant>> lostFuture = new CompletableFuture<>();
+                lostFuture.completeExceptionally(new MessageLockLostException("lock lost"));
+                return lostFuture;
+            }
+            return this.renewAll(messages);
+        });
+        coordinator.register(createMessage(Instant.now().plusSeconds(2)), Instant.now().plusSeconds(300));
+        coordinator.register(lostMessage, Instant.now().plusSeconds(300));
+        coordinator.register(createMessage(Instant.now().plusSeconds(2)), Instant.now().plusSeconds(300));
+
+        coordinator.renewDueLocks();
+        waitFor(() -> coordinator.getRenewedLockCount() == 2 && coordinator.getFailedRenewalCount() == 1);
+
+        Assert.assertEquals("Locks were not renewed individually after the batch failed", 4, coordinator.getRenewalRequestCount());
+        Assert.assertEquals(2, coordinator.getRegisteredLockCount());
+        Assert.assertEquals(1, this.notifiedExceptions.size());
+        Assert.assertTrue(this.notifiedExceptions.peek() instanceof MessageLockLostException);
+    }
+
+    @Test
+    public void renewalStopsAtStopRenewalTime() throws InterruptedException {
+        MessageLockRenewalCoordinator coordinator = this.createCoordinator(this::renewAll);
+        coordinator.register(createMessage(Instant.now().plusSeconds(2)), Instant.now().plusSeconds(10));
+        coordinator.register(createMessage(Instant.now().plusSeconds(60)), Instant.now().plusSeconds(10));
+        Assert.assertEquals("Lock valid beyond stop renewal time was registered", 1, coordinator.getRegisteredLockCount());
+
+        coordinator.renewDueLocks();
+        waitFor(() -> coordinator.getRegisteredLockCount() == 0);
+
+        Assert.assertEquals(1, coordinator.getRenewedLockCount());
+    }
+
+    @Test
+    public void unregisteredLocksAreNotRenewed() {
+        MessageLockRenewalCoordinator coordinator = this.createCoordinator(this::renewAll);
+        IMessage message = createMessage(Instant.now().plusSeconds(2));
+        coordinator.register(message, Instant.now().plusSeconds(300));
+        coordinator.unregister(message.getLockToken());
+
+        coordinator.renewDueLocks();
+
+        Assert.assertEquals(0, coordinator.getRenewalRequestCount());
+        Assert.assertTrue(this.renewRequests.isEmpty());
+    }
+
+    private MessageLockRenewalCoordinator createCoordinator(Function<Collection<IMessage>, CompletableFuture<Collection<Instant>>> renewer) {
+        return new MessageLockRenewalCoordinator("testentity", (messages) -> {
+            this.renewRequests.add(new ArrayList<>(messages));
+            return renewer.apply(messages);
+        }, this.notifiedExceptions::add, (runnable, delay) -> {
+            this.scheduledDelays.add(delay);
+            return null;
+        });
+    }
+
+    private CompletableFuture<Collection<Instant>> renewAll(Collection<IMessage> messages) {
+        List<Instant> lockedUntilTimes = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            lockedUntilTimes.add(Instant.now().plus(RENEWED_LOCK_DURATION));
+        }
+        return CompletableFuture.completedFuture(lockedUntilTimes);
+    }
+
+    private static IMessage createMessage(Instant lockedUntilUtc) {
+        Message message = new Message();
+        message.setLockToken(UUID.randomUUID());
+        message.setLockedUntilUtc(lockedUntilUtc);
+        return message;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        Instant timeout = Instant.now().plusSeconds(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Timed out waiting for lock renewals", Instant.now().isBefore(timeout));
+            Thread.sleep(10);
+        }
+    }
+}
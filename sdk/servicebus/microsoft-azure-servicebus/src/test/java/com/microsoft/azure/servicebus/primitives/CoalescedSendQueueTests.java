@@ -0,0 +1,304 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import com.microsoft.azure.servicebus.amqp.AmqpConstants;
+import org.apache.qpid.proton.Proton;
+import org.apache.qpid.proton.amqp.Symbol;
+import org.apache.qpid.proton.amqp.messaging.Accepted;
+import org.apache.qpid.proton.amqp.messaging.AmqpValue;
+import org.apache.qpid.proton.amqp.messaging.Data;
+import org.apache.qpid.proton.amqp.messaging.MessageAnnotations;
+import org.apache.qpid.proton.amqp.transport.DeliveryState;
+import org.apache.qpid.proton.codec.AMQPDefinedTypes;
+import org.apache.qpid.proton.codec.DecoderImpl;
+import org.apache.qpid.proton.codec.EncoderImpl;
+import org.apache.qpid.proton.engine.impl.DeliveryImpl;
+import org.apache.qpid.proton.message.Message;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CoalescedSendQueueTests {
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_MESSAGE_SIZE = 256 * 1024;
+
+    private final Object lock = new Object();
+    private final AtomicLong nanoTime = new AtomicLong();
+    // Ticks are driven by the tests, so no ticker is scheduled
+    private final TimeoutWheel wheel = new TimeoutWheel(TICK, 8, this.nanoTime::get, (runnable, tickDuration) -> null);
+    private final AtomicInteger timedOutSends = new AtomicInteger();
+    private final CoalescedSendQueue queue = new CoalescedSendQueue(this.lock, this.wheel, (work) -> {
+        this.timedOutSends.incrementAndGet();
+        work.completeExceptionally(new TimeoutException("Send operation timed out"));
+    });
+
+    @Test
+    public void concurrentSendsAreMergedIntoOneBatch() throws Exception {
+        int senderCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> senders = new ArrayList<>();
+        for (int i = 0; i < senderCount; i++) {
+            final String body = "message" + i;
+            Thread sender = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                this.offer(createMessage(body, null), TIMEOUT);
+            });
+            sender.start();
+            senders.add(sender);
+        }
+        start.countDown();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+
+        Assert.assertEquals(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT, batch.getMessageFormat());
+        List<String> bodies = decodeBatch(batch);
+        Collections.sort(bodies);
+        List<String> expectedBodies = new ArrayList<>();
+        for (int i = 0; i < senderCount; i++) {
+            expectedBodies.add("message" + i);
+        }
+        Assert.assertEquals(expectedBodies, bodies);
+        Assert.assertNull("Queue was not drained by one batch", this.takeBatch(MAX_MESSAGE_SIZE));
+        Assert.assertEquals("Timeouts of batched messages were not cancelled", 0, this.wheel.getPendingCount());
+    }
+
+    @Test
+    public void singleSendIsNotWrappedInBatch() {
+        CoalescedSendWorkItem send = this.offer(createMessage("only", null), TIMEOUT);
+
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+
+        Assert.assertEquals(DeliveryImpl.DEFAULT_MESSAGE_FORMAT, batch.getMessageFormat());
+        Assert.assertSame(send.getMessage(), batch.getMessage());
+        Assert.assertEquals(send.getEncodedMessageSize(), batch.getEncodedMessageSize());
+    }
+
+    @Test
+    public void sendsForDifferentSessionsAreNotMerged() {
+        this.offer(createMessage("first", "session1"), TIMEOUT);
+        this.offer(createMessage("second", "session1"), TIMEOUT);
+        this.offer(createMessage("third", "session2"), TIMEOUT);
+        this.offer(createMessage("fourth", "session1"), TIMEOUT);
+
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+        Assert.assertEquals(AmqpConstants.AMQP_BATCH_MESSAGE_FORMAT, batch.getMessageFormat());
+        Assert.assertEquals(2, decodeBatch(batch).size());
+
+        // Messages are sent in the order they were queued, so a batch stops at the first message of another session
+        Assert.assertEquals(DeliveryImpl.DEFAULT_MESSAGE_FORMAT, this.takeBatch(MAX_MESSAGE_SIZE).getMessageFormat());
+        Assert.assertEquals(DeliveryImpl.DEFAULT_MESSAGE_FORMAT, this.takeBatch(MAX_MESSAGE_SIZE).getMessageFormat());
+        Assert.assertNull(this.takeBatch(MAX_MESSAGE_SIZE));
+    }
+
+    @Test
+    public void batchIsLimitedToMaxMessageSize() {
+        int messageCount = 50;
+        for (int i = 0; i < messageCount; i++) {
+            this.offer(createMessage(String.format("message%02d", i), null), TIMEOUT);
+        }
+
+        int batchCount = 0;
+        List<String> bodies = new ArrayList<>();
+        SendWorkItem<DeliveryState> batch;
+        while ((batch = this.takeBatch(512)) != null) {
+            batchCount++;
+            Assert.assertTrue("Batch exceeds max message size", batch.getEncodedMessageSize() < 512);
+            bodies.addAll(decodeBatch(batch));
+        }
+
+        Assert.assertTrue("Messages were not split into several batches", batchCount > 1);
+        Assert.assertEquals(messageCount, bodies.size());
+        for (int i = 0; i < messageCount; i++) {
+            Assert.assertEquals(String.format("message%02d", i), bodies.get(i));
+        }
+    }
+
+    @Test
+    public void queuedSendTimesOutOnItsOwn() throws Exception {
+        CoalescedSendWorkItem expiring = this.offer(createMessage("expiring", null), Duration.ofMillis(20));
+        CoalescedSendWorkItem waiting = this.offer(createMessage("waiting", null), Duration.ofSeconds(1));
+
+        this.advance(Duration.ofMillis(30));
+
+        assertTimedOut(expiring.getWork());
+        Assert.assertFalse(waiting.getWork().isDone());
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+        Assert.assertEquals(DeliveryImpl.DEFAULT_MESSAGE_FORMAT, batch.getMessageFormat());
+        Assert.assertSame(waiting.getMessage(), batch.getMessage());
+    }
+
+    @Test
+    public void sendTimingOutWhileBatchIsTakenIsClaimedOutOfIt() throws Exception {
+        CoalescedSendWorkItem expiring = this.offer(createMessage("expiring", null), Duration.ofMillis(20));
+        CoalescedSendWorkItem waiting = this.offer(createMessage("waiting", null), Duration.ofSeconds(1));
+        this.nanoTime.addAndGet(Duration.ofMillis(30).toNanos());
+
+        SendWorkItem<DeliveryState> batch;
+        Thread expirer = new Thread(this.wheel::expireTimeouts);
+        synchronized (this.lock) {
+            // The timeout fires, but its task waits for the lock while the batch is taken
+            expirer.start();
+            waitFor(() -> this.wheel.getPendingCount() == 1);
+            batch = this.queue.takeBatch(MAX_MESSAGE_SIZE);
+        }
+        expirer.join();
+
+        assertTimedOut(expiring.getWork());
+        Assert.assertEquals("Timed out send was failed more than once", 1, this.timedOutSends.get());
+        Assert.assertEquals(DeliveryImpl.DEFAULT_MESSAGE_FORMAT, batch.getMessageFormat());
+        Assert.assertSame(waiting.getMessage(), batch.getMessage());
+    }
+
+    @Test
+    public void batchOutcomeCompletesEverySend() throws Exception {
+        List<CoalescedSendWorkItem> sends = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sends.add(this.offer(createMessage("message" + i, null), TIMEOUT));
+        }
+
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+        batch.getWork().complete(Accepted.getInstance());
+
+        for (CoalescedSendWorkItem send : sends) {
+            Assert.assertSame(Accepted.getInstance(), send.getWork().get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void batchErrorFailsEverySend() throws Exception {
+        List<CoalescedSendWorkItem> sends = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sends.add(this.offer(createMessage("message" + i, null), TIMEOUT));
+        }
+        ServiceBusException error = new ServerBusyException("busy");
+
+        SendWorkItem<DeliveryState> batch = this.takeBatch(MAX_MESSAGE_SIZE);
+        batch.getWork().completeExceptionally(error);
+
+        for (CoalescedSendWorkItem send : sends) {
+            try {
+                send.getWork().get(5, TimeUnit.SECONDS);
+                Assert.fail("Send completed although its batch failed");
+            } catch (ExecutionException e) {
+                Assert.assertSame(error, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void drainRemovesQueuedSends() {
+        CoalescedSendWorkItem first = this.offer(createMessage("first", null), TIMEOUT);
+        CoalescedSendWorkItem second = this.offer(createMessage("second", null), TIMEOUT);
+
+        List<CoalescedSendWorkItem> drained;
+        synchronized (this.lock) {
+            drained = this.queue.drain();
+            Assert.assertTrue(this.queue.isEmpty());
+        }
+
+        Assert.assertEquals(2, drained.size());
+        Assert.assertSame(first, drained.get(0));
+        Assert.assertSame(second, drained.get(1));
+        Assert.assertNull(this.takeBatch(MAX_MESSAGE_SIZE));
+    }
+
+    private CoalescedSendWorkItem offer(Message message, Duration timeout) {
+        try {
+            Pair<byte[], Integer> encodedPair = Util.encodeMessageToOptimalSizeArray(message, MAX_MESSAGE_SIZE);
+            CoalescedSendWorkItem send = new CoalescedSendWorkItem(message, encodedPair.getFirstItem(), encodedPair.getSecondItem(), new CompletableFuture<>(), timeout);
+            synchronized (this.lock) {
+                this.queue.offer(send, timeout);
+            }
+            return send;
+        } catch (PayloadSizeExceededException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private SendWorkItem<DeliveryState> takeBatch(int maxMessageSize) {
+        synchronized (this.lock) {
+            return this.queue.takeBatch(maxMessageSize);
+        }
+    }
+
+    private void advance(Duration duration) {
+        this.nanoTime.addAndGet(duration.toNanos());
+        this.wheel.expireTimeouts();
+    }
+
+    private static Message createMessage(String body, String sessionId) {
+        Message message = Proton.message();
+        message.setBody(new AmqpValue(body));
+        Map<Symbol, Object> annotations = new HashMap<>();
+        message.setMessageAnnotations(new MessageAnnotations(annotations));
+        if (sessionId != null) {
+            message.setGroupId(sessionId);
+        }
+        return message;
+    }
+
+    // Reads the bodies of the messages carried as data sections of a batch message
+    private static List<String> decodeBatch(SendWorkItem<DeliveryState> batch) {
+        DecoderImpl decoder = new DecoderImpl();
+        AMQPDefinedTypes.registerAllTypes(decoder, new EncoderImpl(decoder));
+        ByteBuffer buffer = ByteBuffer.wrap(batch.getMessage(), 0, batch.getEncodedMessageSize());
+        decoder.setByteBuffer(buffer);
+
+        List<String> bodies = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            Object section = decoder.readObject();
+            if (section instanceof Data) {
+                Message message = Proton.message();
+                byte[] encodedMessage = ((Data) section).getValue().getArray();
+                message.decode(encodedMessage, ((Data) section).getValue().getArrayOffset(), ((Data) section).getValue().getLength());
+                bodies.add((String) ((AmqpValue) message.getBody()).getValue());
+            }
+        }
+        return bodies;
+    }
+
+    private static void assertTimedOut(CompletableFuture<DeliveryState> work) throws InterruptedException {
+        try {
+            work.get(5, TimeUnit.SECONDS);
+            Assert.fail("Send did not time out");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        } catch (java.util.concurrent.TimeoutException e) {
+            Assert.fail("Send did not time out");
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Condition was not met in time");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeliveryTagGeneratorTests {
+    @Test
+    public void tagsGeneratedConcurrentlyAreUnique() throws InterruptedException {
+        DeliveryTagGenerator generator = new DeliveryTagGenerator();
+        Set<String> tags = ConcurrentHashMap.newKeySet();
+        int threadCount = 8;
+        int tagsPerThread = 10000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < tagsPerThread; j++) {
+                    tags.add(generator.next());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals("Delivery tags were repeated", threadCount * tagsPerThread, tags.size());
+    }
+
+    @Test
+    public void generatorsAreIndependentPerLink() {
+        DeliveryTagGenerator first = new DeliveryTagGenerator();
+        DeliveryTagGenerator second = new DeliveryTagGenerator();
+
+        Assert.assertNotEquals(first.next(), first.next());
+        Assert.assertEquals("Tag sequence of a link depends on other links", "1", second.next());
+    }
+}
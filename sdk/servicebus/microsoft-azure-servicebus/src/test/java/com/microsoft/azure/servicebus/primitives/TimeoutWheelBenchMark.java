@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures scheduling and cancelling an operation timeout while many other operations are pending, using the shared
+ * {@link Timer} executor as before and using a {@link TimeoutWheel}.
+ */
+@Fork(3)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TimeoutWheelBenchMark {
+    private static final Duration OPERATION_TIMEOUT = Duration.ofSeconds(30);
+    private static final Runnable NO_OP = () -> { };
+
+    @Param({"100000"})
+    private int pendingOperations;
+
+    private ScheduledExecutorService executor;
+    private TimeoutWheel wheel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = Executors.newScheduledThreadPool(Math.max(Runtime.getRuntime().availableProcessors(), 4));
+        this.wheel = new TimeoutWheel(TimeoutWheel.DEFAULT_TICK_DURATION, TimeoutWheel.DEFAULT_WHEEL_SIZE, System::nanoTime,
+            (runnable, tickDuration) -> this.executor.scheduleWithFixedDelay(runnable, tickDuration.toMillis(), tickDuration.toMillis(), TimeUnit.MILLISECONDS));
+        for (int i = 0; i < this.pendingOperations; i++) {
+            this.executor.schedule(NO_OP, OPERATION_TIMEOUT.toMillis() * 10, TimeUnit.MILLISECONDS);
+            this.wheel.schedule(NO_OP, OPERATION_TIMEOUT.multipliedBy(10));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean scheduledExecutor() {
+        ScheduledFuture<?> timeout = this.executor.schedule(NO_OP, OPERATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        return timeout.cancel(false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean timeoutWheel() {
+        TimeoutWheel.Timeout timeout = this.wheel.schedule(NO_OP, OPERATION_TIMEOUT);
+        return timeout.cancel();
+    }
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.azure.servicebus.primitives;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TimeoutWheelTests {
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    // Ticks are driven by the tests, so no ticker is scheduled
+    private final TimeoutWheel wheel = new TimeoutWheel(TICK, 8, this.nanoTime::get, (runnable, tickDuration) -> null);
+
+    @Test
+    public void testTimeoutExpiresAfterDelay() {
+        AtomicInteger expired = new AtomicInteger();
+        this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(35));
+
+        this.advance(Duration.ofMillis(30));
+        Assert.assertEquals("Timeout expired before its delay", 0, expired.get());
+
+        this.advance(Duration.ofMillis(10));
+        Assert.assertEquals("Timeout did not expire within a tick after its delay", 1, expired.get());
+        Assert.assertEquals(0, this.wheel.getPendingCount());
+    }
+
+    @Test
+    public void testTimeoutLongerThanWheelRotation() {
+        AtomicInteger expired = new AtomicInteger();
+        // The wheel rotates every 80 milliseconds
+        this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(250));
+
+        for (int i = 0; i < 24; i++) {
+            this.advance(TICK);
+        }
+        Assert.assertEquals("Timeout expired in an earlier rotation", 0, expired.get());
+
+        this.advance(TICK);
+        Assert.assertEquals(1, expired.get());
+    }
+
+    @Test
+    public void testCancelledTimeoutDoesNotExpire() {
+        AtomicInteger expired = new AtomicInteger();
+        TimeoutWheel.Timeout timeout = this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(20));
+        TimeoutWheel.Timeout otherTimeout = this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(20));
+
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse("Timeout cancelled twice", timeout.cancel());
+        this.advance(Duration.ofMillis(30));
+
+        Assert.assertEquals(1, expired.get());
+        Assert.assertFalse("Expired timeout cancelled", otherTimeout.cancel());
+    }
+
+    @Test
+    public void testTimeoutsExpireInOrder() {
+        List<Integer> expiredOrder = new ArrayList<>();
+        for (int i = 5; i > 0; i--) {
+            final int index = i;
+            this.wheel.schedule(() -> expiredOrder.add(index), Duration.ofMillis(i * 20));
+        }
+
+        for (int i = 0; i < 12; i++) {
+            this.advance(TICK);
+        }
+
+        Assert.assertEquals(5, expiredOrder.size());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(Integer.valueOf(i + 1), expiredOrder.get(i));
+        }
+    }
+
+    @Test
+    public void testTimeoutScheduledAfterWheelIsIdle() {
+        AtomicInteger expired = new AtomicInteger();
+        this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(10));
+        this.advance(TICK);
+        Assert.assertEquals(1, expired.get());
+
+        // Stay idle for many rotations before scheduling again
+        this.nanoTime.addAndGet(Duration.ofMinutes(10).toNanos());
+        this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(10));
+
+        this.advance(TICK);
+        Assert.assertEquals(2, expired.get());
+    }
+
+    @Test
+    public void testManyPendingTimeouts() {
+        int timeoutCount = 100_000;
+        AtomicInteger expired = new AtomicInteger();
+        List<TimeoutWheel.Timeout> timeouts = new ArrayList<>(timeoutCount);
+        for (int i = 0; i < timeoutCount; i++) {
+            timeouts.add(this.wheel.schedule(expired::incrementAndGet, Duration.ofMillis(i % 1000)));
+        }
+        for (int i = 0; i < timeoutCount; i += 2) {
+            timeouts.get(i).cancel();
+        }
+        Assert.assertEquals(timeoutCount / 2, this.wheel.getPendingCount());
+
+        this.advance(Duration.ofSeconds(1));
+
+        Assert.assertEquals(timeoutCount / 2, expired.get());
+        Assert.assertEquals(0, this.wheel.getPendingCount());
+    }
+
+    private void advance(Duration duration) {
+        this.nanoTime.addAndGet(duration.toNanos());
+        this.wheel.expireTimeouts();
+    }
+}
@@ -11,6 +11,8 @@ import com.azure.core.implementation.util.FluxUtil;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.storage.blob.BlobAsyncClient;
 import com.azure.storage.blob.BlobServiceVersion;
+import com.azure.storage.blob.ProgressReporter;
+import com.azure.storage.blob.implementation.util.ModelHelper;
 import com.azure.storage.blob.models.AccessTier;
 import com.azure.storage.blob.models.BlobRequestConditions;
 import com.azure.storage.blob.models.BlobHttpHeaders;
@@ -27,18 +29,22 @@ import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
-import javax.crypto.ShortBufferException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
-import java.security.GeneralSecurityException;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.azure.core.implementation.util.FluxUtil.monoError;
 
@@ -236,10 +242,17 @@ public class EncryptedBlobAsyncClient extends BlobAsyncClient {
         ParallelTransferOptions parallelTransferOptions, BlobHttpHeaders headers, Map<String, String> metadata,
         AccessTier tier, BlobRequestConditions accessConditions) {
         try {
+            Objects.requireNonNull(data, "'data' must not be null");
             final Map<String, String> metadataFinal = metadata == null ? new HashMap<>() : metadata;
-            Mono<Flux<ByteBuffer>> dataFinal = prepareToSendEncryptedRequest(data, metadataFinal);
-            return dataFinal.flatMap(df -> super.uploadWithResponse(df, parallelTransferOptions, headers, metadataFinal,
-                tier, accessConditions));
+            final ParallelTransferOptions validatedParallelTransferOptions =
+                ModelHelper.populateAndApplyDefaults(parallelTransferOptions);
+            final BlobRequestConditions validatedAccessConditions = accessConditions == null
+                ? new BlobRequestConditions() : accessConditions;
+            EncryptionBufferPool pool = new EncryptionBufferPool(validatedParallelTransferOptions.getBlockSize());
+
+            return prepareToSendEncryptedRequest(data, pool, metadataFinal)
+                .flatMap(cipherText -> uploadEncryptedBlocks(cipherText, pool, validatedParallelTransferOptions,
+                    headers, metadataFinal, tier, validatedAccessConditions));
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
@@ -341,8 +354,50 @@ public class EncryptedBlobAsyncClient extends BlobAsyncClient {
         }
     }
 
+    /*
+    Uploads the cipher text from the pool. If all of it fits in the first buffer the blob is uploaded with Put Blob,
+    otherwise each buffer is staged as a block as soon as it is filled, with up to numBuffers blocks being staged while
+    the next ones are encrypted, and the buffers are returned to the pool once staged.
+     */
+    private Mono<Response<BlockBlobItem>> uploadEncryptedBlocks(Flux<ByteBuffer> cipherText,
+        EncryptionBufferPool pool, ParallelTransferOptions parallelTransferOptions, BlobHttpHeaders headers,
+        Map<String, String> metadata, AccessTier tier, BlobRequestConditions accessConditions) {
+        BlockBlobAsyncClient blockBlobAsyncClient = getBlockBlobAsyncClient();
+
+        // See ProgressReporter for an explanation on why this lock is necessary and why we use AtomicLong.
+        AtomicLong totalProgress = new AtomicLong();
+        Lock progressLock = new ReentrantLock();
+
+        return cipherText.switchOnFirst((first, buffers) -> {
+            if (first.hasValue() && pool.isFlushed()) {
+                ByteBuffer buffer = first.get();
+                return blockBlobAsyncClient.uploadWithResponse(ProgressReporter.addProgressReporting(
+                    Flux.just(buffer), parallelTransferOptions.getProgressReceiver()), buffer.remaining(), headers,
+                    metadata, tier, null, accessConditions);
+            }
+
+            return buffers
+                .flatMapSequential(buffer -> {
+                    Flux<ByteBuffer> progressData = ProgressReporter.addParallelProgressReporting(Flux.just(buffer),
+                        parallelTransferOptions.getProgressReceiver(), progressLock, totalProgress);
+
+                    final String blockId = Base64.getEncoder().encodeToString(
+                        UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+
+                    return blockBlobAsyncClient.stageBlockWithResponse(blockId, progressData, buffer.remaining(),
+                        null, accessConditions.getLeaseId())
+                        .map(x -> blockId)
+                        .doFinally(x -> pool.returnBuffer(buffer));
+                }, parallelTransferOptions.getNumBuffers())
+                .collectList()
+                .flatMap(ids -> blockBlobAsyncClient.commitBlockListWithResponse(ids, headers, metadata, tier,
+                    accessConditions));
+        }).next();
+    }
+
     /**
-     * Encrypts the given Flux ByteBuffer.
+     * Encrypts the given Flux ByteBuffer. The pool only allocates buffers as cipher text is produced, so small data
+     * does not cost a whole block.
      *
      * @param plainTextFlux The Flux ByteBuffer to be encrypted.
      *
@@ -351,12 +406,31 @@ public class EncryptedBlobAsyncClient extends BlobAsyncClient {
      * @throws InvalidKeyException If the key provided is invalid
      */
     Mono<EncryptedBlob> encryptBlob(Flux<ByteBuffer> plainTextFlux) throws InvalidKeyException {
+        return encryptBlob(plainTextFlux, new EncryptionBufferPool(BLOB_DEFAULT_UPLOAD_BLOCK_SIZE));
+    }
+
+    /**
+     * Encrypts the given Flux ByteBuffer into the buffers of a pool.
+     *
+     * @param plainTextFlux The Flux ByteBuffer to be encrypted.
+     * @param pool The {@link EncryptionBufferPool} the cipher text is written to.
+     *
+     * @return A {@link EncryptedBlob}
+     *
+     * @throws InvalidKeyException If the key provided is invalid
+     */
+    Mono<EncryptedBlob> encryptBlob(Flux<ByteBuffer> plainTextFlux, EncryptionBufferPool pool)
+        throws InvalidKeyException {
         Objects.requireNonNull(this.keyWrapper, "keyWrapper cannot be null");
         try {
             KeyGenerator keyGen = KeyGenerator.getInstance(CryptographyConstants.AES);
             keyGen.init(256);
 
-            Cipher cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_PKCS5PADDING);
+            /*
+            The pool pads the plain text itself, so that it only ever passes whole AES blocks to the cipher and knows
+            exactly how much cipher text each call produces. The result is the same as AES/CBC/PKCS5Padding.
+             */
+            Cipher cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_NO_PADDING);
 
             // Generate content encryption key
             SecretKey aesKey = keyGen.generateKey();
@@ -381,42 +455,12 @@ public class EncryptedBlobAsyncClient extends BlobAsyncClient {
                         .setContentEncryptionIV(cipher.getIV())
                         .setWrappedContentKey(wrappedKey);
 
-                    // Encrypt plain text with content encryption key
-                    Flux<ByteBuffer> encryptedTextFlux = plainTextFlux.map(plainTextBuffer -> {
-                        int outputSize = cipher.getOutputSize(plainTextBuffer.remaining());
-
-                        /*
-                        This should be the only place we allocate memory in encryptBlob(). Although there is an
-                        overload that can encrypt in place that would save allocations, we do not want to overwrite
-                        customer's memory, so we must allocate our own memory. If memory usage becomes unreasonable,
-                        we should implement pooling.
-                         */
-                        ByteBuffer encryptedTextBuffer = ByteBuffer.allocate(outputSize);
-
-                        int encryptedBytes;
-                        try {
-                            encryptedBytes = cipher.update(plainTextBuffer, encryptedTextBuffer);
-                        } catch (ShortBufferException e) {
-                            throw logger.logExceptionAsError(Exceptions.propagate(e));
-                        }
-                        encryptedTextBuffer.position(0);
-                        encryptedTextBuffer.limit(encryptedBytes);
-                        return encryptedTextBuffer;
-                    });
-
                     /*
-                    Defer() ensures the contained code is not executed until the Flux is subscribed to, in
-                    other words, cipher.doFinal() will not be called until the plainTextFlux has completed
-                    and therefore all other data has been encrypted.
+                    Encrypt plain text with content encryption key. We do not want to overwrite the customer's memory,
+                    so the cipher text is written to buffers of the pool, which are reused once their blocks have
+                    been staged.
                      */
-                    encryptedTextFlux = Flux.concat(encryptedTextFlux, Flux.defer(() -> {
-                        try {
-                            return Flux.just(ByteBuffer.wrap(cipher.doFinal()));
-                        } catch (GeneralSecurityException e) {
-                            throw logger.logExceptionAsError(Exceptions.propagate(e));
-                        }
-                    }));
-                    return new EncryptedBlob(encryptionData, encryptedTextFlux);
+                    return new EncryptedBlob(encryptionData, pool.encrypt(plainTextFlux, cipher));
                 });
         } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
             // These are hardcoded and guaranteed to work. There is no reason to propogate a checked exception.
@@ -428,14 +472,15 @@ public class EncryptedBlobAsyncClient extends BlobAsyncClient {
      * Encrypt the blob and add the encryption metadata to the customer's metadata.
      *
      * @param plainText The data to encrypt
+     * @param pool The {@link EncryptionBufferPool} to encrypt the data into.
      * @param metadata The customer's metadata to be updated.
      *
      * @return A Mono containing the cipher text
      */
     private Mono<Flux<ByteBuffer>> prepareToSendEncryptedRequest(Flux<ByteBuffer> plainText,
-        Map<String, String> metadata) {
+        EncryptionBufferPool pool, Map<String, String> metadata) {
         try {
-            return this.encryptBlob(plainText)
+            return this.encryptBlob(plainText, pool)
                 .flatMap(encryptedBlob -> {
                     try {
                         metadata.put(CryptographyConstants.ENCRYPTION_DATA_KEY,
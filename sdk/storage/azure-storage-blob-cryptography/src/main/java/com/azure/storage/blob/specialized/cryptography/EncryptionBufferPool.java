@@ -0,0 +1,217 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.specialized.cryptography;
+
+import com.azure.core.util.logging.ClientLogger;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.azure.storage.blob.specialized.cryptography.CryptographyConstants.ENCRYPTION_BLOCK_SIZE;
+
+/**
+ * This type is to support the implementation of encrypted buffered upload only. The plain text of a blob is encrypted
+ * straight into pooled buffers of the block size, so each filled buffer can be staged as a block without being copied
+ * again and is returned to the pool once the block has been staged.
+ *
+ * The cipher must be an initialized AES/CBC/NoPadding cipher. Only whole AES blocks are passed to it, so the cipher
+ * text of each call is exactly the length of the plain text and always fits in the room left in the current buffer.
+ * The plain text is padded with PKCS7 padding when the pool is flushed, which produces the same cipher text as
+ * AES/CBC/PKCS5Padding.
+ *
+ * CBC chains every AES block to the previous one, so a blob can only be encrypted sequentially. The parallelism of an
+ * upload comes from staging the filled buffers while the next ones are encrypted. As with the UploadBufferPool of
+ * regular uploads, write() and flush() are called sequentially by a single worker, while buffers may be returned
+ * concurrently as their blocks are staged. A pool encrypts a single blob.
+ *
+ * Buffers are only allocated as cipher text is produced. Until a first buffer has been filled the current buffer is
+ * sized to the cipher text written so far and grown as needed, so a small blob does not cost a whole block.
+ */
+final class EncryptionBufferPool {
+    private final ClientLogger logger = new ClientLogger(EncryptionBufferPool.class);
+
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    private final int buffSize;
+
+    // The plain text of the last, incomplete AES block, which is encrypted on the next write or padded on flush.
+    private final ByteBuffer partialBlock = ByteBuffer.allocate(ENCRYPTION_BLOCK_SIZE);
+
+    private ByteBuffer currentBuf;
+
+    // Whether a buffer has been filled, after which the source is known to span several blocks.
+    private boolean filledBuffer;
+
+    private volatile boolean flushed;
+
+    /**
+     * Creates a new instance of EncryptionBufferPool
+     * @param blockSize The size of the blocks the cipher text is staged in. The buffers are rounded down to a multiple
+     * of the AES block size.
+     */
+    EncryptionBufferPool(int blockSize) {
+        this.buffSize = Math.max(ENCRYPTION_BLOCK_SIZE, blockSize - blockSize % ENCRYPTION_BLOCK_SIZE);
+    }
+
+    /**
+     * Encrypts the plain text into pooled buffers.
+     *
+     * @param plainText The plain text to encrypt. The buffers of the plain text are not modified.
+     * @param cipher An AES/CBC/NoPadding cipher initialized for encryption.
+     * @return The buffers of cipher text, each of them full but the last one.
+     */
+    Flux<ByteBuffer> encrypt(Flux<ByteBuffer> plainText, Cipher cipher) {
+        /*
+        Break the source into pieces no larger than a buffer, so a single write fills at most one buffer and the amount
+        of cipher text encrypted ahead of what has been requested is bounded.
+         */
+        return plainText
+            .concatMap(buffer -> {
+                if (buffer.remaining() <= buffSize) {
+                    return Flux.just(buffer);
+                }
+                int numSplits = (int) Math.ceil(buffer.remaining() / (double) buffSize);
+                return Flux.range(0, numSplits)
+                    .map(i -> {
+                        ByteBuffer duplicate = buffer.duplicate();
+                        duplicate.position(buffer.position() + i * buffSize);
+                        duplicate.limit(Math.min(buffer.limit(), duplicate.position() + buffSize));
+                        return duplicate;
+                    });
+            })
+            .concatMap(buffer -> write(buffer, cipher))
+            .concatWith(Flux.defer(() -> flush(cipher)));
+    }
+
+    /**
+     * Returns a buffer to the pool once the block it holds has been staged.
+     *
+     * @param buffer The buffer to return.
+     */
+    void returnBuffer(ByteBuffer buffer) {
+        // Only full size buffers can be reused for the following blocks.
+        if (buffer.capacity() != buffSize) {
+            return;
+        }
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+
+    /**
+     * @return Whether all the plain text has been encrypted, in other words whether the last buffer has been emitted.
+     */
+    boolean isFlushed() {
+        return flushed;
+    }
+
+    private Flux<ByteBuffer> write(ByteBuffer plainText, Cipher cipher) {
+        List<ByteBuffer> filledBuffers = new ArrayList<>(2);
+        ByteBuffer input = plainText.duplicate();
+
+        // Complete the AES block left over from the previous write first.
+        if (partialBlock.position() > 0) {
+            partialBlock.put(slice(input, Math.min(input.remaining(), partialBlock.remaining())));
+            if (partialBlock.hasRemaining()) {
+                return Flux.empty();
+            }
+            partialBlock.flip();
+            encryptBlocks(partialBlock, cipher, filledBuffers);
+            partialBlock.clear();
+        }
+
+        encryptBlocks(slice(input, input.remaining() - input.remaining() % ENCRYPTION_BLOCK_SIZE), cipher,
+            filledBuffers);
+        partialBlock.put(input);
+
+        return Flux.fromIterable(filledBuffers);
+    }
+
+    private Flux<ByteBuffer> flush(Cipher cipher) {
+        List<ByteBuffer> filledBuffers = new ArrayList<>(2);
+
+        // PKCS7 padding, a whole block of it if the plain text ended on a block boundary.
+        byte padLength = (byte) partialBlock.remaining();
+        while (partialBlock.hasRemaining()) {
+            partialBlock.put(padLength);
+        }
+        partialBlock.flip();
+        encryptBlocks(partialBlock, cipher, filledBuffers);
+
+        if (currentBuf != null) {
+            currentBuf.flip();
+            filledBuffers.add(currentBuf);
+            currentBuf = null;
+        }
+        flushed = true;
+
+        return Flux.fromIterable(filledBuffers);
+    }
+
+    /*
+    Encrypts whole AES blocks into the current buffer, moving on to a new buffer each time it fills up. Buffers are a
+    multiple of the AES block size, so the room left in the current buffer always is too.
+     */
+    private void encryptBlocks(ByteBuffer blocks, Cipher cipher, List<ByteBuffer> filledBuffers) {
+        while (blocks.hasRemaining()) {
+            if (currentBuf == null) {
+                currentBuf = getBuffer(blocks.remaining());
+            } else if (!currentBuf.hasRemaining()) {
+                currentBuf = grow(currentBuf, blocks.remaining());
+            }
+
+            try {
+                cipher.update(slice(blocks, Math.min(blocks.remaining(), currentBuf.remaining())), currentBuf);
+            } catch (ShortBufferException e) {
+                throw logger.logExceptionAsError(Exceptions.propagate(e));
+            }
+
+            if (!currentBuf.hasRemaining() && currentBuf.capacity() == buffSize) {
+                currentBuf.flip();
+                filledBuffers.add(currentBuf);
+                currentBuf = null;
+                filledBuffer = true;
+            }
+        }
+    }
+
+    /*
+    Gets a buffer for the given amount of cipher text. Pooled buffers and buffers allocated once one has been filled
+    are of the full size, the first buffer is only as large as the cipher text.
+     */
+    private ByteBuffer getBuffer(int length) {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        return ByteBuffer.allocate(filledBuffer ? buffSize : Math.min(buffSize, length));
+    }
+
+    /*
+    Moves the cipher text of a full buffer smaller than the block size to a buffer with room for at least the given
+    amount of cipher text more. The capacity is at least doubled, so the cipher text is copied a bounded number of
+    times before the buffer reaches the block size.
+     */
+    private ByteBuffer grow(ByteBuffer buffer, int length) {
+        int capacity = (int) Math.min(buffSize, Math.max(2L * buffer.capacity(), (long) buffer.capacity() + length));
+        buffer.flip();
+        return ByteBuffer.allocate(capacity).put(buffer);
+    }
+
+    /*
+    Returns a view of the next length bytes of the buffer and advances the buffer past them.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(slice.position() + length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+}
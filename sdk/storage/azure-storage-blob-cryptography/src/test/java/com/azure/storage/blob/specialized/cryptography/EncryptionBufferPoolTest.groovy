@@ -0,0 +1,131 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.blob.specialized.cryptography
+
+import com.azure.storage.common.implementation.Constants
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import javax.crypto.Cipher
+import javax.crypto.KeyGenerator
+import javax.crypto.spec.IvParameterSpec
+import java.nio.ByteBuffer
+
+class EncryptionBufferPoolTest extends Specification {
+    def key = KeyGenerator.getInstance(CryptographyConstants.AES).generateKey()
+
+    @Unroll
+    def "Encrypt"() {
+        setup:
+        def plainText = new byte[dataSize]
+        new Random().nextBytes(plainText)
+        def sourceBuffers = split(plainText, sourceBufferSize)
+        def cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_NO_PADDING)
+        cipher.init(Cipher.ENCRYPT_MODE, key)
+
+        when:
+        def buffers = new EncryptionBufferPool(blockSize).encrypt(Flux.fromIterable(sourceBuffers), cipher)
+            .collectList().block()
+
+        then:
+        buffers.size() == bufferCount
+        buffers.subList(0, bufferCount - 1).every { it.remaining() == blockSize }
+        buffers.last().remaining() <= blockSize
+        Arrays.equals(concat(buffers), encryptWithPadding(plainText, cipher.getIV()))
+        sourceBuffers.every { it.position() == 0 }
+
+        where:
+        dataSize | sourceBufferSize | blockSize || bufferCount
+        0        | 1                | 64        || 1
+        10       | 10               | 64        || 1
+        100      | 7                | 64        || 2
+        128      | 50               | 64        || 3
+        1000     | 13               | 96        || 11
+        5000     | 5000             | 1024      || 5
+    }
+
+    @Unroll
+    def "First buffer sized to cipher text"() {
+        setup:
+        def cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_NO_PADDING)
+        cipher.init(Cipher.ENCRYPT_MODE, key)
+
+        when:
+        def buffers = new EncryptionBufferPool(4 * Constants.MB)
+            .encrypt(Flux.fromIterable(split(new byte[dataSize], sourceBufferSize)), cipher)
+            .collectList().block()
+
+        then:
+        buffers.size() == 1
+        buffers[0].remaining() == cipherTextSize
+        buffers[0].capacity() <= maxCapacity
+
+        where:
+        dataSize | sourceBufferSize || cipherTextSize | maxCapacity
+        0        | 1                || 16             | 16
+        10       | 10               || 16             | 16
+        100      | 7                || 112            | 128
+        1000     | 1000             || 1008           | 2 * 1008
+        100000   | 1024             || 100016         | 2 * 100016
+    }
+
+    def "Buffers after a filled buffer are full size"() {
+        setup:
+        def cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_NO_PADDING)
+        cipher.init(Cipher.ENCRYPT_MODE, key)
+
+        when:
+        def buffers = new EncryptionBufferPool(64)
+            .encrypt(Flux.fromIterable(split(new byte[200], 16)), cipher)
+            .collectList().block()
+
+        then:
+        buffers*.capacity() == [64, 64, 64, 64]
+        buffers.last().remaining() == 16
+    }
+
+    def "Returned buffers are reused"() {
+        setup:
+        def cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_NO_PADDING)
+        cipher.init(Cipher.ENCRYPT_MODE, key)
+        def pool = new EncryptionBufferPool(64)
+        def emitted = []
+
+        when:
+        pool.encrypt(Flux.fromIterable(split(new byte[200], 16)), cipher)
+            .doOnNext { emitted.add(it) }
+            .doOnNext { pool.returnBuffer(it) }
+            .blockLast()
+
+        then:
+        emitted.size() == 4
+        emitted.every { it.is(emitted[0]) }
+        pool.isFlushed()
+    }
+
+    List<ByteBuffer> split(byte[] data, int bufferSize) {
+        def buffers = []
+        for (int offset = 0; offset < data.length; offset += bufferSize) {
+            buffers.add(ByteBuffer.wrap(data, offset, Math.min(bufferSize, data.length - offset)).slice())
+        }
+        return buffers.isEmpty() ? [ByteBuffer.allocate(0)] : buffers
+    }
+
+    byte[] concat(List<ByteBuffer> buffers) {
+        def output = new ByteArrayOutputStream()
+        buffers.each {
+            def bytes = new byte[it.remaining()]
+            it.duplicate().get(bytes)
+            output.write(bytes)
+        }
+        return output.toByteArray()
+    }
+
+    byte[] encryptWithPadding(byte[] plainText, byte[] iv) {
+        def cipher = Cipher.getInstance(CryptographyConstants.AES_CBC_PKCS5PADDING)
+        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(iv))
+        return cipher.doFinal(plainText)
+    }
+}
@@ -7,6 +7,7 @@ import com.azure.storage.blob.models.BlobRequestConditions
 import com.azure.storage.blob.models.BlobErrorCode
 import com.azure.storage.blob.models.BlobHttpHeaders
 import com.azure.storage.blob.models.BlobStorageException
+import com.azure.storage.blob.models.BlockListType
 
 import com.azure.storage.blob.models.ParallelTransferOptions
 import com.azure.storage.blob.specialized.BlockBlobAsyncClient
@@ -219,6 +220,36 @@ class EncyptedBlockBlobAPITest extends APISpec {
         10 * Constants.MB | 2                 // 10 Small number of large buffers.
     }
 
+    // This test checks that buffered upload stages the cipher text in blocks of at most the block size
+    @Unroll
+    @Requires({ liveMode() })
+    def "Encryption buffered upload blocks"() {
+        setup:
+        def data = getRandomByteArray(dataSize)
+        def byteBufferList = []
+        for (def offset = 0; offset < dataSize; offset += bufferSize) {
+            byteBufferList.add(ByteBuffer.wrap(data, offset, Math.min(bufferSize, dataSize - offset)).slice())
+        }
+
+        when:
+        beac.upload(Flux.fromIterable(byteBufferList), new ParallelTransferOptions(blockSize, 2, null)).block()
+        def blockList = beac.getBlockBlobAsyncClient().listBlocks(BlockListType.COMMITTED).block()
+
+        then:
+        blockList.getCommittedBlocks().size() == blockCount
+        blockList.getCommittedBlocks().every { it.getSize() <= blockSize }
+        byteBufferList.every { it.position() == 0 }
+        Arrays.equals(collectBytesInBuffer(beac.download()).block().array(), data)
+
+        where:
+        dataSize | bufferSize | blockSize || blockCount
+        10       | 10         | 64        || 0 // Fits in a single Put Blob
+        100      | 7          | 64        || 2 // Small buffers that do not align with encryption blocks
+        128      | 50         | 64        || 3 // Padding spills into an extra block
+        1000     | 13         | 100       || 11 // Block size that is not a multiple of the encryption block size
+        5000     | 5000       | 1024      || 5 // A buffer larger than a block
+    }
+
     // This test checks that HTTP headers are successfully set on the encrypted client
     @Unroll
     @Requires({ liveMode() })
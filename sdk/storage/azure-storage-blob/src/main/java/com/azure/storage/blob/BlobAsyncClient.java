@@ -22,6 +22,7 @@ import com.azure.storage.blob.specialized.BlockBlobAsyncClient;
 import com.azure.storage.blob.specialized.PageBlobAsyncClient;
 import com.azure.storage.blob.specialized.SpecializedBlobClientBuilder;
 import com.azure.storage.common.implementation.Constants;
+import com.azure.storage.common.implementation.UploadBufferPool;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -326,7 +327,7 @@ public class BlobAsyncClient extends BlobAsyncClientBase {
 
         // Validation done in the constructor.
         UploadBufferPool pool = new UploadBufferPool(parallelTransferOptions.getNumBuffers(),
-            parallelTransferOptions.getBlockSize());
+            parallelTransferOptions.getBlockSize(), BlockBlobAsyncClient.MAX_STAGE_BLOCK_BYTES);
 
         /*
         Break the source Flux into chunks that are <= chunk size. This makes filling the pooled buffers much easier
@@ -9,6 +9,8 @@ import com.azure.core.implementation.util.ImplUtils;
 
 import com.azure.storage.common.implementation.StorageImplUtils;
 import com.azure.storage.common.policy.StorageSharedKeyCredentialPolicy;
+
+import javax.crypto.Mac;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,13 +20,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * SharedKey credential policy that is put into a header to authorize requests.
  */
 public final class StorageSharedKeyCredential {
-    private static final String AUTHORIZATION_HEADER_FORMAT = "SharedKey %s:%s";
+    private static final String AUTHORIZATION_HEADER_PREFIX = "SharedKey ";
+    private static final int STRING_TO_SIGN_CAPACITY = 512;
 
     // Pieces of the connection string that are needed.
     private static final String ACCOUNT_NAME = "accountname";
@@ -33,6 +35,9 @@ public final class StorageSharedKeyCredential {
     private final String accountName;
     private final String accountKey;
 
+    // Initializing a Mac with the key is costly, so each thread keeps one to sign all of its requests
+    private final ThreadLocal<Mac> hmacSha256;
+
     /**
      * Initializes a new instance of StorageSharedKeyCredential contains an account's name and its primary or secondary
      * accountKey.
@@ -45,6 +50,7 @@ public final class StorageSharedKeyCredential {
         Objects.requireNonNull(accountKey, "'accountKey' cannot be null.");
         this.accountName = accountName;
         this.accountKey = accountKey;
+        this.hmacSha256 = ThreadLocal.withInitial(() -> StorageImplUtils.createHMac256(accountKey));
     }
 
     /**
@@ -92,9 +98,8 @@ public final class StorageSharedKeyCredential {
      * @return the SharedKey authorization value
      */
     public String generateAuthorizationHeader(URL requestURL, String httpMethod, Map<String, String> headers) {
-        String signature = StorageImplUtils.computeHMac256(accountKey,
-            buildStringToSign(requestURL, httpMethod, headers));
-        return String.format(AUTHORIZATION_HEADER_FORMAT, accountName, signature);
+        String signature = computeHmac256(buildStringToSign(requestURL, httpMethod, headers));
+        return AUTHORIZATION_HEADER_PREFIX + accountName + ':' + signature;
     }
 
     /**
@@ -107,7 +112,7 @@ public final class StorageSharedKeyCredential {
      * string, or the UTF-8 charset isn't supported.
      */
     public String computeHmac256(final String stringToSign) {
-        return StorageImplUtils.computeHMac256(accountKey, stringToSign);
+        return StorageImplUtils.computeHMac256(hmacSha256.get(), stringToSign);
     }
 
     private String buildStringToSign(URL requestURL, String httpMethod, Map<String, String> headers) {
@@ -118,21 +123,24 @@ public final class StorageSharedKeyCredential {
         String dateHeader = (headers.containsKey("x-ms-date")) ? ""
             : getStandardHeaderValue(headers, "Date");
 
-        return String.join("\n",
-            httpMethod,
-            getStandardHeaderValue(headers, "Content-Encoding"),
-            getStandardHeaderValue(headers, "Content-Language"),
-            contentLength,
-            getStandardHeaderValue(headers, "Content-MD5"),
-            getStandardHeaderValue(headers, "Content-Type"),
-            dateHeader,
-            getStandardHeaderValue(headers, "If-Modified-Since"),
-            getStandardHeaderValue(headers, "If-Match"),
-            getStandardHeaderValue(headers, "If-None-Match"),
-            getStandardHeaderValue(headers, "If-Unmodified-Since"),
-            getStandardHeaderValue(headers, "Range"),
-            getAdditionalXmsHeaders(headers),
-            getCanonicalizedResource(requestURL));
+        final StringBuilder stringToSign = new StringBuilder(STRING_TO_SIGN_CAPACITY)
+            .append(httpMethod).append('\n')
+            .append(getStandardHeaderValue(headers, "Content-Encoding")).append('\n')
+            .append(getStandardHeaderValue(headers, "Content-Language")).append('\n')
+            .append(contentLength).append('\n')
+            .append(getStandardHeaderValue(headers, "Content-MD5")).append('\n')
+            .append(getStandardHeaderValue(headers, "Content-Type")).append('\n')
+            .append(dateHeader).append('\n')
+            .append(getStandardHeaderValue(headers, "If-Modified-Since")).append('\n')
+            .append(getStandardHeaderValue(headers, "If-Match")).append('\n')
+            .append(getStandardHeaderValue(headers, "If-None-Match")).append('\n')
+            .append(getStandardHeaderValue(headers, "If-Unmodified-Since")).append('\n')
+            .append(getStandardHeaderValue(headers, "Range")).append('\n');
+        appendAdditionalXmsHeaders(headers, stringToSign);
+        stringToSign.append('\n');
+        appendCanonicalizedResource(requestURL, stringToSign);
+
+        return stringToSign.toString();
     }
 
     /*
@@ -144,70 +152,70 @@ public final class StorageSharedKeyCredential {
         return headerValue == null ? "" : headerValue;
     }
 
-    private String getAdditionalXmsHeaders(Map<String, String> headers) {
+    private void appendAdditionalXmsHeaders(Map<String, String> headers, StringBuilder stringToSign) {
         // Add only headers that begin with 'x-ms-'
-        final List<String> xmsHeaderNameArray = headers.entrySet().stream()
-            .filter(entry -> entry.getKey().toLowerCase(Locale.ROOT).startsWith("x-ms-"))
-            .filter(entry -> entry.getValue() != null)
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        final List<String> xmsHeaderNameArray = new ArrayList<>();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getValue() != null && header.getKey().regionMatches(true, 0, "x-ms-", 0, 5)) {
+                xmsHeaderNameArray.add(header.getKey());
+            }
+        }
 
         if (xmsHeaderNameArray.isEmpty()) {
-            return "";
+            return;
         }
 
         Collections.sort(xmsHeaderNameArray);
 
-        final StringBuilder canonicalizedHeaders = new StringBuilder();
+        boolean first = true;
         for (final String key : xmsHeaderNameArray) {
-            if (canonicalizedHeaders.length() > 0) {
-                canonicalizedHeaders.append('\n');
+            if (!first) {
+                stringToSign.append('\n');
             }
+            first = false;
 
-            canonicalizedHeaders.append(key.toLowerCase(Locale.ROOT))
+            stringToSign.append(key.toLowerCase(Locale.ROOT))
                 .append(':')
                 .append(headers.get(key));
         }
-
-        return canonicalizedHeaders.toString();
     }
 
-    private String getCanonicalizedResource(URL requestURL) {
+    private void appendCanonicalizedResource(URL requestURL, StringBuilder stringToSign) {
 
         // Resource path
-        final StringBuilder canonicalizedResource = new StringBuilder("/");
-        canonicalizedResource.append(accountName);
+        stringToSign.append('/').append(accountName);
 
         // Note that AbsolutePath starts with a '/'.
         if (requestURL.getPath().length() > 0) {
-            canonicalizedResource.append(requestURL.getPath());
+            stringToSign.append(requestURL.getPath());
         } else {
-            canonicalizedResource.append('/');
+            stringToSign.append('/');
         }
 
         // check for no query params and return
         if (requestURL.getQuery() == null) {
-            return canonicalizedResource.toString();
+            return;
         }
 
-        // The URL object's query field doesn't include the '?'. The QueryStringDecoder expects it.
+        // The parsed query parameters are already sorted by name.
         Map<String, String[]> queryParams = StorageImplUtils.parseQueryStringSplitValues(requestURL.getQuery());
 
-        ArrayList<String> queryParamNames = new ArrayList<>(queryParams.keySet());
-        Collections.sort(queryParamNames);
-
-        for (String queryParamName : queryParamNames) {
-            String[] queryParamValues = queryParams.get(queryParamName);
-            Arrays.sort(queryParamValues);
-            String queryParamValuesStr = String.join(",", queryParamValues);
-            canonicalizedResource.append("\n")
-                .append(queryParamName.toLowerCase(Locale.ROOT))
-                .append(":")
-                .append(queryParamValuesStr);
-        }
+        for (Map.Entry<String, String[]> queryParam : queryParams.entrySet()) {
+            String[] queryParamValues = queryParam.getValue();
+            stringToSign.append('\n')
+                .append(queryParam.getKey().toLowerCase(Locale.ROOT))
+                .append(':');
 
-        // append to main string builder the join of completed params with new line
-        return canonicalizedResource.toString();
+            if (queryParamValues.length > 1) {
+                Arrays.sort(queryParamValues);
+            }
+            for (int i = 0; i < queryParamValues.length; i++) {
+                if (i > 0) {
+                    stringToSign.append(',');
+                }
+                stringToSign.append(queryParamValues[i]);
+            }
+        }
     }
 
     /**
@@ -165,12 +165,36 @@ public class StorageImplUtils {
      * string, or the UTF-8 charset isn't supported.
      */
     public static String computeHMac256(final String base64Key, final String stringToSign) {
+        return computeHMac256(createHMac256(base64Key), stringToSign);
+    }
+
+    /**
+     * Computes a signature for the specified string using an initialized HMAC-SHA256 {@link Mac}. The {@link Mac} is
+     * reset afterwards, so it can be reused to compute further signatures on the same thread.
+     *
+     * @param hmacSHA256 HMAC-SHA256 {@link Mac} initialized with the signing key
+     * @param stringToSign UTF-8 encoded string to sign
+     * @return the HMAC-SHA256 encoded signature
+     */
+    public static String computeHMac256(final Mac hmacSHA256, final String stringToSign) {
+        byte[] utf8Bytes = stringToSign.getBytes(StandardCharsets.UTF_8);
+        return Base64.getEncoder().encodeToString(hmacSHA256.doFinal(utf8Bytes));
+    }
+
+    /**
+     * Creates an HMAC-SHA256 {@link Mac} initialized with the specified key.
+     *
+     * @param base64Key Base64 encoded key used to sign strings
+     * @return an initialized HMAC-SHA256 {@link Mac}
+     * @throws RuntimeException If the HMAC-SHA256 algorithm isn't support or if the key isn't a valid Base64 encoded
+     * string.
+     */
+    public static Mac createHMac256(final String base64Key) {
         try {
             byte[] key = Base64.getDecoder().decode(base64Key);
             Mac hmacSHA256 = Mac.getInstance("HmacSHA256");
             hmacSHA256.init(new SecretKeySpec(key, "HmacSHA256"));
-            byte[] utf8Bytes = stringToSign.getBytes(StandardCharsets.UTF_8);
-            return Base64.getEncoder().encodeToString(hmacSHA256.doFinal(utf8Bytes));
+            return hmacSHA256;
         } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
             throw new RuntimeException(ex);
         }
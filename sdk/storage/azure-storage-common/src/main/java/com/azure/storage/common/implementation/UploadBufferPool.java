@@ -1,11 +1,9 @@
 // Copyright (c) Microsoft Corporation. All rights reserved.
 // Licensed under the MIT License.
 
-package com.azure.storage.blob;
+package com.azure.storage.common.implementation;
 
 import com.azure.core.util.logging.ClientLogger;
-import com.azure.storage.blob.specialized.BlockBlobClient;
-import com.azure.storage.common.implementation.StorageImplUtils;
 import reactor.core.publisher.Flux;
 
 import java.nio.ByteBuffer;
@@ -28,8 +26,10 @@ import java.util.concurrent.LinkedBlockingQueue;
  * to be available, and either store the incomplete buffer to be filled on the next write or return the filled buffer to
  * be sent. Filled buffers can be uploaded in parallel and should return buffers to the pool after the upload completes.
  * Once the source terminates, it should call flush.
+ *
+ * RESERVED FOR INTERNAL USE.
  */
-final class UploadBufferPool {
+public final class UploadBufferPool {
     private final ClientLogger logger = new ClientLogger(UploadBufferPool.class);
 
     /*
@@ -52,8 +52,10 @@ final class UploadBufferPool {
      * Creates a new instance of UploadBufferPool
      * @param numBuffs The number of buffers in the buffer pool.
      * @param buffSize The size of the buffers
+     * @param maxBuffSize The largest amount of data the service accepts in a single block or append, which bounds the
+     * size of the buffers.
      */
-    UploadBufferPool(final int numBuffs, final int buffSize) {
+    public UploadBufferPool(final int numBuffs, final int buffSize, final long maxBuffSize) {
         /*
         We require at least two buffers because it is possible that a given write will spill over into a second buffer.
         We only need one overflow buffer because the max size of a ByteBuffer is assumed to be the size as a buffer in
@@ -64,8 +66,8 @@ final class UploadBufferPool {
         buffers = new LinkedBlockingQueue<>(numBuffs);
 
 
-        // These buffers will be used in calls to stageBlock, so they must be no greater than block size.
-        StorageImplUtils.assertInBounds("buffSize", buffSize, 1, BlockBlobClient.MAX_STAGE_BLOCK_BYTES);
+        // These buffers will each be uploaded in a single request, so they must be no greater than the service allows.
+        StorageImplUtils.assertInBounds("buffSize", buffSize, 1, maxBuffSize);
         this.buffSize = buffSize;
 
         // We prep the queue with two buffers in case there is overflow.
@@ -164,7 +166,7 @@ final class UploadBufferPool {
      * Flushes the current buffer
      * @return the flushed buffer
      */
-    Flux<ByteBuffer> flush() {
+    public Flux<ByteBuffer> flush() {
         /*
         Prep and return any data left in the pool. It is important to set the limit so that we don't read beyond the
         actual data as this buffer may have been used before and therefore may have some garbage at the end.
@@ -183,7 +185,7 @@ final class UploadBufferPool {
      * Returns the ByteBuffer
      * @param b The ByteBuffer to reset and return
      */
-    void returnBuffer(ByteBuffer b) {
+    public void returnBuffer(ByteBuffer b) {
         // Reset the buffer.
         b.position(0);
         b.limit(b.capacity());
@@ -0,0 +1,78 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.common;
+
+import com.azure.storage.common.implementation.StorageImplUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class StorageSharedKeyCredentialTest {
+    private static final String ACCOUNT_NAME = "contoso";
+    private static final String ACCOUNT_KEY =
+        "95o6TL9jkIjNr6HurD6Xa+zLQ+PX9/VWR8fI2ofHatbrUb8kRJ75B6enwRU3q1OP8fmjghaoxdqnwhN7m3pZow==";
+
+    private final StorageSharedKeyCredential credential = new StorageSharedKeyCredential(ACCOUNT_NAME, ACCOUNT_KEY);
+
+    @Test
+    public void authorizationHeaderSignsCanonicalizedRequest() throws Exception {
+        URL url = new URL("https://contoso.blob.core.windows.net/container/blob"
+            + "?restype=container&comp=list&include=snapshots,metadata");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Length", "0");
+        headers.put("Content-Type", "application/xml");
+        headers.put("Date", "Mon, 01 Jan 2019 00:00:00 GMT");
+        headers.put("x-ms-version", "2019-02-02");
+        headers.put("x-ms-date", "Tue, 02 Jan 2019 00:00:00 GMT");
+        headers.put("X-MS-Client-Request-Id", "id");
+
+        String expectedStringToSign = String.join("\n",
+            "GET", "", "", "", "", "application/xml", "", "", "", "", "", "",
+            "x-ms-client-request-id:id\nx-ms-date:Tue, 02 Jan 2019 00:00:00 GMT\nx-ms-version:2019-02-02",
+            "/contoso/container/blob\ncomp:list\ninclude:metadata,snapshots\nrestype:container");
+
+        Assert.assertEquals("SharedKey contoso:" + StorageImplUtils.computeHMac256(ACCOUNT_KEY, expectedStringToSign),
+            credential.generateAuthorizationHeader(url, "GET", headers));
+    }
+
+    @Test
+    public void authorizationHeaderWithoutQueryOrXmsHeaders() throws Exception {
+        URL url = new URL("https://contoso.blob.core.windows.net");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Length", "12");
+        headers.put("Date", "Mon, 01 Jan 2019 00:00:00 GMT");
+
+        String expectedStringToSign = String.join("\n",
+            "PUT", "", "", "12", "", "", "Mon, 01 Jan 2019 00:00:00 GMT", "", "", "", "", "", "", "/contoso/");
+
+        Assert.assertEquals("SharedKey contoso:" + StorageImplUtils.computeHMac256(ACCOUNT_KEY, expectedStringToSign),
+            credential.generateAuthorizationHeader(url, "PUT", headers));
+    }
+
+    @Test
+    public void concurrentSignaturesMatch() throws Exception {
+        String expected = StorageImplUtils.computeHMac256(ACCOUNT_KEY, "string-to-sign");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> signatures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                signatures.add(executor.submit(() -> credential.computeHmac256("string-to-sign")));
+            }
+            for (Future<String> signature : signatures) {
+                Assert.assertEquals(expected, signature.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -10,7 +10,10 @@ import com.azure.core.implementation.util.FluxUtil;
 import com.azure.core.util.Context;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.ProgressReporter;
 import com.azure.storage.blob.specialized.BlockBlobAsyncClient;
+import com.azure.storage.common.implementation.Constants;
+import com.azure.storage.common.implementation.UploadBufferPool;
 import com.azure.storage.file.datalake.implementation.models.LeaseAccessConditions;
 import com.azure.storage.file.datalake.implementation.models.ModifiedAccessConditions;
 import com.azure.storage.file.datalake.implementation.models.PathResourceType;
@@ -18,14 +21,29 @@ import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.DownloadRetryOptions;
 import com.azure.storage.file.datalake.models.FileReadAsyncResponse;
 import com.azure.storage.file.datalake.models.FileRange;
+import com.azure.storage.file.datalake.models.ParallelTransferOptions;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
 import com.azure.storage.file.datalake.models.PathInfo;
 import com.azure.storage.file.datalake.models.PathItem;
+import com.azure.storage.file.datalake.models.PathProperties;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.azure.core.implementation.util.FluxUtil.withContext;
 import static com.azure.core.implementation.util.FluxUtil.monoError;
@@ -47,6 +65,14 @@ import static com.azure.core.implementation.util.FluxUtil.fluxError;
  */
 public class DataLakeFileAsyncClient extends DataLakePathAsyncClient {
 
+    /**
+     * Indicates the maximum number of bytes that can be sent in a call to append.
+     */
+    public static final int MAX_APPEND_FILE_BYTES = 100 * Constants.MB;
+
+    private static final int FILE_DEFAULT_UPLOAD_BLOCK_SIZE = 4 * Constants.MB;
+    private static final int FILE_DEFAULT_NUMBER_OF_BUFFERS = 8;
+
     private final ClientLogger logger = new ClientLogger(DataLakeFileAsyncClient.class);
 
     /**
@@ -336,6 +362,312 @@ public class DataLakeFileAsyncClient extends DataLakePathAsyncClient {
                 response.getDeserializedHeaders().getLastModified())));
     }
 
+    /**
+     * Creates a new file with the content of the specified {@code Flux}. By default this method will not overwrite an
+     * existing file.
+     *
+     * <p>The data is split into chunks of the block size, which are appended to the file concurrently at the offsets
+     * they occupy in it. The file is written with a single flush once every chunk has been appended, so it is never
+     * observed with partial content.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.upload#Flux-ParallelTransferOptions}
+     *
+     * @param data The data to write to the file. Unlike other upload methods, this method does not require that the
+     * {@code Flux} be replayable. In other words, it does not have to support multiple subscribers and is not expected
+     * to produce the same values across subscriptions.
+     * @param parallelTransferOptions {@link ParallelTransferOptions} used to configure buffered uploading.
+     * @return A reactive response containing the information of the uploaded file.
+     */
+    public Mono<PathInfo> upload(Flux<ByteBuffer> data, ParallelTransferOptions parallelTransferOptions) {
+        try {
+            return upload(data, parallelTransferOptions, false);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Creates a new file, or overwrites an existing file, with the content of the specified {@code Flux}.
+     *
+     * <p>The data is split into chunks of the block size, which are appended to the file concurrently at the offsets
+     * they occupy in it. The file is written with a single flush once every chunk has been appended, so it is never
+     * observed with partial content.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.upload#Flux-ParallelTransferOptions-boolean}
+     *
+     * @param data The data to write to the file. Unlike other upload methods, this method does not require that the
+     * {@code Flux} be replayable. In other words, it does not have to support multiple subscribers and is not expected
+     * to produce the same values across subscriptions.
+     * @param parallelTransferOptions {@link ParallelTransferOptions} used to configure buffered uploading.
+     * @param overwrite Whether or not to overwrite, should the file already exist.
+     * @return A reactive response containing the information of the uploaded file.
+     */
+    public Mono<PathInfo> upload(Flux<ByteBuffer> data, ParallelTransferOptions parallelTransferOptions,
+        boolean overwrite) {
+        try {
+            DataLakeRequestConditions requestConditions = new DataLakeRequestConditions();
+            if (!overwrite) {
+                requestConditions.setIfNoneMatch(Constants.HeaderConstants.ETAG_WILDCARD);
+            }
+            return uploadWithResponse(data, parallelTransferOptions, null, null, requestConditions)
+                .flatMap(FluxUtil::toMono);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Creates a new file, or overwrites an existing file, with the content of the specified {@code Flux}.
+     *
+     * <p>The data is buffered into chunks of the block size, which are appended to the file concurrently at the offsets
+     * they occupy in it. At most {@code numBuffers} chunks are held in memory, so the length of the data need not be
+     * known in advance. The file is written with a single flush once every chunk has been appended, so it is never
+     * observed with partial content.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.uploadWithResponse#Flux-ParallelTransferOptions-PathHttpHeaders-Map-DataLakeRequestConditions}
+     *
+     * @param data The data to write to the file. Unlike other upload methods, this method does not require that the
+     * {@code Flux} be replayable. In other words, it does not have to support multiple subscribers and is not expected
+     * to produce the same values across subscriptions.
+     * @param parallelTransferOptions {@link ParallelTransferOptions} used to configure buffered uploading.
+     * @param headers {@link PathHttpHeaders}
+     * @param metadata Metadata to associate with the file.
+     * @param accessConditions {@link DataLakeRequestConditions} for the creation of the file.
+     * @return A reactive response containing the information of the uploaded file.
+     */
+    public Mono<Response<PathInfo>> uploadWithResponse(Flux<ByteBuffer> data,
+        ParallelTransferOptions parallelTransferOptions, PathHttpHeaders headers, Map<String, String> metadata,
+        DataLakeRequestConditions accessConditions) {
+        try {
+            Objects.requireNonNull(data, "'data' must not be null");
+            return withContext(context -> uploadWithResponse(data, parallelTransferOptions, headers, metadata,
+                accessConditions, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<Response<PathInfo>> uploadWithResponse(Flux<ByteBuffer> data,
+        ParallelTransferOptions parallelTransferOptions, PathHttpHeaders headers, Map<String, String> metadata,
+        DataLakeRequestConditions accessConditions, Context context) {
+        final ParallelTransferOptions finalParallelTransferOptions = populateAndApplyDefaults(parallelTransferOptions);
+        final DataLakeRequestConditions finalAccessConditions = accessConditions == null
+            ? new DataLakeRequestConditions() : accessConditions;
+        final int blockSize = finalParallelTransferOptions.getBlockSize();
+
+        // See ProgressReporter for an explanation on why this lock is necessary and why we use AtomicLong.
+        AtomicLong totalProgress = new AtomicLong();
+        Lock progressLock = new ReentrantLock();
+
+        return Mono.defer(() -> {
+            // Validation done in the constructor.
+            UploadBufferPool pool = new UploadBufferPool(finalParallelTransferOptions.getNumBuffers(), blockSize,
+                MAX_APPEND_FILE_BYTES);
+            AtomicLong fileSize = new AtomicLong();
+
+            /*
+            Break the source Flux into chunks that are <= block size, so a single write fills at most two buffers of
+            the pool. The pool blocks the writing thread until an append returns a buffer, so the writes are moved off
+            the threads the responses of the appends are delivered on. The filled buffers are emitted in the order of
+            the data, which is when their offsets are assigned.
+             */
+            Flux<Response<Void>> appends = data
+                .filter(ByteBuffer::hasRemaining)
+                .concatMap(buffer -> splitToBlockSize(buffer, blockSize))
+                .publishOn(Schedulers.elastic(), 1)
+                .concatMap(pool::write)
+                .concatWith(Flux.defer(pool::flush))
+                .flatMap(buffer -> {
+                    long offset = fileSize.getAndAdd(buffer.remaining());
+                    Flux<ByteBuffer> progressData = ProgressReporter.addParallelProgressReporting(Flux.just(buffer),
+                        Transforms.toBlobProgressReceiver(finalParallelTransferOptions.getProgressReceiver()),
+                        progressLock, totalProgress);
+
+                    return appendWithResponse(progressData, offset, buffer.remaining(), null,
+                        finalAccessConditions.getLeaseId(), context)
+                        .doFinally(signalType -> pool.returnBuffer(buffer));
+                });
+
+            return createWithResponse(PathResourceType.FILE, headers, metadata, finalAccessConditions, null, null,
+                context)
+                .thenMany(appends)
+                .then(Mono.defer(() -> flushWithResponse(fileSize.get(), false, false, headers,
+                    new DataLakeRequestConditions().setLeaseId(finalAccessConditions.getLeaseId()), context)));
+        });
+    }
+
+    /**
+     * Creates a new file with the content of the specified local file. By default this method will not overwrite an
+     * existing file.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.uploadFromFile#String}
+     *
+     * @param filePath Path to the upload file
+     * @return An empty response
+     * @throws UncheckedIOException If an I/O error occurs
+     */
+    public Mono<Void> uploadFromFile(String filePath) {
+        try {
+            return uploadFromFile(filePath, false);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Creates a new file, or overwrites an existing file, with the content of the specified local file.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.uploadFromFile#String-boolean}
+     *
+     * @param filePath Path to the upload file
+     * @param overwrite Whether or not to overwrite, should the file already exist.
+     * @return An empty response
+     * @throws UncheckedIOException If an I/O error occurs
+     */
+    public Mono<Void> uploadFromFile(String filePath, boolean overwrite) {
+        try {
+            DataLakeRequestConditions requestConditions = new DataLakeRequestConditions();
+            if (!overwrite) {
+                requestConditions.setIfNoneMatch(Constants.HeaderConstants.ETAG_WILDCARD);
+            }
+            return uploadFromFile(filePath, null, null, null, requestConditions);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Creates a new file, or overwrites an existing file, with the content of the specified local file.
+     *
+     * <p>The local file is sliced into ranges of the block size, which are read and appended to the file concurrently
+     * at their offsets, with at most {@code numBuffers} appends in flight. The file is written with a single flush once
+     * every range has been appended, so it is never observed with partial content.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.uploadFromFile#String-ParallelTransferOptions-PathHttpHeaders-Map-DataLakeRequestConditions}
+     *
+     * @param filePath Path to the upload file
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to use to upload from file.
+     * @param headers {@link PathHttpHeaders}
+     * @param metadata Metadata to associate with the file.
+     * @param accessConditions {@link DataLakeRequestConditions} for the creation of the file.
+     * @return An empty response
+     * @throws UncheckedIOException If an I/O error occurs
+     */
+    public Mono<Void> uploadFromFile(String filePath, ParallelTransferOptions parallelTransferOptions,
+        PathHttpHeaders headers, Map<String, String> metadata, DataLakeRequestConditions accessConditions) {
+        try {
+            return withContext(context -> uploadFromFile(filePath, parallelTransferOptions, headers, metadata,
+                accessConditions, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<Void> uploadFromFile(String filePath, ParallelTransferOptions parallelTransferOptions,
+        PathHttpHeaders headers, Map<String, String> metadata, DataLakeRequestConditions accessConditions,
+        Context context) {
+        final ParallelTransferOptions finalParallelTransferOptions = populateAndApplyDefaults(parallelTransferOptions);
+        final DataLakeRequestConditions finalAccessConditions = accessConditions == null
+            ? new DataLakeRequestConditions() : accessConditions;
+
+        return Mono.using(() -> uploadFileResourceSupplier(filePath),
+            channel -> {
+                long fileSize;
+                try {
+                    fileSize = channel.size();
+                } catch (IOException ex) {
+                    return Mono.error(ex);
+                }
+
+                return createWithResponse(PathResourceType.FILE, headers, metadata, finalAccessConditions, null, null,
+                    context)
+                    .then(appendFile(channel, fileSize, finalParallelTransferOptions,
+                        finalAccessConditions.getLeaseId(), context))
+                    .then(Mono.defer(() -> flushWithResponse(fileSize, false, false, headers,
+                        new DataLakeRequestConditions().setLeaseId(finalAccessConditions.getLeaseId()), context)))
+                    .then();
+            }, this::uploadFileCleanup);
+    }
+
+    private Mono<Void> appendFile(AsynchronousFileChannel channel, long fileSize,
+        ParallelTransferOptions parallelTransferOptions, String leaseId, Context context) {
+        // See ProgressReporter for an explanation on why this lock is necessary and why we use AtomicLong.
+        AtomicLong totalProgress = new AtomicLong();
+        Lock progressLock = new ReentrantLock();
+
+        return Flux.fromIterable(sliceFile(fileSize, parallelTransferOptions.getBlockSize()))
+            .flatMap(range -> {
+                Flux<ByteBuffer> progressData = ProgressReporter.addParallelProgressReporting(
+                    FluxUtil.readFile(channel, range.getOffset(), range.getCount()),
+                    Transforms.toBlobProgressReceiver(parallelTransferOptions.getProgressReceiver()), progressLock,
+                    totalProgress);
+
+                return appendWithResponse(progressData, range.getOffset(), range.getCount(), null, leaseId, context);
+            }, parallelTransferOptions.getNumBuffers())
+            .then();
+    }
+
+    private AsynchronousFileChannel uploadFileResourceSupplier(String filePath) {
+        try {
+            return AsynchronousFileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw logger.logExceptionAsError(new UncheckedIOException(e));
+        }
+    }
+
+    private void uploadFileCleanup(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw logger.logExceptionAsError(new UncheckedIOException(e));
+        }
+    }
+
+    private static List<FileRange> sliceFile(long fileSize, int blockSize) {
+        List<FileRange> ranges = new ArrayList<>();
+        for (long pos = 0; pos < fileSize; pos += blockSize) {
+            ranges.add(new FileRange(pos, Math.min(blockSize, fileSize - pos)));
+        }
+        return ranges;
+    }
+
+    /*
+    Splits a buffer into views no larger than the block size, leaving the buffer itself untouched.
+     */
+    private static Flux<ByteBuffer> splitToBlockSize(ByteBuffer buffer, int blockSize) {
+        if (buffer.remaining() <= blockSize) {
+            return Flux.just(buffer);
+        }
+        int numSplits = (int) Math.ceil(buffer.remaining() / (double) blockSize);
+        return Flux.range(0, numSplits)
+            .map(i -> {
+                ByteBuffer duplicate = buffer.duplicate().asReadOnlyBuffer();
+                duplicate.position(buffer.position() + i * blockSize);
+                duplicate.limit(Math.min(buffer.limit(), duplicate.position() + blockSize));
+                return duplicate;
+            });
+    }
+
+    private static ParallelTransferOptions populateAndApplyDefaults(ParallelTransferOptions other) {
+        other = other == null ? new ParallelTransferOptions(null, null, null) : other;
+        return new ParallelTransferOptions(
+            other.getBlockSize() == null ? Integer.valueOf(FILE_DEFAULT_UPLOAD_BLOCK_SIZE) : other.getBlockSize(),
+            other.getNumBuffers() == null ? Integer.valueOf(FILE_DEFAULT_NUMBER_OF_BUFFERS) : other.getNumBuffers(),
+            other.getProgressReceiver());
+    }
+
     /**
      * Reads the entire file.
      *
@@ -384,6 +716,72 @@ public class DataLakeFileAsyncClient extends DataLakePathAsyncClient {
         }
     }
 
+    /**
+     * Reads the entire file into a file specified by the path.
+     *
+     * <p>The file will be created and must not exist, if the file already exists a {@link FileAlreadyExistsException}
+     * will be thrown.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.readToFile#String}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/get-blob">Azure Docs</a></p>
+     *
+     * @param filePath A non-null path to the local file the data will be written to.
+     * @return A reactive response containing the file properties and metadata.
+     */
+    public Mono<PathProperties> readToFile(String filePath) {
+        try {
+            return readToFileWithResponse(filePath, null, null, null, null, false).flatMap(FluxUtil::toMono);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Reads the entire file into a file specified by the path.
+     *
+     * <p>The file will be created and must not exist, if the file already exists a {@link FileAlreadyExistsException}
+     * will be thrown.</p>
+     *
+     * <p>The file is read in ranges of the block size, which are requested concurrently and written to the local file
+     * at their offsets as they arrive. This method makes an extra HTTP call to get the length of the file in the
+     * beginning. To avoid this extra call, provide the {@link FileRange} parameter.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileAsyncClient.readToFileWithResponse#String-FileRange-ParallelTransferOptions-DownloadRetryOptions-DataLakeRequestConditions-boolean}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/get-blob">Azure Docs</a></p>
+     *
+     * @param filePath A non-null path to the local file the data will be written to.
+     * @param range {@link FileRange}
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to use to read to file. Number of parallel
+     * transfers parameter is ignored.
+     * @param options {@link DownloadRetryOptions}
+     * @param accessConditions {@link DataLakeRequestConditions}
+     * @param rangeGetContentMd5 Whether the contentMD5 for the specified file range should be returned.
+     * @return A reactive response containing the file properties and metadata.
+     * @throws IllegalArgumentException If {@code blockSize} is less than 0 or greater than 100MB.
+     * @throws UncheckedIOException If an I/O error occurs.
+     */
+    public Mono<Response<PathProperties>> readToFileWithResponse(String filePath, FileRange range,
+        ParallelTransferOptions parallelTransferOptions, DownloadRetryOptions options,
+        DataLakeRequestConditions accessConditions, boolean rangeGetContentMd5) {
+        try {
+            return blockBlobAsyncClient.downloadToFileWithResponse(filePath, Transforms.toBlobRange(range),
+                Transforms.toBlobParallelTransferOptions(parallelTransferOptions),
+                Transforms.toBlobDownloadRetryOptions(options), Transforms.toBlobRequestConditions(accessConditions),
+                rangeGetContentMd5)
+                .map(response -> new SimpleResponse<>(response, Transforms.toPathProperties(response.getValue())));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
     /**
      * Moves the file to another location within the file system.
      * For more information see the
@@ -22,20 +22,34 @@ import com.azure.storage.file.datalake.implementation.DataLakeStorageClientBuild
 import com.azure.storage.file.datalake.implementation.DataLakeStorageClientImpl;
 import com.azure.storage.file.datalake.implementation.models.FileSystemsListPathsResponse;
 import com.azure.storage.file.datalake.implementation.models.Path;
+import com.azure.storage.file.datalake.implementation.models.StorageErrorException;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.FileSystemProperties;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathAccessControl;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
 import com.azure.storage.file.datalake.models.PathItem;
+import com.azure.storage.file.datalake.models.PathTreeOperationOptions;
+import com.azure.storage.file.datalake.models.PathTreeOperationResult;
 import com.azure.storage.file.datalake.models.PublicAccessType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static com.azure.core.implementation.util.FluxUtil.monoError;
 import static com.azure.core.implementation.util.FluxUtil.pagedFluxError;
+import static com.azure.core.implementation.util.FluxUtil.withContext;
 
 
 /**
@@ -606,6 +620,220 @@ public class DataLakeFileSystemAsyncClient {
         return getDirectoryAsyncClient(directoryName).deleteWithResponse(recursive, accessConditions);
     }
 
+    /**
+     * Sets the access control of a directory and of every path beneath it. The paths are listed in batches and the
+     * paths of a batch are updated concurrently, while the next batch is listed. The progress is reported to the
+     * {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each batch, along with the
+     * continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/datalakestoragegen2/path/update">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory.
+     * @param accessControl {@link PathAccessControl} to set on every path.
+     * @param options {@link PathTreeOperationOptions}
+     * @return A reactive response containing the result of the operation.
+     */
+    public Mono<PathTreeOperationResult> setAccessControlRecursive(String directoryName,
+        PathAccessControl accessControl, PathTreeOperationOptions options) {
+        try {
+            return withContext(context -> setAccessControlRecursive(directoryName, accessControl, options, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<PathTreeOperationResult> setAccessControlRecursive(String directoryName, PathAccessControl accessControl,
+        PathTreeOperationOptions options, Context context) {
+        Objects.requireNonNull(accessControl, "'accessControl' cannot be null.");
+        return updatePathTree(directoryName, options, true,
+            path -> getPathAsyncClient(path).setAccessControlWithResponse(accessControl, null, context));
+    }
+
+    /**
+     * Sets the metadata of a directory and of every path beneath it, replacing their existing metadata. The paths are
+     * listed in batches and the paths of a batch are updated concurrently, while the next batch is listed. The progress
+     * is reported to the {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each
+     * batch, along with the continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setMetadataRecursive#String-Map-PathTreeOperationOptions}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/set-blob-metadata">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory.
+     * @param metadata Metadata to associate with every path.
+     * @param options {@link PathTreeOperationOptions}
+     * @return A reactive response containing the result of the operation.
+     */
+    public Mono<PathTreeOperationResult> setMetadataRecursive(String directoryName, Map<String, String> metadata,
+        PathTreeOperationOptions options) {
+        try {
+            return withContext(context -> setMetadataRecursive(directoryName, metadata, options, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<PathTreeOperationResult> setMetadataRecursive(String directoryName, Map<String, String> metadata,
+        PathTreeOperationOptions options, Context context) {
+        return updatePathTree(directoryName, options, true,
+            path -> getPathAsyncClient(path).setMetadataWithResponse(metadata, null, context));
+    }
+
+    /**
+     * Deletes a directory and every path beneath it. The paths are listed in batches and the files of a batch are
+     * deleted concurrently, while the next batch is listed. Once every file has been deleted, the emptied directories
+     * are deleted along with the directory itself in a final batch. The progress is reported to the
+     * {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each batch, along with the
+     * continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.deleteDirectoryRecursive#String-PathTreeOperationOptions}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/datalakestoragegen2/path/delete">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory to delete.
+     * @param options {@link PathTreeOperationOptions}
+     * @return A reactive response containing the result of the operation.
+     */
+    public Mono<PathTreeOperationResult> deleteDirectoryRecursive(String directoryName,
+        PathTreeOperationOptions options) {
+        try {
+            return withContext(context -> deleteDirectoryRecursive(directoryName, options, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<PathTreeOperationResult> deleteDirectoryRecursive(String directoryName, PathTreeOperationOptions options,
+        Context context) {
+        return updatePathTree(directoryName, options, false, path -> {
+            if (path.getName().equals(directoryName)) {
+                return getPathAsyncClient(path).deleteWithResponse(true, null, context);
+            } else if (path.isDirectory()) {
+                // Directories are deleted along with the directory itself once the files beneath them are gone.
+                return Mono.empty();
+            }
+            // A file deleted before an interrupted operation is listed again when the operation is resumed.
+            return getPathAsyncClient(path).deleteWithResponse(null, null, context)
+                .onErrorResume(error -> error instanceof StorageErrorException
+                    && ((StorageErrorException) error).getResponse().getStatusCode() == 404, error -> Mono.empty());
+        });
+    }
+
+    /*
+    Applies an operation to a directory and the paths beneath it. The listing retrieves the next batch while the current
+    one is updated, and the directory itself is updated either with the first batch or in a batch of its own after the
+    others.
+     */
+    private Mono<PathTreeOperationResult> updatePathTree(String directoryName, PathTreeOperationOptions options,
+        boolean directoryFirst, Function<PathItem, Mono<?>> operation) {
+        PathTreeOperationOptions finalOptions = options == null ? new PathTreeOperationOptions() : options;
+        boolean resuming = finalOptions.getContinuationToken() != null;
+        PathItem directory = new PathItem(null, null, 0, null, true, directoryName, null, null);
+        ListPathsOptions listOptions = new ListPathsOptions()
+            .setPath(directoryName)
+            .setRecursive(true)
+            .setMaxResults(finalOptions.getBatchSize());
+
+        return Mono.defer(() -> {
+            PathTreeUpdate update = new PathTreeUpdate(finalOptions, operation);
+
+            Flux<PathTreeOperationResult> results = listPaths(listOptions)
+                .byPage(finalOptions.getContinuationToken(), 1)
+                .index()
+                .concatMap(indexedPage -> {
+                    List<PathItem> paths = indexedPage.getT2().getValue();
+                    if (directoryFirst && !resuming && indexedPage.getT1() == 0) {
+                        paths = new ArrayList<>(paths);
+                        paths.add(0, directory);
+                    }
+                    return update.updateBatch(paths, indexedPage.getT2().getContinuationToken());
+                });
+            if (!directoryFirst) {
+                results = results.concatWith(
+                    Mono.defer(() -> update.updateBatch(Collections.singletonList(directory), null)));
+            }
+
+            return results.last();
+        });
+    }
+
+    private DataLakePathAsyncClient getPathAsyncClient(PathItem path) {
+        return path.isDirectory() ? getDirectoryAsyncClient(path.getName()) : getFileAsyncClient(path.getName());
+    }
+
+    /*
+    The state of an operation applied to the paths beneath a directory. Batches are updated one after the other, with
+    at most maxConcurrency paths of a batch updated at a time. Unless the operation continues on failure, no more paths
+    are updated once one has failed and the batch fails with its error.
+     */
+    private static final class PathTreeUpdate {
+        private static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+        private final Function<PathItem, Mono<?>> operation;
+        private final int maxConcurrency;
+        private final boolean continueOnFailure;
+        private final Consumer<PathTreeOperationResult> progressHandler;
+        private final long startTime = System.nanoTime();
+        private final AtomicLong succeededCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        PathTreeUpdate(PathTreeOperationOptions options, Function<PathItem, Mono<?>> operation) {
+            this.operation = operation;
+            this.maxConcurrency = options.getMaxConcurrency() == null
+                ? DEFAULT_MAX_CONCURRENCY : options.getMaxConcurrency();
+            this.continueOnFailure = options.isContinueOnFailure();
+            this.progressHandler = options.getProgressHandler();
+        }
+
+        Mono<PathTreeOperationResult> updateBatch(List<PathItem> paths, String continuationToken) {
+            Map<String, Throwable> batchFailures = new ConcurrentHashMap<>();
+
+            return Flux.fromIterable(paths)
+                .takeWhile(path -> firstError.get() == null)
+                .flatMap(path -> update(path, batchFailures), maxConcurrency)
+                .then(Mono.defer(() -> {
+                    Throwable error = firstError.get();
+                    if (error != null) {
+                        return Mono.error(error);
+                    }
+
+                    PathTreeOperationResult result = new PathTreeOperationResult(succeededCount.get(),
+                        failedCount.get(), batchFailures, continuationToken,
+                        Duration.ofNanos(System.nanoTime() - startTime));
+                    if (progressHandler != null) {
+                        progressHandler.accept(result);
+                    }
+                    return Mono.just(result);
+                }));
+        }
+
+        private Mono<Void> update(PathItem path, Map<String, Throwable> batchFailures) {
+            return operation.apply(path)
+                .then(Mono.fromRunnable(succeededCount::incrementAndGet))
+                .onErrorResume(error -> {
+                    failedCount.incrementAndGet();
+                    batchFailures.put(path.getName(), error);
+                    if (!continueOnFailure) {
+                        firstError.compareAndSet(null, error);
+                    }
+                    return Mono.empty();
+                })
+                .then();
+        }
+    }
+
     BlobContainerAsyncClient getBlobContainerAsyncClient() {
         return blobContainerAsyncClient;
     }
@@ -13,15 +13,21 @@ import com.azure.core.util.Context;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobContainerProperties;
+import com.azure.storage.common.implementation.StorageImplUtils;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.FileSystemProperties;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathAccessControl;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
 import com.azure.storage.file.datalake.models.PathItem;
+import com.azure.storage.file.datalake.models.PathTreeOperationOptions;
+import com.azure.storage.file.datalake.models.PathTreeOperationResult;
 import com.azure.storage.file.datalake.models.PublicAccessType;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Client to a file system. It may only be instantiated through a {@link DataLakeFileSystemClientBuilder} or via the
@@ -483,6 +489,90 @@ public class DataLakeFileSystemClient {
         return getDirectoryClient(directoryName).deleteWithResponse(recursive, accessConditions, timeout, context);
     }
 
+    /**
+     * Sets the access control of a directory and of every path beneath it. The paths are listed in batches and the
+     * paths of a batch are updated concurrently, while the next batch is listed. The progress is reported to the
+     * {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each batch, along with the
+     * continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions-Duration-Context}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/datalakestoragegen2/path/update">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory.
+     * @param accessControl {@link PathAccessControl} to set on every path.
+     * @param options {@link PathTreeOperationOptions}
+     * @param timeout An optional timeout value beyond which a {@link RuntimeException} will be raised.
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @return The result of the operation.
+     */
+    public PathTreeOperationResult setAccessControlRecursive(String directoryName, PathAccessControl accessControl,
+        PathTreeOperationOptions options, Duration timeout, Context context) {
+        Mono<PathTreeOperationResult> response = dataLakeFileSystemAsyncClient.setAccessControlRecursive(directoryName,
+            accessControl, options, context);
+
+        return StorageImplUtils.blockWithOptionalTimeout(response, timeout);
+    }
+
+    /**
+     * Sets the metadata of a directory and of every path beneath it, replacing their existing metadata. The paths are
+     * listed in batches and the paths of a batch are updated concurrently, while the next batch is listed. The progress
+     * is reported to the {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each
+     * batch, along with the continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemClient.setMetadataRecursive#String-Map-PathTreeOperationOptions-Duration-Context}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/set-blob-metadata">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory.
+     * @param metadata Metadata to associate with every path.
+     * @param options {@link PathTreeOperationOptions}
+     * @param timeout An optional timeout value beyond which a {@link RuntimeException} will be raised.
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @return The result of the operation.
+     */
+    public PathTreeOperationResult setMetadataRecursive(String directoryName, Map<String, String> metadata,
+        PathTreeOperationOptions options, Duration timeout, Context context) {
+        Mono<PathTreeOperationResult> response = dataLakeFileSystemAsyncClient.setMetadataRecursive(directoryName,
+            metadata, options, context);
+
+        return StorageImplUtils.blockWithOptionalTimeout(response, timeout);
+    }
+
+    /**
+     * Deletes a directory and every path beneath it. The paths are listed in batches and the files of a batch are
+     * deleted concurrently, while the next batch is listed. Once every file has been deleted, the emptied directories
+     * are deleted along with the directory itself in a final batch. The progress is reported to the
+     * {@link PathTreeOperationOptions#setProgressHandler(Consumer) progress handler} after each batch, along with the
+     * continuation token an interrupted operation can be resumed from.
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * {@codesnippet com.azure.storage.file.datalake.DataLakeFileSystemClient.deleteDirectoryRecursive#String-PathTreeOperationOptions-Duration-Context}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/datalakestoragegen2/path/delete">Azure Docs</a></p>
+     *
+     * @param directoryName Name of the directory to delete.
+     * @param options {@link PathTreeOperationOptions}
+     * @param timeout An optional timeout value beyond which a {@link RuntimeException} will be raised.
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @return The result of the operation.
+     */
+    public PathTreeOperationResult deleteDirectoryRecursive(String directoryName, PathTreeOperationOptions options,
+        Duration timeout, Context context) {
+        Mono<PathTreeOperationResult> response = dataLakeFileSystemAsyncClient.deleteDirectoryRecursive(directoryName,
+            options, context);
+
+        return StorageImplUtils.blockWithOptionalTimeout(response, timeout);
+    }
+
     BlobContainerClient getBlobContainerClient() {
         return blobContainerClient;
     }
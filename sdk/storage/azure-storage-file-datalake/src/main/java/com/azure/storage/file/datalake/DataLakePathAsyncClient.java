@@ -23,6 +23,7 @@ import com.azure.storage.file.datalake.implementation.models.ModifiedAccessCondi
 import com.azure.storage.file.datalake.implementation.models.PathGetPropertiesAction;
 import com.azure.storage.file.datalake.implementation.models.PathRenameMode;
 import com.azure.storage.file.datalake.implementation.models.PathResourceType;
+import com.azure.storage.file.datalake.implementation.models.PathUpdateAction;
 import com.azure.storage.file.datalake.implementation.models.SourceModifiedAccessConditions;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.PathAccessControl;
@@ -281,6 +282,31 @@ public class DataLakePathAsyncClient {
         }
     }
 
+    /**
+     * Package-private set metadata method for use by {@link DataLakeFileSystemAsyncClient}. The metadata is set as the
+     * properties of the path through the data lake endpoint, which unlike the blob endpoint accepts a context.
+     *
+     * @param metadata Metadata to associate with the resource.
+     * @param accessConditions {@link DataLakeRequestConditions}
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @return A reactive response signalling completion.
+     */
+    Mono<Response<Void>> setMetadataWithResponse(Map<String, String> metadata,
+        DataLakeRequestConditions accessConditions, Context context) {
+        accessConditions = accessConditions == null ? new DataLakeRequestConditions() : accessConditions;
+
+        LeaseAccessConditions lac = new LeaseAccessConditions().setLeaseId(accessConditions.getLeaseId());
+        ModifiedAccessConditions mac = new ModifiedAccessConditions()
+            .setIfMatch(accessConditions.getIfMatch())
+            .setIfNoneMatch(accessConditions.getIfNoneMatch())
+            .setIfModifiedSince(accessConditions.getIfModifiedSince())
+            .setIfUnmodifiedSince(accessConditions.getIfUnmodifiedSince());
+
+        return this.dataLakeStorage.paths().updateWithRestResponseAsync(PathUpdateAction.SET_PROPERTIES, null, null,
+            null, null, 0L, buildMetadataString(metadata), null, null, null, null, null, null, null, lac, mac, context)
+            .map(response -> new SimpleResponse<>(response, null));
+    }
+
     /**
      * Changes a resource's HTTP header properties. If only one HTTP header is updated, the others will all be erased.
      * In order to preserve existing values, they must be passed alongside the header being changed.
@@ -32,6 +32,7 @@ import com.azure.storage.file.datalake.models.LeaseDurationType;
 import com.azure.storage.file.datalake.models.LeaseStateType;
 import com.azure.storage.file.datalake.models.LeaseStatusType;
 import com.azure.storage.file.datalake.models.ListFileSystemsOptions;
+import com.azure.storage.file.datalake.models.ParallelTransferOptions;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
 import com.azure.storage.file.datalake.models.PathItem;
 import com.azure.storage.file.datalake.models.PathProperties;
@@ -186,6 +187,23 @@ class Transforms {
             .setMaxRetryRequests(dataLakeOptions.getMaxRetryRequests());
     }
 
+    static com.azure.storage.blob.models.ParallelTransferOptions toBlobParallelTransferOptions(
+        ParallelTransferOptions parallelTransferOptions) {
+        if (parallelTransferOptions == null) {
+            return null;
+        }
+        return new com.azure.storage.blob.models.ParallelTransferOptions(parallelTransferOptions.getBlockSize(),
+            parallelTransferOptions.getNumBuffers(),
+            toBlobProgressReceiver(parallelTransferOptions.getProgressReceiver()));
+    }
+
+    static com.azure.storage.blob.ProgressReceiver toBlobProgressReceiver(ProgressReceiver progressReceiver) {
+        if (progressReceiver == null) {
+            return null;
+        }
+        return progressReceiver::reportProgress;
+    }
+
     static PathProperties toPathProperties(BlobProperties properties) {
         if (properties == null) {
             return null;
@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake.models;
+
+import com.azure.core.annotation.Fluent;
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient;
+import com.azure.storage.file.datalake.DataLakeFileSystemClient;
+
+import java.util.function.Consumer;
+
+/**
+ * Defines options available to configure the behavior of an operation applied recursively to the paths beneath a
+ * directory through a {@link DataLakeFileSystemClient} or a {@link DataLakeFileSystemAsyncClient}. Null may be passed
+ * in place of an object of this type if the defaults are desirable.
+ *
+ * <p>The paths are listed in batches, each batch being a page of the listing. The paths of a batch are updated
+ * concurrently while the next batch is listed, and the continuation token of the listing after a batch has completed
+ * is a checkpoint from which an interrupted operation can be resumed.</p>
+ */
+@Fluent
+public final class PathTreeOperationOptions {
+    private final ClientLogger logger = new ClientLogger(PathTreeOperationOptions.class);
+
+    private Integer maxConcurrency;
+    private Integer batchSize;
+    private String continuationToken;
+    private boolean continueOnFailure;
+    private Consumer<PathTreeOperationResult> progressHandler;
+
+    /**
+     * Gets the maximum number of paths updated at the same time. If not set, 16 paths are updated at a time.
+     *
+     * @return the maximum number of concurrent path operations.
+     */
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of paths updated at the same time. If not set, 16 paths are updated at a time.
+     *
+     * @param maxConcurrency The maximum number of concurrent path operations.
+     * @return the updated PathTreeOperationOptions object
+     * @throws IllegalArgumentException If {@code maxConcurrency} is less than or equal to {@code 0}.
+     */
+    public PathTreeOperationOptions setMaxConcurrency(Integer maxConcurrency) {
+        if (maxConcurrency != null && maxConcurrency <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("MaxConcurrency must be greater than 0."));
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of paths listed in a batch. If not set, or set to a value greater than 5,000, the
+     * service lists up to 5,000 paths in a batch.
+     *
+     * @return the maximum number of paths in a batch.
+     */
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of paths listed in a batch. If not set, or set to a value greater than 5,000, the
+     * service lists up to 5,000 paths in a batch.
+     *
+     * @param batchSize The maximum number of paths in a batch.
+     * @return the updated PathTreeOperationOptions object
+     * @throws IllegalArgumentException If {@code batchSize} is less than or equal to {@code 0}.
+     */
+    public PathTreeOperationOptions setBatchSize(Integer batchSize) {
+        if (batchSize != null && batchSize <= 0) {
+            throw logger.logExceptionAsError(new IllegalArgumentException("BatchSize must be greater than 0."));
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the continuation token the operation resumes from.
+     *
+     * @return the continuation token, or null if the operation starts from the beginning.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Sets the continuation token the operation resumes from. This is the
+     * {@link PathTreeOperationResult#getContinuationToken() continuation token} of the last result reported for an
+     * interrupted operation. The directory itself is only updated when the operation starts from the beginning.
+     *
+     * @param continuationToken The continuation token, or null to start from the beginning.
+     * @return the updated PathTreeOperationOptions object
+     */
+    public PathTreeOperationOptions setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
+    /**
+     * Gets whether the operation carries on with the remaining paths when a path fails to be updated.
+     *
+     * @return whether failures are counted instead of stopping the operation.
+     */
+    public boolean isContinueOnFailure() {
+        return continueOnFailure;
+    }
+
+    /**
+     * Sets whether the operation carries on with the remaining paths when a path fails to be updated. By default the
+     * operation stops with the error of the first path that fails, once the operations in flight have completed.
+     * Transient failures are retried by the retry policy of the client's pipeline before a path is considered failed.
+     *
+     * @param continueOnFailure Whether failures are counted instead of stopping the operation.
+     * @return the updated PathTreeOperationOptions object
+     */
+    public PathTreeOperationOptions setContinueOnFailure(boolean continueOnFailure) {
+        this.continueOnFailure = continueOnFailure;
+        return this;
+    }
+
+    /**
+     * Gets the handler the progress of the operation is reported to.
+     *
+     * @return the progress handler.
+     */
+    public Consumer<PathTreeOperationResult> getProgressHandler() {
+        return progressHandler;
+    }
+
+    /**
+     * Sets the handler the progress of the operation is reported to. The handler is called after each batch has
+     * completed with the totals so far and the continuation token to resume from.
+     *
+     * @param progressHandler The progress handler.
+     * @return the updated PathTreeOperationOptions object
+     */
+    public PathTreeOperationOptions setProgressHandler(Consumer<PathTreeOperationResult> progressHandler) {
+        this.progressHandler = progressHandler;
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake.models;
+
+import com.azure.core.annotation.Immutable;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The progress of an operation applied recursively to the paths beneath a directory. A result is reported after each
+ * batch of paths has completed, and the last one is the result of the operation.
+ */
+@Immutable
+public final class PathTreeOperationResult {
+    private final long succeededCount;
+    private final long failedCount;
+    private final Map<String, Throwable> batchFailures;
+    private final String continuationToken;
+    private final Duration elapsed;
+
+    /**
+     * Creates a new {@link PathTreeOperationResult}.
+     *
+     * @param succeededCount The number of paths updated so far.
+     * @param failedCount The number of paths that failed to be updated so far.
+     * @param batchFailures The paths of the last batch that failed to be updated, with their errors.
+     * @param continuationToken The continuation token to resume the operation from, or null if every batch has
+     * completed.
+     * @param elapsed The time the operation has taken so far.
+     */
+    public PathTreeOperationResult(long succeededCount, long failedCount, Map<String, Throwable> batchFailures,
+        String continuationToken, Duration elapsed) {
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+        this.batchFailures = batchFailures == null
+            ? Collections.emptyMap() : Collections.unmodifiableMap(batchFailures);
+        this.continuationToken = continuationToken;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * @return the number of paths updated so far.
+     */
+    public long getSucceededCount() {
+        return succeededCount;
+    }
+
+    /**
+     * @return the number of paths that failed to be updated so far.
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Gets the paths of the last batch that failed to be updated, with their errors. The failures of earlier batches
+     * were reported to the progress handler along with their batch.
+     *
+     * @return the failed paths of the last batch.
+     */
+    public Map<String, Throwable> getBatchFailures() {
+        return batchFailures;
+    }
+
+    /**
+     * @return the continuation token to resume the operation from, or null if every batch has completed.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * @return the time the operation has taken so far.
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the number of paths processed, whether updated or failed, per second so far.
+     */
+    public double getPathsPerSecond() {
+        long elapsedNanos = elapsed.toNanos();
+        return elapsedNanos == 0 ? 0 : (succeededCount + failedCount) * 1e9 / elapsedNanos;
+    }
+}
@@ -8,6 +8,7 @@ import com.azure.core.util.Context;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.DownloadRetryOptions;
 import com.azure.storage.file.datalake.models.FileRange;
+import com.azure.storage.file.datalake.models.ParallelTransferOptions;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
 import com.azure.storage.file.datalake.models.PathInfo;
 
@@ -38,6 +39,8 @@ public class DataLakeFileClientJavaDocSamples {
     private long offset = 0L;
     private long length = 4L;
     private long position = 4L;
+    private String file = "file";
+    private String filePath = "filePath";
 
     /**
      * Code snippets for {@link DataLakeFileClient#create()} and
@@ -173,4 +176,58 @@ public class DataLakeFileClientJavaDocSamples {
         // END: com.azure.storage.file.datalake.DataLakeFileClient.flushWithResponse#long-boolean-boolean-PathHttpHeaders-DataLakeRequestConditions-Duration-Context
     }
 
+    /**
+     * Code snippets for {@link DataLakeFileClient#uploadFromFile(String)},
+     * {@link DataLakeFileClient#uploadFromFile(String, boolean)} and
+     * {@link DataLakeFileClient#uploadFromFile(String, ParallelTransferOptions, PathHttpHeaders, Map, DataLakeRequestConditions, Duration)}
+     */
+    public void uploadFromFileCodeSnippets() {
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String
+        client.uploadFromFile(filePath);
+        System.out.println("Upload from file succeeded");
+        // END: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String-boolean
+        boolean overwrite = false; // Default value
+        client.uploadFromFile(filePath, overwrite);
+        System.out.println("Upload from file succeeded");
+        // END: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String-boolean
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String-ParallelTransferOptions-PathHttpHeaders-Map-DataLakeRequestConditions-Duration
+        PathHttpHeaders headers = new PathHttpHeaders()
+            .setContentMd5("data".getBytes(StandardCharsets.UTF_8))
+            .setContentLanguage("en-US")
+            .setContentType("binary");
+
+        Map<String, String> metadata = Collections.singletonMap("metadata", "value");
+        DataLakeRequestConditions requestConditions = new DataLakeRequestConditions()
+            .setLeaseId(leaseId);
+        Integer blockSize = 100 * 1024 * 1024; // 100 MB;
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions(blockSize, null, null);
+
+        client.uploadFromFile(filePath, parallelTransferOptions, headers, metadata, requestConditions, timeout);
+        System.out.println("Upload from file succeeded");
+        // END: com.azure.storage.file.datalake.DataLakeFileClient.uploadFromFile#String-ParallelTransferOptions-PathHttpHeaders-Map-DataLakeRequestConditions-Duration
+    }
+
+    /**
+     * Code snippets for {@link DataLakeFileClient#readToFile(String)} and
+     * {@link DataLakeFileClient#readToFileWithResponse(String, FileRange, ParallelTransferOptions, DownloadRetryOptions, DataLakeRequestConditions, boolean, Duration, Context)}
+     */
+    public void readToFileCodeSnippets() {
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileClient.readToFile#String
+        client.readToFile(file);
+        System.out.println("Completed download to file");
+        // END: com.azure.storage.file.datalake.DataLakeFileClient.readToFile#String
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileClient.readToFileWithResponse#String-FileRange-ParallelTransferOptions-DownloadRetryOptions-DataLakeRequestConditions-boolean-Duration-Context
+        FileRange fileRange = new FileRange(1024, 2048L);
+        DownloadRetryOptions downloadRetryOptions = new DownloadRetryOptions().setMaxRetryRequests(5);
+
+        client.readToFileWithResponse(file, fileRange, new ParallelTransferOptions(4 * 1024 * 1024, null, null),
+            downloadRetryOptions, null, false, timeout, new Context(key2, value2));
+        System.out.println("Completed download to file");
+        // END: com.azure.storage.file.datalake.DataLakeFileClient.readToFileWithResponse#String-FileRange-ParallelTransferOptions-DownloadRetryOptions-DataLakeRequestConditions-boolean-Duration-Context
+    }
+
 }
@@ -6,7 +6,9 @@ package com.azure.storage.file.datalake;
 import com.azure.core.http.rest.Response;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathAccessControl;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
+import com.azure.storage.file.datalake.models.PathTreeOperationOptions;
 import com.azure.storage.file.datalake.models.PublicAccessType;
 import reactor.core.publisher.Mono;
 
@@ -258,4 +260,41 @@ public class FileSystemAsyncClientJavaDocCodeSamples {
         // END: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.listPaths#ListPathsOptions
     }
 
+    /**
+     * Code snippets for
+     * {@link DataLakeFileSystemAsyncClient#setAccessControlRecursive(String, PathAccessControl, PathTreeOperationOptions)},
+     * {@link DataLakeFileSystemAsyncClient#setMetadataRecursive(String, Map, PathTreeOperationOptions)} and
+     * {@link DataLakeFileSystemAsyncClient#deleteDirectoryRecursive(String, PathTreeOperationOptions)}
+     */
+    public void pathTreeOperationCodeSnippets() {
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions
+        PathAccessControl control = new PathAccessControl().setPermissions("0766");
+        PathTreeOperationOptions options = new PathTreeOperationOptions()
+            .setMaxConcurrency(32)
+            .setProgressHandler(progress -> System.out.printf("%d paths updated, resume from %s%n",
+                progress.getSucceededCount(), progress.getContinuationToken()));
+
+        client.setAccessControlRecursive(directoryName, control, options).subscribe(result ->
+            System.out.printf("Updated %d paths at %.0f paths/s%n", result.getSucceededCount(),
+                result.getPathsPerSecond()));
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setMetadataRecursive#String-Map-PathTreeOperationOptions
+        Map<String, String> metadata = Collections.singletonMap("metadata", "value");
+
+        client.setMetadataRecursive(directoryName, metadata, new PathTreeOperationOptions().setContinueOnFailure(true))
+            .subscribe(result -> System.out.printf("Updated %d paths, %d failed%n", result.getSucceededCount(),
+                result.getFailedCount()));
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.setMetadataRecursive#String-Map-PathTreeOperationOptions
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.deleteDirectoryRecursive#String-PathTreeOperationOptions
+        String continuationToken = null; // Set to the last reported token to resume an interrupted delete
+        PathTreeOperationOptions deleteOptions = new PathTreeOperationOptions()
+            .setContinuationToken(continuationToken);
+
+        client.deleteDirectoryRecursive(directoryName, deleteOptions).subscribe(result ->
+            System.out.printf("Deleted %d paths%n", result.getSucceededCount()));
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemAsyncClient.deleteDirectoryRecursive#String-PathTreeOperationOptions
+    }
+
 }
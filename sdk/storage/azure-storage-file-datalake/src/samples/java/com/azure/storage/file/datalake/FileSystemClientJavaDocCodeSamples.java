@@ -10,7 +10,10 @@ import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.file.datalake.models.DataLakeRequestConditions;
 import com.azure.storage.file.datalake.models.FileSystemProperties;
 import com.azure.storage.file.datalake.models.ListPathsOptions;
+import com.azure.storage.file.datalake.models.PathAccessControl;
 import com.azure.storage.file.datalake.models.PathHttpHeaders;
+import com.azure.storage.file.datalake.models.PathTreeOperationOptions;
+import com.azure.storage.file.datalake.models.PathTreeOperationResult;
 import com.azure.storage.file.datalake.models.PublicAccessType;
 
 import java.time.Duration;
@@ -287,4 +290,44 @@ public class FileSystemClientJavaDocCodeSamples {
         // END: com.azure.storage.file.datalake.DataLakeFileSystemClient.listPaths#ListPathsOptions-Duration
     }
 
+    /**
+     * Code snippets for
+     * {@link DataLakeFileSystemClient#setAccessControlRecursive(String, PathAccessControl, PathTreeOperationOptions, Duration, Context)},
+     * {@link DataLakeFileSystemClient#setMetadataRecursive(String, Map, PathTreeOperationOptions, Duration, Context)} and
+     * {@link DataLakeFileSystemClient#deleteDirectoryRecursive(String, PathTreeOperationOptions, Duration, Context)}
+     */
+    public void pathTreeOperationCodeSnippets() {
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions-Duration-Context
+        PathAccessControl control = new PathAccessControl().setPermissions("0766");
+        PathTreeOperationOptions options = new PathTreeOperationOptions()
+            .setMaxConcurrency(32)
+            .setProgressHandler(progress -> System.out.printf("%d paths updated, resume from %s%n",
+                progress.getSucceededCount(), progress.getContinuationToken()));
+
+        PathTreeOperationResult result = client.setAccessControlRecursive(directoryName, control, options, timeout,
+            new Context(key1, value1));
+        System.out.printf("Updated %d paths at %.0f paths/s%n", result.getSucceededCount(),
+            result.getPathsPerSecond());
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemClient.setAccessControlRecursive#String-PathAccessControl-PathTreeOperationOptions-Duration-Context
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemClient.setMetadataRecursive#String-Map-PathTreeOperationOptions-Duration-Context
+        Map<String, String> metadata = Collections.singletonMap("metadata", "value");
+
+        PathTreeOperationResult metadataResult = client.setMetadataRecursive(directoryName, metadata,
+            new PathTreeOperationOptions().setContinueOnFailure(true), timeout, new Context(key1, value1));
+        System.out.printf("Updated %d paths, %d failed%n", metadataResult.getSucceededCount(),
+            metadataResult.getFailedCount());
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemClient.setMetadataRecursive#String-Map-PathTreeOperationOptions-Duration-Context
+
+        // BEGIN: com.azure.storage.file.datalake.DataLakeFileSystemClient.deleteDirectoryRecursive#String-PathTreeOperationOptions-Duration-Context
+        String continuationToken = null; // Set to the last reported token to resume an interrupted delete
+        PathTreeOperationOptions deleteOptions = new PathTreeOperationOptions()
+            .setContinuationToken(continuationToken);
+
+        PathTreeOperationResult deleteResult = client.deleteDirectoryRecursive(directoryName, deleteOptions, timeout,
+            new Context(key1, value1));
+        System.out.printf("Deleted %d paths%n", deleteResult.getSucceededCount());
+        // END: com.azure.storage.file.datalake.DataLakeFileSystemClient.deleteDirectoryRecursive#String-PathTreeOperationOptions-Duration-Context
+    }
+
 }
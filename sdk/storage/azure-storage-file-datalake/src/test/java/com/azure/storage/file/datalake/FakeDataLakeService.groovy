@@ -0,0 +1,161 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake
+
+import com.azure.core.http.HttpClient
+import com.azure.core.http.HttpHeaders
+import com.azure.core.http.HttpMethod
+import com.azure.core.http.HttpRequest
+import com.azure.core.http.HttpResponse
+import com.azure.core.implementation.util.FluxUtil
+import com.azure.core.test.http.MockHttpResponse
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentSkipListSet
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * In-memory file system of the "filesystem" file system of the "account" account, used by the tests that check how
+ * client side operations are split into requests. It records the requests it serves for the tests to assert on.
+ */
+class FakeDataLakeService implements HttpClient {
+    static final String FILE_SYSTEM_URL = "https://account.dfs.core.windows.net/filesystem"
+
+    Set<String> paths = new ConcurrentSkipListSet<>()
+    Set<String> directories = ConcurrentHashMap.newKeySet()
+    Map<String, byte[]> files = new ConcurrentHashMap<>()
+
+    Map<Long, byte[]> appends = new ConcurrentHashMap<>()
+    AtomicInteger concurrentAppends = new AtomicInteger()
+    AtomicInteger maxConcurrentAppends = new AtomicInteger()
+    AtomicInteger reads = new AtomicInteger()
+    int flushes
+
+    // Paths whose updates fail, and files deleted after being listed but before the listing is served.
+    Set<String> failing = ConcurrentHashMap.newKeySet()
+    Set<String> deletedBeforeListing = ConcurrentHashMap.newKeySet()
+    Map<String, Integer> updated = new ConcurrentHashMap<>()
+    List<String> deleted = Collections.synchronizedList([])
+    AtomicInteger concurrentUpdates = new AtomicInteger()
+    AtomicInteger maxConcurrentUpdates = new AtomicInteger()
+
+    @Override
+    Mono<HttpResponse> send(HttpRequest request) {
+        def url = request.getUrl()
+        def path = URLDecoder.decode(url.getPath().substring("/filesystem".length()).replaceFirst("^/", ""), "UTF-8")
+        def query = (url.getQuery() ?: "").split("&").collectEntries {
+            def pair = it.split("=", 2)
+            [(pair[0]): pair.length > 1 ? URLDecoder.decode(pair[1], "UTF-8") : ""]
+        }
+        def headers = new HttpHeaders()
+            .put("ETag", "0x8D7")
+            .put("Last-Modified", "Wed, 02 Jan 2019 00:00:00 GMT")
+
+        if (request.getHttpMethod() == HttpMethod.GET && query["resource"] == "filesystem") {
+            return list(request, query, headers)
+        } else if (request.getHttpMethod() == HttpMethod.GET) {
+            return read(request, path, headers)
+        } else if (request.getHttpMethod() == HttpMethod.DELETE) {
+            return delete(request, path, headers)
+        }
+
+        return FluxUtil.collectBytesInByteBufferStream(request.getBody() ?: Flux.empty()).flatMap { body ->
+            if (query["resource"] == "file") {
+                if (paths.contains(path) && request.getHeaders().getValue("If-None-Match") == "*") {
+                    return Mono.just(new MockHttpResponse(request, 409, headers))
+                }
+                paths.add(path)
+                files.put(path, new byte[0])
+                appends.clear()
+                return Mono.just(new MockHttpResponse(request, 201, headers))
+            } else if (query["action"] == "append") {
+                maxConcurrentAppends.accumulateAndGet(concurrentAppends.incrementAndGet(), { a, b -> Math.max(a, b) })
+                appends.put(Long.parseLong(query["position"]), body)
+                return Mono.delay(Duration.ofMillis(10))
+                    .doOnNext { concurrentAppends.decrementAndGet() }
+                    .thenReturn(new MockHttpResponse(request, 202, headers))
+            } else if (query["action"] == "flush") {
+                def output = new ByteArrayOutputStream()
+                while (output.size() < Long.parseLong(query["position"])) {
+                    output.write(appends.get((long) output.size()))
+                }
+                files.put(path, output.toByteArray())
+                flushes++
+                return Mono.just(new MockHttpResponse(request, 200, headers))
+            }
+            return update(request, path, headers)
+        }
+    }
+
+    /*
+    Any other request updates the properties, metadata or access control of a path.
+     */
+    Mono<HttpResponse> update(HttpRequest request, String path, HttpHeaders headers) {
+        if (failing.contains(path)) {
+            return error(request, headers, 403)
+        }
+        maxConcurrentUpdates.accumulateAndGet(concurrentUpdates.incrementAndGet(), { a, b -> Math.max(a, b) })
+        updated.merge(path, 1, { a, b -> a + b })
+        return Mono.delay(Duration.ofMillis(5))
+            .doOnNext { concurrentUpdates.decrementAndGet() }
+            .thenReturn(new MockHttpResponse(request, 200, headers))
+    }
+
+    Mono<HttpResponse> delete(HttpRequest request, String path, HttpHeaders headers) {
+        if (!paths.contains(path)) {
+            return error(request, headers, 404)
+        }
+        paths.removeIf { it == path || it.startsWith(path + "/") }
+        deleted.add(path)
+        return Mono.just(new MockHttpResponse(request, 200, headers))
+    }
+
+    Mono<HttpResponse> list(HttpRequest request, Map<String, String> query, HttpHeaders headers) {
+        def directory = query["directory"]
+        if (!paths.contains(directory)) {
+            return error(request, headers, 404)
+        }
+
+        def beneath = paths.findAll { it.startsWith(directory + "/") }
+        // Continue from the name of the next path, so paths deleted in the meantime don't shift the pages.
+        def continuation = query["continuation"]
+        def remaining = beneath.findAll { continuation == null || it >= continuation }
+        def maxResults = query["maxResults"] == null ? 5000 : Integer.parseInt(query["maxResults"])
+        def page = remaining.take(maxResults)
+        if (remaining.size() > maxResults) {
+            headers.put("x-ms-continuation", remaining[maxResults])
+        }
+
+        paths.removeAll(deletedBeforeListing)
+        def body = "{\"paths\":[" + page.collect {
+            "{\"name\":\"" + it + "\",\"isDirectory\":\"" + directories.contains(it) + "\"," +
+                "\"lastModified\":\"Wed, 02 Jan 2019 00:00:00 GMT\",\"contentLength\":\"0\"}"
+        }.join(",") + "]}"
+        headers.put("Content-Type", "application/json")
+        return Mono.just(new MockHttpResponse(request, 200, headers, body.getBytes(StandardCharsets.UTF_8)))
+    }
+
+    Mono<HttpResponse> read(HttpRequest request, String path, HttpHeaders headers) {
+        reads.incrementAndGet()
+        def file = files.get(path)
+        def range = request.getHeaders().getValue("x-ms-range") =~ /bytes=(\d+)-(\d+)/
+        range.find()
+        int start = Integer.parseInt(range.group(1))
+        int end = Math.min(Integer.parseInt(range.group(2)), file.length - 1)
+        def body = Arrays.copyOfRange(file, start, end + 1)
+        headers.put("Content-Range", "bytes " + start + "-" + end + "/" + file.length)
+            .put("Content-Length", String.valueOf(body.length))
+            .put("x-ms-blob-type", "BlockBlob")
+        return Mono.just(new MockHttpResponse(request, 206, headers, body))
+    }
+
+    static Mono<HttpResponse> error(HttpRequest request, HttpHeaders headers, int statusCode) {
+        headers.put("x-ms-error-code", statusCode == 404 ? "PathNotFound" : "AuthorizationFailure")
+        return Mono.just(new MockHttpResponse(request, statusCode, headers))
+    }
+}
@@ -0,0 +1,134 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake
+
+import com.azure.storage.common.StorageSharedKeyCredential
+import com.azure.storage.file.datalake.implementation.models.StorageErrorException
+import com.azure.storage.file.datalake.models.ParallelTransferOptions
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.file.Files
+
+class ParallelTransferTest extends Specification {
+    FakeDataLakeService service = new FakeDataLakeService()
+    DataLakeFileAsyncClient client = new DataLakePathClientBuilder()
+        .endpoint(FakeDataLakeService.FILE_SYSTEM_URL + "/file")
+        .credential(new StorageSharedKeyCredential("account", Base64.getEncoder().encodeToString(new byte[32])))
+        .httpClient(service)
+        .buildFileAsyncClient()
+
+    @Unroll
+    def "Upload from file"() {
+        setup:
+        def data = randomData(dataSize)
+        def file = Files.createTempFile("datalake", ".tmp").toFile()
+        file.deleteOnExit()
+        file.bytes = data
+
+        when:
+        client.uploadFromFile(file.getPath(), new ParallelTransferOptions(blockSize, 4, null), null, null, null)
+            .block()
+
+        then:
+        service.files["file"] == data
+        service.appends.size() == appendCount
+        service.appends.values().every { it.length <= blockSize }
+        service.flushes == 1
+        service.maxConcurrentAppends.get() <= 4
+        service.maxConcurrentAppends.get() == Math.min(appendCount, 4)
+
+        where:
+        dataSize | blockSize || appendCount
+        0        | 10        || 0
+        10       | 10        || 1
+        100      | 7         || 15
+        1000     | 100       || 10
+    }
+
+    @Unroll
+    def "Upload"() {
+        setup:
+        def data = randomData(dataSize)
+        def progress = []
+
+        when:
+        def pathInfo = client.uploadWithResponse(Flux.fromIterable(split(data, sourceBufferSize)),
+            new ParallelTransferOptions(blockSize, 2, { progress.add(it) }), null, null, null).block().getValue()
+
+        then:
+        pathInfo.getETag() == "0x8D7"
+        service.files["file"] == data
+        service.appends.size() == appendCount
+        service.appends.values().every { it.length <= blockSize }
+        service.flushes == 1
+        progress.isEmpty() ? dataSize == 0 : progress.max() == dataSize
+
+        where:
+        dataSize | sourceBufferSize | blockSize || appendCount
+        0        | 1                | 64        || 0
+        10       | 10               | 64        || 1
+        100      | 7                | 64        || 2
+        1000     | 13               | 100       || 10
+        5000     | 5000             | 1024      || 5
+    }
+
+    def "Upload does not overwrite by default"() {
+        setup:
+        service.paths.add("file")
+
+        when:
+        client.upload(Flux.just(ByteBuffer.wrap(randomData(10))), null).block()
+
+        then:
+        thrown(StorageErrorException)
+        service.appends.isEmpty()
+        service.flushes == 0
+
+        when:
+        client.upload(Flux.just(ByteBuffer.wrap(randomData(10))), null, true).block()
+
+        then:
+        service.files["file"].length == 10
+    }
+
+    @Unroll
+    def "Read to file"() {
+        setup:
+        service.files["file"] = randomData(dataSize)
+        def file = new File(Files.createTempDirectory("datalake").toFile(), "file")
+        file.deleteOnExit()
+
+        when:
+        def properties = client.readToFileWithResponse(file.getPath(), null,
+            new ParallelTransferOptions(blockSize, null, null), null, null, false).block().getValue()
+
+        then:
+        file.bytes == service.files["file"]
+        properties.getETag() == "0x8D7"
+        service.reads.get() == readCount
+
+        where:
+        dataSize | blockSize || readCount
+        10       | 64        || 1
+        100      | 7         || 15
+        1000     | 100       || 10
+    }
+
+    byte[] randomData(int size) {
+        def data = new byte[size]
+        new Random().nextBytes(data)
+        return data
+    }
+
+    List<ByteBuffer> split(byte[] data, int bufferSize) {
+        def buffers = []
+        for (int offset = 0; offset < data.length; offset += bufferSize) {
+            buffers.add(ByteBuffer.wrap(data, offset, Math.min(bufferSize, data.length - offset)).slice())
+        }
+        return buffers.isEmpty() ? [ByteBuffer.allocate(0)] : buffers
+    }
+}
@@ -0,0 +1,201 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.datalake
+
+import com.azure.core.exception.HttpResponseException
+import com.azure.core.http.policy.HttpPipelinePolicy
+import com.azure.core.util.Context
+import com.azure.storage.common.StorageSharedKeyCredential
+import com.azure.storage.file.datalake.implementation.models.StorageErrorException
+import com.azure.storage.file.datalake.models.PathAccessControl
+import com.azure.storage.file.datalake.models.PathTreeOperationOptions
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PathTreeOperationTest extends Specification {
+    FakeDataLakeService service = new FakeDataLakeService()
+    DataLakeFileSystemAsyncClient client = new DataLakeFileSystemClientBuilder()
+        .endpoint(FakeDataLakeService.FILE_SYSTEM_URL)
+        .credential(new StorageSharedKeyCredential("account", Base64.getEncoder().encodeToString(new byte[32])))
+        .httpClient(service)
+        .buildAsyncClient()
+
+    def setup() {
+        service.paths.addAll(["dir", "dir/a", "dir/a/1", "dir/a/2", "dir/b", "dir/b/1", "dir/b/2", "dir/b/3", "dir/c"])
+        service.directories.addAll(["dir", "dir/a", "dir/b"])
+    }
+
+    @Unroll
+    def "Set access control recursive"() {
+        setup:
+        def progress = []
+        def options = new PathTreeOperationOptions()
+            .setBatchSize(batchSize)
+            .setMaxConcurrency(maxConcurrency)
+            .setProgressHandler({ progress.add(it) })
+
+        when:
+        def result = client.setAccessControlRecursive("dir", new PathAccessControl().setPermissions("0766"), options)
+            .block()
+
+        then:
+        service.updated.keySet() == service.paths
+        service.updated.values().every { it == 1 }
+        service.maxConcurrentUpdates.get() <= maxConcurrency
+        result.getSucceededCount() == 9
+        result.getFailedCount() == 0
+        result.getContinuationToken() == null
+        result.getPathsPerSecond() > 0
+        progress.size() == batchCount
+        progress*.getSucceededCount() == (1..batchCount).collect { Math.min(1 + it * batchSize, 9) as long }
+        progress.last().is(result)
+
+        where:
+        batchSize | maxConcurrency || batchCount
+        100       | 16             || 1
+        3         | 2              || 3
+        1         | 1              || 8
+    }
+
+    def "Set access control recursive resumes from a continuation token"() {
+        setup:
+        def options = new PathTreeOperationOptions().setBatchSize(3)
+
+        when:
+        def first = client.setAccessControlRecursive("dir", new PathAccessControl().setPermissions("0766"),
+            options.setProgressHandler({ throw new IllegalStateException("interrupted") }))
+            .onErrorResume({ Mono.empty() }).block()
+        def checkpoint = service.updated.size()
+        service.updated.clear()
+
+        then:
+        first == null
+        checkpoint == 4
+
+        when:
+        def result = client.setAccessControlRecursive("dir", new PathAccessControl().setPermissions("0766"),
+            new PathTreeOperationOptions().setBatchSize(3).setContinuationToken("dir/b")).block()
+
+        then:
+        service.updated.keySet() == ["dir/b", "dir/b/1", "dir/b/2", "dir/b/3", "dir/c"] as Set
+        result.getSucceededCount() == 5
+    }
+
+    def "Stops at the first failure"() {
+        setup:
+        service.failing.add("dir/a/2")
+
+        when:
+        client.setMetadataRecursive("dir", ["key": "value"], new PathTreeOperationOptions().setBatchSize(3)
+            .setMaxConcurrency(1)).block()
+
+        then:
+        thrown(HttpResponseException)
+        service.updated.keySet() == ["dir", "dir/a", "dir/a/1"] as Set
+    }
+
+    def "Continues on failure"() {
+        setup:
+        service.failing.addAll(["dir/a/2", "dir/b/3"])
+        def progress = []
+
+        when:
+        def result = client.setMetadataRecursive("dir", ["key": "value"], new PathTreeOperationOptions()
+            .setBatchSize(3).setContinueOnFailure(true).setProgressHandler({ progress.add(it) })).block()
+
+        then:
+        result.getSucceededCount() == 7
+        result.getFailedCount() == 2
+        progress*.getBatchFailures()*.keySet() == [["dir/a/2"] as Set, [] as Set, ["dir/b/3"] as Set]
+        progress.every { it.getBatchFailures().values().every { it instanceof HttpResponseException } }
+        service.updated.keySet() == service.paths.findAll { !service.failing.contains(it) } as Set
+    }
+
+    def "Set metadata recursive passes the context to every path"() {
+        setup:
+        def contextValues = Collections.synchronizedList([])
+        def syncClient = new DataLakeFileSystemClientBuilder()
+            .endpoint(FakeDataLakeService.FILE_SYSTEM_URL)
+            .credential(new StorageSharedKeyCredential("account", Base64.getEncoder().encodeToString(new byte[32])))
+            .httpClient(service)
+            .addPolicy({ context, next ->
+                if (context.getHttpRequest().getUrl().getQuery()?.contains("action=setProperties")) {
+                    contextValues.add(context.getData("key").orElse(null))
+                }
+                return next.process()
+            } as HttpPipelinePolicy)
+            .buildClient()
+
+        when:
+        def result = syncClient.setMetadataRecursive("dir", ["key": "value"], new PathTreeOperationOptions()
+            .setBatchSize(3), null, new Context("key", "value"))
+
+        then:
+        result.getSucceededCount() == 9
+        service.updated.keySet() == service.paths
+        contextValues.size() == 9
+        contextValues.every { it == "value" }
+    }
+
+    def "Delete directory recursive deletes files before the directory"() {
+        setup:
+        def files = service.paths.findAll { !service.directories.contains(it) } as Set
+        def progress = []
+
+        when:
+        def result = client.deleteDirectoryRecursive("dir", new PathTreeOperationOptions().setBatchSize(3)
+            .setProgressHandler({ progress.add(it) })).block()
+
+        then:
+        service.paths.isEmpty()
+        service.deleted.size() == 7
+        service.deleted.take(6) as Set == files
+        service.deleted.last() == "dir"
+        result.getSucceededCount() == 9
+        progress*.getContinuationToken() == ["dir/b", "dir/b/3", null, null]
+        progress.last().getContinuationToken() == null
+    }
+
+    def "Delete directory recursive tolerates files already deleted"() {
+        setup:
+        service.deletedBeforeListing.add("dir/b/2")
+
+        when:
+        def result = client.deleteDirectoryRecursive("dir", null).block()
+
+        then:
+        result.getSucceededCount() == 9
+        result.getFailedCount() == 0
+        service.paths.isEmpty()
+    }
+
+    def "Missing directory fails"() {
+        when:
+        client.deleteDirectoryRecursive("missing", null).block()
+
+        then:
+        thrown(StorageErrorException)
+    }
+
+    def "Invalid options"() {
+        when:
+        new PathTreeOperationOptions().setMaxConcurrency(0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        new PathTreeOperationOptions().setBatchSize(0)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        client.setAccessControlRecursive("dir", null, null).block()
+
+        then:
+        thrown(NullPointerException)
+    }
+}
@@ -33,6 +33,7 @@ import com.azure.storage.file.share.implementation.models.FilesUploadRangeFromUR
 import com.azure.storage.file.share.implementation.models.FilesUploadRangeResponse;
 import com.azure.storage.file.share.implementation.models.ShareFileRangeWriteType;
 import com.azure.storage.file.share.models.CopyStatusType;
+import com.azure.storage.file.share.models.ParallelTransferOptions;
 import com.azure.storage.file.share.models.ShareFileCopyInfo;
 import com.azure.storage.file.share.models.ShareFileDownloadAsyncResponse;
 import com.azure.storage.file.share.models.ShareFileHttpHeaders;
@@ -47,13 +48,16 @@ import com.azure.storage.file.share.models.HandleItem;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 import reactor.core.scheduler.Schedulers;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.OpenOption;
@@ -66,7 +70,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -96,6 +103,12 @@ public class ShareFileAsyncClient {
     private final ClientLogger logger = new ClientLogger(ShareFileAsyncClient.class);
     static final long FILE_DEFAULT_BLOCK_SIZE = 4 * 1024 * 1024L;
     private static final long DOWNLOAD_UPLOAD_CHUNK_TIMEOUT = 300;
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /**
+     * Indicates the maximum number of bytes that can be sent in a call to upload a range.
+     */
+    public static final int MAX_PUT_RANGE_BYTES = 4 * Constants.MB;
 
     private final AzureFileStorageImpl azureFileStorageClient;
     private final String shareName;
@@ -433,28 +446,69 @@ public class ShareFileAsyncClient {
     public Mono<Response<ShareFileProperties>> downloadToFileWithResponse(String downloadFilePath,
         ShareFileRange range) {
         try {
-            return withContext(context -> downloadToFileWithResponse(downloadFilePath, range, context));
+            return downloadToFileWithResponse(downloadFilePath, range, null);
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    /**
+     * Downloads a file from the system, including its metadata and properties into a file specified by the path. The
+     * file is downloaded in ranges, several of which are downloaded at the same time.
+     *
+     * <p>The file will be created and must not exist, if the file already exists a {@link FileAlreadyExistsException}
+     * will be thrown.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * <p>Download the file in 1 MB ranges, 16 at a time, to current folder. </p>
+     *
+     * {@codesnippet com.azure.storage.file.share.ShareFileAsyncClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/get-file">Azure Docs</a>.</p>
+     *
+     * @param downloadFilePath The path where store the downloaded file
+     * @param range Optional byte range which returns file data only from the specified range.
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to configure the size and concurrency of the
+     * ranges downloaded and report the progress of the download.
+     * @return A response containing the file properties.
+     */
+    public Mono<Response<ShareFileProperties>> downloadToFileWithResponse(String downloadFilePath,
+        ShareFileRange range, ParallelTransferOptions parallelTransferOptions) {
+        try {
+            return withContext(context -> downloadToFileWithResponse(downloadFilePath, range, parallelTransferOptions,
+                context));
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
     }
 
     Mono<Response<ShareFileProperties>> downloadToFileWithResponse(String downloadFilePath, ShareFileRange range,
-                                                                   Context context) {
+        ParallelTransferOptions parallelTransferOptions, Context context) {
         return Mono.using(() -> channelSetup(downloadFilePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW),
             channel -> getPropertiesWithResponse(context).flatMap(response ->
-                downloadResponseInChunk(response, channel, range, context)), this::channelCleanUp);
+                downloadResponseInChunk(response, channel, range, parallelTransferOptions, context)),
+            this::channelCleanUp);
     }
 
     private Mono<Response<ShareFileProperties>> downloadResponseInChunk(Response<ShareFileProperties> response,
                                                                         AsynchronousFileChannel channel,
-                                                                        ShareFileRange range, Context context) {
+                                                                        ShareFileRange range,
+                                                                        ParallelTransferOptions parallelTransferOptions,
+                                                                        Context context) {
+        int rangeSize = getRangeSize(parallelTransferOptions);
+        int maxConcurrency = getMaxConcurrency(parallelTransferOptions);
+        ProgressReceiver progressReceiver = parallelTransferOptions == null
+            ? null : parallelTransferOptions.getProgressReceiver();
+        AtomicLong totalProgress = new AtomicLong();
+
         return Mono.justOrEmpty(range).switchIfEmpty(Mono.just(new ShareFileRange(0, response.getValue()
             .getContentLength())))
             .map(currentRange -> {
                 List<ShareFileRange> chunks = new ArrayList<>();
-                for (long pos = currentRange.getStart(); pos < currentRange.getEnd(); pos += FILE_DEFAULT_BLOCK_SIZE) {
-                    long count = FILE_DEFAULT_BLOCK_SIZE;
+                for (long pos = currentRange.getStart(); pos < currentRange.getEnd(); pos += rangeSize) {
+                    long count = rangeSize;
                     if (pos + count > currentRange.getEnd()) {
                         count = currentRange.getEnd() - pos;
                     }
@@ -470,7 +524,9 @@ public class ShareFileAsyncClient {
                     .subscribeOn(Schedulers.elastic())
                     .timeout(Duration.ofSeconds(DOWNLOAD_UPLOAD_CHUNK_TIMEOUT))
                     .retry(3, throwable -> throwable instanceof IOException
-                        || throwable instanceof TimeoutException)))
+                        || throwable instanceof TimeoutException))
+                .doOnSuccess(ignored -> reportProgress(progressReceiver, totalProgress,
+                    chunk.getEnd() - chunk.getStart() + 1)), maxConcurrency)
             .then(Mono.just(response));
     }
 
@@ -1032,26 +1088,88 @@ public class ShareFileAsyncClient {
      */
     public Mono<Void> uploadFromFile(String uploadFilePath) {
         try {
-            return Mono.using(() -> channelSetup(uploadFilePath, StandardOpenOption.READ),
-                channel -> Flux.fromIterable(sliceFile(uploadFilePath))
-                    .flatMap(chunk -> uploadWithResponse(FluxUtil.readFile(channel, chunk.getStart(),
-                        chunk.getEnd() - chunk.getStart() + 1), chunk.getEnd() - chunk.getStart() + 1,
-                        chunk.getStart())
-                        .timeout(Duration.ofSeconds(DOWNLOAD_UPLOAD_CHUNK_TIMEOUT))
-                        .retry(3,
-                            throwable -> throwable instanceof IOException || throwable instanceof TimeoutException))
-                    .then(), this::channelCleanUp);
+            return uploadFromFile(uploadFilePath, null);
         } catch (RuntimeException ex) {
             return monoError(logger, ex);
         }
     }
 
-    private List<ShareFileRange> sliceFile(String path) {
+    /**
+     * Uploads file to storage file service. The file is uploaded in ranges, several of which are uploaded at the same
+     * time.
+     *
+     * <p>Each range is read into a buffer that is reused once the range has been uploaded, so the upload holds at most
+     * {@code rangeSize * maxConcurrency} bytes in memory however large the file is.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * <p> Upload the file from the source file path in 1 MB ranges, 16 at a time. </p>
+     *
+     * {@codesnippet com.azure.storage.file.share.ShareFileAsyncClient.uploadFromFile#String-ParallelTransferOptions}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/create-file">Azure Docs Create File</a>
+     * and
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/put-range">Azure Docs Upload</a>.</p>
+     *
+     * @param uploadFilePath The path where store the source file to upload
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to configure the size and concurrency of the
+     * ranges uploaded and report the progress of the upload.
+     * @return An empty response.
+     * @throws UncheckedIOException If an I/O error occurs.
+     * @throws IllegalArgumentException If the range size is greater than {@link #MAX_PUT_RANGE_BYTES}.
+     */
+    public Mono<Void> uploadFromFile(String uploadFilePath, ParallelTransferOptions parallelTransferOptions) {
+        try {
+            return withContext(context -> uploadFromFile(uploadFilePath, parallelTransferOptions, context));
+        } catch (RuntimeException ex) {
+            return monoError(logger, ex);
+        }
+    }
+
+    Mono<Void> uploadFromFile(String uploadFilePath, ParallelTransferOptions parallelTransferOptions,
+        Context context) {
+        int rangeSize = getRangeSize(parallelTransferOptions);
+        // Downloads can use larger ranges, but a single Put Range request can't write more than this.
+        StorageImplUtils.assertInBounds("parallelTransferOptions.rangeSize", rangeSize, 1, MAX_PUT_RANGE_BYTES);
+        int maxConcurrency = getMaxConcurrency(parallelTransferOptions);
+        ProgressReceiver progressReceiver = parallelTransferOptions == null
+            ? null : parallelTransferOptions.getProgressReceiver();
+        AtomicLong totalProgress = new AtomicLong();
+
+        return Mono.using(() -> channelSetup(uploadFilePath, StandardOpenOption.READ),
+            channel -> {
+                List<ShareFileRange> ranges = sliceFile(uploadFilePath, rangeSize);
+                int bufferSize = ranges.isEmpty() ? 0 : (int) (ranges.get(0).getEnd() + 1);
+                // At most maxConcurrency ranges are in flight, so the pool never holds more buffers than that.
+                Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+                return Flux.fromIterable(ranges)
+                    .flatMap(chunk -> {
+                        long count = chunk.getEnd() - chunk.getStart() + 1;
+                        ByteBuffer pooledBuffer = bufferPool.poll();
+                        ByteBuffer buffer = pooledBuffer == null ? ByteBuffer.allocate(bufferSize) : pooledBuffer;
+                        buffer.clear().limit((int) count);
+
+                        return readRange(channel, buffer, chunk.getStart())
+                            .flatMap(data -> uploadWithResponse(Flux.defer(() -> Flux.just(data.duplicate())), count,
+                                chunk.getStart(), context)
+                                .timeout(Duration.ofSeconds(DOWNLOAD_UPLOAD_CHUNK_TIMEOUT))
+                                .retry(3, throwable -> throwable instanceof IOException
+                                    || throwable instanceof TimeoutException))
+                            .doOnSuccess(ignored -> reportProgress(progressReceiver, totalProgress, count))
+                            .doFinally(signal -> bufferPool.offer(buffer));
+                    }, maxConcurrency)
+                    .then();
+            }, this::channelCleanUp);
+    }
+
+    private List<ShareFileRange> sliceFile(String path, int rangeSize) {
         File file = new File(path);
         assert file.exists();
         List<ShareFileRange> ranges = new ArrayList<>();
-        for (long pos = 0; pos < file.length(); pos += FILE_DEFAULT_BLOCK_SIZE) {
-            long count = FILE_DEFAULT_BLOCK_SIZE;
+        for (long pos = 0; pos < file.length(); pos += rangeSize) {
+            long count = rangeSize;
             if (pos + count > file.length()) {
                 count = file.length() - pos;
             }
@@ -1060,6 +1178,53 @@ public class ShareFileAsyncClient {
         return ranges;
     }
 
+    /*
+    Fills the remaining space of a buffer with the file content at an offset and flips it for reading.
+     */
+    private static Mono<ByteBuffer> readRange(AsynchronousFileChannel channel, ByteBuffer buffer, long offset) {
+        return Mono.create(sink -> channel.read(buffer, offset, sink,
+            new CompletionHandler<Integer, MonoSink<ByteBuffer>>() {
+                @Override
+                public void completed(Integer bytesRead, MonoSink<ByteBuffer> readSink) {
+                    if (bytesRead < 0) {
+                        readSink.error(new EOFException("The file ended before the range could be read."));
+                    } else if (buffer.hasRemaining()) {
+                        channel.read(buffer, offset + buffer.position(), readSink, this);
+                    } else {
+                        buffer.flip();
+                        readSink.success(buffer);
+                    }
+                }
+
+                @Override
+                public void failed(Throwable exc, MonoSink<ByteBuffer> readSink) {
+                    readSink.error(exc);
+                }
+            }));
+    }
+
+    private static int getRangeSize(ParallelTransferOptions parallelTransferOptions) {
+        return parallelTransferOptions == null || parallelTransferOptions.getRangeSize() == null
+            ? (int) FILE_DEFAULT_BLOCK_SIZE : parallelTransferOptions.getRangeSize();
+    }
+
+    private static int getMaxConcurrency(ParallelTransferOptions parallelTransferOptions) {
+        return parallelTransferOptions == null || parallelTransferOptions.getMaxConcurrency() == null
+            ? DEFAULT_MAX_CONCURRENCY : parallelTransferOptions.getMaxConcurrency();
+    }
+
+    /*
+    Ranges complete concurrently, so the total is added to and reported under a lock to keep the reported progress
+    from going backwards.
+     */
+    private static void reportProgress(ProgressReceiver progressReceiver, AtomicLong totalProgress, long bytes) {
+        if (progressReceiver != null) {
+            synchronized (totalProgress) {
+                progressReceiver.reportProgress(totalProgress.addAndGet(bytes));
+            }
+        }
+    }
+
     /**
      * List of valid ranges for a file.
      *
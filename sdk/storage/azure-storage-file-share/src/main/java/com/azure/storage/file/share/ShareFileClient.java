@@ -13,6 +13,7 @@ import com.azure.core.util.polling.SyncPoller;
 import com.azure.storage.common.StorageSharedKeyCredential;
 import com.azure.storage.common.Utility;
 import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.file.share.models.ParallelTransferOptions;
 import com.azure.storage.file.share.models.ShareFileCopyInfo;
 import com.azure.storage.file.share.models.ShareFileDownloadResponse;
 import com.azure.storage.file.share.models.ShareFileHttpHeaders;
@@ -103,7 +104,24 @@ public class ShareFileClient {
      * @throws ShareStorageException If a storage service error occurred.
      */
     public final StorageFileInputStream openInputStream(ShareFileRange range) {
-        return new StorageFileInputStream(shareFileAsyncClient, range.getStart(), range.getEnd());
+        return openInputStream(range, false);
+    }
+
+    /**
+     * Opens a file input stream to download the specified range of the file.
+     * <p>
+     * In read-ahead mode, the stream requests the next chunk of the file as soon as it starts reading the current
+     * one, so sequential reads don't wait on a request for each chunk.
+     *
+     * @param range {@link ShareFileRange}
+     * @param readAhead Whether the stream downloads the next chunk while the current one is read.
+     * @return An <code>InputStream</code> object that represents the stream to use for reading from the file.
+     * @throws ShareStorageException If a storage service error occurred.
+     */
+    public final StorageFileInputStream openInputStream(ShareFileRange range, boolean readAhead) {
+        // The end of the range is inclusive, the stream takes the number of bytes to read.
+        Long length = range.getEnd() == null ? null : range.getEnd() - range.getStart() + 1;
+        return new StorageFileInputStream(shareFileAsyncClient, range.getStart(), length, readAhead);
     }
 
     /**
@@ -298,8 +316,38 @@ public class ShareFileClient {
      */
     public Response<ShareFileProperties> downloadToFileWithResponse(String downloadFilePath, ShareFileRange range,
                                                                     Duration timeout, Context context) {
+        return downloadToFileWithResponse(downloadFilePath, range, null, timeout, context);
+    }
+
+    /**
+     * Downloads a file from the system, including its metadata and properties into a file specified by the path. The
+     * file is downloaded in ranges, several of which are downloaded at the same time.
+     *
+     * <p>The file will be created and must not exist, if the file already exists a {@link FileAlreadyExistsException}
+     * will be thrown.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * <p>Download the file in 1 MB ranges, 16 at a time, to current folder. </p>
+     *
+     * {@codesnippet com.azure.storage.file.share.ShareFileClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions-Duration-Context}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/get-file">Azure Docs</a>.</p>
+     *
+     * @param downloadFilePath The path where store the downloaded file
+     * @param range Optional byte range which returns file data only from the specified range.
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to configure the size and concurrency of the
+     * ranges downloaded and report the progress of the download.
+     * @param timeout An optional timeout applied to the operation. If a response is not returned before the timeout
+     * concludes a {@link RuntimeException} will be thrown.
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @return The response of the file properties.
+     */
+    public Response<ShareFileProperties> downloadToFileWithResponse(String downloadFilePath, ShareFileRange range,
+        ParallelTransferOptions parallelTransferOptions, Duration timeout, Context context) {
         Mono<Response<ShareFileProperties>> response = shareFileAsyncClient.downloadToFileWithResponse(downloadFilePath,
-            range, context);
+            range, parallelTransferOptions, context);
         return StorageImplUtils.blockWithOptionalTimeout(response, timeout);
     }
 
@@ -757,6 +805,39 @@ public class ShareFileClient {
         shareFileAsyncClient.uploadFromFile(uploadFilePath).block();
     }
 
+    /**
+     * Uploads file to storage file service. The file is uploaded in ranges, several of which are uploaded at the same
+     * time.
+     *
+     * <p>Each range is read into a buffer that is reused once the range has been uploaded, so the upload holds at most
+     * {@code rangeSize * maxConcurrency} bytes in memory however large the file is.</p>
+     *
+     * <p><strong>Code Samples</strong></p>
+     *
+     * <p>Upload the file from the source file path in 1 MB ranges, 16 at a time. </p>
+     *
+     * {@codesnippet com.azure.storage.file.share.ShareFileClient.uploadFromFile#String-ParallelTransferOptions-Duration-Context}
+     *
+     * <p>For more information, see the
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/create-file">Azure Docs Create File</a>
+     * and
+     * <a href="https://docs.microsoft.com/en-us/rest/api/storageservices/put-range">Azure Docs Upload</a>.</p>
+     *
+     * @param uploadFilePath The path where store the source file to upload
+     * @param parallelTransferOptions {@link ParallelTransferOptions} to configure the size and concurrency of the
+     * ranges uploaded and report the progress of the upload.
+     * @param timeout An optional timeout applied to the operation. If a response is not returned before the timeout
+     * concludes a {@link RuntimeException} will be thrown.
+     * @param context Additional context that is passed through the Http pipeline during the service call.
+     * @throws IllegalArgumentException If the range size is greater than
+     * {@link ShareFileAsyncClient#MAX_PUT_RANGE_BYTES}.
+     */
+    public void uploadFromFile(String uploadFilePath, ParallelTransferOptions parallelTransferOptions,
+        Duration timeout, Context context) {
+        Mono<Void> response = shareFileAsyncClient.uploadFromFile(uploadFilePath, parallelTransferOptions, context);
+        StorageImplUtils.blockWithOptionalTimeout(response, timeout);
+    }
+
     /**
      * List of valid ranges for a file.
      *
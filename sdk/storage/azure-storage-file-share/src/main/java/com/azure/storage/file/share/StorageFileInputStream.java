@@ -10,6 +10,9 @@ import com.azure.storage.common.StorageInputStream;
 import com.azure.storage.file.share.models.ShareFileRange;
 import com.azure.storage.file.share.models.ShareStorageException;
 
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
 
@@ -17,9 +20,20 @@ import java.nio.ByteBuffer;
  * Provides an input stream to read a given storage file resource.
  */
 public class StorageFileInputStream extends StorageInputStream {
+    private static final int CHUNK_SIZE = 4 * Constants.MB;
+
     private final ClientLogger logger = new ClientLogger(StorageFileInputStream.class);
 
     private final ShareFileAsyncClient shareFileAsyncClient;
+    private final boolean readAhead;
+    private final long streamEnd;
+
+    /**
+     * Holds the read of the chunk following the current buffer when reading ahead.
+     */
+    private MonoProcessor<ByteBuffer> nextRead;
+    private long nextReadOffset;
+    private int nextReadLength;
 
     /**
      * Initializes a new instance of the StorageFileInputStream class.
@@ -45,9 +59,33 @@ public class StorageFileInputStream extends StorageInputStream {
      */
     StorageFileInputStream(final ShareFileAsyncClient shareFileAsyncClient, long fileRangeOffset, Long fileRangeLength)
         throws ShareStorageException {
-        super(fileRangeOffset, fileRangeLength, 4 * Constants.MB,
+        this(shareFileAsyncClient, fileRangeOffset, fileRangeLength, false);
+    }
+
+    /**
+     * Initializes a new instance of the StorageFileInputStream class. Note that if {@code fileRangeOffset} is not
+     * {@code 0} or {@code fileRangeLength} is not {@code null}, there will be no content MD5 verification.
+     *
+     * @param shareFileAsyncClient A {@link ShareFileAsyncClient} object which represents the blob that this stream is
+     * associated with.
+     * @param fileRangeOffset The offset of file range data to begin stream.
+     * @param fileRangeLength How much data the stream should return after fileRangeOffset.
+     * @param readAhead Whether the next chunk is downloaded while the current one is read.
+     * @throws ShareStorageException An exception representing any error which occurred during the operation.
+     */
+    StorageFileInputStream(final ShareFileAsyncClient shareFileAsyncClient, long fileRangeOffset, Long fileRangeLength,
+        boolean readAhead) throws ShareStorageException {
+        this(shareFileAsyncClient, fileRangeOffset, fileRangeLength, readAhead,
             shareFileAsyncClient.getProperties().block().getContentLength());
+    }
+
+    private StorageFileInputStream(final ShareFileAsyncClient shareFileAsyncClient, long fileRangeOffset,
+        Long fileRangeLength, boolean readAhead, long contentLength) {
+        super(fileRangeOffset, fileRangeLength, CHUNK_SIZE, contentLength);
         this.shareFileAsyncClient = shareFileAsyncClient;
+        this.readAhead = readAhead;
+        this.streamEnd = fileRangeLength == null ? contentLength
+            : Math.min(contentLength, fileRangeOffset + fileRangeLength);
     }
 
     /**
@@ -58,11 +96,24 @@ public class StorageFileInputStream extends StorageInputStream {
     @Override
     protected synchronized ByteBuffer dispatchRead(final int readLength, final long offset) {
         try {
-            ByteBuffer currentBuffer = this.shareFileAsyncClient
-                .downloadWithResponse(new ShareFileRange(offset, offset + readLength - 1), false)
-                .flatMap(response -> FluxUtil.collectBytesInByteBufferStream(response.getValue())
-                    .map(ByteBuffer::wrap))
-                .block();
+            ByteBuffer currentBuffer;
+            if (this.nextRead != null && this.nextReadOffset == offset && this.nextReadLength == readLength) {
+                currentBuffer = this.nextRead.block();
+            } else {
+                // The stream was repositioned since the read ahead was started, so its chunk isn't needed.
+                cancelNextRead();
+                currentBuffer = read(readLength, offset).block();
+            }
+            this.nextRead = null;
+
+            long nextOffset = offset + readLength;
+            if (this.readAhead && nextOffset < this.streamEnd) {
+                this.nextReadOffset = nextOffset;
+                this.nextReadLength = (int) Math.min(CHUNK_SIZE, this.streamEnd - nextOffset);
+                this.nextRead = read(this.nextReadLength, nextOffset).toProcessor();
+                // An error of the read ahead is thrown by block() once the chunk is read, not when it occurs.
+                this.nextRead.subscribe(buffer -> { }, error -> { });
+            }
 
             this.bufferSize = readLength;
             this.bufferStartOffset = offset;
@@ -73,4 +124,27 @@ public class StorageFileInputStream extends StorageInputStream {
             throw logger.logExceptionAsError(new RuntimeException(this.lastError.getMessage()));
         }
     }
+
+    /**
+     * Closes this input stream, cancelling the read ahead of the next chunk if one is in progress.
+     */
+    @Override
+    public synchronized void close() {
+        cancelNextRead();
+        super.close();
+    }
+
+    private Mono<ByteBuffer> read(int readLength, long offset) {
+        return this.shareFileAsyncClient
+            .downloadWithResponse(new ShareFileRange(offset, offset + readLength - 1), false)
+            .flatMap(response -> FluxUtil.collectBytesInByteBufferStream(response.getValue())
+                .map(ByteBuffer::wrap));
+    }
+
+    private void cancelNextRead() {
+        if (this.nextRead != null) {
+            this.nextRead.dispose();
+            this.nextRead = null;
+        }
+    }
 }
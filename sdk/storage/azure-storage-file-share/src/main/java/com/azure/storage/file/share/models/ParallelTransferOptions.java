@@ -0,0 +1,74 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.share.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.storage.common.implementation.StorageImplUtils;
+import com.azure.storage.file.share.ProgressReceiver;
+import com.azure.storage.file.share.ShareFileAsyncClient;
+
+/**
+ * This class contains configuration used to parallelize the transfer of a file in ranges. Null may be passed in place
+ * of an object of this type, or for any of its values, if the defaults are desirable.
+ */
+@Immutable
+public final class ParallelTransferOptions {
+
+    private final Integer rangeSize;
+    private final Integer maxConcurrency;
+    private final ProgressReceiver progressReceiver;
+
+    /**
+     * Creates a new {@link ParallelTransferOptions}.
+     *
+     * @param rangeSize The size of each range of the file that is transferred in a single request. Larger ranges take
+     * fewer requests, but each request takes longer. Uploads buffer each range in memory, so they may use up to
+     * rangeSize * maxConcurrency bytes, and their ranges can be at most
+     * {@link ShareFileAsyncClient#MAX_PUT_RANGE_BYTES}. If not set, 4 MB ranges are transferred.
+     * @param maxConcurrency The maximum number of ranges transferred at the same time. If not set, 8 ranges are
+     * transferred at a time.
+     * @param progressReceiver {@link ProgressReceiver} called with the total number of bytes transferred each time a
+     * range completes.
+     * @throws IllegalArgumentException If {@code rangeSize} or {@code maxConcurrency} is less than 1.
+     */
+    public ParallelTransferOptions(Integer rangeSize, Integer maxConcurrency, ProgressReceiver progressReceiver) {
+        if (rangeSize != null) {
+            StorageImplUtils.assertInBounds("rangeSize", rangeSize, 1, Integer.MAX_VALUE);
+        }
+        this.rangeSize = rangeSize;
+
+        if (maxConcurrency != null) {
+            StorageImplUtils.assertInBounds("maxConcurrency", maxConcurrency, 1, Integer.MAX_VALUE);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.progressReceiver = progressReceiver;
+    }
+
+    /**
+     * Gets the size of each range of the file transferred in a single request.
+     *
+     * @return The range size.
+     */
+    public Integer getRangeSize() {
+        return this.rangeSize;
+    }
+
+    /**
+     * Gets the maximum number of ranges transferred at the same time.
+     *
+     * @return The maximum number of concurrent range transfers.
+     */
+    public Integer getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Gets the progress receiver of the transfer.
+     *
+     * @return The progress receiver.
+     */
+    public ProgressReceiver getProgressReceiver() {
+        return this.progressReceiver;
+    }
+}
@@ -4,6 +4,7 @@ package com.azure.storage.file.share;
 
 import com.azure.core.util.polling.PollerFlux;
 import com.azure.storage.common.StorageSharedKeyCredential;
+import com.azure.storage.file.share.models.ParallelTransferOptions;
 import com.azure.storage.file.share.models.ShareFileCopyInfo;
 import com.azure.storage.file.share.models.ShareFileHttpHeaders;
 import com.azure.storage.file.share.models.ShareFileProperties;
@@ -240,6 +241,23 @@ public class ShareFileAsyncJavaDocCodeSamples {
         // END: com.azure.storage.file.share.ShareFileAsyncClient.uploadFromFile#string
     }
 
+    /**
+     * Generates a code sample for using {@link ShareFileAsyncClient#uploadFromFile(String, ParallelTransferOptions)}
+     */
+    public void uploadFileAsyncMaxOverload() {
+        ShareFileAsyncClient shareFileAsyncClient = createAsyncClientWithSASToken();
+        // BEGIN: com.azure.storage.file.share.ShareFileAsyncClient.uploadFromFile#String-ParallelTransferOptions
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions(1024 * 1024, 16,
+            bytesTransferred -> System.out.printf("Uploaded %d bytes%n", bytesTransferred));
+
+        shareFileAsyncClient.uploadFromFile("someFilePath", parallelTransferOptions).subscribe(
+            response -> { },
+            error -> System.err.print(error.toString()),
+            () -> System.out.println("Complete uploading the file!")
+        );
+        // END: com.azure.storage.file.share.ShareFileAsyncClient.uploadFromFile#String-ParallelTransferOptions
+    }
+
     /**
      * Generates a code sample for using {@link ShareFileAsyncClient#uploadRangeFromUrl(long, long, long, String)}
      */
@@ -314,6 +332,26 @@ public class ShareFileAsyncJavaDocCodeSamples {
         // END: com.azure.storage.file.share.ShareFileAsyncClient.downloadToFile#string
     }
 
+    /**
+     * Generates a code sample for using
+     * {@link ShareFileAsyncClient#downloadToFileWithResponse(String, ShareFileRange, ParallelTransferOptions)}
+     */
+    public void downloadFileAsyncParallelOverload() {
+        ShareFileAsyncClient shareFileAsyncClient = createAsyncClientWithSASToken();
+        // BEGIN: com.azure.storage.file.share.ShareFileAsyncClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions(1024 * 1024, 16,
+            bytesTransferred -> System.out.printf("Downloaded %d bytes%n", bytesTransferred));
+
+        shareFileAsyncClient.downloadToFileWithResponse("somelocalfilepath", null, parallelTransferOptions)
+            .subscribe(
+                response -> System.out.println("Successfully downloaded the file with status code "
+                    + response.getStatusCode()),
+                error -> System.err.print(error.toString()),
+                () -> System.out.println("Complete downloading the file!")
+            );
+        // END: com.azure.storage.file.share.ShareFileAsyncClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions
+    }
+
     /**
      * Generates a code sample for using {@link ShareFileAsyncClient#downloadToFileWithResponse(String, ShareFileRange)}
      */
@@ -7,6 +7,7 @@ import com.azure.core.util.Context;
 import com.azure.core.util.polling.PollResponse;
 import com.azure.core.util.polling.SyncPoller;
 import com.azure.storage.common.StorageSharedKeyCredential;
+import com.azure.storage.file.share.models.ParallelTransferOptions;
 import com.azure.storage.file.share.models.ShareFileCopyInfo;
 import com.azure.storage.file.share.models.ShareFileHttpHeaders;
 import com.azure.storage.file.share.models.ShareFileInfo;
@@ -244,6 +245,20 @@ public class ShareFileJavaDocCodeSamples {
         // END: com.azure.storage.file.share.ShareFileClient.uploadFromFile#string
     }
 
+    /**
+     * Generates a code sample for using
+     * {@link ShareFileClient#uploadFromFile(String, ParallelTransferOptions, Duration, Context)}
+     */
+    public void uploadFileMaxOverload() {
+        ShareFileClient fileClient = createClientWithSASToken();
+        // BEGIN: com.azure.storage.file.share.ShareFileClient.uploadFromFile#String-ParallelTransferOptions-Duration-Context
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions(1024 * 1024, 16,
+            bytesTransferred -> System.out.printf("Uploaded %d bytes%n", bytesTransferred));
+
+        fileClient.uploadFromFile("someFilePath", parallelTransferOptions, Duration.ofMinutes(5), Context.NONE);
+        // END: com.azure.storage.file.share.ShareFileClient.uploadFromFile#String-ParallelTransferOptions-Duration-Context
+    }
+
     /**
      * Generates a code sample for using {@link ShareFileClient#download(OutputStream)}
      */
@@ -295,6 +310,22 @@ public class ShareFileJavaDocCodeSamples {
         // END: com.azure.storage.file.share.ShareFileClient.downloadToFile#string
     }
 
+    /**
+     * Generates a code sample for using
+     * {@link ShareFileClient#downloadToFileWithResponse(String, ShareFileRange, ParallelTransferOptions, Duration, Context)}
+     */
+    public void downloadFileParallelOverload() {
+        ShareFileClient fileClient = createClientWithSASToken();
+        // BEGIN: com.azure.storage.file.share.ShareFileClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions-Duration-Context
+        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions(1024 * 1024, 16,
+            bytesTransferred -> System.out.printf("Downloaded %d bytes%n", bytesTransferred));
+
+        Response<ShareFileProperties> response = fileClient.downloadToFileWithResponse("somelocalfilepath", null,
+            parallelTransferOptions, Duration.ofMinutes(5), Context.NONE);
+        System.out.println("Complete downloading the file with status code " + response.getStatusCode());
+        // END: com.azure.storage.file.share.ShareFileClient.downloadToFileWithResponse#String-ShareFileRange-ParallelTransferOptions-Duration-Context
+    }
+
     /**
      * Generates a code sample for using {@link ShareFileClient#downloadToFileWithResponse(String, ShareFileRange, Duration,
      * Context)}
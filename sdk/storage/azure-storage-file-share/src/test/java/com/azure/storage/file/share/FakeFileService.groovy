@@ -0,0 +1,70 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.share
+
+import com.azure.core.http.HttpClient
+import com.azure.core.http.HttpHeaders
+import com.azure.core.http.HttpMethod
+import com.azure.core.http.HttpRequest
+import com.azure.core.http.HttpResponse
+import com.azure.core.implementation.util.FluxUtil
+import com.azure.core.test.http.MockHttpResponse
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * In-memory file of the "share" share of the "account" account, used by the tests that check how client side
+ * transfers are split into ranges. It records the size of every range it serves and how many were served at a time.
+ */
+class FakeFileService implements HttpClient {
+    List<Long> ranges = Collections.synchronizedList([])
+    AtomicInteger concurrentRequests = new AtomicInteger()
+    AtomicInteger maxConcurrentRequests = new AtomicInteger()
+    byte[] file
+    // Requests for the range starting at this offset fail.
+    Integer failingRangeStart
+
+    @Override
+    Mono<HttpResponse> send(HttpRequest request) {
+        def headers = new HttpHeaders()
+            .put("ETag", "0x8D7")
+            .put("Last-Modified", "Wed, 02 Jan 2019 00:00:00 GMT")
+            .put("x-ms-file-attributes", "Archive")
+            .put("x-ms-file-creation-time", "2019-01-02T00:00:00.0000000Z")
+            .put("x-ms-file-last-write-time", "2019-01-02T00:00:00.0000000Z")
+            .put("x-ms-file-change-time", "2019-01-02T00:00:00.0000000Z")
+
+        if (request.getHttpMethod() == HttpMethod.HEAD) {
+            headers.put("Content-Length", String.valueOf(file.length)).put("x-ms-type", "File")
+            return Mono.just(new MockHttpResponse(request, 200, headers))
+        }
+
+        def range = request.getHeaders().getValue("x-ms-range") =~ /bytes=(\d+)-(\d+)/
+        range.find()
+        int start = Integer.parseInt(range.group(1))
+        int end = Math.min(Integer.parseInt(range.group(2)), file.length - 1)
+        ranges.add((long) end - start + 1)
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), { a, b -> Math.max(a, b) })
+        def done = Mono.delay(Duration.ofMillis(10)).doOnNext { concurrentRequests.decrementAndGet() }
+        if (start == failingRangeStart) {
+            return done.thenReturn(new MockHttpResponse(request, 403,
+                headers.put("x-ms-error-code", "AuthorizationFailure")))
+        }
+
+        if (request.getHttpMethod() == HttpMethod.GET) {
+            def body = Arrays.copyOfRange(file, start, end + 1)
+            headers.put("Content-Range", "bytes " + start + "-" + end + "/" + file.length)
+                .put("Content-Length", String.valueOf(body.length))
+            return done.thenReturn(new MockHttpResponse(request, 206, headers, body))
+        }
+
+        return FluxUtil.collectBytesInByteBufferStream(request.getBody() ?: Flux.empty()).flatMap { body ->
+            System.arraycopy(body, 0, file, start, body.length)
+            return done.thenReturn(new MockHttpResponse(request, 201, headers))
+        }
+    }
+}
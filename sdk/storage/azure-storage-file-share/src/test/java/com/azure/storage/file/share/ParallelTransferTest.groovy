@@ -0,0 +1,227 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.azure.storage.file.share
+
+import com.azure.storage.common.StorageSharedKeyCredential
+import com.azure.storage.file.share.models.ParallelTransferOptions
+import com.azure.storage.file.share.models.ShareFileRange
+import reactor.core.publisher.Hooks
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+
+class ParallelTransferTest extends Specification {
+    FakeFileService service = new FakeFileService()
+    ShareFileClientBuilder builder = new ShareFileClientBuilder()
+        .endpoint("https://account.file.core.windows.net")
+        .shareName("share")
+        .resourcePath("file")
+        .credential(new StorageSharedKeyCredential("account", Base64.getEncoder().encodeToString(new byte[32])))
+        .httpClient(service)
+    ShareFileAsyncClient client = builder.buildFileAsyncClient()
+
+    @Unroll
+    def "Upload from file"() {
+        setup:
+        def data = FileTestHelper.getRandomBuffer(dataSize)
+        service.file = new byte[dataSize]
+        def file = Files.createTempFile("share", ".tmp").toFile()
+        file.deleteOnExit()
+        file.bytes = data
+        def progress = Collections.synchronizedList([])
+
+        when:
+        client.uploadFromFile(file.getPath(), new ParallelTransferOptions(rangeSize, 4, { progress.add(it) })).block()
+
+        then:
+        service.file == data
+        service.ranges.size() == rangeCount
+        service.ranges.every { it <= rangeSize }
+        service.maxConcurrentRequests.get() == Math.min(rangeCount, 4)
+        progress == progress.sort(false)
+        progress.isEmpty() ? dataSize == 0 : progress.last() == dataSize
+
+        where:
+        dataSize | rangeSize || rangeCount
+        0        | 10        || 0
+        10       | 10        || 1
+        100      | 7         || 15
+        1000     | 100       || 10
+    }
+
+    def "Upload from file defaults to bounded concurrency"() {
+        setup:
+        def data = FileTestHelper.getRandomBuffer(10 * 1024)
+        service.file = new byte[data.length]
+        def file = Files.createTempFile("share", ".tmp").toFile()
+        file.deleteOnExit()
+        file.bytes = data
+
+        when:
+        client.uploadFromFile(file.getPath(), new ParallelTransferOptions(100, null, null)).block()
+
+        then:
+        service.file == data
+        service.maxConcurrentRequests.get() == 8
+    }
+
+    @Unroll
+    def "Download to file"() {
+        setup:
+        service.file = FileTestHelper.getRandomBuffer(dataSize)
+        def file = new File(Files.createTempDirectory("share").toFile(), "file")
+        file.deleteOnExit()
+        def progress = Collections.synchronizedList([])
+
+        when:
+        def properties = client.downloadToFileWithResponse(file.getPath(), null,
+            new ParallelTransferOptions(rangeSize, 3, { progress.add(it) })).block().getValue()
+
+        then:
+        file.bytes == service.file
+        properties.getContentLength() == dataSize
+        service.ranges.size() == rangeCount
+        service.maxConcurrentRequests.get() == Math.min(rangeCount, 3)
+        progress == progress.sort(false)
+        progress.isEmpty() ? dataSize == 0 : progress.last() == dataSize
+
+        where:
+        dataSize | rangeSize                                    || rangeCount
+        10       | 64                                           || 1
+        100      | 7                                            || 15
+        1000     | 100                                          || 10
+        1000     | ShareFileAsyncClient.MAX_PUT_RANGE_BYTES + 1 || 1
+    }
+
+    @Unroll
+    def "Input stream read ahead"() {
+        setup:
+        service.file = FileTestHelper.getRandomBuffer(10 * 1024 * 1024 + 5)
+        def stream = builder.buildFileClient().openInputStream(new ShareFileRange(0), readAhead)
+        def buffer = new byte[1024 * 1024]
+        def output = new ByteArrayOutputStream()
+
+        when:
+        output.write(buffer, 0, stream.read(buffer))
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert service.ranges.size() == (readAhead ? 2 : 1)
+        }
+
+        when:
+        int read
+        while ((read = stream.read(buffer)) != -1) {
+            output.write(buffer, 0, read)
+        }
+        stream.close()
+
+        then:
+        Arrays.equals(output.toByteArray(), service.file)
+        service.ranges == [4 * 1024 * 1024, 4 * 1024 * 1024, 2 * 1024 * 1024 + 5]
+
+        where:
+        readAhead << [false, true]
+    }
+
+    @Unroll
+    def "Input stream range"() {
+        setup:
+        service.file = FileTestHelper.getRandomBuffer(10 * 1024 * 1024)
+        def start = 1024 * 1024
+        def end = 6 * 1024 * 1024 - 1
+        def stream = builder.buildFileClient().openInputStream(new ShareFileRange(start, end), readAhead)
+        def buffer = new byte[1024 * 1024]
+        def output = new ByteArrayOutputStream()
+
+        when:
+        int read
+        while ((read = stream.read(buffer)) != -1) {
+            output.write(buffer, 0, read)
+        }
+        stream.close()
+
+        then:
+        Arrays.equals(output.toByteArray(), Arrays.copyOfRange(service.file, start, end + 1))
+        service.ranges == [4 * 1024 * 1024, 1024 * 1024]
+
+        where:
+        readAhead << [false, true]
+    }
+
+    def "Input stream read ahead is discarded when the stream is repositioned"() {
+        setup:
+        service.file = FileTestHelper.getRandomBuffer(10 * 1024 * 1024)
+        def stream = builder.buildFileClient().openInputStream(new ShareFileRange(0), true)
+
+        when:
+        stream.read()
+        stream.skip(5 * 1024 * 1024)
+        def read = stream.read()
+
+        then:
+        read == (service.file[5 * 1024 * 1024 + 1] & 0xFF)
+
+        cleanup:
+        stream.close()
+    }
+
+    def "Input stream read ahead error is thrown when the chunk is read"() {
+        setup:
+        def dropped = []
+        Hooks.onErrorDropped { dropped.add(it) }
+        Schedulers.onHandleError { thread, error -> dropped.add(error) }
+        service.file = FileTestHelper.getRandomBuffer(6 * 1024 * 1024)
+        service.failingRangeStart = 4 * 1024 * 1024
+        def stream = builder.buildFileClient().openInputStream(new ShareFileRange(0), true)
+        def buffer = new byte[4 * 1024 * 1024]
+
+        when:
+        stream.read(buffer)
+        new PollingConditions(timeout: 5).eventually {
+            assert service.ranges.size() == 2
+        }
+        stream.read(buffer)
+
+        then:
+        def e = thrown(RuntimeException)
+        e.getMessage().contains("403")
+        dropped.isEmpty()
+
+        cleanup:
+        Hooks.resetOnErrorDropped()
+        Schedulers.resetOnHandleError()
+        stream.close()
+    }
+
+    def "Invalid options"() {
+        when:
+        new ParallelTransferOptions(rangeSize, maxConcurrency, null)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        rangeSize | maxConcurrency
+        0         | null
+        null      | 0
+    }
+
+    def "Upload from file range size is at most the max put range size"() {
+        setup:
+        def file = Files.createTempFile("share", ".tmp").toFile()
+        file.deleteOnExit()
+
+        when:
+        client.uploadFromFile(file.getPath(),
+            new ParallelTransferOptions(ShareFileAsyncClient.MAX_PUT_RANGE_BYTES + 1, null, null)).block()
+
+        then:
+        thrown(IllegalArgumentException)
+        service.ranges.isEmpty()
+    }
+}